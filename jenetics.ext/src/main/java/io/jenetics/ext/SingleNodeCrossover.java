@@ -23,9 +23,9 @@ import static java.lang.String.format;
 
 import java.util.Random;
 
-import io.jenetics.util.ISeq;
 import io.jenetics.util.RandomRegistry;
 
+import io.jenetics.ext.util.TreeCursor;
 import io.jenetics.ext.util.TreeNode;
 
 /**
@@ -66,7 +66,7 @@ import io.jenetics.ext.util.TreeNode;
  * }</pre>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 5.1
  * @since 3.9
  */
 public class SingleNodeCrossover<
@@ -96,25 +96,22 @@ public class SingleNodeCrossover<
 
 		final Random random = RandomRegistry.getRandom();
 
-		final ISeq<TreeNode<A>> seq1 = that.breadthFirstStream()
-			.collect(ISeq.toISeq());
-
-		final ISeq<TreeNode<A>> seq2 = other.breadthFirstStream()
-			.collect(ISeq.toISeq());
+		final TreeCursor<A, TreeNode<A>> cursor1 = TreeCursor.of(that);
+		final TreeCursor<A, TreeNode<A>> cursor2 = TreeCursor.of(other);
 
 		final int changed;
-		if (seq1.length() > 1 && seq2.length() > 1) {
-			final TreeNode<A> n1 = seq1.get(random.nextInt(seq1.length() - 1) + 1);
-			final TreeNode<A> p1 = n1.getParent().orElseThrow(AssertionError::new);
+		if (cursor1.size() > 1 && cursor2.size() > 1) {
+			final int n1 = random.nextInt(cursor1.size() - 1) + 1;
+			final TreeNode<A> p1 = cursor1.node(cursor1.parent(n1));
 
-			final TreeNode<A> n2 = seq2.get(random.nextInt(seq2.length() - 1) + 1);
-			final TreeNode<A> p2 = n2.getParent().orElseThrow(AssertionError::new);
+			final int n2 = random.nextInt(cursor2.size() - 1) + 1;
+			final TreeNode<A> p2 = cursor2.node(cursor2.parent(n2));
 
-			final int i1 = p1.indexOf(n1);
-			final int i2 = p2.indexOf(n2);
+			final int i1 = cursor1.childIndex(n1);
+			final int i2 = cursor2.childIndex(n2);
 
-			p1.insert(i1, n2.detach());
-			p2.insert(i2, n1.detach());
+			p1.insert(i1, cursor2.node(n2).detach());
+			p2.insert(i2, cursor1.node(n1).detach());
 
 			changed = 2;
 		} else {
@@ -0,0 +1,512 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import io.jenetics.Gene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionInit;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.engine.EvolutionStream;
+import io.jenetics.engine.EvolutionStreamable;
+import io.jenetics.internal.engine.EvolutionStreamImpl;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.SplitRandom;
+
+/**
+ * The {@code IslandEngine} evolves the populations of several evolution
+ * {@link Engine}s, the <em>islands</em>, concurrently. Every {@code interval}
+ * generations, each island receives the best {@code migrants} individuals of
+ * its source islands, defined by the migration {@link Topology}. The
+ * immigrants replace the worst individuals of the receiving island.
+ *
+ * <pre> {@code
+ *          +------------+  migrants   +------------+
+ *          |  Island 1  |------------>|  Island 2  |
+ *          +------------+             +------------+
+ *                ^                          |
+ *                |         migrants         |
+ *                +-------<------------------+
+ * }</pre>
+ *
+ * The islands are not synchronized by a global barrier. Every island evolves
+ * its next generation as soon as its previous generation, and the emigrants
+ * of its source islands, are available. The immigrants of an island are
+ * taken from the results of its source islands {@code interval} generations
+ * before. The islands are evolved up to {@code interval} generations ahead
+ * of the consumed stream element, which lets fast islands run ahead of slow
+ * ones by up to {@code interval} generations. When the stream is closed,
+ * the already scheduled generations are still evolved, but their results
+ * are discarded. Since the migration only depends on the generation, the
+ * evolution result of an island is independent of the thread scheduling.
+ * If a {@link SplitRandom} is registered, every island evolves with its own
+ * random stream and the whole island evolution is reproducible.
+ *
+ * <pre>{@code
+ * final Problem<double[], DoubleGene, Double> problem = ...;
+ * final List<Engine<DoubleGene, Double>> islands = IntStream.range(0, 8)
+ *     .mapToObj(i -> Engine.builder(problem)
+ *         .populationSize(100)
+ *         .executor(Runnable::run)
+ *         .build())
+ *     .collect(Collectors.toList());
+ *
+ * final Phenotype<DoubleGene, Double> best =
+ *     new IslandEngine<>(islands, Topology.ring(), 10, 5)
+ *         .stream()
+ *         .limit(500)
+ *         .collect(EvolutionResult.toBestPhenotype());
+ * }</pre>
+ *
+ * The elements of the {@link #stream()} are the combined results of all
+ * islands. The {@link #islandStream()} method additionally gives access to
+ * the evolution results of the single islands. Since the islands itself are
+ * already evolved in parallel, it is usually best to give the island engines
+ * a serial executor, like in the example above.
+ *
+ * @see IslandResult
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 5.1
+ * @since 5.1
+ */
+public final class IslandEngine<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements EvolutionStreamable<G, C>
+{
+
+	// The key of the random stream of the migration topology.
+	private static final long MIGRATION = -1;
+
+	/**
+	 * The migration topology defines the source islands of the immigrants of
+	 * an island.
+	 */
+	@FunctionalInterface
+	public interface Topology {
+
+		/**
+		 * Return the indexes of the islands, which are sending their best
+		 * individuals to the given {@code island}.
+		 *
+		 * @param island the index of the receiving island
+		 * @param islands the number of islands
+		 * @param random the random engine used for random topologies
+		 * @return the indexes of the source islands
+		 */
+		int[] sources(final int island, final int islands, final Random random);
+
+		/**
+		 * Return a ring topology. Every island receives the immigrants of its
+		 * predecessor island.
+		 *
+		 * @return a ring topology
+		 */
+		static Topology ring() {
+			return (island, islands, random) -> islands > 1
+				? new int[]{(island + islands - 1)%islands}
+				: new int[0];
+		}
+
+		/**
+		 * Return a random topology. Every island receives the immigrants of
+		 * one other island, randomly chosen for every migration.
+		 *
+		 * @return a random topology
+		 */
+		static Topology random() {
+			return (island, islands, random) -> {
+				if (islands > 1) {
+					final int source = random.nextInt(islands - 1);
+					return new int[]{source < island ? source : source + 1};
+				} else {
+					return new int[0];
+				}
+			};
+		}
+
+		/**
+		 * Return a fully connected topology. Every island receives the
+		 * immigrants of all other islands.
+		 *
+		 * @return a fully connected topology
+		 */
+		static Topology fullyConnected() {
+			return (island, islands, random) -> IntStream.range(0, islands)
+				.filter(i -> i != island)
+				.toArray();
+		}
+
+	}
+
+	private final ISeq<Engine<G, C>> _islands;
+	private final Topology _topology;
+	private final int _interval;
+	private final int _migrants;
+	private final Executor _executor;
+	private final Optimize _optimize;
+
+	/**
+	 * Create a new island engine with the given parameters.
+	 *
+	 * @param islands the evolution engines of the islands
+	 * @param topology the migration topology
+	 * @param interval the number of generations between two migrations
+	 * @param migrants the number of the best individuals, an island sends to
+	 *        every receiving island
+	 * @param executor the executor used for evolving the islands
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code islands} are empty, if
+	 *         the islands doesn't have the same optimization strategy, if the
+	 *         {@code interval} is smaller than one or if the {@code migrants}
+	 *         is negative
+	 */
+	public IslandEngine(
+		final List<? extends Engine<G, C>> islands,
+		final Topology topology,
+		final int interval,
+		final int migrants,
+		final Executor executor
+	) {
+		if (islands.isEmpty()) {
+			throw new IllegalArgumentException("Islands must not be empty.");
+		}
+		if (interval < 1) {
+			throw new IllegalArgumentException(format(
+				"Migration interval must be greater than zero, but was %s.",
+				interval
+			));
+		}
+		if (migrants < 0) {
+			throw new IllegalArgumentException(format(
+				"Number of migrants must not be negative, but was %s.",
+				migrants
+			));
+		}
+
+		_islands = ISeq.of(islands);
+		_islands.forEach(Objects::requireNonNull);
+		_optimize = _islands.get(0).getOptimize();
+		if (_islands.stream().anyMatch(e -> e.getOptimize() != _optimize)) {
+			throw new IllegalArgumentException(
+				"All islands must have the same optimization strategy."
+			);
+		}
+
+		_topology = requireNonNull(topology);
+		_interval = interval;
+		_migrants = migrants;
+		_executor = requireNonNull(executor);
+	}
+
+	/**
+	 * Create a new island engine with the given parameters, which evolves
+	 * the islands on the common {@link ForkJoinPool}.
+	 *
+	 * @param islands the evolution engines of the islands
+	 * @param topology the migration topology
+	 * @param interval the number of generations between two migrations
+	 * @param migrants the number of the best individuals, an island sends to
+	 *        every receiving island
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code islands} are empty, if
+	 *         the islands doesn't have the same optimization strategy, if the
+	 *         {@code interval} is smaller than one or if the {@code migrants}
+	 *         is negative
+	 */
+	public IslandEngine(
+		final List<? extends Engine<G, C>> islands,
+		final Topology topology,
+		final int interval,
+		final int migrants
+	) {
+		this(islands, topology, interval, migrants, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Return a stream of the island results. Additionally to the combined
+	 * evolution result, the island result contains the evolution results
+	 * of the single islands.
+	 *
+	 * @param start the evolution start supplier. The start population is
+	 *        distributed evenly between the islands.
+	 * @return a new, infinite stream of island results
+	 * @throws NullPointerException if the given {@code start} is {@code null}
+	 */
+	public Stream<IslandResult<G, C>>
+	islandStream(final Supplier<EvolutionStart<G, C>> start) {
+		return StreamSupport.stream(spliterator(new Islands(start)), false);
+	}
+
+	/**
+	 * Return a stream of the island results, with an empty start population.
+	 *
+	 * @see #islandStream(Supplier)
+	 *
+	 * @return a new, infinite stream of island results
+	 */
+	public Stream<IslandResult<G, C>> islandStream() {
+		return islandStream(() -> EvolutionStart.of(ISeq.empty(), 1));
+	}
+
+	@Override
+	public EvolutionStream<G, C>
+	stream(final Supplier<EvolutionStart<G, C>> start) {
+		final Islands islands = new Islands(start);
+		return new EvolutionStreamImpl<>(
+			spliterator(new Iterator<EvolutionResult<G, C>>() {
+				@Override
+				public boolean hasNext() {
+					return true;
+				}
+				@Override
+				public EvolutionResult<G, C> next() {
+					return islands.next().getResult();
+				}
+			}),
+			false
+		);
+	}
+
+	@Override
+	public EvolutionStream<G, C> stream(final EvolutionInit<G> init) {
+		requireNonNull(init);
+		return stream(() -> EvolutionStart.of(
+			init.getPopulation()
+				.map(gt -> Phenotype.<G, C>of(gt, init.getGeneration())),
+			init.getGeneration()
+		));
+	}
+
+	private static <T> Spliterator<T> spliterator(final Iterator<T> iterator) {
+		return Spliterators.spliteratorUnknownSize(
+			iterator,
+			Spliterator.ORDERED | Spliterator.NONNULL
+		);
+	}
+
+	/**
+	 * Keeps the evolution state of the islands of one stream. The evolution
+	 * steps of the islands are chained futures. The steps are scheduled up to
+	 * {@code interval} steps ahead of the delivered one, which is the maximal
+	 * distance the emigrant dependency allows.
+	 */
+	private final class Islands implements Iterator<IslandResult<G, C>> {
+		private final Supplier<EvolutionStart<G, C>> _start;
+		private final Random _random;
+
+		// The scheduled island results of the last evolution steps.
+		private final List<ISeq<CompletableFuture<EvolutionResult<G, C>>>>
+			_steps = new ArrayList<>();
+
+		// The evolution step of the first element of the '_steps' list.
+		private long _offset = 0;
+
+		// The evolution step which is delivered next.
+		private long _step = 0;
+
+		Islands(final Supplier<EvolutionStart<G, C>> start) {
+			_start = requireNonNull(start);
+			_random = RandomRegistry.getRandom();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return true;
+		}
+
+		@Override
+		public IslandResult<G, C> next() {
+			while (_offset + _steps.size() <= _step + _interval) {
+				schedule(_offset + _steps.size());
+			}
+
+			final ISeq<EvolutionResult<G, C>> results = step(_step)
+				.map(CompletableFuture::join);
+
+			// The delivered step is no longer needed, since the next
+			// scheduled step only depends on the steps after it.
+			++_step;
+			while (_offset < _step) {
+				_steps.remove(0);
+				++_offset;
+			}
+
+			return IslandResult.of(results);
+		}
+
+		private ISeq<CompletableFuture<EvolutionResult<G, C>>>
+		step(final long step) {
+			return _steps.get((int)(step - _offset));
+		}
+
+		// Schedules the given evolution step of all islands.
+		private void schedule(final long step) {
+			if (step == 0) {
+				final EvolutionStart<G, C> start = _start.get();
+				final ISeq<Phenotype<G, C>> population = start.getPopulation();
+
+				_steps.add(
+					IntStream.range(0, _islands.size())
+						.mapToObj(i -> {
+							final EvolutionStart<G, C> es = EvolutionStart.of(
+								IntStream.range(0, population.size())
+									.filter(j -> j%_islands.size() == i)
+									.mapToObj(population::get)
+									.collect(ISeq.toISeq()),
+								start.getGeneration()
+							);
+
+							return supplyAsync(() ->
+								evolve(i, step, () -> _islands.get(i)
+									.stream(() -> es)
+									.findFirst()
+									.orElseThrow(IllegalStateException::new)),
+								_executor
+							);
+						})
+						.collect(ISeq.toISeq())
+				);
+			} else if (step%_interval == 0 && _migrants > 0) {
+				final Random random = _random instanceof SplitRandom
+					? ((SplitRandom)_random).split(step, MIGRATION)
+					: _random;
+
+				final ISeq<CompletableFuture<EvolutionResult<G, C>>> previous =
+					step(step - 1);
+				final ISeq<CompletableFuture<EvolutionResult<G, C>>> emigrants =
+					step(step - _interval);
+
+				_steps.add(
+					IntStream.range(0, _islands.size())
+						.mapToObj(i -> {
+							final CompletableFuture<EvolutionResult<G, C>> own =
+								previous.get(i);
+							final ISeq<CompletableFuture<EvolutionResult<G, C>>>
+								sources = Arrays.stream(
+										_topology.sources(i, _islands.size(), random))
+									.mapToObj(emigrants::get)
+									.collect(ISeq.toISeq());
+
+							final CompletableFuture<?>[] dependencies =
+								new CompletableFuture<?>[sources.size() + 1];
+							for (int j = 0; j < sources.size(); ++j) {
+								dependencies[j] = sources.get(j);
+							}
+							dependencies[sources.size()] = own;
+
+							return CompletableFuture.allOf(dependencies)
+								.thenApplyAsync(v ->
+									evolve(i, step, () -> _islands.get(i).evolve(
+										migrate(
+											own.join(),
+											sources.map(CompletableFuture::join)))),
+									_executor
+								);
+						})
+						.collect(ISeq.toISeq())
+				);
+			} else {
+				final ISeq<CompletableFuture<EvolutionResult<G, C>>> previous =
+					step(step - 1);
+
+				_steps.add(
+					IntStream.range(0, _islands.size())
+						.mapToObj(i -> previous.get(i).thenApplyAsync(r ->
+							evolve(i, step, () -> _islands.get(i).evolve(r.next())),
+							_executor
+						))
+						.collect(ISeq.toISeq())
+				);
+			}
+		}
+
+		// Performs the evolution step of the given island with its own,
+		// deterministic random stream, if the registered random engine is a
+		// SplitRandom.
+		private EvolutionResult<G, C> evolve(
+			final int island,
+			final long step,
+			final Supplier<EvolutionResult<G, C>> evolution
+		) {
+			return _random instanceof SplitRandom
+				? RandomRegistry.with(
+					((SplitRandom)_random).split(step, island),
+					r -> evolution.get())
+				: evolution.get();
+		}
+
+		// Replaces the worst individuals of the given result with the best
+		// individuals of the given source results.
+		private EvolutionStart<G, C> migrate(
+			final EvolutionResult<G, C> result,
+			final ISeq<EvolutionResult<G, C>> sources
+		) {
+			final ISeq<Phenotype<G, C>> population = result.getPopulation();
+			final ISeq<Phenotype<G, C>> immigrants = sources.stream()
+				.flatMap(r -> r.getPopulation().stream()
+					.sorted(_optimize.descending())
+					.limit(_migrants))
+				.limit(population.size())
+				.collect(ISeq.toISeq());
+
+			final ISeq<Phenotype<G, C>> natives = population.stream()
+				.sorted(_optimize.descending())
+				.limit(population.size() - min(immigrants.size(), population.size()))
+				.collect(ISeq.toISeq());
+
+			return EvolutionStart.of(
+				natives.append(immigrants),
+				result.next().getGeneration()
+			);
+		}
+
+	}
+
+}
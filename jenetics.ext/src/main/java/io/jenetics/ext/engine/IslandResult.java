@@ -0,0 +1,122 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import io.jenetics.Gene;
+import io.jenetics.engine.EvolutionDurations;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.util.ISeq;
+
+/**
+ * Result of one evolution step of an {@link IslandEngine}. It contains the
+ * combined evolution result of all islands and the evolution results of the
+ * single islands.
+ *
+ * @see IslandEngine#islandStream()
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 5.1
+ * @since 5.1
+ */
+public final class IslandResult<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	private final EvolutionResult<G, C> _result;
+	private final ISeq<EvolutionResult<G, C>> _islands;
+
+	private IslandResult(
+		final EvolutionResult<G, C> result,
+		final ISeq<EvolutionResult<G, C>> islands
+	) {
+		_result = requireNonNull(result);
+		_islands = requireNonNull(islands);
+	}
+
+	/**
+	 * Return the combined evolution result of all islands. The population of
+	 * the combined result is the union of the island populations, and the
+	 * kill, invalid and alter counts and the durations are summed up.
+	 *
+	 * @return the combined evolution result of all islands
+	 */
+	public EvolutionResult<G, C> getResult() {
+		return _result;
+	}
+
+	/**
+	 * Return the evolution results of the single islands, in the order of
+	 * the islands of the {@link IslandEngine}.
+	 *
+	 * @return the evolution results of the single islands
+	 */
+	public ISeq<EvolutionResult<G, C>> getIslands() {
+		return _islands;
+	}
+
+	@Override
+	public String toString() {
+		return "IslandResult[islands=" + _islands.size() +
+			", generation=" + _result.getGeneration() +
+			", best=" + _result.getBestFitness() + "]";
+	}
+
+	/**
+	 * Create a new island result from the given island results. The
+	 * combined result is created from the island results.
+	 *
+	 * @param islands the evolution results of the single islands
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new island result
+	 * @throws NullPointerException if the {@code islands} is {@code null}
+	 * @throws IllegalArgumentException if the {@code islands} is empty
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	IslandResult<G, C> of(final ISeq<EvolutionResult<G, C>> islands) {
+		if (islands.isEmpty()) {
+			throw new IllegalArgumentException("Island results must not be empty.");
+		}
+
+		final EvolutionResult<G, C> first = islands.get(0);
+		final EvolutionResult<G, C> result = EvolutionResult.of(
+			first.getOptimize(),
+			islands.stream()
+				.flatMap(r -> r.getPopulation().stream())
+				.collect(ISeq.toISeq()),
+			first.getGeneration(),
+			islands.stream()
+				.map(EvolutionResult::getDurations)
+				.reduce(EvolutionDurations.ZERO, EvolutionDurations::plus),
+			islands.stream().mapToInt(EvolutionResult::getKillCount).sum(),
+			islands.stream().mapToInt(EvolutionResult::getInvalidCount).sum(),
+			islands.stream().mapToInt(EvolutionResult::getAlterCount).sum()
+		);
+
+		return new IslandResult<>(result, islands);
+	}
+
+}
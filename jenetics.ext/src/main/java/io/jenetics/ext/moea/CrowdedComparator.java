@@ -30,7 +30,7 @@ import io.jenetics.util.Seq;
  * Crowded distance comparator.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 5.1
  * @since 4.1
  */
 final class CrowdedComparator<T> implements IntComparator {
@@ -48,7 +48,9 @@ final class CrowdedComparator<T> implements IntComparator {
 	) {
 		_rank = Pareto.rank(
 			population,
-			opt == Optimize.MAXIMUM ? dominance : dominance.reversed()
+			opt == Optimize.MAXIMUM ? comparator : comparator.reversed(),
+			opt == Optimize.MAXIMUM ? dominance : dominance.reversed(),
+			dimension
 		);
 
 		_dist = Pareto.crowdingDistance(
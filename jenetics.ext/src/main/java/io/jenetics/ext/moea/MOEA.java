@@ -21,7 +21,6 @@ package io.jenetics.ext.moea;
 
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
-import static io.jenetics.ext.moea.Pareto.front;
 
 import java.util.Comparator;
 import java.util.function.ToIntFunction;
@@ -62,7 +61,7 @@ import io.jenetics.util.IntRange;
  *
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 5.1
  * @since 4.1
  */
 public final class MOEA {
@@ -186,7 +185,7 @@ public final class MOEA {
 		final ToIntFunction<? super C> _dimension;
 
 		private Optimize _optimize;
-		private ParetoFront<Phenotype<G, C>> _front;
+		private ParetoArchive<Phenotype<G, C>> _front;
 
 		Front(
 			final IntRange size,
@@ -205,15 +204,16 @@ public final class MOEA {
 		void add(final EvolutionResult<G, C> result) {
 			if (_front == null) {
 				_optimize = result.getOptimize();
-				_front = new ParetoFront<>(this::dominance);
+				_front = new ParetoArchive<>(
+					_size,
+					this::dominance,
+					this::compare,
+					_distance.map(Phenotype::getFitness),
+					v -> _dimension.applyAsInt(v.getFitness())
+				);
 			}
 
-			final ISeq<Phenotype<G, C>> front = front(
-				result.getPopulation(),
-				this::dominance
-			);
-			_front.addAll(front.asList());
-			trim();
+			_front.addAll(result.getPopulation().asList());
 		}
 
 		private int dominance(final Phenotype<G, C> a, final Phenotype<G, C> b) {
@@ -222,20 +222,6 @@ public final class MOEA {
 				: _dominance.compare(b.getFitness(), a.getFitness());
 		}
 
-		private void trim() {
-			assert _front != null;
-			assert _optimize != null;
-
-			if (_front.size() > _size.getMax() - 1) {
-				_front.trim(
-					_size.getMin(),
-					this::compare,
-					_distance.map(Phenotype::getFitness),
-					v -> _dimension.applyAsInt(v.getFitness())
-				);
-			}
-		}
-
 		private int compare(
 			final Phenotype<G, C> a,
 			final Phenotype<G, C> b,
@@ -247,8 +233,7 @@ public final class MOEA {
 		}
 
 		Front<G, C> merge(final Front<G, C> front) {
-			_front.merge(front._front);
-			trim();
+			_front.addAll(front._front);
 			return this;
 		}
 
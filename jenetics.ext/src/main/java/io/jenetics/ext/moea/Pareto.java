@@ -42,7 +42,7 @@ import io.jenetics.ext.internal.IntList;
  * are mostly for users who wants to extend the existing <em>MOEA</em> classes.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 5.1
  * @since 4.1
  */
 public final class Pareto {
@@ -158,40 +158,105 @@ public final class Pareto {
 	 * measure.
 	 *
 	 * @apiNote
-	 * Calculating the rank has a time complexity of {@code O(n^2}, where
-	 * {@code n} the {@code set} size.
+	 * Calculating the rank has a worst case time complexity of {@code O(d*n^2)}
+	 * and a space complexity of {@code O(n)}, where {@code d} is the number of
+	 * dimensions and {@code n} the {@code set} size.
 	 *
-	 * <p>
-	 *  <b>Reference:</b><em>
-	 *      Kalyanmoy Deb, Associate Member, IEEE, Amrit Pratap,
-	 *      Sameer Agarwal, and T. Meyarivan.
-	 *      A Fast and Elitist Multiobjective Genetic Algorithm: NSGA-II,
-	 *      IEEE TRANSACTIONS ON EVOLUTIONARY COMPUTATION, VOL. 6, NO. 2,
-	 *      APRIL 2002.</em>
+	 * @see #rank(Seq, ElementComparator, Comparator, ToIntFunction)
 	 *
 	 * @param set the input set
 	 * @param <T> the element type
 	 * @return the <em>non-domination</em> rank of the given input {@code set}
 	 */
 	public static <T> int[] rank(final Seq<? extends Vec<T>> set) {
-		return rank(set, Vec::dominance);
+		return rank(
+			set,
+			Vec::compare,
+			Vec::dominance,
+			Vec::length
+		);
 	}
 
 	/**
 	 * Calculates the <em>non-domination</em> rank of the given input {@code set},
-	 * using the given {@code dominance} comparator.
+	 * using the given {@code dominance} comparator. The {@code comparator}
+	 * must be consistent with the {@code dominance} comparator: if <b>u</b>
+	 * dominates <b>v</b>, no element of <b>u</b> is less than the corresponding
+	 * element of <b>v</b>.
+	 * <p>
+	 * The points are sorted lexicographically, in descending order. This
+	 * guarantees, that a point is never dominated by one of the points
+	 * following it. The points are then assigned, one after another, to the
+	 * first front which contains no point dominating it. This front is found
+	 * by a binary search.
 	 *
 	 * @apiNote
-	 * Calculating the rank has a time and space complexity of {@code O(n^2},
-	 * where {@code n} the {@code set} size.
+	 * Calculating the rank has a worst case time complexity of {@code O(d*n^2)}
+	 * and a space complexity of {@code O(n)}, where {@code d} is the number of
+	 * dimensions and {@code n} the {@code set} size.
 	 *
 	 * <p>
 	 *  <b>Reference:</b><em>
-	 *      Kalyanmoy Deb, Associate Member, IEEE, Amrit Pratap,
-	 *      Sameer Agarwal, and T. Meyarivan.
-	 *      A Fast and Elitist Multiobjective Genetic Algorithm: NSGA-II,
-	 *      IEEE TRANSACTIONS ON EVOLUTIONARY COMPUTATION, VOL. 6, NO. 2,
-	 *      APRIL 2002.</em>
+	 *      Xingyi Zhang, Ye Tian, Ran Cheng and Yaochu Jin.
+	 *      An Efficient Approach to Nondominated Sorting for Evolutionary
+	 *      Multiobjective Optimization,
+	 *      IEEE TRANSACTIONS ON EVOLUTIONARY COMPUTATION, VOL. 19, NO. 2,
+	 *      APRIL 2015.</em>
+	 *
+	 * @since 5.1
+	 *
+	 * @param set the input set
+	 * @param comparator the comparator which defines the (total) order of the
+	 *        vector elements of {@code T}
+	 * @param dominance the dominance comparator used
+	 * @param dimension the dimension of vector type {@code T}
+	 * @param <T> the element type
+	 * @return the <em>non-domination</em> rank of the given input {@code set}
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <T> int[] rank(
+		final Seq<? extends T> set,
+		final ElementComparator<? super T> comparator,
+		final Comparator<? super T> dominance,
+		final ToIntFunction<? super T> dimension
+	) {
+		requireNonNull(set);
+		requireNonNull(comparator);
+		requireNonNull(dominance);
+		requireNonNull(dimension);
+
+		final int[] ranks = new int[set.size()];
+		if (set.nonEmpty()) {
+			final int d = dimension.applyAsInt(set.get(0));
+			final Comparator<T> lexicographic = (u, v) -> {
+				int cmp = 0;
+				for (int i = 0; i < d && cmp == 0; ++i) {
+					cmp = comparator.compare(u, v, i);
+				}
+				return cmp;
+			};
+
+			// The index sorter returns the indexes in descending order.
+			final int[] order = IndexSorter.sort(set, lexicographic);
+			rank(set, order, dominance, ranks);
+		}
+
+		return ranks;
+	}
+
+	/**
+	 * Calculates the <em>non-domination</em> rank of the given input {@code set},
+	 * using the given {@code dominance} comparator.
+	 * <p>
+	 * Since the given {@code dominance} comparator is the only information
+	 * about the elements, the points are ordered by the number of points which
+	 * are dominating them. The ranks are then calculated the same way as
+	 * in {@link #rank(Seq, ElementComparator, Comparator, ToIntFunction)},
+	 * which should be preferred, if an element comparator is available.
+	 *
+	 * @apiNote
+	 * Calculating the rank has a time complexity of {@code O(n^2)} and a space
+	 * complexity of {@code O(n)}, where {@code n} the {@code set} size.
 	 *
 	 * @param set the input set
 	 * @param dominance the dominance comparator used
@@ -202,77 +267,81 @@ public final class Pareto {
 		final Seq<? extends T> set,
 		final Comparator<? super T> dominance
 	) {
-		// Pre-compute the dominance relations.
-		final int[][] d = new int[set.size()][set.size()];
+		// Count the number of elements dominating a given element. If p
+		// dominates q, q is dominated by more elements than p.
+		final int[] counts = new int[set.size()];
 		for (int i = 0; i < set.size(); ++i) {
 			for (int j = i + 1; j < set.size(); ++j) {
-				d[i][j] = dominance.compare(set.get(i), set.get(j));
-				d[j][i] = -d[i][j];
+				final int cmp = dominance.compare(set.get(i), set.get(j));
+				if (cmp > 0) {
+					++counts[j];
+				} else if (cmp < 0) {
+					++counts[i];
+				}
 			}
 		}
 
-		// Compute for each element p the element q that it dominates and the
-		// number of times it is dominated. Using the names as defined in the
-		// referenced paper.
-		final int[] nq = new int[set.size()];
+		final int[] ranks = new int[set.size()];
+		if (set.nonEmpty()) {
+			final int[] order = IndexSorter.sorter(counts.length)
+				.sort(counts, init(new int[counts.length]), (i, j) -> j - i);
+			rank(set, order, dominance, ranks);
+		}
+
+		return ranks;
+	}
+
+	/**
+	 * Assigns the ranks of the given {@code set}, using the <em>efficient
+	 * non-dominated sort</em> with binary search strategy. The {@code order}
+	 * must guarantee, that no element is dominated by an element which follows
+	 * it.
+	 */
+	private static <T> void rank(
+		final Seq<? extends T> set,
+		final int[] order,
+		final Comparator<? super T> dominance,
+		final int[] ranks
+	) {
 		final List<IntList> fronts = new ArrayList<>();
-		IntList Fi = new IntList();
-
-		for (int p = 0; p < set.size(); ++p) {
-			final IntList Sp = new IntList();
-			int np = 0;
-
-			for (int q = 0; q < set.size(); ++q) {
-				if (p != q) {
-					// If p dominates q, add q to the set of solutions
-					// dominated by p.
-					if (d[p][q] > 0) {
-						Sp.add(q);
-
-					// Increment the domination counter of p.
-					} else if (d[q][p] > 0) {
-						np += 1;
-					}
+
+		for (int index : order) {
+			final T point = set.get(index);
+
+			// If a point of front k dominates the point, there is also a point
+			// in every front before k dominating it.
+			int low = 0;
+			int high = fronts.size();
+			while (low < high) {
+				final int mid = (low + high) >>> 1;
+				if (dominated(point, fronts.get(mid), set, dominance)) {
+					low = mid + 1;
+				} else {
+					high = mid;
 				}
 			}
 
-			// p belongs to the first front.
-			if (np == 0) {
-				Fi.add(p);
+			if (low == fronts.size()) {
+				fronts.add(new IntList());
 			}
-
-			fronts.add(Sp);
-			nq[p] = np;
+			fronts.get(low).add(index);
+			ranks[index] = low;
 		}
+	}
 
-		// Initialize the front counter.
-		int i = 0;
-		final int[] ranks = new int[set.size()];
-		while (!Fi.isEmpty()) {
-			// Used to store the members of the next front.
-			final IntList Q = new IntList();
-
-			for (int p = 0; p < Fi.size(); ++p) {
-				final int fi = Fi.get(p);
-				ranks[fi] = i;
-
-				// Update the dominated counts as compute next front.
-				for (int k = 0, n = fronts.get(fi).size(); k < n; ++k) {
-					final int q = fronts.get(fi).get(k);
-					nq[q] -= 1;
-
-					// q belongs to the next front.
-					if (nq[q] == 0) {
-						Q.add(q);
-					}
-				}
+	private static <T> boolean dominated(
+		final T point,
+		final IntList front,
+		final Seq<? extends T> set,
+		final Comparator<? super T> dominance
+	) {
+		// Recently added points are more similar and checked first.
+		for (int i = front.size(); --i >= 0;) {
+			if (dominance.compare(set.get(front.get(i)), point) > 0) {
+				return true;
 			}
-
-			++i;
-			Fi = Q;
 		}
-
-		return ranks;
+		return false;
 	}
 
 	/* *************************************************************************
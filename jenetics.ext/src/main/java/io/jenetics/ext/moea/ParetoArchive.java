@@ -0,0 +1,718 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.jenetics.internal.util.IndexSorter;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.IntRange;
+import io.jenetics.util.Seq;
+
+/**
+ * Indexed version of the {@link ParetoFront}. Like the {@code ParetoFront},
+ * the archive only contains non-dominated elements and no duplicate entries.
+ * The elements are stored in a <em>ND-tree</em>, which groups nearby points
+ * into nodes. Every node keeps the (approximated) <em>ideal</em> and
+ * <em>nadir</em> point of its elements. This allows to skip whole nodes when
+ * inserting a new element or when testing, whether a point is dominated by
+ * the archive.
+ * <pre>{@code
+ * final ParetoArchive<Vec<double[]>> archive = ParetoArchive.ofVec();
+ * archive.add(Vec.of(1.0, 2.0));
+ * archive.add(Vec.of(1.1, 2.5));
+ * archive.add(Vec.of(0.9, 2.1));
+ * archive.add(Vec.of(0.0, 2.9));
+ * }</pre>
+ *
+ * The element {@code comparator} must be consistent with the {@code dominance}
+ * measure: if <b>u</b> dominates <b>v</b>, no element of <b>u</b> is less
+ * than the corresponding element of <b>v</b>. An archive can be created with
+ * a size range. If the archive reaches the maximal size, it is trimmed to its
+ * minimal size, by removing the elements with the smallest crowding distance.
+ *
+ * <p>
+ *  <b>Reference:</b><em>
+ *      Andrzej Jaszkiewicz and Thibaut Lust.
+ *      ND-Tree-Based Update: A Fast Algorithm for the Dynamic Nondominance
+ *      Problem,
+ *      IEEE TRANSACTIONS ON EVOLUTIONARY COMPUTATION, VOL. 22, NO. 5,
+ *      OCTOBER 2018.</em>
+ *
+ * @see ParetoFront
+ *
+ * @apiNote
+ * Inserting a new element has an average time complexity of
+ * {@code O(d*log(n))}, if the elements are evenly spread. In the worst case,
+ * it is still {@code O(d*n)}.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 5.1
+ * @since 5.1
+ */
+public final class ParetoArchive<T> extends AbstractSet<T> {
+
+	private static final int MAX_LEAF_SIZE = 20;
+
+	private final IntRange _size;
+	private final Comparator<? super T> _dominance;
+	private final ElementComparator<? super T> _comparator;
+	private final ElementDistance<? super T> _distance;
+	private final ToIntFunction<? super T> _dimension;
+
+	private Node<T> _root = new Node<>();
+	private int _dim = 0;
+	private int _count = 0;
+
+	/**
+	 * Create a new {@code ParetoArchive} with the given size range and
+	 * functions needed for handling the multi-objective element type.
+	 *
+	 * @param size the allowed size range of the archive. If the archive
+	 *        reaches the size of {@code size.getMax()}, it is trimmed to
+	 *        {@code size.getMin()} elements.
+	 * @param dominance the pareto dominance measure of the element type
+	 * @param comparator the element comparator, consistent with the
+	 *        {@code dominance} measure
+	 * @param distance the element distance measure
+	 * @param dimension the dimensionality of the element type
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the minimal archive {@code size}
+	 *         is smaller than one
+	 */
+	public ParetoArchive(
+		final IntRange size,
+		final Comparator<? super T> dominance,
+		final ElementComparator<? super T> comparator,
+		final ElementDistance<? super T> distance,
+		final ToIntFunction<? super T> dimension
+	) {
+		_size = requireNonNull(size);
+		_dominance = requireNonNull(dominance);
+		_comparator = requireNonNull(comparator);
+		_distance = requireNonNull(distance);
+		_dimension = requireNonNull(dimension);
+
+		if (size.getMin() < 1) {
+			throw new IllegalArgumentException(format(
+				"Minimal archive size must be greater than zero: %d",
+				size.getMin()
+			));
+		}
+	}
+
+	/**
+	 * Create a new, unbounded {@code ParetoArchive} with the functions needed
+	 * for handling the multi-objective element type.
+	 *
+	 * @param dominance the pareto dominance measure of the element type
+	 * @param comparator the element comparator, consistent with the
+	 *        {@code dominance} measure
+	 * @param distance the element distance measure
+	 * @param dimension the dimensionality of the element type
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public ParetoArchive(
+		final Comparator<? super T> dominance,
+		final ElementComparator<? super T> comparator,
+		final ElementDistance<? super T> distance,
+		final ToIntFunction<? super T> dimension
+	) {
+		this(
+			IntRange.of(Integer.MAX_VALUE - 1, Integer.MAX_VALUE),
+			dominance,
+			comparator,
+			distance,
+			dimension
+		);
+	}
+
+	/**
+	 * Inserts an {@code element} to this pareto archive. If the archive
+	 * reaches its maximal size, it is trimmed to its minimal size.
+	 *
+	 * @param element the element to add
+	 * @return {@code true} if the element has been inserted into the archive
+	 * @throws NullPointerException if the given {@code element} is {@code null}
+	 */
+	@Override
+	public boolean add(final T element) {
+		final boolean added = insert(element);
+		if (added && _count >= _size.getMax()) {
+			trim(_size.getMin());
+		}
+		return added;
+	}
+
+	/**
+	 * Inserts the given {@code elements} to this pareto archive. The elements
+	 * are inserted in lexicographically descending order. This way, no
+	 * inserted element is removed again by one of the following elements.
+	 * If the archive reaches its maximal size, it is trimmed to its minimal
+	 * size, after all elements has been inserted.
+	 *
+	 * @param elements the elements to add
+	 * @return {@code true} if at least one element has been inserted
+	 * @throws NullPointerException if the given {@code elements} collection,
+	 *         or one of its elements, is {@code null}
+	 */
+	@Override
+	public boolean addAll(final Collection<? extends T> elements) {
+		final Seq<? extends T> seq = Seq.viewOf(new ArrayList<>(elements));
+
+		boolean added = false;
+		if (seq.nonEmpty()) {
+			final int d = _dimension.applyAsInt(seq.get(0));
+			final int[] order = IndexSorter.sort(seq, (u, v) -> {
+				int cmp = 0;
+				for (int i = 0; i < d && cmp == 0; ++i) {
+					cmp = _comparator.compare(u, v, i);
+				}
+				return cmp;
+			});
+
+			for (int index : order) {
+				added |= insert(seq.get(index));
+			}
+			if (_count >= _size.getMax()) {
+				trim(_size.getMin());
+			}
+		}
+
+		return added;
+	}
+
+	/**
+	 * Test whether the given {@code element} is dominated by an element of
+	 * {@code this} archive.
+	 *
+	 * @param element the element to test
+	 * @return {@code true} if the given {@code element} is dominated by an
+	 *         element of {@code this} archive, {@code false} otherwise
+	 * @throws NullPointerException if the given {@code element} is {@code null}
+	 */
+	public boolean isDominated(final T element) {
+		requireNonNull(element);
+		return isDominated(_root, element);
+	}
+
+	private boolean isDominated(final Node<T> node, final T element) {
+		if (node.isEmpty() || (relation(node.ideal, element) & WORSE) != 0) {
+			return false;
+		}
+		if (relation(node.nadir, element) == BETTER) {
+			return true;
+		}
+
+		if (node.isLeaf()) {
+			for (T point : node.points) {
+				if (_dominance.compare(point, element) > 0) {
+					return true;
+				}
+			}
+		} else {
+			for (Node<T> child : node.children) {
+				if (isDominated(child, element)) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Trims {@code this} pareto archive to the given size. The elements which
+	 * have the smaller crowding distance to its neighbors are removed first.
+	 *
+	 * @see ParetoFront#trim(int, ElementComparator, ElementDistance, ToIntFunction)
+	 *
+	 * @param size the number of archive elements after the trim. If
+	 *        {@code size() <= size}, nothing is trimmed.
+	 * @return {@code this} trimmed pareto archive
+	 */
+	public ParetoArchive<T> trim(final int size) {
+		if (_count > size) {
+			final List<T> elements = elements();
+			final double[] distances = Pareto.crowdingDistance(
+				Seq.viewOf(elements),
+				_comparator,
+				_distance,
+				_dimension
+			);
+
+			final List<T> list = IntStream.of(IndexSorter.sort(distances))
+				.limit(size)
+				.mapToObj(elements::get)
+				.collect(Collectors.toList());
+
+			// The remaining elements are not dominating each other.
+			clear();
+			for (T element : list) {
+				insert(_root, element);
+				++_count;
+			}
+		}
+
+		return this;
+	}
+
+	@Override
+	public boolean remove(final Object element) {
+		final boolean removed = remove(_root, element);
+		if (_root.isEmpty()) {
+			_root = new Node<>();
+		}
+		return removed;
+	}
+
+	private boolean remove(final Node<T> node, final Object element) {
+		if (node.isLeaf()) {
+			if (node.points.remove(element)) {
+				--_count;
+				bounds(node);
+				return true;
+			}
+		} else {
+			final Iterator<Node<T>> it = node.children.iterator();
+			while (it.hasNext()) {
+				final Node<T> child = it.next();
+				if (remove(child, element)) {
+					if (child.isEmpty()) {
+						it.remove();
+					}
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	@Override
+	public void clear() {
+		_root = new Node<>();
+		_count = 0;
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		final Iterator<T> it = elements().iterator();
+		return new Iterator<T>() {
+			private T _last;
+
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public T next() {
+				return _last = it.next();
+			}
+
+			@Override
+			public void remove() {
+				if (_last == null) {
+					throw new IllegalStateException();
+				}
+				ParetoArchive.this.remove(_last);
+				_last = null;
+			}
+		};
+	}
+
+	@Override
+	public int size() {
+		return _count;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return _count == 0;
+	}
+
+	/**
+	 * Return the elements of {@code this} pareto archive as {@link ISeq}.
+	 *
+	 * @return the elements of {@code this} pareto archive as {@link ISeq}
+	 */
+	public ISeq<T> toISeq() {
+		return ISeq.of(elements());
+	}
+
+	private List<T> elements() {
+		final List<T> elements = new ArrayList<>(_count);
+		collect(_root, elements);
+		return elements;
+	}
+
+	private static <T> void collect(final Node<T> node, final List<T> elements) {
+		if (node.isLeaf()) {
+			elements.addAll(node.points);
+		} else {
+			for (Node<T> child : node.children) {
+				collect(child, elements);
+			}
+		}
+	}
+
+	/* *************************************************************************
+	 * ND-tree update and insert methods.
+	 * ************************************************************************/
+
+	// Relation flags of a node bound compared to a point.
+	private static final int BETTER = 1;
+	private static final int WORSE = 2;
+
+	private boolean insert(final T element) {
+		requireNonNull(element);
+
+		if (_count == 0) {
+			_dim = _dimension.applyAsInt(element);
+		}
+
+		final boolean accepted = update(_root, element);
+		if (accepted) {
+			if (_root.isEmpty()) {
+				_root = new Node<>();
+			}
+			insert(_root, element);
+			++_count;
+		}
+
+		return accepted;
+	}
+
+	/**
+	 * Removes the elements of the given {@code node} dominated by the given
+	 * {@code point}. Returns {@code false} if the point is dominated by, or
+	 * equal to, an element of the node.
+	 */
+	private boolean update(final Node<T> node, final T point) {
+		if (node.isEmpty()) {
+			return true;
+		}
+
+		final int nadir = relation(node.nadir, point);
+		if (nadir == BETTER) {
+			return false;
+		}
+
+		final int ideal = relation(node.ideal, point);
+		if (ideal == WORSE) {
+			_count -= node.size();
+			node.points = new ArrayList<>();
+			node.children = null;
+			return true;
+		}
+
+		if ((ideal & WORSE) == 0 || (nadir & BETTER) == 0) {
+			if (node.isLeaf()) {
+				boolean removed = false;
+				final Iterator<T> it = node.points.iterator();
+				while (it.hasNext()) {
+					final T existing = it.next();
+
+					final int cmp = _dominance.compare(point, existing);
+					if (cmp > 0) {
+						it.remove();
+						--_count;
+						removed = true;
+					} else if (cmp < 0 || point.equals(existing)) {
+						return false;
+					}
+				}
+				if (removed) {
+					bounds(node);
+				}
+			} else {
+				final Iterator<Node<T>> it = node.children.iterator();
+				while (it.hasNext()) {
+					final Node<T> child = it.next();
+					if (!update(child, point)) {
+						return false;
+					}
+					if (child.isEmpty()) {
+						it.remove();
+					}
+				}
+			}
+		}
+
+		return true;
+	}
+
+	private void insert(final Node<T> node, final T point) {
+		extend(node, point);
+
+		if (node.isLeaf()) {
+			node.points.add(point);
+			if (node.points.size() > MAX_LEAF_SIZE) {
+				split(node);
+			}
+		} else {
+			Node<T> closest = node.children.get(0);
+			double min = distance(closest, point);
+			for (int i = 1; i < node.children.size(); ++i) {
+				final Node<T> child = node.children.get(i);
+				final double dist = distance(child, point);
+				if (dist < min) {
+					min = dist;
+					closest = child;
+				}
+			}
+
+			insert(closest, point);
+		}
+	}
+
+	/**
+	 * Splits the given leaf node into {@code d + 1} child nodes. The first
+	 * seed is the point with the largest average distance to the other points.
+	 * Every following seed has the largest average distance to the seeds
+	 * already chosen. The remaining points are assigned to the closest seed.
+	 */
+	private void split(final Node<T> node) {
+		final List<T> points = node.points;
+		final int k = Math.min(_dim + 1, points.size());
+
+		final List<Node<T>> children = new ArrayList<>(k);
+		final boolean[] seeded = new boolean[points.size()];
+		final double[] sums = new double[points.size()];
+		for (int i = 0; i < points.size(); ++i) {
+			for (int j = 0; j < points.size(); ++j) {
+				sums[i] += distance(points.get(i), points.get(j));
+			}
+		}
+
+		for (int s = 0; s < k; ++s) {
+			int seed = -1;
+			for (int i = 0; i < points.size(); ++i) {
+				if (!seeded[i] && (seed == -1 || sums[i] > sums[seed])) {
+					seed = i;
+				}
+			}
+			seeded[seed] = true;
+
+			final Node<T> child = new Node<>();
+			extend(child, points.get(seed));
+			child.points.add(points.get(seed));
+			children.add(child);
+
+			// From now on, only the distances to the seeds are summed up.
+			if (s == 0) {
+				Arrays.fill(sums, 0);
+			}
+			for (int i = 0; i < points.size(); ++i) {
+				sums[i] += distance(points.get(i), points.get(seed));
+			}
+		}
+
+		for (int i = 0; i < points.size(); ++i) {
+			if (!seeded[i]) {
+				final T point = points.get(i);
+				Node<T> closest = children.get(0);
+				double min = distance(closest.points.get(0), point);
+				for (int j = 1; j < children.size(); ++j) {
+					final double dist = distance(children.get(j).points.get(0), point);
+					if (dist < min) {
+						min = dist;
+						closest = children.get(j);
+					}
+				}
+
+				extend(closest, point);
+				closest.points.add(point);
+			}
+		}
+
+		node.points = null;
+		node.children = children;
+	}
+
+	/**
+	 * Compares the given node {@code bound} with the given {@code point}.
+	 * The result is zero, if both are equal, {@link #BETTER} if the bound
+	 * dominates the point, {@link #WORSE} if the point dominates the bound and
+	 * {@code BETTER|WORSE} if they are not comparable.
+	 */
+	private int relation(final Object[] bound, final T point) {
+		int relation = 0;
+		for (int i = 0; i < _dim && relation != (BETTER|WORSE); ++i) {
+			final int cmp = _comparator.compare(bound(bound, i), point, i);
+			if (cmp > 0) {
+				relation |= BETTER;
+			} else if (cmp < 0) {
+				relation |= WORSE;
+			}
+		}
+		return relation;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T bound(final Object[] bound, final int index) {
+		return (T)bound[index];
+	}
+
+	private void extend(final Node<T> node, final T point) {
+		if (node.ideal == null) {
+			node.ideal = new Object[_dim];
+			node.nadir = new Object[_dim];
+		}
+
+		for (int i = 0; i < _dim; ++i) {
+			if (node.ideal[i] == null ||
+				_comparator.compare(point, bound(node.ideal, i), i) > 0)
+			{
+				node.ideal[i] = point;
+			}
+			if (node.nadir[i] == null ||
+				_comparator.compare(point, bound(node.nadir, i), i) < 0)
+			{
+				node.nadir[i] = point;
+			}
+		}
+	}
+
+	// Recalculates the exact bounds of a leaf node.
+	private void bounds(final Node<T> node) {
+		node.ideal = null;
+		node.nadir = null;
+		for (T point : node.points) {
+			extend(node, point);
+		}
+	}
+
+	// The squared distance of the point to the middle of the node bounds.
+	private double distance(final Node<T> node, final T point) {
+		double sum = 0;
+		for (int i = 0; i < _dim; ++i) {
+			final double d = (
+				_distance.distance(point, bound(node.ideal, i), i) +
+				_distance.distance(point, bound(node.nadir, i), i))/2.0;
+			sum += d*d;
+		}
+		return sum;
+	}
+
+	private double distance(final T u, final T v) {
+		double sum = 0;
+		for (int i = 0; i < _dim; ++i) {
+			final double d = _distance.distance(u, v, i);
+			sum += d*d;
+		}
+		return sum;
+	}
+
+	/**
+	 * Node of the ND-tree. A leaf node contains the points, an internal node
+	 * the child nodes. The bounds contain, for every dimension, the point with
+	 * the best (ideal) and the worst (nadir) value. After removing points from
+	 * internal nodes, the bounds are only approximations, which still contains
+	 * all points of the node.
+	 */
+	private static final class Node<T> {
+		List<T> points = new ArrayList<>();
+		List<Node<T>> children;
+		Object[] ideal;
+		Object[] nadir;
+
+		boolean isLeaf() {
+			return points != null;
+		}
+
+		boolean isEmpty() {
+			return isLeaf() ? points.isEmpty() : children.isEmpty();
+		}
+
+		int size() {
+			if (isLeaf()) {
+				return points.size();
+			} else {
+				int size = 0;
+				for (Node<T> child : children) {
+					size += child.size();
+				}
+				return size;
+			}
+		}
+	}
+
+	/**
+	 * Return a new, unbounded pareto archive for the given result type
+	 * {@code V}. This method is a shortcut for
+	 * <pre>{@code
+	 * new ParetoArchive<>(
+	 *     Vec<T>::dominance,
+	 *     Vec<T>::compare,
+	 *     Vec<T>::distance,
+	 *     Vec<T>::length
+	 * );
+	 * }</pre>
+	 *
+	 * @param <T> the array type, e.g. {@code double[]}
+	 * @return a new, unbounded pareto archive for {@link Vec} elements
+	 */
+	public static <T> ParetoArchive<Vec<T>> ofVec() {
+		return new ParetoArchive<>(
+			Vec<T>::dominance,
+			Vec<T>::compare,
+			Vec<T>::distance,
+			Vec<T>::length
+		);
+	}
+
+	/**
+	 * Return a new pareto archive for the given result type {@code V}, with
+	 * the given size range.
+	 *
+	 * @see #ofVec()
+	 *
+	 * @param size the allowed size range of the archive
+	 * @param <T> the array type, e.g. {@code double[]}
+	 * @return a new pareto archive for {@link Vec} elements
+	 * @throws NullPointerException if the given {@code size} is {@code null}
+	 * @throws IllegalArgumentException if the minimal archive {@code size}
+	 *         is smaller than one
+	 */
+	public static <T> ParetoArchive<Vec<T>> ofVec(final IntRange size) {
+		return new ParetoArchive<>(
+			size,
+			Vec<T>::dominance,
+			Vec<T>::compare,
+			Vec<T>::distance,
+			Vec<T>::length
+		);
+	}
+
+}
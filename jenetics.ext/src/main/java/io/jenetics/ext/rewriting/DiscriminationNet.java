@@ -0,0 +1,189 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.rewriting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.rewriting.TreePattern.Decl;
+import io.jenetics.ext.rewriting.TreePattern.Val;
+import io.jenetics.ext.util.Tree;
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * Discrimination net of a set of tree patterns. The patterns are stored in a
+ * trie of their pre-order node sequences, where every variable is replaced by
+ * a wildcard. This allows to find all patterns, which may match a given tree
+ * node, in one traversal of the net. Since the patterns may contain the same
+ * variable more than once, the candidates still have to be checked with
+ * {@link TreePattern#match(Tree)}.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 5.1
+ * @since 5.1
+ */
+final class DiscriminationNet<V> {
+
+	private static final int[] NO_PATTERNS = {};
+
+	private final Node _root = new Node();
+
+	/**
+	 * Create a new discrimination net from the given patterns. The index of
+	 * a pattern is its position in the given sequence.
+	 *
+	 * @param patterns the patterns of the net
+	 */
+	DiscriminationNet(final ISeq<? extends TreePattern<V>> patterns) {
+		for (int i = 0; i < patterns.length(); ++i) {
+			insert(patterns.get(i).pattern(), i);
+		}
+	}
+
+	private void insert(final TreeNode<Decl<V>> pattern, final int index) {
+		Node node = _root;
+		final Iterator<TreeNode<Decl<V>>> nodes = pattern.preorderIterator();
+		while (nodes.hasNext()) {
+			node = node.next(nodes.next());
+		}
+		node.patterns = Arrays.copyOf(node.patterns, node.patterns.length + 1);
+		node.patterns[node.patterns.length - 1] = index;
+	}
+
+	/**
+	 * Return the indexes of the patterns, which may match the given
+	 * {@code tree}, in ascending order.
+	 *
+	 * @param tree the tree to match
+	 * @return the ascending indexes of the candidate patterns
+	 */
+	int[] candidates(final Tree<? extends V, ?> tree) {
+		final List<int[]> found = new ArrayList<>();
+		collect(_root, new Pending(tree, null), found);
+
+		if (found.isEmpty()) {
+			return NO_PATTERNS;
+		} else if (found.size() == 1) {
+			return found.get(0);
+		} else {
+			return found.stream()
+				.flatMapToInt(Arrays::stream)
+				.sorted()
+				.toArray();
+		}
+	}
+
+	private static void collect(
+		final Node node,
+		final Pending pending,
+		final List<int[]> found
+	) {
+		if (pending == null) {
+			if (node.patterns.length > 0) {
+				found.add(node.patterns);
+			}
+			return;
+		}
+
+		final Tree<?, ?> tree = pending.tree;
+		final Node exact = node.children
+			.get(new Symbol(tree.getValue(), tree.childCount()));
+		if (exact != null) {
+			Pending next = pending.next;
+			for (int i = tree.childCount(); --i >= 0;) {
+				next = new Pending(tree.childAt(i), next);
+			}
+			collect(exact, next, found);
+		}
+		if (node.wildcard != null) {
+			collect(node.wildcard, pending.next, found);
+		}
+	}
+
+	/**
+	 * A node of the discrimination net.
+	 */
+	private static final class Node {
+		final Map<Symbol, Node> children = new HashMap<>();
+		Node wildcard;
+		int[] patterns = NO_PATTERNS;
+
+		Node next(final Tree<? extends Decl<?>, ?> pattern) {
+			final Decl<?> decl = pattern.getValue();
+			if (decl instanceof Val) {
+				return children.computeIfAbsent(
+					new Symbol(((Val<?>)decl).value(), pattern.childCount()),
+					s -> new Node()
+				);
+			} else {
+				if (wildcard == null) {
+					wildcard = new Node();
+				}
+				return wildcard;
+			}
+		}
+	}
+
+	/**
+	 * A pattern node value, together with its arity.
+	 */
+	private static final class Symbol {
+		final Object value;
+		final int arity;
+
+		Symbol(final Object value, final int arity) {
+			this.value = value;
+			this.arity = arity;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31*Objects.hashCode(value) + arity;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj instanceof Symbol &&
+				((Symbol)obj).arity == arity &&
+				Objects.equals(((Symbol)obj).value, value);
+		}
+	}
+
+	/**
+	 * The tree nodes which still have to be matched, in pre-order.
+	 */
+	private static final class Pending {
+		final Tree<?, ?> tree;
+		final Pending next;
+
+		Pending(final Tree<?, ?> tree, final Pending next) {
+			this.tree = tree;
+			this.next = next;
+		}
+	}
+
+}
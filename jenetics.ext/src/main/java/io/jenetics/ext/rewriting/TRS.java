@@ -19,6 +19,8 @@
  */
 package io.jenetics.ext.rewriting;
 
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
 import static io.jenetics.internal.util.SerialIO.readInt;
 import static io.jenetics.internal.util.SerialIO.writeInt;
 
@@ -28,13 +30,22 @@ import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import io.jenetics.util.ISeq;
 import io.jenetics.util.MSeq;
 
+import io.jenetics.ext.rewriting.TreePattern.Decl;
+import io.jenetics.ext.rewriting.TreePattern.Val;
+import io.jenetics.ext.rewriting.TreePattern.Var;
+import io.jenetics.ext.util.Tree;
 import io.jenetics.ext.util.TreeNode;
 
 /**
@@ -54,11 +65,19 @@ import io.jenetics.ext.util.TreeNode;
  * assert tree.equals(TreeNode.parse("S(S(S(S(0))))"));
  * }</pre>
  *
+ * The left-hand sides of all rules are compiled into one discrimination net,
+ * which finds all applicable rules of a tree node in one step. The tree is
+ * rewritten bottom-up: the children of a node are brought into their normal
+ * form before the rules are applied to the node itself. If more than one rule
+ * is applicable, the first rule of the TRS is applied. After a rewrite, only
+ * the newly created part of the tree is revisited; the subtrees, which are
+ * bound to the rule variables, are already in normal form.
+ *
  * @see TreeRewriteRule
  * @see <a href="https://en.wikipedia.org/wiki/Rewriting">TRS</a>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 5.1
  * @since 5.0
  */
 public final class TRS<V> implements TreeRewriter<V>, Serializable {
@@ -67,6 +86,9 @@ public final class TRS<V> implements TreeRewriter<V>, Serializable {
 
 	private final ISeq<TreeRewriteRule<V>> _rules;
 
+	// The compiled left-hand sides of the rules.
+	private final transient DiscriminationNet<V> _net;
+
 	/**
 	 * Create a new TRS from the given rewrite rules.
 	 *
@@ -80,11 +102,107 @@ public final class TRS<V> implements TreeRewriter<V>, Serializable {
 			throw new IllegalArgumentException("Rewrite rules must not be empty.");
 		}
 		_rules = rules;
+		_net = new DiscriminationNet<>(rules.map(TreeRewriteRule::left));
 	}
 
 	@Override
 	public int rewrite(final TreeNode<V> tree, final int limit) {
-		return TreeRewriter.rewrite(tree, limit, _rules);
+		requireNonNull(tree);
+		if (limit < 0) {
+			throw new IllegalArgumentException(format(
+				"Limit is smaller then zero: %d", limit
+			));
+		}
+
+		final Rewriting rewriting = new Rewriting(limit);
+		rewriting.normalize(tree);
+		return rewriting.count;
+	}
+
+	/**
+	 * The state of one rewrite run.
+	 */
+	private final class Rewriting {
+		private final int _limit;
+
+		// The subtrees which are known to be in normal form.
+		private final Set<TreeNode<V>> _normal =
+			Collections.newSetFromMap(new IdentityHashMap<>());
+
+		int count = 0;
+
+		Rewriting(final int limit) {
+			_limit = limit;
+		}
+
+		// Return false, if the rewrite limit has been reached.
+		boolean normalize(final TreeNode<V> node) {
+			if (_normal.contains(node)) {
+				return true;
+			}
+
+			while (true) {
+				for (int i = 0; i < node.childCount(); ++i) {
+					if (!normalize(node.childAt(i))) {
+						return false;
+					}
+				}
+				if (count >= _limit) {
+					return false;
+				}
+
+				final TreeNode<V> result = rewrite(node);
+				if (result == null) {
+					return true;
+				}
+
+				++count;
+				node.removeAllChildren();
+				node.setValue(result.getValue());
+				final ISeq<TreeNode<V>> children = result.childStream()
+					.collect(ISeq.toISeq());
+				for (TreeNode<V> child : children) {
+					node.attach(child);
+				}
+
+				// The rule replaced the node with one of its variables.
+				if (_normal.contains(result)) {
+					children.forEach(_normal::add);
+					return true;
+				}
+			}
+		}
+
+		// Applies the first matching rule and returns the replacement tree.
+		private TreeNode<V> rewrite(final TreeNode<V> node) {
+			for (int index : _net.candidates(node)) {
+				final TreeRewriteRule<V> rule = _rules.get(index);
+				final Optional<TreeMatchResult<V>> result = rule.left().match(node);
+				if (result.isPresent()) {
+					return expand(rule.right().pattern(), result.get().vars());
+				}
+			}
+
+			return null;
+		}
+
+		private TreeNode<V> expand(
+			final Tree<Decl<V>, ?> template,
+			final Map<Var<V>, Tree<V, ?>> vars
+		) {
+			final Decl<V> decl = template.getValue();
+			if (decl instanceof Var) {
+				final TreeNode<V> tree = TreeNode.ofTree(vars.get(decl));
+				_normal.add(tree);
+				return tree;
+			} else {
+				final TreeNode<V> tree = TreeNode.of(((Val<V>)decl).value());
+				for (int i = 0; i < template.childCount(); ++i) {
+					tree.attach(expand(template.childAt(i), vars));
+				}
+				return tree;
+			}
+		}
 	}
 
 	/**
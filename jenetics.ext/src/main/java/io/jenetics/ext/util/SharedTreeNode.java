@@ -0,0 +1,343 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.util;
+
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.util.SerialIO.readIntArray;
+import static io.jenetics.internal.util.SerialIO.readObjectArray;
+import static io.jenetics.internal.util.SerialIO.writeIntArray;
+import static io.jenetics.internal.util.SerialIO.writeObjectArray;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+/**
+ * Immutable, <em>hash-consed</em> implementation of the {@link Tree}
+ * interface. Structurally equal (sub-)trees are stored only once: every
+ * node is interned in a global, weak intern table. This way, trees are
+ * represented as directed acyclic graphs, which share their equal subtrees.
+ * This saves a lot of memory for populations of program trees, which
+ * contain many duplicated subtrees after crossover.
+ *
+ * <pre>{@code
+ * final SharedTreeNode<String> tree1 = SharedTreeNode.of(TreeNode.parse("add(x,mul(y,z))"));
+ * final SharedTreeNode<String> tree2 = SharedTreeNode.of(TreeNode.parse("sub(mul(y,z),x)"));
+ *
+ * // Equal subtrees are the same object.
+ * assert tree1.childAt(1) == tree2.childAt(0);
+ * }</pre>
+ *
+ * Since structurally equal trees are identical, the {@link #equals(Object)}
+ * method only compares the node value and the child identities, which is
+ * independent of the tree size. The structural hash code is calculated once,
+ * when the node is created. The identity of the nodes can also be used for
+ * detecting duplicate trees or for caching results of shared subtrees, e.g.
+ * with an {@link IdentityHashMap}.
+ * <p>
+ * A shared node can be the child of many other nodes. It therefore doesn't
+ * have a parent node and every node is the root of its own tree.
+ *
+ * @implNote
+ * This class is immutable and thread-safe. The node values must be immutable
+ * and must implement {@link Object#equals(Object)} and
+ * {@link Object#hashCode()} consistently.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 5.1
+ * @since 5.1
+ */
+public final class SharedTreeNode<T>
+	implements Tree<T, SharedTreeNode<T>>, Serializable
+{
+	private static final long serialVersionUID = 1L;
+
+	private static final Object[] NO_CHILDREN = {};
+
+	// The weak intern table of all living nodes. The table values are weak
+	// references to the keys themselves.
+	private static final Map<SharedTreeNode<?>, WeakReference<SharedTreeNode<?>>>
+		INTERNED = new WeakHashMap<>();
+
+	private final T _value;
+	private final Object[] _children;
+	private final transient int _hash;
+	private final transient int _size;
+
+	private SharedTreeNode(final T value, final Object[] children) {
+		_value = value;
+		_children = children;
+
+		int hash = 31*Objects.hashCode(value) + 17;
+		long size = 1;
+		for (Object child : children) {
+			hash = 37*hash + child.hashCode();
+			size += ((SharedTreeNode<?>)child)._size;
+		}
+		_hash = hash;
+		_size = (int)Math.min(size, Integer.MAX_VALUE);
+	}
+
+	@Override
+	public T getValue() {
+		return _value;
+	}
+
+	/**
+	 * A shared node has no parent, since it can be the child of many other
+	 * nodes.
+	 *
+	 * @return always {@link Optional#empty()}
+	 */
+	@Override
+	public Optional<SharedTreeNode<T>> getParent() {
+		return Optional.empty();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public SharedTreeNode<T> childAt(final int index) {
+		if (index < 0 || index >= _children.length) {
+			throw new IndexOutOfBoundsException(Integer.toString(index));
+		}
+
+		return (SharedTreeNode<T>)_children[index];
+	}
+
+	@Override
+	public int childCount() {
+		return _children.length;
+	}
+
+	/**
+	 * Return the number of nodes of this tree, counting shared subtrees
+	 * multiple times. This implementation has a runtime complexity of O(1).
+	 *
+	 * @return the number of nodes of this tree, or
+	 *         {@link Integer#MAX_VALUE} if the tree contains more nodes
+	 */
+	@Override
+	public int size() {
+		return _size;
+	}
+
+	@Override
+	public int hashCode() {
+		return _hash;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof SharedTreeNode)) {
+			return false;
+		}
+
+		// The children are interned, which allows to compare them by identity.
+		final SharedTreeNode<?> other = (SharedTreeNode<?>)obj;
+		if (other._hash != _hash ||
+			other._children.length != _children.length ||
+			!Objects.equals(other._value, _value))
+		{
+			return false;
+		}
+		for (int i = 0; i < _children.length; ++i) {
+			if (other._children[i] != _children[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return toParenthesesString();
+	}
+
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 **************************************************************************/
+
+	/**
+	 * Return the shared tree node with the given {@code value} and
+	 * {@code children}.
+	 *
+	 * @param value the node value
+	 * @param children the child nodes
+	 * @param <V> the tree value type
+	 * @return the interned tree node
+	 * @throws NullPointerException if the {@code children} array or one of
+	 *         its elements is {@code null}
+	 */
+	@SafeVarargs
+	public static <V> SharedTreeNode<V> of(
+		final V value,
+		final SharedTreeNode<V>... children
+	) {
+		final Object[] nodes = children.length == 0
+			? NO_CHILDREN
+			: children.clone();
+		for (Object node : nodes) {
+			requireNonNull(node);
+		}
+
+		return intern(new SharedTreeNode<>(value, nodes));
+	}
+
+	/**
+	 * Create a new, hash-consed tree from the given {@code tree}. Equal
+	 * subtrees of the given {@code tree}, and of all other living shared
+	 * trees, are stored only once.
+	 *
+	 * @param tree the source tree
+	 * @param <V> the tree value type
+	 * @return the interned tree
+	 * @throws NullPointerException if the given {@code tree} is {@code null}
+	 */
+	public static <V> SharedTreeNode<V> of(final Tree<? extends V, ?> tree) {
+		requireNonNull(tree);
+		if (tree instanceof SharedTreeNode) {
+			@SuppressWarnings("unchecked")
+			final SharedTreeNode<V> node = (SharedTreeNode<V>)tree;
+			return node;
+		}
+
+		final Object[] children = tree.childCount() == 0
+			? NO_CHILDREN
+			: new Object[tree.childCount()];
+		for (int i = 0; i < children.length; ++i) {
+			children[i] = of(tree.childAt(i));
+		}
+
+		return intern(new SharedTreeNode<V>(tree.getValue(), children));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <V> SharedTreeNode<V> intern(final SharedTreeNode<V> node) {
+		synchronized (INTERNED) {
+			final WeakReference<SharedTreeNode<?>> ref = INTERNED.get(node);
+			final SharedTreeNode<?> interned = ref != null ? ref.get() : null;
+			if (interned != null) {
+				return (SharedTreeNode<V>)interned;
+			}
+
+			INTERNED.put(node, new WeakReference<>(node));
+			return node;
+		}
+	}
+
+
+	/* *************************************************************************
+	 *  Java object serialization
+	 * ************************************************************************/
+
+	private Object writeReplace() {
+		return new Serial(Serial.SHARED_TREE_NODE, this);
+	}
+
+	private void readObject(final ObjectInputStream stream)
+		throws InvalidObjectException
+	{
+		throw new InvalidObjectException("Serialization proxy required.");
+	}
+
+	// The nodes are written in post-order, each distinct node only once.
+	void write(final ObjectOutput out) throws IOException {
+		final Map<SharedTreeNode<?>, Integer> indexes = new IdentityHashMap<>();
+		final List<Object> values = new ArrayList<>();
+		final List<Integer> counts = new ArrayList<>();
+		final List<Integer> children = new ArrayList<>();
+		index(this, indexes, values, counts, children);
+
+		writeObjectArray(values.toArray(), out);
+		writeIntArray(counts.stream().mapToInt(Integer::intValue).toArray(), out);
+		writeIntArray(children.stream().mapToInt(Integer::intValue).toArray(), out);
+	}
+
+	private static int index(
+		final SharedTreeNode<?> node,
+		final Map<SharedTreeNode<?>, Integer> indexes,
+		final List<Object> values,
+		final List<Integer> counts,
+		final List<Integer> children
+	) {
+		final Integer index = indexes.get(node);
+		if (index != null) {
+			return index;
+		}
+
+		final int[] childIndexes = new int[node._children.length];
+		for (int i = 0; i < childIndexes.length; ++i) {
+			childIndexes[i] = index(
+				(SharedTreeNode<?>)node._children[i],
+				indexes, values, counts, children
+			);
+		}
+
+		values.add(node._value);
+		counts.add(childIndexes.length);
+		for (int child : childIndexes) {
+			children.add(child);
+		}
+
+		indexes.put(node, values.size() - 1);
+		return values.size() - 1;
+	}
+
+	@SuppressWarnings("rawtypes")
+	static SharedTreeNode read(final ObjectInput in)
+		throws IOException, ClassNotFoundException
+	{
+		final Object[] values = readObjectArray(in);
+		final int[] counts = readIntArray(in);
+		final int[] children = readIntArray(in);
+
+		final SharedTreeNode[] nodes = new SharedTreeNode[values.length];
+		for (int i = 0, c = 0; i < nodes.length; ++i) {
+			final Object[] childNodes = counts[i] == 0
+				? NO_CHILDREN
+				: new Object[counts[i]];
+			for (int j = 0; j < childNodes.length; ++j) {
+				childNodes[j] = nodes[children[c++]];
+			}
+
+			@SuppressWarnings("unchecked")
+			final SharedTreeNode node = intern(new SharedTreeNode(values[i], childNodes));
+			nodes[i] = node;
+		}
+
+		return nodes[nodes.length - 1];
+	}
+
+}
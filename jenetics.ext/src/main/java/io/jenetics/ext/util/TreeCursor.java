@@ -0,0 +1,381 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.util;
+
+import static java.lang.Math.max;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Index based, read-only view of a tree, which allows traversing the nodes
+ * of the tree without allocating iterator or stream objects. The nodes are
+ * numbered in <em>preorder</em>, starting with zero for the root node.
+ * Beside the nodes, the cursor stores the parent index, the subtree size
+ * and the level of every node. This makes the following operations
+ * {@code O(1)}:
+ * <ul>
+ *     <li>picking a (random) node, {@link #node(int)}</li>
+ *     <li>the size of the sub-tree of a node, {@link #size(int)}</li>
+ *     <li>the level of a node, {@link #level(int)}</li>
+ *     <li>the ancestor test of two nodes, {@link #isAncestor(int, int)}</li>
+ * </ul>
+ * The nodes of the sub-tree of node {@code i} have the indexes
+ * {@code [i, i + size(i))}.
+ *
+ * <pre>{@code
+ * final TreeCursor<A, TreeNode<A>> cursor = TreeCursor.of(tree);
+ * final int index = random.nextInt(cursor.size() - 1) + 1;
+ * final TreeNode<A> node = cursor.node(index);
+ * final TreeNode<A> parent = cursor.node(cursor.parent(index));
+ * }</pre>
+ *
+ * The cursor is a snapshot of the given tree. It is no longer valid if a
+ * mutable tree, like the {@link TreeNode}, is changed after the cursor has
+ * been created.
+ *
+ * @param <V> the tree value type
+ * @param <T> the tree type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 5.1
+ * @since 5.1
+ */
+public final class TreeCursor<V, T extends Tree<V, T>> {
+
+	private final Object[] _nodes;
+	private final int[] _parents;
+	private final int[] _childIndexes;
+	private final int[] _sizes;
+	private final int[] _levels;
+	private final int _depth;
+
+	// Lazily created traversal orders.
+	private volatile int[] _postorder;
+	private volatile int[] _breadthFirst;
+
+	private TreeCursor(
+		final Object[] nodes,
+		final int[] parents,
+		final int[] childIndexes,
+		final int[] sizes,
+		final int[] levels,
+		final int depth
+	) {
+		_nodes = nodes;
+		_parents = parents;
+		_childIndexes = childIndexes;
+		_sizes = sizes;
+		_levels = levels;
+		_depth = depth;
+	}
+
+	/**
+	 * Return the number of nodes of the tree.
+	 *
+	 * @return the number of nodes of the tree
+	 */
+	public int size() {
+		return _nodes.length;
+	}
+
+	/**
+	 * Return the depth of the tree, which is the longest distance from the
+	 * root node to a leaf.
+	 *
+	 * @see Tree#depth()
+	 *
+	 * @return the depth of the tree
+	 */
+	public int depth() {
+		return _depth;
+	}
+
+	/**
+	 * Return the tree node with the given (preorder) {@code index}.
+	 *
+	 * @param index the node index
+	 * @return the tree node with the given {@code index}
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0 || index >= size())}
+	 */
+	@SuppressWarnings("unchecked")
+	public T node(final int index) {
+		return (T)_nodes[index];
+	}
+
+	/**
+	 * Return the value of the tree node with the given {@code index}.
+	 *
+	 * @param index the node index
+	 * @return the value of the tree node with the given {@code index}
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0 || index >= size())}
+	 */
+	public V value(final int index) {
+		return node(index).getValue();
+	}
+
+	/**
+	 * Return the index of the parent node or {@code -1} for the root node.
+	 *
+	 * @param index the node index
+	 * @return the index of the parent node, or {@code -1} for the root node
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0 || index >= size())}
+	 */
+	public int parent(final int index) {
+		return _parents[index];
+	}
+
+	/**
+	 * Return the position of the node with the given {@code index} in the
+	 * child list of its parent, or {@code -1} for the root node.
+	 *
+	 * @see Tree#indexOf(Tree)
+	 *
+	 * @param index the node index
+	 * @return the child index of the node, or {@code -1} for the root node
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0 || index >= size())}
+	 */
+	public int childIndex(final int index) {
+		return _childIndexes[index];
+	}
+
+	/**
+	 * Return the number of nodes of the sub-tree with the given root
+	 * {@code index}.
+	 *
+	 * @param index the node index
+	 * @return the size of the sub-tree rooted at the given node
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0 || index >= size())}
+	 */
+	public int size(final int index) {
+		return _sizes[index];
+	}
+
+	/**
+	 * Return the distance of the node with the given {@code index} from the
+	 * root node.
+	 *
+	 * @see Tree#level()
+	 *
+	 * @param index the node index
+	 * @return the level of the node
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0 || index >= size())}
+	 */
+	public int level(final int index) {
+		return _levels[index];
+	}
+
+	/**
+	 * Tests whether the node with the given {@code ancestor} index is an
+	 * ancestor of the node with the given {@code index}. A node is considered
+	 * an ancestor of itself.
+	 *
+	 * @see Tree#isAncestor(Tree)
+	 *
+	 * @param ancestor the index of the potential ancestor node
+	 * @param index the node index
+	 * @return {@code true} if the {@code ancestor} node contains the node
+	 *         with the given {@code index} in its sub-tree
+	 * @throws IndexOutOfBoundsException if one of the indexes is out of range
+	 *         {@code (index < 0 || index >= size())}
+	 */
+	public boolean isAncestor(final int ancestor, final int index) {
+		if (index < 0 || index >= _nodes.length) {
+			throw new IndexOutOfBoundsException(Integer.toString(index));
+		}
+
+		return ancestor <= index && index < ancestor + _sizes[ancestor];
+	}
+
+	/**
+	 * Calls the given {@code visitor} with the node indexes in preorder.
+	 *
+	 * @see Tree#preorderIterator()
+	 *
+	 * @param visitor the node index visitor
+	 * @throws NullPointerException if the given {@code visitor} is {@code null}
+	 */
+	public void preorder(final IntConsumer visitor) {
+		requireNonNull(visitor);
+		for (int i = 0; i < _nodes.length; ++i) {
+			visitor.accept(i);
+		}
+	}
+
+	/**
+	 * Calls the given {@code visitor} with the node indexes in postorder.
+	 *
+	 * @see Tree#postorderIterator()
+	 *
+	 * @param visitor the node index visitor
+	 * @throws NullPointerException if the given {@code visitor} is {@code null}
+	 */
+	public void postorder(final IntConsumer visitor) {
+		requireNonNull(visitor);
+		for (int index : postorderIndexes()) {
+			visitor.accept(index);
+		}
+	}
+
+	/**
+	 * Calls the given {@code visitor} with the node indexes in breadth-first
+	 * order.
+	 *
+	 * @see Tree#breadthFirstIterator()
+	 *
+	 * @param visitor the node index visitor
+	 * @throws NullPointerException if the given {@code visitor} is {@code null}
+	 */
+	public void breadthFirst(final IntConsumer visitor) {
+		requireNonNull(visitor);
+		for (int index : breadthFirstIndexes()) {
+			visitor.accept(index);
+		}
+	}
+
+	private int[] postorderIndexes() {
+		int[] indexes = _postorder;
+		if (indexes == null) {
+			// The postorder position of a node is its preorder position plus
+			// the number of its descendants minus the number of its ancestors.
+			indexes = new int[_nodes.length];
+			for (int i = 0; i < indexes.length; ++i) {
+				indexes[i + _sizes[i] - 1 - _levels[i]] = i;
+			}
+			_postorder = indexes;
+		}
+
+		return indexes;
+	}
+
+	private int[] breadthFirstIndexes() {
+		int[] indexes = _breadthFirst;
+		if (indexes == null) {
+			// Stable counting sort of the preorder indexes by their level.
+			final int[] offsets = new int[_depth + 2];
+			for (int level : _levels) {
+				++offsets[level + 1];
+			}
+			for (int i = 1; i < offsets.length; ++i) {
+				offsets[i] += offsets[i - 1];
+			}
+
+			indexes = new int[_nodes.length];
+			for (int i = 0; i < indexes.length; ++i) {
+				indexes[offsets[_levels[i]]++] = i;
+			}
+			_breadthFirst = indexes;
+		}
+
+		return indexes;
+	}
+
+	/**
+	 * Create a new cursor for the given {@code tree}. The given tree node is
+	 * the root node of the cursor, with index zero, even if it has a parent.
+	 *
+	 * @param tree the tree to traverse
+	 * @param <V> the tree value type
+	 * @param <T> the tree type
+	 * @return a new tree cursor
+	 * @throws NullPointerException if the given {@code tree} is {@code null}
+	 */
+	public static <V, T extends Tree<V, T>> TreeCursor<V, T>
+	of(final Tree<V, T> tree) {
+		requireNonNull(tree);
+
+		Object[] nodes = new Object[16];
+		int[] parents = new int[16];
+		int[] childIndexes = new int[16];
+		int[] levels = new int[16];
+
+		// The stack of the nodes still to visit, with their parent and
+		// child index.
+		Object[] stack = new Object[16];
+		int[] stackParents = new int[16];
+		int[] stackChildIndexes = new int[16];
+		stack[0] = tree;
+		stackParents[0] = -1;
+		stackChildIndexes[0] = -1;
+
+		int top = 1;
+		int size = 0;
+		int depth = 0;
+		while (top > 0) {
+			--top;
+			final T node = Trees.self((Tree<?, ?>)stack[top]);
+			final int parent = stackParents[top];
+			stack[top] = null;
+
+			if (size == nodes.length) {
+				final int length = size*2;
+				nodes = Arrays.copyOf(nodes, length);
+				parents = Arrays.copyOf(parents, length);
+				childIndexes = Arrays.copyOf(childIndexes, length);
+				levels = Arrays.copyOf(levels, length);
+			}
+			nodes[size] = node;
+			parents[size] = parent;
+			childIndexes[size] = stackChildIndexes[top];
+			levels[size] = parent == -1 ? 0 : levels[parent] + 1;
+			depth = max(depth, levels[size]);
+
+			final int count = node.childCount();
+			if (top + count > stack.length) {
+				final int length = max(stack.length*2, top + count);
+				stack = Arrays.copyOf(stack, length);
+				stackParents = Arrays.copyOf(stackParents, length);
+				stackChildIndexes = Arrays.copyOf(stackChildIndexes, length);
+			}
+			for (int i = count; --i >= 0;) {
+				stack[top] = node.childAt(i);
+				stackParents[top] = size;
+				stackChildIndexes[top] = i;
+				++top;
+			}
+
+			++size;
+		}
+
+		// The children have bigger indexes than their parents.
+		final int[] sizes = new int[size];
+		Arrays.fill(sizes, 1);
+		for (int i = size; --i > 0;) {
+			sizes[parents[i]] += sizes[i];
+		}
+
+		return new TreeCursor<>(
+			Arrays.copyOf(nodes, size),
+			Arrays.copyOf(parents, size),
+			Arrays.copyOf(childIndexes, size),
+			sizes,
+			Arrays.copyOf(levels, size),
+			depth
+		);
+	}
+
+}
@@ -0,0 +1,260 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.ext.engine.IslandEngine.Topology;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.SplitRandom;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class IslandEngineTest {
+
+	private static List<Engine<DoubleGene, Double>> islands(final int count) {
+		return IntStream.range(0, count)
+			.mapToObj(i -> Engine
+				.builder(gt -> gt.getGene().doubleValue(), DoubleChromosome.of(0, 1))
+				.populationSize(20 + i)
+				.executor(Runnable::run)
+				.build())
+			.collect(Collectors.toList());
+	}
+
+	@Test
+	public void stream() {
+		final IslandEngine<DoubleGene, Double> engine =
+			new IslandEngine<>(islands(4), Topology.ring(), 3, 2);
+
+		final long[] generations = engine.stream()
+			.limit(10)
+			.mapToLong(EvolutionResult::getGeneration)
+			.toArray();
+
+		Assert.assertEquals(
+			generations,
+			new long[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10}
+		);
+	}
+
+	@Test
+	public void islandStream() {
+		final IslandEngine<DoubleGene, Double> engine =
+			new IslandEngine<>(islands(3), Topology.fullyConnected(), 2, 3);
+
+		engine.islandStream()
+			.limit(10)
+			.forEach(result -> {
+				Assert.assertEquals(result.getIslands().size(), 3);
+				for (int i = 0; i < 3; ++i) {
+					Assert.assertEquals(
+						result.getIslands().get(i).getPopulation().size(),
+						20 + i
+					);
+					Assert.assertEquals(
+						result.getIslands().get(i).getGeneration(),
+						result.getResult().getGeneration()
+					);
+				}
+				Assert.assertEquals(result.getResult().getPopulation().size(), 63);
+				Assert.assertEquals(
+					result.getResult().getBestFitness(),
+					result.getIslands().stream()
+						.map(EvolutionResult::getBestFitness)
+						.max(Double::compare)
+						.orElseThrow(AssertionError::new)
+				);
+			});
+	}
+
+	@Test(dataProvider = "executors")
+	public void reproducibleEvolution(
+		final Topology topology,
+		final Executor executor
+	) {
+		try {
+			final ISeq<ISeq<Double>> expected =
+				RandomRegistry.with(new SplitRandom(123), r ->
+					evolve(topology, Runnable::run));
+
+			final ISeq<ISeq<Double>> fitness =
+				RandomRegistry.with(new SplitRandom(123), r ->
+					evolve(topology, executor));
+
+			Assert.assertEquals(fitness, expected);
+		} finally {
+			if (executor instanceof ExecutorService) {
+				((ExecutorService)executor).shutdown();
+			}
+		}
+	}
+
+	private static ISeq<ISeq<Double>> evolve(
+		final Topology topology,
+		final Executor executor
+	) {
+		return new IslandEngine<>(islands(5), topology, 2, 3, executor)
+			.islandStream()
+			.limit(20)
+			.map(r -> r.getIslands().map(EvolutionResult::getBestFitness))
+			.collect(ISeq.toISeq());
+	}
+
+	@DataProvider(name = "executors")
+	public Object[][] executors() {
+		return new Object[][] {
+			{Topology.ring(), ForkJoinPool.commonPool()},
+			{Topology.random(), ForkJoinPool.commonPool()},
+			{Topology.fullyConnected(), ForkJoinPool.commonPool()},
+			{Topology.ring(), Executors.newFixedThreadPool(2)},
+			{Topology.random(), Executors.newFixedThreadPool(3)}
+		};
+	}
+
+	@Test(timeOut = 10_000)
+	public void noGlobalBarrier() throws InterruptedException {
+		final AtomicLong fastGeneration = new AtomicLong();
+		final CountDownLatch fastIslandAhead = new CountDownLatch(1);
+		final CountDownLatch releaseSlowIsland = new CountDownLatch(1);
+
+		final Engine<DoubleGene, Double> fast = Engine
+			.builder(gt -> gt.getGene().doubleValue(), DoubleChromosome.of(0, 1))
+			.populationSize(10)
+			.executor(Runnable::run)
+			.mapping(r -> {
+				if (fastGeneration.incrementAndGet() == 5) {
+					fastIslandAhead.countDown();
+				}
+				return r;
+			})
+			.build();
+
+		final Engine<DoubleGene, Double> slow = Engine
+			.builder(gt -> gt.getGene().doubleValue(), DoubleChromosome.of(0, 1))
+			.populationSize(10)
+			.executor(Runnable::run)
+			.mapping(r -> {
+				if (r.getGeneration() >= 2) {
+					try {
+						releaseSlowIsland.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+				return r;
+			})
+			.build();
+
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			final Iterator<IslandResult<DoubleGene, Double>> results =
+				new IslandEngine<>(
+					Arrays.asList(fast, slow), Topology.ring(), 4, 1, executor)
+				.islandStream()
+				.iterator();
+
+			Assert.assertEquals(results.next().getResult().getGeneration(), 1);
+
+			// The fast island evolves up to 'interval' generations ahead,
+			// while the slow island is blocked in its second generation.
+			fastIslandAhead.await();
+			Assert.assertEquals(fastGeneration.get(), 5);
+
+			releaseSlowIsland.countDown();
+			Assert.assertEquals(results.next().getResult().getGeneration(), 2);
+		} finally {
+			releaseSlowIsland.countDown();
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void ringTopology() {
+		final Topology topology = Topology.ring();
+		Assert.assertEquals(topology.sources(0, 4, new Random()), new int[]{3});
+		Assert.assertEquals(topology.sources(2, 4, new Random()), new int[]{1});
+		Assert.assertEquals(topology.sources(0, 1, new Random()), new int[0]);
+	}
+
+	@Test
+	public void randomTopology() {
+		final Topology topology = Topology.random();
+		final Random random = new Random(123);
+		for (int i = 0; i < 1000; ++i) {
+			final int island = i%7;
+			final int[] sources = topology.sources(island, 7, random);
+			Assert.assertEquals(sources.length, 1);
+			Assert.assertNotEquals(sources[0], island);
+			Assert.assertTrue(sources[0] >= 0 && sources[0] < 7);
+		}
+		Assert.assertEquals(topology.sources(0, 1, random), new int[0]);
+	}
+
+	@Test
+	public void fullyConnectedTopology() {
+		final Topology topology = Topology.fullyConnected();
+		Assert.assertEquals(
+			topology.sources(2, 5, new Random()),
+			new int[]{0, 1, 3, 4}
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void emptyIslands() {
+		new IslandEngine<DoubleGene, Double>(
+			Arrays.asList(), Topology.ring(), 1, 1
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidInterval() {
+		new IslandEngine<>(islands(2), Topology.ring(), 0, 1);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void differentOptimize() {
+		final List<Engine<DoubleGene, Double>> islands = islands(2);
+		islands.set(1, islands.get(1).builder().minimizing().build());
+		new IslandEngine<>(islands, Topology.ring(), 1, 1);
+	}
+
+}
@@ -0,0 +1,204 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.IntRange;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class ParetoArchiveTest {
+
+	@Test(dataProvider = "points")
+	public void add(final Function<Random, Vec<double[]>> points) {
+		final Random random = new Random(1234);
+		final ParetoArchive<Vec<double[]>> archive = ParetoArchive.ofVec();
+		final ParetoFront<Vec<double[]>> front = new ParetoFront<>(Vec::dominance);
+
+		for (int i = 0; i < 2_000; ++i) {
+			final Vec<double[]> point = points.apply(random);
+			Assert.assertEquals(archive.isDominated(point), isDominated(front, point));
+			Assert.assertEquals(archive.add(point), front.add(point));
+			Assert.assertEquals(archive.size(), front.size());
+		}
+
+		Assert.assertEquals(new HashSet<>(archive), new HashSet<>(front));
+		Assert.assertEquals(new HashSet<>(archive.toISeq().asList()), front);
+	}
+
+	@Test(dataProvider = "points")
+	public void addAll(final Function<Random, Vec<double[]>> points) {
+		final Random random = new Random(4321);
+		final List<Vec<double[]>> elements = IntStream.range(0, 5_000)
+			.mapToObj(i -> points.apply(random))
+			.collect(Collectors.toList());
+
+		final ParetoArchive<Vec<double[]>> archive = ParetoArchive.ofVec();
+		archive.addAll(elements);
+
+		final ParetoFront<Vec<double[]>> front = new ParetoFront<>(Vec::dominance);
+		front.addAll(elements);
+
+		Assert.assertEquals(archive.size(), front.size());
+		Assert.assertEquals(new HashSet<>(archive), front);
+	}
+
+	@DataProvider(name = "points")
+	public Object[][] points() {
+		final Function<Random, Vec<double[]>> circle = random -> {
+			final double r = random.nextDouble();
+			final double a = random.nextDouble()*2*PI;
+			return Vec.of(r*sin(a), r*cos(a));
+		};
+		final Function<Random, Vec<double[]>> simplex = random -> {
+			final double x = random.nextDouble();
+			final double y = random.nextDouble()*(1 - x);
+			return Vec.of(x, y, 1 - x - y);
+		};
+		final Function<Random, Vec<double[]>> grid = random -> Vec.of(
+			(double)random.nextInt(10),
+			(double)random.nextInt(10),
+			(double)random.nextInt(10)
+		);
+
+		return new Object[][] {
+			{circle},
+			{simplex},
+			{grid}
+		};
+	}
+
+	@Test
+	public void addReverse() {
+		final Random random = new Random(2345);
+		final ParetoArchive<Vec<double[]>> archive = new ParetoArchive<>(
+			(a, b) -> b.dominance(a),
+			(a, b, i) -> b.compare(a, i),
+			Vec::distance,
+			Vec::length
+		);
+		final ParetoFront<Vec<double[]>> front =
+			new ParetoFront<>((a, b) -> b.dominance(a));
+
+		for (int i = 0; i < 2_000; ++i) {
+			final double x = random.nextDouble();
+			final Vec<double[]> point = Vec.of(x, 1 - x + random.nextDouble()*0.1);
+			Assert.assertEquals(archive.add(point), front.add(point));
+		}
+
+		Assert.assertEquals(new HashSet<>(archive), front);
+	}
+
+	@Test
+	public void addEqualVectors() {
+		final ParetoArchive<double[]> archive = new ParetoArchive<>(
+			Pareto::dominance,
+			(u, v, i) -> Double.compare(u[i], v[i]),
+			(u, v, i) -> u[i] - v[i],
+			v -> v.length
+		);
+
+		final double[] point = {1, 2};
+		Assert.assertTrue(archive.add(point));
+		Assert.assertFalse(archive.add(point));
+		Assert.assertTrue(archive.add(new double[]{1, 2}));
+		Assert.assertFalse(archive.add(new double[]{0, 1}));
+		Assert.assertTrue(archive.add(new double[]{2, 1}));
+		Assert.assertEquals(archive.size(), 3);
+
+		Assert.assertTrue(archive.add(new double[]{3, 3}));
+		Assert.assertEquals(archive.size(), 1);
+	}
+
+	@Test
+	public void bounded() {
+		final Random random = new Random(3456);
+		final ParetoArchive<Vec<double[]>> archive =
+			ParetoArchive.ofVec(IntRange.of(50, 100));
+
+		for (int i = 0; i < 10_000; ++i) {
+			final double x = random.nextDouble();
+			archive.add(Vec.of(x, 1 - x));
+			Assert.assertTrue(archive.size() < 100);
+		}
+		Assert.assertTrue(archive.size() >= 50);
+	}
+
+	@Test
+	public void trim() {
+		final ParetoArchive<Vec<double[]>> archive = ParetoArchive.ofVec();
+		for (int i = 0; i <= 100; ++i) {
+			archive.add(Vec.of(i/100.0, 1 - i/100.0));
+		}
+		Assert.assertEquals(archive.size(), 101);
+
+		archive.trim(10);
+		Assert.assertEquals(archive.size(), 10);
+		Assert.assertTrue(archive.contains(Vec.of(0.0, 1.0)));
+		Assert.assertTrue(archive.contains(Vec.of(1.0, 0.0)));
+	}
+
+	@Test
+	public void remove() {
+		final Random random = new Random(5678);
+		final ParetoArchive<Vec<double[]>> archive = ParetoArchive.ofVec();
+		for (int i = 0; i < 1_000; ++i) {
+			final double x = random.nextDouble();
+			archive.add(Vec.of(x, 1 - x));
+		}
+
+		final int size = archive.size();
+		final Iterator<Vec<double[]>> it = archive.iterator();
+		for (int i = 0; i < size/2; ++i) {
+			it.next();
+			it.remove();
+		}
+		Assert.assertEquals(archive.size(), size - size/2);
+		Assert.assertEquals(archive.toISeq().size(), size - size/2);
+
+		archive.clear();
+		Assert.assertTrue(archive.isEmpty());
+		Assert.assertTrue(archive.add(Vec.of(0.5, 0.5)));
+	}
+
+	private static <T> boolean isDominated(
+		final ParetoFront<Vec<T>> front,
+		final Vec<T> point
+	) {
+		return front.stream().anyMatch(p -> p.dominance(point) > 0);
+	}
+
+}
@@ -30,6 +30,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import io.jenetics.util.ISeq;
@@ -185,6 +186,54 @@ public class ParetoTest {
 		);
 	}
 
+	@Test(dataProvider = "rankParameters")
+	public void rankRandomPoints(final Integer size, final Integer dimension) {
+		final Random random = new Random(size*31 + dimension);
+		final ISeq<Vec<int[]>> points = IntStream.range(0, size)
+			.mapToObj(i -> Vec.of(
+				IntStream.range(0, dimension)
+					.map(j -> random.nextInt(10))
+					.toArray()))
+			.collect(ISeq.toISeq());
+
+		final int[] expected = rank(points);
+		Assert.assertEquals(Pareto.rank(points), expected);
+		Assert.assertEquals(Pareto.rank(points, Vec::dominance), expected);
+	}
+
+	@DataProvider(name = "rankParameters")
+	public Object[][] rankParameters() {
+		return new Object[][] {
+			{0, 2},
+			{1, 2},
+			{100, 1},
+			{100, 2},
+			{500, 2},
+			{500, 3},
+			{1000, 5}
+		};
+	}
+
+	// Rank definition: rank(p) = 1 + max(rank(q)) for all q dominating p.
+	private static int[] rank(final ISeq<Vec<int[]>> points) {
+		final int[] ranks = new int[points.size()];
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			for (int i = 0; i < points.size(); ++i) {
+				for (int j = 0; j < points.size(); ++j) {
+					if (points.get(j).dominance(points.get(i)) > 0 &&
+						ranks[i] <= ranks[j])
+					{
+						ranks[i] = ranks[j] + 1;
+						changed = true;
+					}
+				}
+			}
+		}
+		return ranks;
+	}
+
 	@Test
 	public void dominance() {
 		final ISeq<Vec<double[]>> outline = circle(1000, new Random(234));
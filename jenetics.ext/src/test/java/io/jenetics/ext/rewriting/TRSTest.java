@@ -20,11 +20,13 @@
 package io.jenetics.ext.rewriting;
 
 import java.io.IOException;
+import java.util.Random;
 
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import io.jenetics.util.IO;
+import io.jenetics.util.ISeq;
 
 import io.jenetics.ext.util.TreeNode;
 
@@ -47,6 +49,94 @@ public class TRSTest {
 		Assert.assertEquals(tree, TreeNode.parse("S(S(S(S(0))))"));
 	}
 
+	@Test
+	public void rewriteRandomTrees() {
+		final ISeq<TreeRewriteRule<String>> rules = ISeq.of(
+			"add(0,$x) -> $x",
+			"add(S($x),$y) -> S(add($x,$y))",
+			"mul(0,$x) -> 0",
+			"mul(S($x),$y) -> add(mul($x,$y),$y)",
+			"sub($x,$x) -> 0",
+			"sub(S($x),S($y)) -> sub($x,$y)"
+		).map(TreeRewriteRule::parse);
+		final TRS<String> trs = new TRS<>(rules);
+
+		final Random random = new Random(123);
+		for (int i = 0; i < 200; ++i) {
+			final TreeNode<String> tree = peano(random, 4);
+			final TreeNode<String> expected = tree.copy();
+
+			final int count = trs.rewrite(tree);
+			final int expectedCount = TreeRewriter.rewrite(expected, rules);
+			Assert.assertEquals(tree, expected);
+			Assert.assertEquals(count > 0, expectedCount > 0);
+		}
+	}
+
+	private static TreeNode<String> peano(final Random random, final int depth) {
+		if (depth == 0) {
+			return TreeNode.of("0");
+		}
+
+		switch (random.nextInt(5)) {
+			case 0: return TreeNode.of("0");
+			case 1: return TreeNode.of("S").attach(peano(random, depth - 1));
+			case 2: return TreeNode.of("add")
+				.attach(peano(random, depth - 1))
+				.attach(peano(random, depth - 1));
+			case 3: return TreeNode.of("mul")
+				.attach(peano(random, depth - 1))
+				.attach(peano(random, depth - 1));
+			default: return TreeNode.of("sub")
+				.attach(peano(random, depth - 1))
+				.attach(peano(random, depth - 1));
+		}
+	}
+
+	@Test
+	public void nonLinearRule() {
+		final TRS<String> trs = TRS.parse("sub($x,$x) -> 0");
+
+		final TreeNode<String> tree = TreeNode.parse("add(sub(S(0),S(0)),sub(S(0),0))");
+		Assert.assertEquals(trs.rewrite(tree), 1);
+		Assert.assertEquals(tree, TreeNode.parse("add(0,sub(S(0),0))"));
+	}
+
+	@Test
+	public void rulePriority() {
+		final TRS<String> trs = TRS.parse(
+			"f(a,$x) -> first",
+			"f($x,b) -> second",
+			"f($x,$y) -> third"
+		);
+
+		TreeNode<String> tree = TreeNode.parse("f(a,b)");
+		trs.rewrite(tree);
+		Assert.assertEquals(tree, TreeNode.parse("first"));
+
+		tree = TreeNode.parse("f(c,b)");
+		trs.rewrite(tree);
+		Assert.assertEquals(tree, TreeNode.parse("second"));
+
+		tree = TreeNode.parse("f(c,d)");
+		trs.rewrite(tree);
+		Assert.assertEquals(tree, TreeNode.parse("third"));
+	}
+
+	@Test
+	public void rewriteLimit() {
+		final TRS<String> trs = TRS.parse(
+			"add(0,$x) -> $x",
+			"add(S($x),$y) -> S(add($x,$y))"
+		);
+
+		final TreeNode<String> tree = TreeNode.parse("add(S(S(S(0))),0)");
+		Assert.assertEquals(trs.rewrite(tree, 2), 2);
+		Assert.assertEquals(tree, TreeNode.parse("S(S(add(S(0),0)))"));
+		Assert.assertEquals(trs.rewrite(tree), 2);
+		Assert.assertEquals(tree, TreeNode.parse("S(S(S(0)))"));
+	}
+
 	@Test
 	public void serialize() throws IOException {
 		final TRS<String> trs = TRS.parse(
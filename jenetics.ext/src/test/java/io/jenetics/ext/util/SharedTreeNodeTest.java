@@ -0,0 +1,132 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.util;
+
+import java.io.IOException;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.IO;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SharedTreeNodeTest {
+
+	@Test
+	public void sharedSubtrees() {
+		final SharedTreeNode<String> tree1 =
+			SharedTreeNode.of(TreeNode.parse("add(x,mul(y,z))"));
+		final SharedTreeNode<String> tree2 =
+			SharedTreeNode.of(TreeNode.parse("sub(mul(y,z),x)"));
+
+		Assert.assertSame(tree1.childAt(1), tree2.childAt(0));
+		Assert.assertSame(tree1.childAt(0), tree2.childAt(1));
+		Assert.assertSame(
+			SharedTreeNode.of(TreeNode.parse("add(x,mul(y,z))")),
+			tree1
+		);
+	}
+
+	@Test(invocationCount = 10)
+	public void ofTree() {
+		final TreeNode<Integer> tree = newTree(5, new Random());
+		final SharedTreeNode<Integer> shared = SharedTreeNode.of(tree);
+
+		Assert.assertTrue(Tree.equals(shared, tree));
+		Assert.assertEquals(shared.size(), tree.size());
+		Assert.assertEquals(shared.toParenthesesString(), tree.toParenthesesString());
+		Assert.assertSame(SharedTreeNode.of(TreeNode.ofTree(shared)), shared);
+		Assert.assertEquals(TreeNode.ofTree(shared), tree);
+	}
+
+	@Test
+	public void of() {
+		final SharedTreeNode<String> x = SharedTreeNode.of("x");
+		final SharedTreeNode<String> tree = SharedTreeNode.of("add", x, x);
+
+		Assert.assertSame(tree.childAt(0), tree.childAt(1));
+		Assert.assertEquals(tree.size(), 3);
+		Assert.assertEquals(tree.toParenthesesString(), "add(x,x)");
+		Assert.assertFalse(tree.getParent().isPresent());
+		Assert.assertTrue(tree.childAt(0).isRoot());
+		Assert.assertSame(tree, SharedTreeNode.of("add", SharedTreeNode.of("x"), x));
+	}
+
+	@Test
+	public void equality() {
+		final SharedTreeNode<String> tree1 =
+			SharedTreeNode.of(TreeNode.parse("add(x,mul(y,z))"));
+		final SharedTreeNode<String> tree2 =
+			SharedTreeNode.of(TreeNode.parse("add(x,mul(z,y))"));
+
+		Assert.assertEquals(tree1, tree1);
+		Assert.assertNotEquals(tree1, tree2);
+		Assert.assertNotEquals(tree1, TreeNode.parse("add(x,mul(y,z))"));
+	}
+
+	@Test
+	public void serialize() throws IOException {
+		final SharedTreeNode<Integer> tree = SharedTreeNode.of(newTree(6, new Random()));
+		final byte[] data = IO.object.toByteArray(tree);
+
+		Assert.assertSame(IO.object.fromByteArray(data), tree);
+	}
+
+	@Test
+	public void serializeShared() throws IOException {
+		final SharedTreeNode<String> x = SharedTreeNode.of("x");
+		SharedTreeNode<String> tree = x;
+		for (int i = 0; i < 100; ++i) {
+			tree = SharedTreeNode.of("add", tree, tree);
+		}
+
+		Assert.assertEquals(tree.size(), Integer.MAX_VALUE);
+
+		// Only the 101 distinct nodes are written.
+		final byte[] data = IO.object.toByteArray(tree);
+		Assert.assertTrue(data.length < 10_000, Integer.toString(data.length));
+		Assert.assertSame(IO.object.fromByteArray(data), tree);
+	}
+
+	private static TreeNode<Integer> newTree(final int levels, final Random random) {
+		final TreeNode<Integer> root = TreeNode.of(0);
+		fill(root, levels, random);
+		return root;
+	}
+
+	// Uses only a few distinct values, which creates equal subtrees.
+	private static void fill(
+		final TreeNode<Integer> node,
+		final int level,
+		final Random random
+	) {
+		for (int i = 0, n = random.nextInt(3) + 1; i < n; ++i) {
+			final TreeNode<Integer> child = TreeNode.of(random.nextInt(3));
+			if (level > 0 && random.nextBoolean()) {
+				fill(child, level - 1, random);
+			}
+			node.attach(child);
+		}
+	}
+
+}
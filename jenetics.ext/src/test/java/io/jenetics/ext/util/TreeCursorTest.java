@@ -0,0 +1,155 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class TreeCursorTest {
+
+	private static TreeNode<Integer> newTree(final int levels, final Random random) {
+		final TreeNode<Integer> root = TreeNode.of(0);
+		TreeNodeTest.fill(root, levels, random);
+		return root;
+	}
+
+	@Test(dataProvider = "trees")
+	public void preorder(final Tree<Integer, ?> tree) {
+		final TreeCursor<Integer, ?> cursor = TreeCursor.of(tree);
+		Assert.assertEquals(
+			values(cursor, Order.PREORDER),
+			values(tree.preorderIterator())
+		);
+	}
+
+	@Test(dataProvider = "trees")
+	public void postorder(final Tree<Integer, ?> tree) {
+		final TreeCursor<Integer, ?> cursor = TreeCursor.of(tree);
+		Assert.assertEquals(
+			values(cursor, Order.POSTORDER),
+			values(tree.postorderIterator())
+		);
+	}
+
+	@Test(dataProvider = "trees")
+	public void breadthFirst(final Tree<Integer, ?> tree) {
+		final TreeCursor<Integer, ?> cursor = TreeCursor.of(tree);
+		Assert.assertEquals(
+			values(cursor, Order.BREADTH_FIRST),
+			values(tree.breadthFirstIterator())
+		);
+	}
+
+	@Test(dataProvider = "trees")
+	public void nodeProperties(final Tree<Integer, ?> tree) {
+		final TreeCursor<Integer, ?> cursor = TreeCursor.of(tree);
+		Assert.assertEquals(cursor.size(), tree.size());
+		Assert.assertEquals(cursor.depth(), tree.depth());
+		Assert.assertEquals(cursor.parent(0), -1);
+		Assert.assertEquals(cursor.childIndex(0), -1);
+
+		for (int i = 0; i < cursor.size(); ++i) {
+			final Tree<Integer, ?> node = cursor.node(i);
+			Assert.assertEquals(cursor.value(i), node.getValue());
+			Assert.assertEquals(cursor.size(i), node.size());
+			Assert.assertEquals(cursor.level(i), node.level());
+
+			if (i > 0) {
+				final Tree<Integer, ?> parent = cursor.node(cursor.parent(i));
+				Assert.assertTrue(parent.identical(node.getParent().get()));
+				Assert.assertEquals(cursor.childIndex(i), parent.indexOf(node));
+			}
+		}
+	}
+
+	@Test(dataProvider = "trees")
+	public void isAncestor(final Tree<Integer, ?> tree) {
+		final TreeCursor<Integer, ?> cursor = TreeCursor.of(tree);
+		for (int i = 0; i < cursor.size(); ++i) {
+			for (int j = 0; j < cursor.size(); ++j) {
+				Assert.assertEquals(
+					cursor.isAncestor(i, j),
+					cursor.node(j).isAncestor(cursor.node(i)),
+					i + ", " + j
+				);
+			}
+		}
+	}
+
+	@Test
+	public void subTree() {
+		final TreeNode<Integer> tree = newTree(5, new Random(123));
+		final TreeNode<Integer> child = tree.childAt(0);
+
+		final TreeCursor<Integer, TreeNode<Integer>> cursor = TreeCursor.of(child);
+		Assert.assertEquals(cursor.size(), child.size());
+		Assert.assertSame(cursor.node(0), child);
+		Assert.assertEquals(cursor.level(0), 0);
+		Assert.assertEquals(cursor.parent(0), -1);
+	}
+
+	@DataProvider(name = "trees")
+	public Object[][] trees() {
+		final Random random = new Random(234);
+		final TreeNode<Integer> tree = newTree(6, random);
+
+		return new Object[][] {
+			{TreeNode.of(1)},
+			{FlatTreeNode.of(TreeNode.of(1))},
+			{newTree(0, random)},
+			{newTree(3, random)},
+			{tree},
+			{FlatTreeNode.of(tree)}
+		};
+	}
+
+	private enum Order { PREORDER, POSTORDER, BREADTH_FIRST }
+
+	private static List<Integer> values(
+		final TreeCursor<Integer, ?> cursor,
+		final Order order
+	) {
+		final List<Integer> values = new ArrayList<>();
+		switch (order) {
+			case PREORDER: cursor.preorder(i -> values.add(cursor.value(i))); break;
+			case POSTORDER: cursor.postorder(i -> values.add(cursor.value(i))); break;
+			default: cursor.breadthFirst(i -> values.add(cursor.value(i))); break;
+		}
+		return values;
+	}
+
+	private static List<Integer> values(
+		final Iterator<? extends Tree<Integer, ?>> nodes
+	) {
+		final List<Integer> values = new ArrayList<>();
+		nodes.forEachRemaining(node -> values.add(node.getValue()));
+		return values;
+	}
+
+}
@@ -32,8 +32,8 @@ import io.jenetics.util.RandomRegistry;
 import io.jenetics.ext.AbstractTreeGene;
 import io.jenetics.ext.util.TreeNode;
 
+import io.jenetics.prog.op.CompiledProgram;
 import io.jenetics.prog.op.Op;
-import io.jenetics.prog.op.Program;
 
 /**
  * This gene represents a program, build upon an AST of {@link Op} functions.
@@ -52,7 +52,7 @@ import io.jenetics.prog.op.Program;
  * }</pre>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.9
+ * @version 5.1
  * @since 3.9
  */
 public final class ProgramGene<A>
@@ -65,6 +65,8 @@ public final class ProgramGene<A>
 	private final ISeq<? extends Op<A>> _operations;
 	private final ISeq<? extends Op<A>> _terminals;
 
+	private transient volatile CompiledProgram<A> _compiled;
+
 	ProgramGene(
 		final Op<A> op,
 		final int childOffset,
@@ -100,7 +102,16 @@ public final class ProgramGene<A>
 	@Override
 	public A apply(final A[] args) {
 		checkTreeState();
-		return Program.eval(this, args);
+		return compiled().eval(args);
+	}
+
+	private CompiledProgram<A> compiled() {
+		CompiledProgram<A> compiled = _compiled;
+		if (compiled == null) {
+			compiled = CompiledProgram.of(this);
+			_compiled = compiled;
+		}
+		return compiled;
 	}
 
 	/**
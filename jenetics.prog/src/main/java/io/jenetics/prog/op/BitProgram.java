@@ -0,0 +1,376 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.op;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.jenetics.ext.util.Tree;
+
+/**
+ * Bit-parallel evaluation of a {@code boolean} operation tree. The boolean
+ * values of a variable are packed into the bits of {@code long} words, 64
+ * fitness cases per word: the value of row {@code r} is stored in the bit
+ * {@code r%64} of the word {@code r/64}. Every {@link BoolOp} is then
+ * evaluated with one bitwise instruction per word, in one postfix pass over
+ * the tree.
+ *
+ * <pre>{@code
+ * final BitProgram program = BitProgram.of(
+ *     TreeNode.of(BoolOp.AND).attach(Var.of("x", 0), Var.of("y", 1))
+ * );
+ * final long[] x = {0b0011};
+ * final long[] y = {0b0101};
+ * final long[] result = program.eval(x, y);
+ * assert result[0] == 0b0001;
+ * }</pre>
+ *
+ * Other operations are evaluated bit by bit, with boxed arguments. The
+ * unused, trailing bits of the last word are evaluated like all other bits
+ * and must be ignored by the caller. This class is thread-safe. Concurrent
+ * evaluations use their own intermediate columns.
+ *
+ * @see ColumnProgram
+ * @see #pack(boolean[])
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 5.1
+ * @since 5.1
+ */
+public final class BitProgram {
+
+	// Kinds of the compiled operations.
+	private static final byte VAR = 0;
+	private static final byte VAL = 1;
+	private static final byte BOOL = 2;
+	private static final byte OTHER = 3;
+
+	private final Op<Boolean>[] _ops;
+	private final byte[] _kinds;
+	private final int[] _arities;
+	private final int _arity;
+	private final int _stackSize;
+
+	// Pool of one evaluation frame, which is taken while evaluating.
+	private final AtomicReference<Frame> _frame = new AtomicReference<>();
+
+	private BitProgram(final Op<Boolean>[] ops) {
+		_ops = ops;
+		_kinds = new byte[ops.length];
+		_arities = new int[ops.length];
+
+		int arity = 0;
+		int size = 0;
+		int stackSize = 0;
+		for (int i = 0; i < ops.length; ++i) {
+			final Op<Boolean> op = ops[i];
+			_arities[i] = op.arity();
+
+			if (op instanceof Var) {
+				_kinds[i] = VAR;
+				arity = Math.max(arity, ((Var<?>)op).index() + 1);
+			} else if (op instanceof Val) {
+				_kinds[i] = VAL;
+			} else if (op instanceof BoolOp) {
+				_kinds[i] = BOOL;
+			} else {
+				_kinds[i] = OTHER;
+			}
+
+			size += 1 - _arities[i];
+			stackSize = Math.max(stackSize, size);
+		}
+
+		_arity = arity;
+		_stackSize = stackSize;
+	}
+
+	/**
+	 * Return the number of variable columns needed by the program.
+	 *
+	 * @return the number of variable columns needed by the program
+	 */
+	public int arity() {
+		return _arity;
+	}
+
+	/**
+	 * Evaluates the program for all bits of the given, packed variable
+	 * columns.
+	 *
+	 * @param columns the bit-packed variable columns. All columns must have
+	 *        the same number of words.
+	 * @return a new array with the packed evaluation results
+	 * @throws NullPointerException if the given column array is {@code null}
+	 * @throws IllegalArgumentException if the number of columns is smaller
+	 *         than the program arity, no column is given or the columns have
+	 *         different length
+	 */
+	public long[] eval(final long[]... columns) {
+		if (columns.length == 0) {
+			throw new IllegalArgumentException("No column given.");
+		}
+		if (columns.length < _arity) {
+			throw new IllegalArgumentException(format(
+				"No value for variable '%s' given.", missing(columns.length)
+			));
+		}
+
+		final int words = columns[0].length;
+		for (long[] column : columns) {
+			if (column.length != words) {
+				throw new IllegalArgumentException(format(
+					"Columns have different length: %d != %d",
+					column.length, words
+				));
+			}
+		}
+
+		Frame frame = _frame.getAndSet(null);
+		if (frame == null || frame.words != words) {
+			frame = new Frame(words);
+		}
+
+		try {
+			return eval(frame, columns).clone();
+		} finally {
+			_frame.set(frame);
+		}
+	}
+
+	private long[] eval(final Frame frame, final long[][] columns) {
+		final long[][] stack = frame.stack;
+		int sp = 0;
+
+		for (int i = 0; i < _ops.length; ++i) {
+			final Op<Boolean> op = _ops[i];
+			final int arity = _arities[i];
+
+			switch (_kinds[i]) {
+				case VAR:
+					stack[sp++] = columns[((Var<?>)op).index()];
+					break;
+				case VAL:
+					Arrays.fill(
+						frame.buffers[sp],
+						Boolean.TRUE.equals(((Val<Boolean>)op).value()) ? -1L : 0L
+					);
+					stack[sp] = frame.buffers[sp];
+					++sp;
+					break;
+				case BOOL:
+					sp -= arity;
+					((BoolOp)op).apply(
+						stack[sp],
+						arity == 2 ? stack[sp + 1] : null,
+						frame.buffers[sp]
+					);
+					stack[sp] = frame.buffers[sp];
+					++sp;
+					break;
+				default:
+					sp -= arity;
+					evalBits(op, arity, sp, frame, columns);
+					stack[sp] = frame.buffers[sp];
+					++sp;
+			}
+		}
+
+		assert sp == 1;
+		return stack[0];
+	}
+
+	// Fallback for operations which can't be applied to whole words.
+	private static void evalBits(
+		final Op<Boolean> op,
+		final int arity,
+		final int sp,
+		final Frame frame,
+		final long[][] columns
+	) {
+		final long[][] stack = frame.stack;
+		final long[] result = frame.buffers[sp];
+		final Boolean[] args = new Boolean[arity == 0 ? columns.length : arity];
+		final long[][] source = arity == 0
+			? columns
+			: Arrays.copyOfRange(stack, sp, sp + arity);
+
+		for (int w = 0; w < result.length; ++w) {
+			long word = 0;
+			for (int b = 0; b < Long.SIZE; ++b) {
+				final long mask = 1L << b;
+				for (int j = 0; j < args.length; ++j) {
+					args[j] = (source[j][w] & mask) != 0;
+				}
+				if (op.apply(args)) {
+					word |= mask;
+				}
+			}
+			result[w] = word;
+		}
+	}
+
+	private Op<Boolean> missing(final int length) {
+		for (Op<Boolean> op : _ops) {
+			if (op instanceof Var && ((Var<?>)op).index() >= length) {
+				return op;
+			}
+		}
+		throw new AssertionError();
+	}
+
+	/**
+	 * The intermediate columns of one evaluation.
+	 */
+	private final class Frame {
+		final int words;
+		final long[][] stack;
+		final long[][] buffers;
+
+		Frame(final int words) {
+			this.words = words;
+			stack = new long[_stackSize][];
+			buffers = new long[_stackSize][words];
+		}
+	}
+
+	/**
+	 * Compiles the given operation tree for the bit-parallel evaluation.
+	 *
+	 * @param tree the operation tree to compile
+	 * @return the compiled operation tree
+	 * @throws NullPointerException if the given {@code tree} is {@code null}
+	 * @throws IllegalArgumentException if the given operation tree is invalid,
+	 *         which means there is at least one node where the operation arity
+	 *         and the node child count differ.
+	 */
+	public static BitProgram of(final Tree<? extends Op<Boolean>, ?> tree) {
+		requireNonNull(tree);
+
+		final List<Op<Boolean>> ops = new ArrayList<>(tree.size());
+		compile(tree, ops);
+
+		@SuppressWarnings("unchecked")
+		final Op<Boolean>[] array = (Op<Boolean>[])ops.toArray(new Op<?>[0]);
+		return new BitProgram(array);
+	}
+
+	private static void compile(
+		final Tree<? extends Op<Boolean>, ?> node,
+		final List<Op<Boolean>> ops
+	) {
+		final Op<Boolean> op = node.getValue();
+		if (op.arity() != node.childCount()) {
+			throw new IllegalArgumentException(format(
+				"Op arity != child count: %d != %d",
+				op.arity(), node.childCount()
+			));
+		}
+
+		for (int i = 0; i < node.childCount(); ++i) {
+			compile(node.childAt(i), ops);
+		}
+		ops.add(op);
+	}
+
+	/* *************************************************************************
+	 * Packing helper methods.
+	 * ************************************************************************/
+
+	/**
+	 * Return the number of {@code long} words needed for packing the given
+	 * number of boolean values.
+	 *
+	 * @param size the number of boolean values
+	 * @return the number of words needed for {@code size} bits
+	 * @throws IllegalArgumentException if the given {@code size} is negative
+	 */
+	public static int words(final int size) {
+		if (size < 0) {
+			throw new IllegalArgumentException("Size is negative: " + size);
+		}
+		return (size + Long.SIZE - 1) >>> 6;
+	}
+
+	/**
+	 * Packs the given boolean values into the bits of a {@code long} array.
+	 * The value with index {@code i} is stored in the bit {@code i%64} of the
+	 * word {@code i/64}.
+	 *
+	 * @param values the boolean values to pack
+	 * @return the packed boolean values
+	 * @throws NullPointerException if the given {@code values} are {@code null}
+	 */
+	public static long[] pack(final boolean[] values) {
+		final long[] words = new long[words(values.length)];
+		for (int i = 0; i < values.length; ++i) {
+			if (values[i]) {
+				words[i >>> 6] |= 1L << i;
+			}
+		}
+		return words;
+	}
+
+	/**
+	 * Unpacks the first {@code size} boolean values from the given words.
+	 *
+	 * @see #pack(boolean[])
+	 *
+	 * @param words the packed boolean values
+	 * @param size the number of values to unpack
+	 * @return the unpacked boolean values
+	 * @throws NullPointerException if the given {@code words} are {@code null}
+	 * @throws IllegalArgumentException if the given words contain less than
+	 *         {@code size} bits
+	 */
+	public static boolean[] unpack(final long[] words, final int size) {
+		if (words(size) > words.length) {
+			throw new IllegalArgumentException(format(
+				"Words contain less than %d bits: %d",
+				size, words.length*Long.SIZE
+			));
+		}
+
+		final boolean[] values = new boolean[size];
+		for (int i = 0; i < size; ++i) {
+			values[i] = (words[i >>> 6] & (1L << i)) != 0;
+		}
+		return values;
+	}
+
+	/**
+	 * Return the mask of the used bits of the last word, when packing
+	 * {@code size} boolean values. This mask is needed for ignoring the
+	 * unused bits of the last word, e.g. when counting wrong results with
+	 * {@link Long#bitCount(long)}.
+	 *
+	 * @param size the number of packed boolean values
+	 * @return the mask of the used bits of the last word
+	 */
+	public static long lastWordMask(final int size) {
+		return size%Long.SIZE == 0 ? -1L : (1L << size) - 1;
+	}
+
+}
@@ -33,7 +33,7 @@ import io.jenetics.ext.util.TreeNode;
  * This class contains basic and secondary boolean operations.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 5.1
  * @since 5.0
  */
 public enum BoolOp implements Op<Boolean> {
@@ -124,6 +124,54 @@ public enum BoolOp implements Op<Boolean> {
 		return apply(v);
 	}
 
+	/**
+	 * Applies this operation to whole bit-packed columns. Every bit of the
+	 * {@code long} words represents one boolean value, so 64 values are
+	 * evaluated with one bitwise instruction. The {@code v} column is
+	 * ignored for unary operations.
+	 *
+	 * @param u the first argument column
+	 * @param v the second argument column
+	 * @param result the result column
+	 */
+	void apply(final long[] u, final long[] v, final long[] result) {
+		final int n = result.length;
+		switch (this) {
+			case AND:
+				for (int i = 0; i < n; ++i) {
+					result[i] = u[i] & v[i];
+				}
+				break;
+			case OR:
+				for (int i = 0; i < n; ++i) {
+					result[i] = u[i] | v[i];
+				}
+				break;
+			case NOT:
+				for (int i = 0; i < n; ++i) {
+					result[i] = ~u[i];
+				}
+				break;
+			case IMP:
+				for (int i = 0; i < n; ++i) {
+					result[i] = ~u[i] | v[i];
+				}
+				break;
+			case XOR:
+				for (int i = 0; i < n; ++i) {
+					result[i] = u[i] ^ v[i];
+				}
+				break;
+			case EQU:
+				for (int i = 0; i < n; ++i) {
+					result[i] = ~(u[i] ^ v[i]);
+				}
+				break;
+			default:
+				throw new AssertionError("Unknown operation: " + this);
+		}
+	}
+
 	@Override
 	public String toString() {
 		return _name;
@@ -0,0 +1,361 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.op;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.jenetics.ext.util.Tree;
+
+/**
+ * Column-wise evaluation of a {@code double} operation tree. Instead of
+ * evaluating the tree once for every sample, the operations are applied to
+ * whole sample columns, in one postfix pass over the tree. The values of
+ * the variable with index {@code i} are given by the column {@code i}.
+ *
+ * <pre>{@code
+ * final ColumnProgram program = ColumnProgram.of(MathExpr.parse("2*x + y").toTree());
+ * final double[] x = {1, 2, 3};
+ * final double[] y = {4, 5, 6};
+ * final double[] result = program.eval(x, y);
+ * assert Arrays.equals(result, new double[]{6, 9, 12});
+ * }</pre>
+ *
+ * {@link MathOp}s are evaluated with primitive loops over the columns. Other
+ * operations are evaluated row by row, with boxed arguments. Columns which
+ * are given as {@link DoubleBuffer}s, e.g. memory-mapped files, are
+ * evaluated in cache-sized blocks. This class is thread-safe. Concurrent
+ * evaluations use their own intermediate columns.
+ *
+ * @see CompiledProgram
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 5.1
+ * @since 5.1
+ */
+public final class ColumnProgram {
+
+	// Kinds of the compiled operations.
+	private static final byte VAR = 0;
+	private static final byte VAL = 1;
+	private static final byte MATH = 2;
+	private static final byte OTHER = 3;
+
+	// Number of rows of one block, when evaluating column buffers.
+	private static final int BLOCK_SIZE = 4096;
+
+	private final Op<Double>[] _ops;
+	private final byte[] _kinds;
+	private final int[] _arities;
+	private final int _arity;
+	private final int _stackSize;
+
+	// Tells whether an operation needs all variable columns as arguments.
+	private final boolean _allColumns;
+
+	// Pool of one evaluation frame, which is taken while evaluating.
+	private final AtomicReference<Frame> _frame = new AtomicReference<>();
+
+	private ColumnProgram(final Op<Double>[] ops) {
+		_ops = ops;
+		_kinds = new byte[ops.length];
+		_arities = new int[ops.length];
+
+		int arity = 0;
+		int size = 0;
+		int stackSize = 0;
+		boolean allColumns = false;
+		for (int i = 0; i < ops.length; ++i) {
+			final Op<Double> op = ops[i];
+			_arities[i] = op.arity();
+
+			if (op instanceof Var) {
+				_kinds[i] = VAR;
+				arity = Math.max(arity, ((Var<?>)op).index() + 1);
+			} else if (op instanceof Val) {
+				_kinds[i] = VAL;
+			} else if (op instanceof MathOp) {
+				_kinds[i] = MATH;
+			} else {
+				_kinds[i] = OTHER;
+				allColumns |= _arities[i] == 0;
+			}
+
+			size += 1 - _arities[i];
+			stackSize = Math.max(stackSize, size);
+		}
+
+		_arity = arity;
+		_stackSize = stackSize;
+		_allColumns = allColumns;
+	}
+
+	/**
+	 * Return the number of variable columns needed by the program.
+	 *
+	 * @return the number of variable columns needed by the program
+	 */
+	public int arity() {
+		return _arity;
+	}
+
+	/**
+	 * Evaluates the program for all rows of the given variable columns.
+	 *
+	 * @param columns the variable columns. All columns must have the same
+	 *        length.
+	 * @return a new array with the evaluation result of every row
+	 * @throws NullPointerException if the given column array is {@code null}
+	 * @throws IllegalArgumentException if the number of columns is smaller
+	 *         than the program arity, no column is given or the columns have
+	 *         different length
+	 */
+	public double[] eval(final double[]... columns) {
+		checkColumnCount(columns.length);
+
+		final int rows = columns[0].length;
+		for (double[] column : columns) {
+			checkColumnLength(column.length, rows);
+		}
+
+		Frame frame = _frame.getAndSet(null);
+		if (frame == null || frame.rows != rows) {
+			frame = new Frame(rows);
+		}
+
+		try {
+			return eval(frame, columns).clone();
+		} finally {
+			_frame.set(frame);
+		}
+	}
+
+	/**
+	 * Evaluates the program for all remaining rows of the given variable
+	 * column buffers. The columns are read block-wise, which makes it
+	 * possible to evaluate columns which don't fit on the heap, e.g.
+	 * memory-mapped files. The positions of the given buffers are not changed.
+	 *
+	 * @param columns the variable columns. All columns must have the same
+	 *        number of remaining values.
+	 * @return a new array with the evaluation result of every row
+	 * @throws NullPointerException if the given column array is {@code null}
+	 * @throws IllegalArgumentException if the number of columns is smaller
+	 *         than the program arity, no column is given or the columns have
+	 *         different length
+	 */
+	public double[] eval(final DoubleBuffer... columns) {
+		checkColumnCount(columns.length);
+
+		final int rows = columns[0].remaining();
+		final DoubleBuffer[] sources = new DoubleBuffer[columns.length];
+		for (int i = 0; i < columns.length; ++i) {
+			checkColumnLength(columns[i].remaining(), rows);
+			sources[i] = columns[i].duplicate();
+		}
+
+		final int needed = _allColumns ? columns.length : _arity;
+		final double[] result = new double[rows];
+		final int size = Math.min(rows, BLOCK_SIZE);
+
+		Frame frame = _frame.getAndSet(null);
+		if (frame == null || frame.rows != size) {
+			frame = new Frame(size);
+		}
+
+		try {
+			double[][] block = new double[columns.length][size];
+			for (int start = 0; start < rows; start += size) {
+				final int n = Math.min(size, rows - start);
+				final Frame current = n == size ? frame : new Frame(n);
+				if (n != block[0].length) {
+					block = new double[columns.length][n];
+				}
+
+				for (int i = 0; i < needed; ++i) {
+					sources[i].get(block[i], 0, n);
+				}
+				System.arraycopy(eval(current, block), 0, result, start, n);
+			}
+		} finally {
+			_frame.set(frame);
+		}
+
+		return result;
+	}
+
+	private void checkColumnCount(final int count) {
+		if (count == 0) {
+			throw new IllegalArgumentException("No column given.");
+		}
+		if (count < _arity) {
+			throw new IllegalArgumentException(format(
+				"No value for variable '%s' given.", missing(count)
+			));
+		}
+	}
+
+	private static void checkColumnLength(final int length, final int rows) {
+		if (length != rows) {
+			throw new IllegalArgumentException(format(
+				"Columns have different length: %d != %d", length, rows
+			));
+		}
+	}
+
+	private double[] eval(final Frame frame, final double[][] columns) {
+		final double[][] stack = frame.stack;
+		int sp = 0;
+
+		for (int i = 0; i < _ops.length; ++i) {
+			final Op<Double> op = _ops[i];
+			final int arity = _arities[i];
+
+			switch (_kinds[i]) {
+				case VAR:
+					stack[sp++] = columns[((Var<?>)op).index()];
+					break;
+				case VAL:
+					Arrays.fill(frame.buffers[sp], ((Val<Double>)op).value());
+					stack[sp] = frame.buffers[sp];
+					++sp;
+					break;
+				case MATH:
+					sp -= arity;
+					((MathOp)op).apply(
+						stack[sp],
+						arity == 2 ? stack[sp + 1] : null,
+						frame.buffers[sp]
+					);
+					stack[sp] = frame.buffers[sp];
+					++sp;
+					break;
+				default:
+					sp -= arity;
+					evalRows(op, arity, sp, frame, columns);
+					stack[sp] = frame.buffers[sp];
+					++sp;
+			}
+		}
+
+		assert sp == 1;
+		return stack[0];
+	}
+
+	// Fallback for operations which can't be applied to whole columns.
+	private static void evalRows(
+		final Op<Double> op,
+		final int arity,
+		final int sp,
+		final Frame frame,
+		final double[][] columns
+	) {
+		final double[][] stack = frame.stack;
+		final double[] result = frame.buffers[sp];
+
+		if (arity == 0) {
+			final Double[] variables = new Double[columns.length];
+			for (int r = 0; r < result.length; ++r) {
+				for (int j = 0; j < columns.length; ++j) {
+					variables[j] = columns[j][r];
+				}
+				result[r] = op.apply(variables);
+			}
+		} else {
+			final Double[] args = new Double[arity];
+			for (int r = 0; r < result.length; ++r) {
+				for (int j = 0; j < arity; ++j) {
+					args[j] = stack[sp + j][r];
+				}
+				result[r] = op.apply(args);
+			}
+		}
+	}
+
+	private Op<Double> missing(final int length) {
+		for (Op<Double> op : _ops) {
+			if (op instanceof Var && ((Var<?>)op).index() >= length) {
+				return op;
+			}
+		}
+		throw new AssertionError();
+	}
+
+	/**
+	 * The intermediate columns of one evaluation.
+	 */
+	private final class Frame {
+		final int rows;
+		final double[][] stack;
+		final double[][] buffers;
+
+		Frame(final int rows) {
+			this.rows = rows;
+			stack = new double[_stackSize][];
+			buffers = new double[_stackSize][rows];
+		}
+	}
+
+	/**
+	 * Compiles the given operation tree for the column-wise evaluation.
+	 *
+	 * @param tree the operation tree to compile
+	 * @return the compiled operation tree
+	 * @throws NullPointerException if the given {@code tree} is {@code null}
+	 * @throws IllegalArgumentException if the given operation tree is invalid,
+	 *         which means there is at least one node where the operation arity
+	 *         and the node child count differ.
+	 */
+	public static ColumnProgram of(final Tree<? extends Op<Double>, ?> tree) {
+		requireNonNull(tree);
+
+		final List<Op<Double>> ops = new ArrayList<>(tree.size());
+		compile(tree, ops);
+
+		@SuppressWarnings("unchecked")
+		final Op<Double>[] array = (Op<Double>[])ops.toArray(new Op<?>[0]);
+		return new ColumnProgram(array);
+	}
+
+	private static void compile(
+		final Tree<? extends Op<Double>, ?> node,
+		final List<Op<Double>> ops
+	) {
+		final Op<Double> op = node.getValue();
+		if (op.arity() != node.childCount()) {
+			throw new IllegalArgumentException(format(
+				"Op arity != child count: %d != %d",
+				op.arity(), node.childCount()
+			));
+		}
+
+		for (int i = 0; i < node.childCount(); ++i) {
+			compile(node.childAt(i), ops);
+		}
+		ops.add(op);
+	}
+
+}
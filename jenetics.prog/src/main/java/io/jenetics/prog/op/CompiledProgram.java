@@ -0,0 +1,227 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.op;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.jenetics.ext.util.Tree;
+
+/**
+ * Compiled representation of an operation tree. The operations of the tree
+ * are stored in <em>postfix</em> order and are evaluated with a value stack.
+ * Unlike the recursive {@link Program#eval(Tree, Object[])} method, the
+ * evaluation doesn't create any intermediate streams or argument arrays. The
+ * value stack and the argument arrays are reused for subsequent evaluations.
+ *
+ * <pre>{@code
+ * final Tree<Op<Double>, ?> tree = MathExpr.parse("2*x + y").toTree();
+ * final CompiledProgram<Double> program = CompiledProgram.of(tree);
+ * final double result = program.eval(3.0, 1.0);
+ * }</pre>
+ *
+ * This class is thread-safe. Concurrent evaluations use their own value
+ * stack.
+ *
+ * @param <T> the argument type of the operation
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 5.1
+ * @since 5.1
+ */
+public final class CompiledProgram<T> {
+
+	private final Op<T>[] _ops;
+	private final int[] _arities;
+	private final int _arity;
+	private final int _maxArity;
+	private final int _stackSize;
+
+	// Pool of one evaluation frame, which is taken while evaluating.
+	private final AtomicReference<Frame> _frame = new AtomicReference<>();
+
+	private CompiledProgram(final Op<T>[] ops) {
+		_ops = ops;
+		_arities = new int[ops.length];
+
+		int arity = 0;
+		int maxArity = 0;
+		int size = 0;
+		int stackSize = 0;
+		for (int i = 0; i < ops.length; ++i) {
+			_arities[i] = ops[i].arity();
+			if (ops[i] instanceof Var) {
+				arity = Math.max(arity, ((Var<?>)ops[i]).index() + 1);
+			}
+			maxArity = Math.max(maxArity, _arities[i]);
+
+			size += 1 - _arities[i];
+			stackSize = Math.max(stackSize, size);
+		}
+
+		_arity = arity;
+		_maxArity = maxArity;
+		_stackSize = stackSize;
+	}
+
+	/**
+	 * Return the number of variables needed by the compiled program.
+	 *
+	 * @return the number of variables needed by the compiled program
+	 */
+	public int arity() {
+		return _arity;
+	}
+
+	/**
+	 * Return the number of operations of the compiled program.
+	 *
+	 * @return the number of operations of the compiled program
+	 */
+	public int size() {
+		return _ops.length;
+	}
+
+	/**
+	 * Evaluates the compiled program with the given variables.
+	 *
+	 * @param variables the input variables
+	 * @return the result of the program evaluation
+	 * @throws NullPointerException if the given variable array is {@code null}
+	 * @throws IllegalArgumentException if the length of the variable array
+	 *         is smaller than the program arity
+	 */
+	@SafeVarargs
+	public final T eval(final T... variables) {
+		if (variables.length < _arity) {
+			throw new IllegalArgumentException(format(
+				"No value for variable '%s' given.", missing(variables.length)
+			));
+		}
+
+		Frame frame = _frame.getAndSet(null);
+		if (frame == null || frame.type != variables.getClass()) {
+			frame = new Frame(variables.getClass());
+		}
+
+		try {
+			return eval(frame, variables);
+		} finally {
+			_frame.set(frame);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private T eval(final Frame frame, final T[] variables) {
+		final Object[] stack = frame.stack;
+		int sp = 0;
+
+		for (int i = 0; i < _ops.length; ++i) {
+			final int arity = _arities[i];
+			if (arity == 0) {
+				stack[sp++] = _ops[i].apply(variables);
+			} else {
+				final T[] args = (T[])frame.args[arity];
+				sp -= arity;
+				System.arraycopy(stack, sp, args, 0, arity);
+				stack[sp++] = _ops[i].apply(args);
+			}
+		}
+
+		assert sp == 1;
+		return (T)stack[0];
+	}
+
+	private Op<T> missing(final int length) {
+		for (Op<T> op : _ops) {
+			if (op instanceof Var && ((Var<?>)op).index() >= length) {
+				return op;
+			}
+		}
+		throw new AssertionError();
+	}
+
+	/**
+	 * The value stack and the argument arrays of one evaluation.
+	 */
+	private final class Frame {
+		final Class<?> type;
+		final Object[] stack;
+		final Object[][] args;
+
+		Frame(final Class<?> type) {
+			this.type = type;
+			stack = new Object[_stackSize];
+			args = new Object[_maxArity + 1][];
+			for (int arity : _arities) {
+				if (args[arity] == null) {
+					args[arity] = (Object[])Array
+						.newInstance(type.getComponentType(), arity);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Compiles the given operation tree.
+	 *
+	 * @param tree the operation tree to compile
+	 * @param <T> the argument type of the operation
+	 * @return the compiled operation tree
+	 * @throws NullPointerException if the given {@code tree} is {@code null}
+	 * @throws IllegalArgumentException if the given operation tree is invalid,
+	 *         which means there is at least one node where the operation arity
+	 *         and the node child count differ.
+	 */
+	public static <T> CompiledProgram<T> of(final Tree<? extends Op<T>, ?> tree) {
+		requireNonNull(tree);
+
+		final List<Op<T>> ops = new ArrayList<>(tree.size());
+		compile(tree, ops);
+
+		@SuppressWarnings("unchecked")
+		final Op<T>[] array = (Op<T>[])ops.toArray(new Op<?>[0]);
+		return new CompiledProgram<>(array);
+	}
+
+	private static <T> void compile(
+		final Tree<? extends Op<T>, ?> node,
+		final List<Op<T>> ops
+	) {
+		final Op<T> op = node.getValue();
+		if (op.arity() != node.childCount()) {
+			throw new IllegalArgumentException(format(
+				"Op arity != child count: %d != %d",
+				op.arity(), node.childCount()
+			));
+		}
+
+		for (int i = 0; i < node.childCount(); ++i) {
+			compile(node.childAt(i), ops);
+		}
+		ops.add(op);
+	}
+
+}
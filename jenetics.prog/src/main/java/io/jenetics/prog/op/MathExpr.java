@@ -63,7 +63,7 @@ import io.jenetics.ext.util.TreeNode;
  * @see MathOp
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 5.1
  * @since 4.1
  */
 public final class MathExpr
@@ -150,6 +150,7 @@ public final class MathExpr
 	private final Tree<? extends Op<Double>, ?> _tree;
 
 	private final Lazy<ISeq<Var<Double>>> _vars;
+	private final Lazy<CompiledProgram<Double>> _program;
 
 	// Primary constructor.
 	private MathExpr(final Tree<? extends Op<Double>, ?> tree, boolean primary) {
@@ -161,6 +162,7 @@ public final class MathExpr
 				.collect(Collectors.toCollection(() ->
 					new TreeSet<>(Comparator.comparing(Var::name))))
 		));
+		_program = Lazy.of(() -> CompiledProgram.of(_tree));
 	}
 
 	/**
@@ -201,7 +203,7 @@ public final class MathExpr
 	 */
 	@Override
 	public Double apply(final Double[] args) {
-		return Program.eval(_tree, args);
+		return _program.get().eval(args);
 	}
 
 	/**
@@ -46,8 +46,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Function;
-import java.util.stream.DoubleStream;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
 import java.util.stream.Stream;
 
 import io.jenetics.ext.util.Tree;
@@ -59,7 +59,7 @@ import io.jenetics.ext.util.TreeNode;
  * @see Math
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 5.1
  * @since 3.9
  */
 public enum MathOp implements Op<Double> {
@@ -75,13 +75,13 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#abs(double)
 	 */
-	ABS("abs", 1, v -> abs(v[0])),
+	ABS("abs", v -> abs(v)),
 
 	/**
 	 * Return the negation value of a double value.
 	 * <em>This operation has arity 1.</em>
 	 */
-	NEG("neg", 1, v -> -v[0]),
+	NEG("neg", v -> -v),
 
 	/**
 	 * Return the minimum of two values.
@@ -89,7 +89,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#min(double, double)
 	 */
-	MIN("min", 2, v -> min(v[0], v[1])),
+	MIN("min", (u, v) -> min(u, v)),
 
 	/**
 	 * Return the maximum of two values
@@ -97,7 +97,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#max(double, double)
 	 */
-	MAX("max", 2, v -> max(v[0], v[1])),
+	MAX("max", (u, v) -> max(u, v)),
 
 	/**
 	 * Returns the smallest (closest to negative infinity) double value that is
@@ -107,7 +107,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#ceil(double)
 	 */
-	CEIL("ceil", 1, v -> ceil(v[0])),
+	CEIL("ceil", v -> ceil(v)),
 
 	/**
 	 * Returns the largest (closest to positive infinity) double value that is
@@ -116,7 +116,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#floor(double)
 	 */
-	FLOOR("floor", 1, v -> floor(v[0])),
+	FLOOR("floor", v -> floor(v)),
 
 	/**
 	 * Returns the signum function of the argument; zero if the argument is
@@ -126,7 +126,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#signum(double)
 	 */
-	SIGNUM("signum", 1, v -> signum(v[0])),
+	SIGNUM("signum", v -> signum(v)),
 
 	/**
 	 * Returns the double value that is closest in value to the argument and is
@@ -135,37 +135,37 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#rint(double)
 	 */
-	RINT("rint", 1, v -> rint(v[0])),
+	RINT("rint", v -> rint(v)),
 
 	/**
 	 * Returns the sum of its arguments.
 	 * <em>This operation has arity 2.</em>
 	 */
-	ADD("add", 2, v -> v[0] + v[1]),
+	ADD("add", (u, v) -> u + v),
 
 	/**
 	 * Return the diff of its arguments.
 	 * <em>This operation has arity 2.</em>
 	 */
-	SUB("sub", 2, v -> v[0] - v[1]),
+	SUB("sub", (u, v) -> u - v),
 
 	/**
 	 * Returns the product of its arguments.
 	 * <em>This operation has arity 2.</em>
 	 */
-	MUL("mul", 2, v -> v[0]*v[1]),
+	MUL("mul", (u, v) -> u*v),
 
 	/**
 	 * Returns the quotient of its arguments.
 	 * <em>This operation has arity 2.</em>
 	 */
-	DIV("div", 2, v -> v[0]/v[1]),
+	DIV("div", (u, v) -> u/v),
 
 	/**
 	 * Returns the modulo of its arguments.
 	 * <em>This operation has arity 2.</em>
 	 */
-	MOD("mod", 2, v -> v[0]%v[1]),
+	MOD("mod", (u, v) -> u%v),
 
 	/**
 	 * Returns the value of the first argument raised to the power of the second
@@ -174,13 +174,13 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#pow(double, double)
 	 */
-	POW("pow", 2, v -> pow(v[0], v[1])),
+	POW("pow", (u, v) -> pow(u, v)),
 
 	/**
 	 * Returns the square value of a given double value.
 	 * <em>This operation has arity 1.</em>
 	 */
-	SQR("sqr", 1, v -> v[0]*v[0]),
+	SQR("sqr", v -> v*v),
 
 	/**
 	 * Returns the correctly rounded positive square root of a double value.
@@ -188,7 +188,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#sqrt(double)
 	 */
-	SQRT("sqrt", 1, v -> sqrt(v[0])),
+	SQRT("sqrt", v -> sqrt(v)),
 
 	/**
 	 * Returns the cube root of a double value.
@@ -196,7 +196,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#cbrt(double)
 	 */
-	CBRT("cbrt", 1, v -> cbrt(v[0])),
+	CBRT("cbrt", v -> cbrt(v)),
 
 	/**
 	 * Returns sqrt(<i>x</i><sup>2</sup>&nbsp;+<i>y</i><sup>2</sup>) without
@@ -205,7 +205,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#hypot(double, double)
 	 */
-	HYPOT("hypot", 2, v -> hypot(v[0], v[1])),
+	HYPOT("hypot", (u, v) -> hypot(u, v)),
 
 
 	/* *************************************************************************
@@ -218,7 +218,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#exp(double)
 	 */
-	EXP("exp", 1, v -> exp(v[0])),
+	EXP("exp", v -> exp(v)),
 
 	/**
 	 * Returns the natural logarithm (base e) of a double value.
@@ -226,7 +226,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#log(double)
 	 */
-	LOG("log", 1, v -> log(v[0])),
+	LOG("log", v -> log(v)),
 
 	/**
 	 * Returns the base 10 logarithm of a double value.
@@ -234,7 +234,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#log10(double)
 	 */
-	LOG10("log10", 1, v -> log10(v[0])),
+	LOG10("log10", v -> log10(v)),
 
 
 	/* *************************************************************************
@@ -247,7 +247,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#sin(double)
 	 */
-	SIN("sin", 1, v -> sin(v[0])),
+	SIN("sin", v -> sin(v)),
 
 	/**
 	 * Returns the trigonometric cosine of an angle.
@@ -255,7 +255,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#cos(double)
 	 */
-	COS("cos", 1, v -> cos(v[0])),
+	COS("cos", v -> cos(v)),
 
 	/**
 	 * Returns the trigonometric tangent of an angle.
@@ -263,7 +263,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#tan(double)
 	 */
-	TAN("tan", 1, v -> tan(v[0])),
+	TAN("tan", v -> tan(v)),
 
 	/**
 	 * Returns the arc cosine of a double value.
@@ -271,7 +271,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#acos(double)
 	 */
-	ACOS("acos", 1, v -> acos(v[0])),
+	ACOS("acos", v -> acos(v)),
 
 	/**
 	 * Returns the arc sine of a double value.
@@ -279,7 +279,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#asin(double)
 	 */
-	ASIN("asin", 1, v -> asin(v[0])),
+	ASIN("asin", v -> asin(v)),
 
 	/**
 	 * Returns the arc tangent of a value.
@@ -287,7 +287,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#atan(double)
 	 */
-	ATAN("atan", 1, v -> atan(v[0])),
+	ATAN("atan", v -> atan(v)),
 
 	/**
 	 * Returns the hyperbolic cosine of a double value.
@@ -295,7 +295,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#cosh(double)
 	 */
-	COSH("cosh", 1, v -> cosh(v[0])),
+	COSH("cosh", v -> cosh(v)),
 
 	/**
 	 * Returns the hyperbolic sine of a double value.
@@ -303,7 +303,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#sinh(double)
 	 */
-	SINH("sinh", 1, v -> sinh(v[0])),
+	SINH("sinh", v -> sinh(v)),
 
 	/**
 	 * Returns the hyperbolic tangent of a double value.
@@ -311,7 +311,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#tanh(double)
 	 */
-	TANH("tanh", 1, v -> tanh(v[0])),
+	TANH("tanh", v -> tanh(v)),
 
 	/* *************************************************************************
 	 * Conditional functions
@@ -323,7 +323,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @since 5.0
 	 */
-	GT("gt", 2, v -> v[0] > v[1] ? 1.0 : -1.0);
+	GT("gt", (u, v) -> u > v ? 1.0 : -1.0);
 
 	/* *************************************************************************
 	 * Additional mathematical constants.
@@ -349,20 +349,27 @@ public enum MathOp implements Op<Double> {
 
 	private final String _name;
 	private final int _arity;
-	private final Function<Double[], Double> _function;
+	private final DoubleUnaryOperator _unary;
+	private final DoubleBinaryOperator _binary;
 
-	private MathOp(
-		final String name,
-		final int arity,
-		final Function<Double[], Double> function
-	) {
+	private MathOp(final String name, final DoubleUnaryOperator function) {
 		assert name != null;
-		assert arity >= 0;
 		assert function != null;
 
 		_name = name;
-		_function = function;
-		_arity = arity;
+		_arity = 1;
+		_unary = function;
+		_binary = null;
+	}
+
+	private MathOp(final String name, final DoubleBinaryOperator function) {
+		assert name != null;
+		assert function != null;
+
+		_name = name;
+		_arity = 2;
+		_unary = null;
+		_binary = function;
 	}
 
 	@Override
@@ -372,7 +379,9 @@ public enum MathOp implements Op<Double> {
 
 	@Override
 	public Double apply(final Double[] args) {
-		return _function.apply(args);
+		return _arity == 1
+			? _unary.applyAsDouble(args[0])
+			: _binary.applyAsDouble(args[0], args[1]);
 	}
 
 	/**
@@ -386,11 +395,85 @@ public enum MathOp implements Op<Double> {
 	 * @return the evaluated operation
 	 */
 	public double eval(final double... args) {
-		return apply(
-			DoubleStream.of(args)
-				.boxed()
-				.toArray(Double[]::new)
-		);
+		return _arity == 1
+			? _unary.applyAsDouble(args[0])
+			: _binary.applyAsDouble(args[0], args[1]);
+	}
+
+	/**
+	 * Applies this operation element-wise to the given argument columns and
+	 * writes the results to the {@code result} column. The {@code result}
+	 * column may be one of the argument columns. The second argument column
+	 * is ignored for operations with arity one.
+	 *
+	 * @param u the first argument column
+	 * @param v the second argument column
+	 * @param result the result column
+	 */
+	void apply(final double[] u, final double[] v, final double[] result) {
+		final int n = result.length;
+		switch (this) {
+			case NEG:
+				for (int i = 0; i < n; ++i) {
+					result[i] = -u[i];
+				}
+				break;
+			case ADD:
+				for (int i = 0; i < n; ++i) {
+					result[i] = u[i] + v[i];
+				}
+				break;
+			case SUB:
+				for (int i = 0; i < n; ++i) {
+					result[i] = u[i] - v[i];
+				}
+				break;
+			case MUL:
+				for (int i = 0; i < n; ++i) {
+					result[i] = u[i]*v[i];
+				}
+				break;
+			case DIV:
+				for (int i = 0; i < n; ++i) {
+					result[i] = u[i]/v[i];
+				}
+				break;
+			case SQR:
+				for (int i = 0; i < n; ++i) {
+					result[i] = u[i]*u[i];
+				}
+				break;
+			case SQRT:
+				for (int i = 0; i < n; ++i) {
+					result[i] = sqrt(u[i]);
+				}
+				break;
+			case ABS:
+				for (int i = 0; i < n; ++i) {
+					result[i] = abs(u[i]);
+				}
+				break;
+			case MIN:
+				for (int i = 0; i < n; ++i) {
+					result[i] = min(u[i], v[i]);
+				}
+				break;
+			case MAX:
+				for (int i = 0; i < n; ++i) {
+					result[i] = max(u[i], v[i]);
+				}
+				break;
+			default:
+				if (_arity == 1) {
+					for (int i = 0; i < n; ++i) {
+						result[i] = _unary.applyAsDouble(u[i]);
+					}
+				} else {
+					for (int i = 0; i < n; ++i) {
+						result[i] = _binary.applyAsDouble(u[i], v[i]);
+					}
+				}
+		}
 	}
 
 	@Override
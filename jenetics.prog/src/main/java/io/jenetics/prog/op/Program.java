@@ -42,7 +42,7 @@ import io.jenetics.ext.util.TreeNode;
  * @param <T> the argument type of the operation
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 5.1
  * @since 3.9
  */
 public class Program<T> implements Op<T>, Serializable {
@@ -53,6 +53,8 @@ public class Program<T> implements Op<T>, Serializable {
 	private final int _arity;
 	private final Tree<? extends Op<T>, ?> _tree;
 
+	private transient volatile CompiledProgram<T> _compiled;
+
 	/**
 	 * Create a new program with the given name and the given operation tree.
 	 * The arity of the program is calculated from the given operation tree and
@@ -106,7 +108,16 @@ public class Program<T> implements Op<T>, Serializable {
 			));
 		}
 
-		return eval(_tree, args);
+		return compiled().eval(args);
+	}
+
+	private CompiledProgram<T> compiled() {
+		CompiledProgram<T> compiled = _compiled;
+		if (compiled == null) {
+			compiled = CompiledProgram.of(_tree);
+			_compiled = compiled;
+		}
+		return compiled;
 	}
 
 	/**
@@ -151,7 +162,11 @@ public class Program<T> implements Op<T>, Serializable {
 	 * ************************************************************************/
 
 	/**
-	 * Evaluates the given operation tree with the given variables.
+	 * Evaluates the given operation tree with the given variables. If the
+	 * same tree is evaluated repeatedly, it is more efficient to evaluate its
+	 * {@link CompiledProgram}.
+	 *
+	 * @see CompiledProgram#of(Tree)
 	 *
 	 * @param <T> the argument type
 	 * @param tree the operation tree
@@ -32,7 +32,7 @@ import java.util.Objects;
  * @param <T> the type of the constant value
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 5.1
  * @since 5.0
  */
 public abstract class Val<T> implements Op<T> {
@@ -78,7 +78,23 @@ public abstract class Val<T> implements Op<T> {
 
 	@Override
 	public final int hashCode() {
-		return Objects.hashCode(value());
+		return hash(value());
+	}
+
+	// Hash code, which is consistent with the 'equals' method below.
+	private static int hash(final Object value) {
+		if (value instanceof Double) {
+			final double v = (Double)value;
+			return Double.hashCode(v == 0 ? 0.0 : v);
+		} else if (value instanceof Float) {
+			final float v = (Float)value;
+			return Float.hashCode(v == 0 ? 0.0F : v);
+		} else if (value instanceof BigDecimal) {
+			final BigDecimal v = (BigDecimal)value;
+			return v.signum() == 0 ? 0 : v.stripTrailingZeros().hashCode();
+		}
+
+		return Objects.hashCode(value);
 	}
 
 	@Override
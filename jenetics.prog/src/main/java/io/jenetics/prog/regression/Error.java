@@ -42,7 +42,7 @@ import io.jenetics.prog.op.Op;
  * @param <T> the sample type
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 5.1
  * @since 5.0
  */
 @FunctionalInterface
@@ -66,6 +66,70 @@ public interface Error<T> {
 		final T[] expected
 	);
 
+	/**
+	 * Calculates the <em>overall</em> error of a given program tree, for
+	 * function values given as primitive {@code double} arrays. The default
+	 * implementation boxes the values and calls
+	 * {@link #apply(Tree, Object[], Object[])}. {@link Regression} problems
+	 * with {@code Double} samples are only evaluated column-wise, if this
+	 * method is overridden or the error is created from a loss function,
+	 * which overrides {@link LossFunction#apply(double[], double[])}.
+	 *
+	 * @since 5.1
+	 *
+	 * @param program the program tree which calculated the {@code calculated}
+	 *        values
+	 * @param calculated the calculated function values
+	 * @param expected the expected function values
+	 * @return the overall program error
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public default double apply(
+		final Tree<? extends Op<T>, ?> program,
+		final double[] calculated,
+		final double[] expected
+	) {
+		return apply(
+			program,
+			(T[])Samples.box(calculated),
+			(T[])Samples.box(expected)
+		);
+	}
+
+	/**
+	 * Calculates the <em>overall</em> error of a given program tree, for
+	 * function values given as bit-packed {@code boolean} arrays. This method
+	 * is used by {@link Regression} problems with {@code Boolean} samples,
+	 * which are evaluated bit-parallel. The default implementation unpacks the
+	 * values and calls {@link #apply(Tree, Object[], Object[])}.
+	 *
+	 * @since 5.1
+	 *
+	 * @see LossFunction#apply(long[], long[], int)
+	 *
+	 * @param program the program tree which calculated the {@code calculated}
+	 *        values
+	 * @param calculated the calculated, packed function values
+	 * @param expected the expected, packed function values
+	 * @param size the number of packed function values
+	 * @return the overall program error
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public default double apply(
+		final Tree<? extends Op<T>, ?> program,
+		final long[] calculated,
+		final long[] expected,
+		final int size
+	) {
+		return apply(
+			program,
+			(T[])Samples.unpack(calculated, size),
+			(T[])Samples.unpack(expected, size)
+		);
+	}
+
 
 	/**
 	 * Creates an error function which only uses the given {@code loss} function
@@ -79,9 +143,7 @@ public interface Error<T> {
 	 *         {@code null}
 	 */
 	public static <T> Error<T> of(final LossFunction<T> loss) {
-		requireNonNull(loss);
-
-		return (p, c, e) -> loss.apply(c, e);
+		return new LossError<>(loss, null, null);
 	}
 
 	/**
@@ -126,8 +188,7 @@ public interface Error<T> {
 		requireNonNull(complexity);
 		requireNonNull(compose);
 
-		return (p, c, e) ->
-			compose.applyAsDouble(loss.apply(c, e), complexity.apply(p));
+		return new LossError<>(loss, complexity, compose);
 	}
 
 }
@@ -0,0 +1,129 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.util.reflect.declaringClass;
+
+import java.util.function.DoubleBinaryOperator;
+
+import io.jenetics.ext.util.Tree;
+
+import io.jenetics.prog.op.Op;
+
+/**
+ * Error function, which is calculated from a {@link LossFunction} and an
+ * optional program {@link Complexity}.
+ *
+ * @see Error#of(LossFunction)
+ * @see Error#of(LossFunction, Complexity, DoubleBinaryOperator)
+ *
+ * @param <T> the sample type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 5.1
+ * @since 5.1
+ */
+final class LossError<T> implements Error<T> {
+
+	private final LossFunction<T> _loss;
+	private final Complexity<T> _complexity;
+	private final DoubleBinaryOperator _compose;
+
+	/**
+	 * Create a new error function.
+	 *
+	 * @param loss the loss function
+	 * @param complexity the program complexity measure, or {@code null} if
+	 *        only the loss function is used
+	 * @param compose the function which composes the {@code loss} and
+	 *        {@code complexity} function, or {@code null} if only the loss
+	 *        function is used
+	 */
+	LossError(
+		final LossFunction<T> loss,
+		final Complexity<T> complexity,
+		final DoubleBinaryOperator compose
+	) {
+		_loss = requireNonNull(loss);
+		_complexity = complexity;
+		_compose = compose;
+	}
+
+	private double error(
+		final Tree<? extends Op<T>, ?> program,
+		final double loss
+	) {
+		return _complexity != null
+			? _compose.applyAsDouble(loss, _complexity.apply(program))
+			: loss;
+	}
+
+	@Override
+	public double apply(
+		final Tree<? extends Op<T>, ?> program,
+		final T[] calculated,
+		final T[] expected
+	) {
+		return error(program, _loss.apply(calculated, expected));
+	}
+
+	@Override
+	public double apply(
+		final Tree<? extends Op<T>, ?> program,
+		final double[] calculated,
+		final double[] expected
+	) {
+		return error(program, _loss.apply(calculated, expected));
+	}
+
+	@Override
+	public double apply(
+		final Tree<? extends Op<T>, ?> program,
+		final long[] calculated,
+		final long[] expected,
+		final int size
+	) {
+		return error(program, _loss.apply(calculated, expected, size));
+	}
+
+	/**
+	 * Test whether the given error function calculates the error directly
+	 * from primitive {@code double} arrays. This is the case if the error
+	 * function, or its loss function for errors created with
+	 * {@link Error#of(LossFunction)}, overrides the {@code double[]}
+	 * {@code apply} method. Only then, it pays off to evaluate the samples
+	 * column-wise, since the default implementations box the values again.
+	 *
+	 * @param error the error function to test
+	 * @return {@code true} if the error function works on primitive
+	 *         {@code double} arrays
+	 */
+	static boolean isColumnar(final Error<?> error) {
+		return error instanceof LossError
+			? declaringClass(
+				((LossError<?>)error)._loss.getClass(), Object.class,
+				"apply", double[].class, double[].class) != null
+			: declaringClass(
+				error.getClass(), Object.class,
+				"apply", Tree.class, double[].class, double[].class) != null;
+	}
+
+}
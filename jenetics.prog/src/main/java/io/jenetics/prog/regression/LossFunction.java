@@ -23,6 +23,8 @@ import static java.lang.Math.abs;
 import static java.lang.Math.sqrt;
 import static java.lang.String.format;
 
+import io.jenetics.prog.op.BitProgram;
+
 // https://blog.algorithmia.com/introduction-to-loss-functions/
 // https://towardsdatascience.com/common-loss-functions-in-machine-learning-46af0ffc4d23
 
@@ -36,10 +38,18 @@ import static java.lang.String.format;
  * final Error<Double> error = Error.of(LossFunction::mse);
  * }</pre>
  *
+ * The loss functions returned by {@link #mse()}, {@link #rmse()},
+ * {@link #mae()} and {@link #errorRate()} work directly on the primitive
+ * and bit-packed values of the column-wise evaluated regression samples.
+ * {@link Regression} problems with {@code Double} samples are evaluated
+ * column-wise only for loss functions which override
+ * {@link #apply(double[], double[])}. Loss functions given as method
+ * references, like {@code LossFunction::mse}, are evaluated row by row.
+ *
  * @see <a href="https://en.wikipedia.org/wiki/Loss_function">Loss function</a>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 5.1
  * @since 5.0
  */
 @FunctionalInterface
@@ -59,6 +69,64 @@ public interface LossFunction<T> {
 	 */
 	public double apply(final T[] calculated, final T[] expected);
 
+	/**
+	 * Calculates the error between the expected function values and the
+	 * calculated values, given as primitive {@code double} arrays. The default
+	 * implementation boxes the values and calls
+	 * {@link #apply(Object[], Object[])}. Loss functions for {@code Double}
+	 * values may override this method for avoiding the boxing. Only then,
+	 * {@link Regression} problems with {@code Double} samples are evaluated
+	 * column-wise.
+	 *
+	 * @since 5.1
+	 *
+	 * @param calculated the currently calculated function value
+	 * @param expected the expected function values
+	 * @return the error value
+	 * @throws IllegalArgumentException if the length of the two arrays are not
+	 *         equal
+	 * @throws NullPointerException if one of the {@code double[]} arrays is
+	 *         {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public default double apply(final double[] calculated, final double[] expected) {
+		return apply((T[])Samples.box(calculated), (T[])Samples.box(expected));
+	}
+
+	/**
+	 * Calculates the error between the expected function values and the
+	 * calculated values, given as bit-packed {@code boolean} arrays. This
+	 * method is used by {@link Regression} problems with {@code Boolean}
+	 * samples, which are evaluated bit-parallel. The value of sample {@code i}
+	 * is stored in the bit {@code i%64} of the word {@code i/64}. The default
+	 * implementation unpacks the values and calls
+	 * {@link #apply(Object[], Object[])}.
+	 *
+	 * @since 5.1
+	 *
+	 * @see io.jenetics.prog.op.BitProgram
+	 *
+	 * @param calculated the currently calculated, packed function values
+	 * @param expected the expected, packed function values
+	 * @param size the number of packed function values
+	 * @return the error value
+	 * @throws IllegalArgumentException if one of the arrays contains less than
+	 *         {@code size} bits
+	 * @throws NullPointerException if one of the {@code long[]} arrays is
+	 *         {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public default double apply(
+		final long[] calculated,
+		final long[] expected,
+		final int size
+	) {
+		return apply(
+			(T[])Samples.unpack(calculated, size),
+			(T[])Samples.unpack(expected, size)
+		);
+	}
+
 	/**
 	 * Mean square error is measured as the average of squared difference
 	 * between predictions and actual observations.
@@ -94,6 +162,45 @@ public interface LossFunction<T> {
 		return result;
 	}
 
+	/**
+	 * Mean square error is measured as the average of squared difference
+	 * between predictions and actual observations. This method works on
+	 * primitive {@code double} arrays, without boxing the values.
+	 *
+	 * @since 5.1
+	 *
+	 * @see #mse(Double[], Double[])
+	 *
+	 * @param calculated the function values calculated with the current program
+	 *        tree
+	 * @param expected the expected function value as given by the sample points
+	 * @return the mean square error
+	 * @throws IllegalArgumentException if the length of the two arrays are not
+	 *         equal
+	 * @throws NullPointerException if one of the {@code double[]} arrays is
+	 *         {@code null}
+	 */
+	public static double mse(final double[] calculated, final double[] expected) {
+		if (expected.length != calculated.length) {
+			throw new IllegalArgumentException(format(
+				"Expected result and calculated results have different " +
+					"length: %d != %d",
+				expected.length, calculated.length
+			));
+		}
+
+		double result = 0;
+		for (int i = 0; i < expected.length; ++i) {
+			final double diff = expected[i] - calculated[i];
+			result += diff*diff;
+		}
+		if (expected.length > 0) {
+			result = result/expected.length;
+		}
+
+		return result;
+	}
+
 	/**
 	 * Root mean square error is measured as the average of squared difference
 	 * between predictions and actual observations.
@@ -113,6 +220,28 @@ public interface LossFunction<T> {
 		return sqrt(mse(calculated, expected));
 	}
 
+	/**
+	 * Root mean square error is measured as the average of squared difference
+	 * between predictions and actual observations. This method works on
+	 * primitive {@code double} arrays, without boxing the values.
+	 *
+	 * @since 5.1
+	 *
+	 * @see #rmse(Double[], Double[])
+	 *
+	 * @param calculated the function values calculated with the current program
+	 *        tree
+	 * @param expected the expected function value as given by the sample points
+	 * @return the mean square error
+	 * @throws IllegalArgumentException if the length of the two arrays are not
+	 *         equal
+	 * @throws NullPointerException if one of the {@code double[]} arrays is
+	 *         {@code null}
+	 */
+	public static double rmse(final double[] calculated, final double[] expected) {
+		return sqrt(mse(calculated, expected));
+	}
+
 	/**
 	 * Mean absolute error is measured as the average of sum of absolute
 	 * differences between predictions and actual observations.
@@ -146,4 +275,259 @@ public interface LossFunction<T> {
 		return result;
 	}
 
+	/**
+	 * Mean absolute error is measured as the average of sum of absolute
+	 * differences between predictions and actual observations. This method
+	 * works on primitive {@code double} arrays, without boxing the values.
+	 *
+	 * @since 5.1
+	 *
+	 * @see #mae(Double[], Double[])
+	 *
+	 * @param calculated the function values calculated with the current program
+	 *        tree
+	 * @param expected the expected function value as given by the sample points
+	 * @return the mean absolute error
+	 * @throws IllegalArgumentException if the length of the two arrays are not
+	 *         equal
+	 * @throws NullPointerException if one of the {@code double[]} arrays is
+	 *         {@code null}
+	 */
+	public static double mae(final double[] calculated, final double[] expected) {
+		if (expected.length != calculated.length) {
+			throw new IllegalArgumentException(format(
+				"Expected result and calculated results have different " +
+					"length: %d != %d",
+				expected.length, calculated.length
+			));
+		}
+
+		double result = 0;
+		for (int i = 0; i < expected.length; ++i) {
+			result += abs(expected[i] - calculated[i]);
+		}
+		if (expected.length > 0) {
+			result = result/expected.length;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Return the {@link #mse(Double[], Double[])} loss function. The returned
+	 * function calculates the mean square error of the column-wise evaluated
+	 * {@code double[]} values directly, without boxing them.
+	 *
+	 * <pre>{@code
+	 * final Error<Double> error = Error.of(LossFunction.mse());
+	 * }</pre>
+	 *
+	 * @since 5.1
+	 *
+	 * @return the mean square error loss function
+	 */
+	public static LossFunction<Double> mse() {
+		return new LossFunction<Double>() {
+			@Override
+			public double apply(
+				final Double[] calculated,
+				final Double[] expected
+			) {
+				return mse(calculated, expected);
+			}
+
+			@Override
+			public double apply(
+				final double[] calculated,
+				final double[] expected
+			) {
+				return mse(calculated, expected);
+			}
+		};
+	}
+
+	/**
+	 * Return the {@link #rmse(Double[], Double[])} loss function. The returned
+	 * function calculates the root mean square error of the column-wise evaluated
+	 * {@code double[]} values directly, without boxing them.
+	 *
+	 * <pre>{@code
+	 * final Error<Double> error = Error.of(LossFunction.rmse());
+	 * }</pre>
+	 *
+	 * @since 5.1
+	 *
+	 * @return the root mean square error loss function
+	 */
+	public static LossFunction<Double> rmse() {
+		return new LossFunction<Double>() {
+			@Override
+			public double apply(
+				final Double[] calculated,
+				final Double[] expected
+			) {
+				return rmse(calculated, expected);
+			}
+
+			@Override
+			public double apply(
+				final double[] calculated,
+				final double[] expected
+			) {
+				return rmse(calculated, expected);
+			}
+		};
+	}
+
+	/**
+	 * Return the {@link #mae(Double[], Double[])} loss function. The returned
+	 * function calculates the mean absolute error of the column-wise evaluated
+	 * {@code double[]} values directly, without boxing them.
+	 *
+	 * <pre>{@code
+	 * final Error<Double> error = Error.of(LossFunction.mae());
+	 * }</pre>
+	 *
+	 * @since 5.1
+	 *
+	 * @return the mean absolute error loss function
+	 */
+	public static LossFunction<Double> mae() {
+		return new LossFunction<Double>() {
+			@Override
+			public double apply(
+				final Double[] calculated,
+				final Double[] expected
+			) {
+				return mae(calculated, expected);
+			}
+
+			@Override
+			public double apply(
+				final double[] calculated,
+				final double[] expected
+			) {
+				return mae(calculated, expected);
+			}
+		};
+	}
+
+	/**
+	 * The error rate is the fraction of the wrongly calculated boolean values.
+	 *
+	 * @since 5.1
+	 *
+	 * @param calculated the function values calculated with the current program
+	 *        tree
+	 * @param expected the expected function value as given by the sample points
+	 * @return the error rate
+	 * @throws IllegalArgumentException if the length of the two arrays are not
+	 *         equal
+	 * @throws NullPointerException if one of the {@code Boolean[]} arrays is
+	 *         {@code null}
+	 */
+	public static double errorRate(
+		final Boolean[] calculated,
+		final Boolean[] expected
+	) {
+		if (expected.length != calculated.length) {
+			throw new IllegalArgumentException(format(
+				"Expected result and calculated results have different " +
+					"length: %d != %d",
+				expected.length, calculated.length
+			));
+		}
+
+		int errors = 0;
+		for (int i = 0; i < expected.length; ++i) {
+			if (!expected[i].equals(calculated[i])) {
+				++errors;
+			}
+		}
+
+		return expected.length > 0 ? (double)errors/expected.length : 0;
+	}
+
+	/**
+	 * The error rate is the fraction of the wrongly calculated boolean values.
+	 * This method works on bit-packed values and counts the wrong values of
+	 * 64 samples at once.
+	 *
+	 * @since 5.1
+	 *
+	 * @see io.jenetics.prog.op.BitProgram
+	 *
+	 * @param calculated the packed function values calculated with the current
+	 *        program tree
+	 * @param expected the packed, expected function value as given by the
+	 *        sample points
+	 * @param size the number of packed function values
+	 * @return the error rate
+	 * @throws IllegalArgumentException if one of the arrays contains less than
+	 *         {@code size} bits
+	 * @throws NullPointerException if one of the {@code long[]} arrays is
+	 *         {@code null}
+	 */
+	public static double errorRate(
+		final long[] calculated,
+		final long[] expected,
+		final int size
+	) {
+		final int words = BitProgram.words(size);
+		if (calculated.length < words || expected.length < words) {
+			throw new IllegalArgumentException(format(
+				"Arrays contain less than %d bits: %d, %d",
+				size, calculated.length*Long.SIZE, expected.length*Long.SIZE
+			));
+		}
+		if (size == 0) {
+			return 0;
+		}
+
+		int errors = 0;
+		for (int i = 0; i < words - 1; ++i) {
+			errors += Long.bitCount(calculated[i] ^ expected[i]);
+		}
+		errors += Long.bitCount(
+			(calculated[words - 1] ^ expected[words - 1]) &
+				BitProgram.lastWordMask(size)
+		);
+
+		return (double)errors/size;
+	}
+
+	/**
+	 * Return the {@link #errorRate(Boolean[], Boolean[])} loss function. The
+	 * returned function calculates the error rate of bit-packed values
+	 * directly, without unpacking them.
+	 *
+	 * <pre>{@code
+	 * final Error<Boolean> error = Error.of(LossFunction.errorRate());
+	 * }</pre>
+	 *
+	 * @since 5.1
+	 *
+	 * @return the error rate loss function
+	 */
+	public static LossFunction<Boolean> errorRate() {
+		return new LossFunction<Boolean>() {
+			@Override
+			public double apply(
+				final Boolean[] calculated,
+				final Boolean[] expected
+			) {
+				return errorRate(calculated, expected);
+			}
+
+			@Override
+			public double apply(
+				final long[] calculated,
+				final long[] expected,
+				final int size
+			) {
+				return errorRate(calculated, expected, size);
+			}
+		};
+	}
+
 }
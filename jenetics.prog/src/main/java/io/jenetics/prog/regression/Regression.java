@@ -27,13 +27,16 @@ import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
 import io.jenetics.engine.Codec;
+import io.jenetics.engine.EvolutionResult;
 import io.jenetics.engine.Problem;
 import io.jenetics.util.ISeq;
 
@@ -41,8 +44,10 @@ import io.jenetics.ext.util.Tree;
 
 import io.jenetics.prog.ProgramChromosome;
 import io.jenetics.prog.ProgramGene;
+import io.jenetics.prog.op.BitProgram;
+import io.jenetics.prog.op.ColumnProgram;
+import io.jenetics.prog.op.CompiledProgram;
 import io.jenetics.prog.op.Op;
-import io.jenetics.prog.op.Program;
 
 /**
  * This class implements a <em>symbolic</em> regression problem. The example
@@ -93,10 +98,33 @@ import io.jenetics.prog.op.Program;
  * }
  * }</pre>
  *
+ * For large data sets, the programs can be evaluated with a subset of the
+ * samples, which changes from generation to generation. The sample subset of
+ * the next generation is selected by the {@link #resample(EvolutionResult)}
+ * result mapper, which also resets the fitness of the whole population. This
+ * way, all individuals of a generation are compared on the same subset.
+ * A regression with sampling keeps the sample subset of the current
+ * generation. It must therefore be used by exactly <em>one</em> evolution
+ * stream; create a separate instance with {@link #withSampling(Sampling)}
+ * for every engine and stream, e.g. for every island of an island model.
+ *
+ * <pre>{@code
+ * final Regression<Double> regression = REGRESSION
+ *     .withSampling(Sampling.random(1_000));
+ *
+ * final Engine<ProgramGene<Double>, Double> engine = Engine
+ *     .builder(regression)
+ *     .minimizing()
+ *     .mapping(regression::resample)
+ *     .build();
+ * }</pre>
+ *
+ * @see Sampling
+ *
  * @param <T> the operation type
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 5.1
  * @since 5.0
  */
 public final class Regression<T>
@@ -106,6 +134,15 @@ public final class Regression<T>
 	private final Codec<Tree<Op<T>, ?>, ProgramGene<T>> _codec;
 	private final Error<T> _error;
 	private final Samples<T> _samples;
+	private final Sampling _sampling;
+
+	// 'true' if the error function works on primitive 'double' arrays. Only
+	// then, 'Double' samples are evaluated column-wise.
+	private final boolean _columnar;
+
+	// The samples of the current generation, or 'null' if all samples are
+	// used in every generation.
+	private final AtomicReference<Batch<T>> _batch;
 
 
 	/**
@@ -116,15 +153,31 @@ public final class Regression<T>
 	 * @param samples the sample values used for finding a regression. Since
 	 *        the samples are given via a <em>supplier</em> they can be changed
 	 *        during the evolution process
+	 * @param sampling the sample subset selection strategy, or {@code null}
+	 *        if all samples are used in every generation
 	 */
 	private Regression(
 		final Codec<Tree<Op<T>, ?>, ProgramGene<T>> codec,
 		final Error<T> error,
-		final Samples<T> samples
+		final Samples<T> samples,
+		final Sampling sampling
 	) {
 		_codec = requireNonNull(codec);
 		_error = requireNonNull(error);
 		_samples = requireNonNull(samples);
+		_sampling = sampling;
+		_columnar = LossError.isColumnar(error);
+		_batch = sampling != null
+			? new AtomicReference<>(batch(null, 1))
+			: null;
+	}
+
+	private Regression(
+		final Codec<Tree<Op<T>, ?>, ProgramGene<T>> codec,
+		final Error<T> error,
+		final Samples<T> samples
+	) {
+		this(codec, error, samples, null);
 	}
 
 	@Override
@@ -147,18 +200,251 @@ public final class Regression<T>
 	}
 
 	/**
-	 * Calculates the actual error for the given {@code program}.
+	 * Return the sample points used for evaluating the programs of the
+	 * current generation.
+	 *
+	 * @since 5.1
+	 *
+	 * @see #withSampling(Sampling)
+	 *
+	 * @return the sample points of the current generation
+	 */
+	public List<Sample<T>> batch() {
+		return currentSamples();
+	}
+
+	private Samples<T> currentSamples() {
+		return _batch != null ? _batch.get().samples : _samples;
+	}
+
+	/**
+	 * Return a new regression problem, which evaluates the programs with the
+	 * subset of the samples, selected by the given {@code sampling} strategy.
+	 * The subset of the first generation is selected immediately. The subsets
+	 * of the following generations are selected by the
+	 * {@link #resample(EvolutionResult)} mapper of the returned problem.
+	 * <p>
+	 * The returned regression keeps the sample subset of the current
+	 * generation and can only be used by one evolution stream. Every engine
+	 * and stream needs its own instance, created by this method.
+	 *
+	 * @since 5.1
+	 *
+	 * @param sampling the sample subset selection strategy
+	 * @return a new regression problem, which uses the given sampling strategy
+	 * @throws NullPointerException if the given {@code sampling} is
+	 *         {@code null}
+	 */
+	public Regression<T> withSampling(final Sampling sampling) {
+		return new Regression<>(_codec, _error, _samples, requireNonNull(sampling));
+	}
+
+	/**
+	 * Selects the sample subset for the generation after the given evolution
+	 * {@code result}. If the sample subset changes, the fitness of the whole
+	 * population is reset, which lets the engine re-evaluate all individuals
+	 * with the new subset. This method is meant to be used as result mapper
+	 * of the evolution {@link io.jenetics.engine.Engine}. If the regression
+	 * uses all samples in every generation, the given {@code result} is
+	 * returned unchanged.
+	 *
+	 * <pre>{@code
+	 * final Engine<ProgramGene<Double>, Double> engine = Engine
+	 *     .builder(regression)
+	 *     .mapping(regression::resample)
+	 *     .build();
+	 * }</pre>
+	 *
+	 * @since 5.1
+	 *
+	 * @see io.jenetics.engine.Engine.Builder#mapping(Function)
+	 *
+	 * @param result the evolution result of the current generation
+	 * @return the evolution result with the population, which must be
+	 *         evaluated with the samples of the next generation
+	 * @throws NullPointerException if the given {@code result} is {@code null}
+	 * @throws IllegalStateException if the regression is used by more than
+	 *         one evolution stream, which is detected by a result generation
+	 *         which doesn't follow the previously resampled generation
+	 */
+	public EvolutionResult<ProgramGene<T>, Double>
+	resample(final EvolutionResult<ProgramGene<T>, Double> result) {
+		requireNonNull(result);
+		if (_batch == null) {
+			return result;
+		}
+
+		final long generation = result.getGeneration();
+		final Batch<T> current = _batch.get();
+		if (current.resampled && current.generation != generation) {
+			throw sharedStream(current.generation, generation);
+		}
+
+		final Batch<T> next = batch(current, generation + 1);
+		if (!_batch.compareAndSet(current, next)) {
+			throw sharedStream(current.generation, generation);
+		}
+
+		return next.samples == current.samples
+			? result
+			: EvolutionResult.of(
+				result.getOptimize(),
+				result.getPopulation().map(pt ->
+					Phenotype.<ProgramGene<T>, Double>of(
+						pt.getGenotype(),
+						pt.getGeneration()
+					)
+				),
+				result.getGeneration(),
+				result.getTotalGenerations(),
+				result.getDurations(),
+				result.getKillCount(),
+				result.getInvalidCount(),
+				result.getAlterCount()
+			);
+	}
+
+	private static IllegalStateException
+	sharedStream(final long expected, final long generation) {
+		return new IllegalStateException(format(
+			"Expected evolution result of generation %d, but got %d. " +
+			"A regression with sampling must only be used by one evolution " +
+			"stream.", expected, generation
+		));
+	}
+
+	private Batch<T> batch(final Batch<T> batch, final long generation) {
+
+		final int[] indexes = _sampling.indexes(_samples.size(), generation);
+		if (indexes.length == 0) {
+			throw new IllegalStateException(format(
+				"No samples selected for generation %d.", generation
+			));
+		}
+
+		final Samples<T> samples;
+		if (indexes.length == _samples.size()) {
+			samples = _samples;
+		} else if (batch != null && Arrays.equals(indexes, batch.indexes)) {
+			samples = batch.samples;
+		} else {
+			final List<Sample<T>> subset = new ArrayList<>(indexes.length);
+			for (int index : indexes) {
+				subset.add(_samples.get(index));
+			}
+			samples = new Samples<>(subset);
+		}
+
+		return new Batch<>(generation, indexes, samples, batch != null);
+	}
+
+	/**
+	 * Calculates the actual error for the given {@code program}, using the
+	 * sample points of the current generation.
+	 *
+	 * @see #batch()
+	 * @see #fullError(Tree)
 	 *
 	 * @param program the program to calculate the error value for
 	 * @return the overall error value of the program
 	 */
 	public double error(final Tree<Op<T>, ?> program) {
+		return error(program, currentSamples());
+	}
+
+	/**
+	 * Calculates the actual error for the given {@code program}, using all
+	 * sample points. This is useful for the final scoring of the best
+	 * programs, if the regression is evaluated with a sample subset.
+	 *
+	 * @since 5.1
+	 *
+	 * @see #withSampling(Sampling)
+	 *
+	 * @param program the program to calculate the error value for
+	 * @return the overall error value of the program, using all samples
+	 */
+	public double fullError(final Tree<Op<T>, ?> program) {
+		return error(program, _samples);
+	}
+
+	private double error(final Tree<Op<T>, ?> program, final Samples<T> samples) {
+		if (samples.type() == Double.class && _columnar) {
+			return columnError(program, samples);
+		} else if (samples.type() == Boolean.class) {
+			return bitError(program, samples);
+		} else {
+			return rowError(program, samples);
+		}
+	}
+
+	// Evaluates the program for all samples at once, column by column.
+	@SuppressWarnings("unchecked")
+	private double columnError(
+		final Tree<Op<T>, ?> program,
+		final Samples<T> samples
+	) {
+		final ColumnProgram compiled =
+			ColumnProgram.of((Tree<? extends Op<Double>, ?>)(Object)program);
+		final double[] calculated = samples.eval(compiled);
+
+		return _error.apply(program, calculated, samples.resultColumn());
+	}
+
+	// Evaluates the program for 64 samples at once, with bitwise operations.
+	@SuppressWarnings("unchecked")
+	private double bitError(
+		final Tree<Op<T>, ?> program,
+		final Samples<T> samples
+	) {
+		final BitProgram compiled =
+			BitProgram.of((Tree<? extends Op<Boolean>, ?>)(Object)program);
+		final long[] calculated = compiled.eval(samples.bitColumns());
+
+		return _error.apply(
+			program,
+			calculated,
+			samples.bitResults(),
+			samples.size()
+		);
+	}
+
+	private double rowError(
+		final Tree<Op<T>, ?> program,
+		final Samples<T> samples
+	) {
+		final CompiledProgram<T> compiled = CompiledProgram.of(program);
+
 		@SuppressWarnings("unchecked")
-		final T[] calculated = Stream.of(_samples.arguments())
-			.map(args -> Program.eval(program, args))
-			.toArray(size -> (T[])Array.newInstance(_samples.type(), size));
+		final T[] calculated = Stream.of(samples.arguments())
+			.map(compiled::eval)
+			.toArray(size -> (T[])Array.newInstance(samples.type(), size));
 
-		return _error.apply(program, calculated, _samples.results());
+		return _error.apply(program, calculated, samples.results());
+	}
+
+	/**
+	 * The sample subset of one generation.
+	 */
+	private static final class Batch<T> {
+		final long generation;
+		final int[] indexes;
+		final Samples<T> samples;
+
+		// 'true' if the batch was selected by the 'resample' mapper.
+		final boolean resampled;
+
+		Batch(
+			final long generation,
+			final int[] indexes,
+			final Samples<T> samples,
+			final boolean resampled
+		) {
+			this.generation = generation;
+			this.indexes = indexes;
+			this.samples = samples;
+			this.resampled = resampled;
+		}
 	}
 
 	/* *************************************************************************
@@ -217,6 +503,32 @@ public final class Regression<T>
 		return of(codec, error, Arrays.asList(samples));
 	}
 
+	/**
+	 * Create a new regression problem instance with the given parameters.
+	 * The sample values are read directly from the memory-mapped
+	 * {@code samples} file and are not loaded onto the heap. Only the result
+	 * column and the calculated values of the evaluated programs are held on
+	 * the heap.
+	 *
+	 * @since 5.1
+	 *
+	 * @see #codecOf(ISeq, ISeq, int)
+	 * @see #codecOf(ISeq, ISeq, int, Predicate)
+	 *
+	 * @param codec the problem codec to use
+	 * @param error the error function
+	 * @param samples the sample file used for regression analysis
+	 * @return a new regression problem instance
+	 * @throws NullPointerException if on of the arguments is {@code null}
+	 */
+	public static Regression<Double> of(
+		final Codec<Tree<Op<Double>, ?>, ProgramGene<Double>> codec,
+		final Error<Double> error,
+		final SampleFile samples
+	) {
+		return new Regression<>(codec, error, Samples.of(samples));
+	}
+
 
 	/* *************************************************************************
 	 * Codec factory methods.
@@ -19,6 +19,14 @@
  */
 package io.jenetics.prog.regression;
 
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.jenetics.prog.op.BitProgram;
+
 /**
  * Represents a sample point used for the symbolic regression task. It consists
  * of an argument array and a result value. The sample point is comparable
@@ -30,7 +38,7 @@ package io.jenetics.prog.regression;
  *
  * @param <T> the sample type
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 5.1
  * @since 5.0
  */
 public interface Sample<T> {
@@ -130,4 +138,57 @@ public interface Sample<T> {
 		return new DoubleSample(x1, x2, x3, y);
 	}
 
+	/**
+	 * Create the sample points of a complete truth table with the given
+	 * {@code arity}. The table contains {@code 2^arity} rows. The argument
+	 * {@code j} of row {@code r} is the bit {@code j} of {@code r}. The
+	 * results are given in the bit-packed format of
+	 * {@link io.jenetics.prog.op.BitProgram}: the result of row {@code r} is
+	 * stored in the bit {@code r%64} of the word {@code r/64}.
+	 *
+	 * <pre>{@code
+	 * // Truth table of the 3-bit odd parity (xor) function.
+	 * final List<Sample<Boolean>> samples = Sample.ofTruthTable(3, 0b10010110L);
+	 * }</pre>
+	 *
+	 * @since 5.1
+	 *
+	 * @param arity the number of boolean arguments
+	 * @param results the bit-packed results of the truth table
+	 * @return the sample points of the truth table
+	 * @throws IllegalArgumentException if the {@code arity} is not within the
+	 *         range {@code [1, 30]} or the {@code results} contain less than
+	 *         {@code 2^arity} bits
+	 * @throws NullPointerException if the given {@code results} are
+	 *         {@code null}
+	 */
+	public static List<Sample<Boolean>>
+	ofTruthTable(final int arity, final long... results) {
+		if (arity < 1 || arity > 30) {
+			throw new IllegalArgumentException(format(
+				"Arity not within the range [1, 30]: %d", arity
+			));
+		}
+
+		final int rows = 1 << arity;
+		if (BitProgram.words(rows) > results.length) {
+			throw new IllegalArgumentException(format(
+				"Results contain less than %d bits: %d",
+				rows, results.length*Long.SIZE
+			));
+		}
+
+		final List<Sample<Boolean>> samples = new ArrayList<>(rows);
+		for (int r = 0; r < rows; ++r) {
+			final Boolean[] sample = new Boolean[arity + 1];
+			for (int j = 0; j < arity; ++j) {
+				sample[j] = (r & (1 << j)) != 0;
+			}
+			sample[arity] = (results[r >>> 6] & (1L << r)) != 0;
+			samples.add(new ObjectSample<>(sample));
+		}
+
+		return Collections.unmodifiableList(samples);
+	}
+
 }
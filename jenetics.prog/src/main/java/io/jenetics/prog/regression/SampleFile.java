@@ -0,0 +1,457 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import static java.lang.String.format;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sample points of {@code double} values, stored in a memory-mapped, columnar
+ * binary file. The sample values are not loaded onto the heap. They are read
+ * directly from the mapping, which is backed by the page cache of the
+ * operating system. This allows to use very large training sets and to share
+ * them between processes.
+ *
+ * <pre>{@code
+ * final SampleFile samples = SampleFile.importCsv(
+ *     Paths.get("samples.csv"),
+ *     Paths.get("samples.bin")
+ * );
+ *
+ * final Regression<Double> regression =
+ *     Regression.of(codec, Error.of(LossFunction::mse), samples);
+ * }</pre>
+ *
+ * The file starts with a 16 byte header: the magic number, the format
+ * version, the number of columns and the number of rows, stored as
+ * {@code int} values. The header is followed by the columns: first the
+ * argument columns and then the result column. Every column contains the
+ * values of all rows, as little-endian {@code double} values.
+ *
+ * @see Regression#of(io.jenetics.engine.Codec, Error, SampleFile)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 5.1
+ * @since 5.1
+ */
+public final class SampleFile {
+
+	private static final int MAGIC = 0x4A534D50;
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 16;
+
+	// The column buffer size, used when importing the samples.
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private final Path _path;
+	private final DoubleBuffer[] _columns;
+	private final int _size;
+
+	private SampleFile(
+		final Path path,
+		final DoubleBuffer[] columns,
+		final int size
+	) {
+		_path = path;
+		_columns = columns;
+		_size = size;
+	}
+
+	/**
+	 * Return the absolute path of the mapped sample file.
+	 *
+	 * @return the absolute path of the sample file
+	 */
+	Path path() {
+		return _path;
+	}
+
+	/**
+	 * Return the dimensionality of the sample point arguments.
+	 *
+	 * @return the arity of the sample points
+	 */
+	public int arity() {
+		return _columns.length - 1;
+	}
+
+	/**
+	 * Return the number of sample points.
+	 *
+	 * @return the number of sample points
+	 */
+	public int size() {
+		return _size;
+	}
+
+	/**
+	 * Return a read-only view of the argument column with the given
+	 * {@code index}. The returned buffer reads the values directly from the
+	 * file mapping.
+	 *
+	 * @param index the argument index
+	 * @return the values of the argument {@code index} of all samples
+	 * @throws IndexOutOfBoundsException if the given {@code index} is not
+	 *         within the range {@code [0, arity)}
+	 */
+	public DoubleBuffer argColumn(final int index) {
+		if (index < 0 || index >= arity()) {
+			throw new IndexOutOfBoundsException(format(
+				"Argument index out or range [0, %s): %s", arity(), index
+			));
+		}
+
+		return _columns[index].duplicate();
+	}
+
+	/**
+	 * Return a read-only view of the result column. The returned buffer reads
+	 * the values directly from the file mapping.
+	 *
+	 * @return the results of all samples
+	 */
+	public DoubleBuffer resultColumn() {
+		return _columns[_columns.length - 1].duplicate();
+	}
+
+	/**
+	 * Return the sample point with the given {@code index}.
+	 *
+	 * @param index the sample index
+	 * @return the sample point with the given {@code index}
+	 * @throws IndexOutOfBoundsException if the given {@code index} is not
+	 *         within the range {@code [0, size)}
+	 */
+	public Sample<Double> sampleAt(final int index) {
+		if (index < 0 || index >= _size) {
+			throw new IndexOutOfBoundsException(format(
+				"Sample index out or range [0, %s): %s", _size, index
+			));
+		}
+
+		final double[] sample = new double[_columns.length];
+		for (int i = 0; i < sample.length; ++i) {
+			sample[i] = _columns[i].get(index);
+		}
+		return new DoubleSample(sample);
+	}
+
+	DoubleBuffer[] argColumns() {
+		final DoubleBuffer[] columns = new DoubleBuffer[arity()];
+		for (int i = 0; i < columns.length; ++i) {
+			columns[i] = _columns[i].duplicate();
+		}
+		return columns;
+	}
+
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Opens the sample file with the given {@code path}. The file is mapped
+	 * read-only into memory.
+	 *
+	 * @param path the path of the sample file
+	 * @return the opened sample file
+	 * @throws NullPointerException if the given {@code path} is {@code null}
+	 * @throws IOException if the file can't be read or is not a valid sample
+	 *         file
+	 */
+	public static SampleFile open(final Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, READ)) {
+			final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+				.order(ByteOrder.LITTLE_ENDIAN);
+			while (header.hasRemaining()) {
+				if (channel.read(header) < 0) {
+					throw new IOException("Incomplete sample file header.");
+				}
+			}
+			header.flip();
+
+			if (header.getInt() != MAGIC) {
+				throw new IOException("Not a sample file: " + path);
+			}
+			final int version = header.getInt();
+			if (version != VERSION) {
+				throw new IOException(format(
+					"Unsupported sample file version: %d", version
+				));
+			}
+			final int columns = header.getInt();
+			final int rows = header.getInt();
+			if (columns < 2 || rows < 1) {
+				throw new IOException(format(
+					"Invalid sample file dimension: %d x %d", rows, columns
+				));
+			}
+
+			final long length = (long)rows*Double.BYTES;
+			if (channel.size() < HEADER_SIZE + columns*length) {
+				throw new IOException(format(
+					"Sample file too small: %d < %d",
+					channel.size(), HEADER_SIZE + columns*length
+				));
+			}
+
+			// Every column is mapped separately, which allows files larger
+			// than the maximal size of one mapping.
+			final DoubleBuffer[] buffers = new DoubleBuffer[columns];
+			for (int i = 0; i < columns; ++i) {
+				buffers[i] = channel
+					.map(MapMode.READ_ONLY, HEADER_SIZE + i*length, length)
+					.order(ByteOrder.LITTLE_ENDIAN)
+					.asDoubleBuffer()
+					.asReadOnlyBuffer();
+			}
+
+			return new SampleFile(path.toAbsolutePath(), buffers, rows);
+		}
+	}
+
+	/**
+	 * Imports the samples of the given CSV data into a new sample file with
+	 * the given {@code path}. Every CSV line contains the comma separated
+	 * arguments of one sample point, followed by its result. Empty lines are
+	 * ignored. If the first line doesn't start with a number, it is treated
+	 * as header line and ignored as well. The CSV data is read only once and
+	 * not loaded onto the heap.
+	 *
+	 * @param csv the CSV sample data
+	 * @param path the path of the created sample file. An existing file is
+	 *        overwritten
+	 * @return the opened sample file
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IOException if the CSV data can't be read, contains invalid
+	 *         lines or the sample file can't be written
+	 */
+	public static SampleFile importCsv(final Reader csv, final Path path)
+		throws IOException
+	{
+		requireNonNull(csv);
+		final Path dir = path.toAbsolutePath().getParent();
+
+		// The column values are written to temporary files first, since the
+		// number of rows is not known in advance.
+		final List<Path> files = new ArrayList<>();
+		final List<ColumnWriter> writers = new ArrayList<>();
+		try {
+			final BufferedReader reader = csv instanceof BufferedReader
+				? (BufferedReader)csv
+				: new BufferedReader(csv);
+
+			int rows = 0;
+			int lineNumber = 0;
+			String line;
+			while ((line = reader.readLine()) != null) {
+				++lineNumber;
+				if (line.trim().isEmpty()) {
+					continue;
+				}
+
+				final String[] values = line.split(",");
+				if (writers.isEmpty()) {
+					if (lineNumber == 1 && !isNumber(values[0])) {
+						continue;
+					}
+					if (values.length < 2) {
+						throw new IOException(format(
+							"Line %d must contain at least two values: %d",
+							lineNumber, values.length
+						));
+					}
+
+					for (int i = 0; i < values.length; ++i) {
+						final Path file = Files.createTempFile(dir, "column", ".tmp");
+						files.add(file);
+						writers.add(new ColumnWriter(file));
+					}
+				}
+
+				if (values.length != writers.size()) {
+					throw new IOException(format(
+						"Expected %d values in line %d, but got %d.",
+						writers.size(), lineNumber, values.length
+					));
+				}
+				if (rows == Integer.MAX_VALUE/Double.BYTES) {
+					throw new IOException("Too many sample rows: " + rows);
+				}
+
+				for (int i = 0; i < values.length; ++i) {
+					writers.get(i).write(parse(values[i], lineNumber));
+				}
+				++rows;
+			}
+
+			if (rows == 0) {
+				throw new IOException("No samples given.");
+			}
+
+			for (ColumnWriter writer : writers) {
+				writer.close();
+			}
+			write(path, files, rows);
+		} finally {
+			for (ColumnWriter writer : writers) {
+				writer.close();
+			}
+			for (Path file : files) {
+				Files.deleteIfExists(file);
+			}
+		}
+
+		return open(path);
+	}
+
+	/**
+	 * Imports the samples of the given CSV file into a new sample file with
+	 * the given {@code path}.
+	 *
+	 * @see #importCsv(Reader, Path)
+	 *
+	 * @param csv the path of the UTF-8 encoded CSV file
+	 * @param path the path of the created sample file. An existing file is
+	 *        overwritten
+	 * @return the opened sample file
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IOException if the CSV file can't be read, contains invalid
+	 *         lines or the sample file can't be written
+	 */
+	public static SampleFile importCsv(final Path csv, final Path path)
+		throws IOException
+	{
+		try (Reader reader = Files.newBufferedReader(csv, StandardCharsets.UTF_8)) {
+			return importCsv(reader, path);
+		}
+	}
+
+	private static boolean isNumber(final String value) {
+		try {
+			Double.parseDouble(value.trim());
+			return true;
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
+
+	private static double parse(final String value, final int lineNumber)
+		throws IOException
+	{
+		try {
+			return Double.parseDouble(value.trim());
+		} catch (NumberFormatException e) {
+			throw new IOException(format(
+				"Invalid number in line %d: '%s'", lineNumber, value
+			), e);
+		}
+	}
+
+	private static void write(
+		final Path path,
+		final List<Path> columns,
+		final int rows
+	)
+		throws IOException
+	{
+		try (FileChannel out = FileChannel.open(path, CREATE, WRITE, TRUNCATE_EXISTING)) {
+			final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+				.order(ByteOrder.LITTLE_ENDIAN)
+				.putInt(MAGIC)
+				.putInt(VERSION)
+				.putInt(columns.size())
+				.putInt(rows);
+			header.flip();
+			while (header.hasRemaining()) {
+				out.write(header);
+			}
+
+			for (Path column : columns) {
+				try (FileChannel in = FileChannel.open(column, READ)) {
+					long position = 0;
+					final long size = in.size();
+					while (position < size) {
+						position += in.transferTo(position, size - position, out);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Writes the values of one column to a temporary file.
+	 */
+	private static final class ColumnWriter {
+		private final FileChannel _channel;
+		private final ByteBuffer _buffer = ByteBuffer.allocate(BUFFER_SIZE)
+			.order(ByteOrder.LITTLE_ENDIAN);
+		private boolean _closed = false;
+
+		ColumnWriter(final Path file) throws IOException {
+			_channel = FileChannel.open(file, WRITE);
+		}
+
+		void write(final double value) throws IOException {
+			if (!_buffer.hasRemaining()) {
+				flush();
+			}
+			_buffer.putDouble(value);
+		}
+
+		private void flush() throws IOException {
+			_buffer.flip();
+			while (_buffer.hasRemaining()) {
+				_channel.write(_buffer);
+			}
+			_buffer.clear();
+		}
+
+		void close() throws IOException {
+			if (!_closed) {
+				_closed = true;
+				try {
+					flush();
+				} finally {
+					_channel.close();
+				}
+			}
+		}
+	}
+
+}
@@ -20,15 +20,26 @@
 package io.jenetics.prog.regression;
 
 import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
 import java.io.Serializable;
 import java.lang.reflect.Array;
+import java.nio.file.Paths;
 import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.List;
 
+import io.jenetics.prog.op.BitProgram;
+import io.jenetics.prog.op.ColumnProgram;
+
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 5.1
  * @since 5.0
  */
 final class Samples<T> extends AbstractList<Sample<T>> implements Serializable {
@@ -36,10 +47,23 @@ final class Samples<T> extends AbstractList<Sample<T>> implements Serializable {
 
 	private final List<Sample<T>> _samples;
 
+	// The memory-mapped sample values, if the samples are backed by a file.
+	// File-backed samples are serialized with the path of the sample file,
+	// which is mapped again when the samples are read.
+	private final transient SampleFile _file;
+
 	private final Class<T> _type;
 	private final T[][] _arguments;
 	private final T[] _results;
 
+	// Column representation of Double samples, created on demand.
+	private transient volatile double[][] _columns;
+	private transient volatile double[] _resultColumn;
+
+	// Bit-packed representation of Boolean samples, created on demand.
+	private transient volatile long[][] _bitColumns;
+	private transient volatile long[] _bitResults;
+
 	@SuppressWarnings("unchecked")
 	Samples(final List<Sample<T>> samples) {
 		_type = (Class<T>)samples.get(0).argAt(0).getClass();
@@ -62,6 +86,7 @@ final class Samples<T> extends AbstractList<Sample<T>> implements Serializable {
 		}
 
 		_samples = samples;
+		_file = null;
 
 		_arguments = samples.stream()
 			.map(s -> args(_type, s))
@@ -72,6 +97,23 @@ final class Samples<T> extends AbstractList<Sample<T>> implements Serializable {
 			.toArray(size -> (T[])Array.newInstance(_type, size));
 	}
 
+	private Samples(final SampleFile file, final Class<T> type) {
+		_samples = null;
+		_file = requireNonNull(file);
+		_type = type;
+		_arguments = null;
+		_results = null;
+	}
+
+	/**
+	 * Create a new samples object, which is backed by the given sample file.
+	 * The column-wise evaluation reads the sample values directly from the
+	 * file mapping.
+	 */
+	static Samples<Double> of(final SampleFile file) {
+		return new Samples<>(file, Double.class);
+	}
+
 	private static <T> T[] args(final Class<T> type, final Sample<T> sample) {
 		@SuppressWarnings("unchecked")
 		final T[] args = (T[])Array
@@ -87,22 +129,200 @@ final class Samples<T> extends AbstractList<Sample<T>> implements Serializable {
 		return _type;
 	}
 
+	/**
+	 * Return the arguments of all samples. For samples backed by a file, a
+	 * new array is created for every call.
+	 */
+	@SuppressWarnings("unchecked")
 	T[][] arguments() {
-		return _arguments;
+		return _file == null
+			? _arguments
+			: stream()
+				.map(s -> args(_type, s))
+				.toArray(size -> (T[][])Array.newInstance(_type, size, 0));
 	}
 
+	/**
+	 * Return the results of all samples. For samples backed by a file, a new
+	 * array is created for every call.
+	 */
+	@SuppressWarnings("unchecked")
 	T[] results() {
-		return _results;
+		return _file == null
+			? _results
+			: stream()
+				.map(Sample::result)
+				.toArray(size -> (T[])Array.newInstance(_type, size));
+	}
+
+	/**
+	 * Evaluates the given program column-wise, for all samples. Samples
+	 * backed by a file are read directly from the file mapping. This is only
+	 * possible for {@code Double} samples.
+	 */
+	double[] eval(final ColumnProgram program) {
+		return _file == null
+			? program.eval(columns())
+			: program.eval(_file.argColumns());
+	}
+
+	/**
+	 * Return the sample arguments as columns. Column {@code i} contains the
+	 * values of the argument {@code i} of all samples. This is only possible
+	 * for {@code Double} samples.
+	 */
+	double[][] columns() {
+		double[][] columns = _columns;
+		if (columns == null) {
+			if (_file != null) {
+				columns = new double[_file.arity()][_file.size()];
+				for (int j = 0; j < columns.length; ++j) {
+					_file.argColumn(j).get(columns[j]);
+				}
+			} else {
+				columns = new double[_arguments[0].length][_arguments.length];
+				for (int i = 0; i < _arguments.length; ++i) {
+					for (int j = 0; j < columns.length; ++j) {
+						columns[j][i] = (Double)_arguments[i][j];
+					}
+				}
+			}
+			_columns = columns;
+		}
+		return columns;
+	}
+
+	/**
+	 * Return the sample results as one column. This is only possible for
+	 * {@code Double} samples. The result column of samples backed by a file
+	 * is copied onto the heap, once.
+	 */
+	double[] resultColumn() {
+		double[] column = _resultColumn;
+		if (column == null) {
+			if (_file != null) {
+				column = new double[_file.size()];
+				_file.resultColumn().get(column);
+			} else {
+				column = new double[_results.length];
+				for (int i = 0; i < column.length; ++i) {
+					column[i] = (Double)_results[i];
+				}
+			}
+			_resultColumn = column;
+		}
+		return column;
+	}
+
+	/**
+	 * Return the sample arguments as bit-packed columns. Column {@code i}
+	 * contains the values of the argument {@code i} of all samples, 64 values
+	 * per word. This is only possible for {@code Boolean} samples.
+	 *
+	 * @see BitProgram#pack(boolean[])
+	 */
+	long[][] bitColumns() {
+		long[][] columns = _bitColumns;
+		if (columns == null) {
+			final int words = BitProgram.words(_arguments.length);
+			columns = new long[_arguments[0].length][words];
+			for (int i = 0; i < _arguments.length; ++i) {
+				for (int j = 0; j < columns.length; ++j) {
+					if ((Boolean)_arguments[i][j]) {
+						columns[j][i >>> 6] |= 1L << i;
+					}
+				}
+			}
+			_bitColumns = columns;
+		}
+		return columns;
+	}
+
+	/**
+	 * Return the sample results as one bit-packed column. This is only
+	 * possible for {@code Boolean} samples.
+	 */
+	long[] bitResults() {
+		long[] column = _bitResults;
+		if (column == null) {
+			column = new long[BitProgram.words(_results.length)];
+			for (int i = 0; i < _results.length; ++i) {
+				if ((Boolean)_results[i]) {
+					column[i >>> 6] |= 1L << i;
+				}
+			}
+			_bitResults = column;
+		}
+		return column;
+	}
+
+	static Boolean[] unpack(final long[] words, final int size) {
+		if (BitProgram.words(size) > words.length) {
+			throw new IllegalArgumentException(format(
+				"Words contain less than %d bits: %d",
+				size, words.length*Long.SIZE
+			));
+		}
+
+		final Boolean[] values = new Boolean[size];
+		for (int i = 0; i < size; ++i) {
+			values[i] = (words[i >>> 6] & (1L << i)) != 0;
+		}
+		return values;
+	}
+
+	static Double[] box(final double[] values) {
+		final Double[] boxed = new Double[values.length];
+		for (int i = 0; i < values.length; ++i) {
+			boxed[i] = values[i];
+		}
+		return boxed;
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public Sample<T> get(int index) {
-		return _samples.get(index);
+		return _file == null
+			? _samples.get(index)
+			: (Sample<T>)_file.sampleAt(index);
 	}
 
 	@Override
 	public int size() {
-		return _samples.size();
+		return _file == null ? _samples.size() : _file.size();
+	}
+
+
+	/* *************************************************************************
+	 *  Java object serialization
+	 * ************************************************************************/
+
+	private Object writeReplace() {
+		return new Serial(Serial.SAMPLES, this);
+	}
+
+	private void readObject(final ObjectInputStream stream)
+		throws InvalidObjectException
+	{
+		throw new InvalidObjectException("Serialization proxy required.");
+	}
+
+	void write(final ObjectOutput out) throws IOException {
+		out.writeBoolean(_file != null);
+		if (_file != null) {
+			out.writeUTF(_file.path().toString());
+		} else {
+			out.writeObject(new ArrayList<>(_samples));
+		}
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	static Samples read(final ObjectInput in)
+		throws IOException, ClassNotFoundException
+	{
+		return in.readBoolean()
+			? of(SampleFile.open(Paths.get(in.readUTF())))
+			: new Samples((List)in.readObject());
 	}
 
 }
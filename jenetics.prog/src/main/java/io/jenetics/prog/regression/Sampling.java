@@ -0,0 +1,194 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import static java.lang.Math.ceil;
+import static java.lang.Math.min;
+import static java.lang.Math.pow;
+import static java.lang.String.format;
+
+import java.util.BitSet;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * Defines the subset of the sample points a {@link Regression} problem is
+ * evaluated with, in a given generation. For large data sets, evaluating
+ * every program with all samples is too expensive. Using a (changing)
+ * subset of the samples makes every generation cheaper. Since all samples
+ * of a generation are selected at once, all individuals of the generation
+ * are evaluated with the same subset and their errors stay comparable.
+ *
+ * <pre>{@code
+ * final Regression<Double> regression = Regression
+ *     .of(codec, Error.of(LossFunction::mse), samples)
+ *     .withSampling(Sampling.random(1_000));
+ * }</pre>
+ *
+ * @see Regression#withSampling(Sampling)
+ * @see Regression#resample(io.jenetics.engine.EvolutionResult)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 5.1
+ * @since 5.1
+ */
+@FunctionalInterface
+public interface Sampling {
+
+	/**
+	 * Return the indexes of the samples used in the given {@code generation}.
+	 * Calling this method twice with the same arguments must return the same
+	 * indexes.
+	 *
+	 * @param size the number of available samples
+	 * @param generation the generation the samples are selected for
+	 * @return the ascending sorted, distinct sample indexes. The indexes must
+	 *         be within the range {@code [0, size)}
+	 */
+	public int[] indexes(final int size, final long generation);
+
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Return a sampling strategy which always selects all samples.
+	 *
+	 * @return a sampling strategy which always selects all samples
+	 */
+	public static Sampling full() {
+		return (size, generation) -> IntStream.range(0, size).toArray();
+	}
+
+	/**
+	 * Return a sampling strategy which selects a random mini-batch of the
+	 * given size for every generation. The batch of a generation is
+	 * determined by the given {@code seed} and the generation.
+	 *
+	 * @param batchSize the number of samples per generation
+	 * @param seed the seed of the batch selection
+	 * @return a new random mini-batch sampling strategy
+	 * @throws IllegalArgumentException if the {@code batchSize} is smaller
+	 *         than one
+	 */
+	public static Sampling random(final int batchSize, final long seed) {
+		if (batchSize < 1) {
+			throw new IllegalArgumentException(format(
+				"Batch size must be greater than zero: %d", batchSize
+			));
+		}
+
+		return (size, generation) -> {
+			if (batchSize >= size) {
+				return IntStream.range(0, size).toArray();
+			}
+
+			final SplittableRandom random =
+				new SplittableRandom(seed + generation*0x9E3779B97F4A7C15L);
+
+			// Floyd's algorithm, which only needs 'batchSize' random numbers.
+			final BitSet selected = new BitSet(size);
+			for (int j = size - batchSize; j < size; ++j) {
+				final int t = random.nextInt(j + 1);
+				selected.set(selected.get(t) ? j : t);
+			}
+
+			return selected.stream().toArray();
+		};
+	}
+
+	/**
+	 * Return a sampling strategy which selects a random mini-batch of the
+	 * given size for every generation. The seed of the batch selection is
+	 * taken from the {@link RandomRegistry}, when this method is called.
+	 *
+	 * @see #random(int, long)
+	 *
+	 * @param batchSize the number of samples per generation
+	 * @return a new random mini-batch sampling strategy
+	 * @throws IllegalArgumentException if the {@code batchSize} is smaller
+	 *         than one
+	 */
+	public static Sampling random(final int batchSize) {
+		return random(batchSize, RandomRegistry.getRandom().nextLong());
+	}
+
+	/**
+	 * Return a sampling strategy which splits the samples into {@code parts}
+	 * interleaved subsets. The generation {@code g} uses the samples with
+	 * index {@code i}, where {@code i%parts == (g - 1)%parts}. After
+	 * {@code parts} generations, every sample has been used once. If there are
+	 * less samples than parts, every sample forms its own part.
+	 *
+	 * @param parts the number of interleaved sample subsets
+	 * @return a new interleaved sampling strategy
+	 * @throws IllegalArgumentException if {@code parts} is smaller than one
+	 */
+	public static Sampling interleaved(final int parts) {
+		if (parts < 1) {
+			throw new IllegalArgumentException(format(
+				"Number of parts must be greater than zero: %d", parts
+			));
+		}
+
+		return (size, generation) -> {
+			final int n = min(parts, size);
+			final int offset = (int)Math.floorMod(generation - 1, (long)n);
+			return IntStream.iterate(offset, i -> i + n)
+				.limit((size - offset + n - 1)/n)
+				.toArray();
+		};
+	}
+
+	/**
+	 * Return a sampling strategy which grows the used sample set with every
+	 * generation. The generation {@code g} uses the first
+	 * {@code initialSize*growth^(g - 1)} samples, until all samples are used.
+	 * The samples are taken in the given order, so the samples should be
+	 * shuffled if they are ordered.
+	 *
+	 * @param initialSize the number of samples of the first generation
+	 * @param growth the growth factor of the sample set per generation
+	 * @return a new progressive sampling strategy
+	 * @throws IllegalArgumentException if the {@code initialSize} is smaller
+	 *         than one or the {@code growth} factor is smaller than one
+	 */
+	public static Sampling progressive(final int initialSize, final double growth) {
+		if (initialSize < 1) {
+			throw new IllegalArgumentException(format(
+				"Initial size must be greater than zero: %d", initialSize
+			));
+		}
+		if (!(growth >= 1)) {
+			throw new IllegalArgumentException(format(
+				"Growth factor must not be smaller than one: %f", growth
+			));
+		}
+
+		return (size, generation) -> {
+			final double n = ceil(initialSize*pow(growth, Math.max(generation - 1, 0)));
+			return IntStream.range(0, (int)min(size, n)).toArray();
+		};
+	}
+
+}
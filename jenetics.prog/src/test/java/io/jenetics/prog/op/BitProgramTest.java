@@ -0,0 +1,146 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.op;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class BitProgramTest {
+
+	private static final ISeq<Op<Boolean>> OPERATIONS = ISeq.<Op<Boolean>>of(BoolOp.values())
+		.append(new Program<>("nand", TreeNode.<Op<Boolean>>of(BoolOp.NOT)
+			.attach(TreeNode.<Op<Boolean>>of(BoolOp.AND)
+				.attach(Var.of("x", 0), Var.of("y", 1)))));
+
+	private static final ISeq<Op<Boolean>> TERMINALS = ISeq.of(
+		Var.of("x", 0), Var.of("y", 1), Var.of("z", 2),
+		BoolOp.TRUE, BoolOp.FALSE
+	);
+
+	@Test(invocationCount = 20)
+	public void eval() {
+		final Random random = new Random();
+		final TreeNode<Op<Boolean>> tree = Program.of(5, OPERATIONS, TERMINALS, random);
+		final BitProgram program = BitProgram.of(tree);
+
+		final int size = 150;
+		final boolean[][] values = new boolean[3][size];
+		final long[][] columns = new long[3][];
+		for (int j = 0; j < values.length; ++j) {
+			for (int i = 0; i < size; ++i) {
+				values[j][i] = random.nextBoolean();
+			}
+			columns[j] = BitProgram.pack(values[j]);
+		}
+
+		final boolean[] result = BitProgram.unpack(program.eval(columns), size);
+		for (int i = 0; i < size; ++i) {
+			final int row = i;
+			final Boolean[] args = IntStream.range(0, values.length)
+				.mapToObj(j -> values[j][row])
+				.toArray(Boolean[]::new);
+
+			Assert.assertEquals(result[i], (boolean)Program.eval(tree, args));
+		}
+	}
+
+	@Test
+	public void evalBoolOps() {
+		final long[] u = {0b0011L, -1L};
+		final long[] v = {0b0101L, 0L};
+
+		for (BoolOp op : BoolOp.values()) {
+			final long[] result = new long[u.length];
+			op.apply(u, v, result);
+
+			for (int i = 0; i < 2*Long.SIZE; ++i) {
+				final boolean a = (u[i/Long.SIZE] & (1L << i)) != 0;
+				final boolean b = (v[i/Long.SIZE] & (1L << i)) != 0;
+				final boolean expected = op.arity() == 1 ? op.eval(a) : op.eval(a, b);
+
+				Assert.assertEquals(
+					(result[i/Long.SIZE] & (1L << i)) != 0,
+					expected,
+					op.name() + ": " + i
+				);
+			}
+		}
+	}
+
+	@Test
+	public void evalConst() {
+		final BitProgram program = BitProgram.of(
+			TreeNode.<Op<Boolean>>of(BoolOp.OR).attach(BoolOp.FALSE, BoolOp.TRUE)
+		);
+
+		Assert.assertEquals(program.arity(), 0);
+		Assert.assertEquals(program.eval(new long[2]), new long[]{-1L, -1L});
+	}
+
+	@Test
+	public void packUnpack() {
+		final Random random = new Random(123);
+		for (int size = 0; size < 200; ++size) {
+			final boolean[] values = new boolean[size];
+			for (int i = 0; i < size; ++i) {
+				values[i] = random.nextBoolean();
+			}
+
+			final long[] words = BitProgram.pack(values);
+			Assert.assertEquals(words.length, (size + 63)/64);
+			Assert.assertEquals(BitProgram.unpack(words, size), values);
+		}
+	}
+
+	@Test
+	public void lastWordMask() {
+		Assert.assertEquals(BitProgram.lastWordMask(64), -1L);
+		Assert.assertEquals(BitProgram.lastWordMask(128), -1L);
+		Assert.assertEquals(BitProgram.lastWordMask(3), 0b111L);
+		Assert.assertEquals(BitProgram.lastWordMask(67), 0b111L);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void evalMissingColumn() {
+		final TreeNode<Op<Boolean>> tree = TreeNode.<Op<Boolean>>of(BoolOp.AND)
+			.attach(Var.of("x", 0), Var.of("z", 2));
+
+		BitProgram.of(tree).eval(new long[1], new long[1]);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void evalDifferentColumnLength() {
+		final TreeNode<Op<Boolean>> tree = TreeNode.<Op<Boolean>>of(BoolOp.AND)
+			.attach(Var.of("x", 0), Var.of("y", 1));
+
+		BitProgram.of(tree).eval(new long[1], new long[2]);
+	}
+
+}
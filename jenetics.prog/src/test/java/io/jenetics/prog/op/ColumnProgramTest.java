@@ -0,0 +1,148 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.op;
+
+import static io.jenetics.prog.op.ProgramsTest.TERMINALS;
+
+import java.nio.DoubleBuffer;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class ColumnProgramTest {
+
+	private static final ISeq<Op<Double>> OPERATIONS = ISeq.<Op<Double>>of(MathOp.values())
+		.append(new Program<>("sub", MathExpr.parse("x*y - 1").toTree()));
+
+	@Test(invocationCount = 20)
+	public void eval() {
+		final Random random = new Random();
+		final TreeNode<Op<Double>> tree = Program.of(5, OPERATIONS, TERMINALS, random);
+		final ColumnProgram program = ColumnProgram.of(tree);
+
+		final double[][] columns = new double[3][50];
+		for (double[] column : columns) {
+			for (int i = 0; i < column.length; ++i) {
+				column[i] = random.nextDouble()*4 - 2;
+			}
+		}
+
+		final double[] result = program.eval(columns);
+		Assert.assertEquals(result.length, 50);
+		for (int i = 0; i < result.length; ++i) {
+			final int row = i;
+			final Double[] args = IntStream.range(0, columns.length)
+				.mapToObj(j -> columns[j][row])
+				.toArray(Double[]::new);
+
+			Assert.assertEquals(
+				Double.doubleToLongBits(result[i]),
+				Double.doubleToLongBits(Program.eval(tree, args))
+			);
+		}
+	}
+
+	@Test(invocationCount = 5)
+	public void evalBuffers() {
+		final Random random = new Random();
+		final TreeNode<Op<Double>> tree = Program.of(5, OPERATIONS, TERMINALS, random);
+		final ColumnProgram program = ColumnProgram.of(tree);
+
+		final double[][] columns = new double[3][10_000];
+		final DoubleBuffer[] buffers = new DoubleBuffer[columns.length];
+		for (int j = 0; j < columns.length; ++j) {
+			for (int i = 0; i < columns[j].length; ++i) {
+				columns[j][i] = random.nextDouble()*4 - 2;
+			}
+			buffers[j] = DoubleBuffer.wrap(columns[j]);
+		}
+
+		Assert.assertEquals(program.eval(buffers), program.eval(columns));
+		Assert.assertEquals(buffers[0].position(), 0);
+	}
+
+	@Test
+	public void evalMathOps() {
+		final Random random = new Random(123);
+		final double[] u = random.doubles(20, -3, 3).toArray();
+		final double[] v = random.doubles(20, -3, 3).toArray();
+
+		for (MathOp op : MathOp.values()) {
+			final double[] result = new double[u.length];
+			op.apply(u, v, result);
+
+			for (int i = 0; i < u.length; ++i) {
+				final double expected = op.arity() == 1
+					? op.apply(new Double[]{u[i]})
+					: op.apply(new Double[]{u[i], v[i]});
+				Assert.assertEquals(
+					Double.doubleToLongBits(result[i]),
+					Double.doubleToLongBits(expected),
+					op.name()
+				);
+			}
+		}
+	}
+
+	@Test
+	public void evalVar() {
+		final ColumnProgram program = ColumnProgram.of(TreeNode.of(Var.of("y", 1)));
+		final double[] y = {1, 2, 3};
+		final double[] result = program.eval(new double[3], y);
+
+		Assert.assertEquals(result, y);
+		Assert.assertNotSame(result, y);
+	}
+
+	@Test
+	public void evalConst() {
+		final ColumnProgram program =
+			ColumnProgram.of(MathExpr.parse("2*x + 3").toTree());
+
+		Assert.assertEquals(
+			program.eval(new double[]{1, 2, 3}),
+			new double[]{5, 7, 9}
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void evalMissingColumn() {
+		final TreeNode<Op<Double>> tree = TreeNode.<Op<Double>>of(MathOp.ADD)
+			.attach(Var.of("x", 0), Var.of("z", 2));
+
+		ColumnProgram.of(tree).eval(new double[1], new double[1]);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void evalDifferentColumnLength() {
+		ColumnProgram.of(MathExpr.parse("x + y").toTree())
+			.eval(new double[1], new double[2]);
+	}
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.op;
+
+import static io.jenetics.prog.op.ProgramsTest.OPERATIONS;
+import static io.jenetics.prog.op.ProgramsTest.TERMINALS;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class CompiledProgramTest {
+
+	@Test(invocationCount = 20)
+	public void eval() {
+		final Random random = new Random();
+		final TreeNode<Op<Double>> tree = Program.of(6, OPERATIONS, TERMINALS, random);
+		final CompiledProgram<Double> program = CompiledProgram.of(tree);
+		Assert.assertEquals(program.size(), tree.size());
+
+		for (int i = 0; i < 10; ++i) {
+			final Double[] args = {
+				random.nextDouble(), random.nextDouble(), random.nextDouble()
+			};
+			Assert.assertEquals(program.eval(args), Program.eval(tree, args));
+		}
+	}
+
+	@Test
+	public void evalTerminal() {
+		final CompiledProgram<Double> program =
+			CompiledProgram.of(TreeNode.of(Var.of("y", 1)));
+
+		Assert.assertEquals(program.arity(), 2);
+		Assert.assertEquals(program.eval(1.0, 2.0), 2.0);
+	}
+
+	@Test
+	public void evalSubProgram() {
+		final Program<Double> sub = new Program<>(
+			"sub",
+			MathExpr.parse("x*y").toTree()
+		);
+		final TreeNode<Op<Double>> tree = TreeNode.<Op<Double>>of(MathOp.ADD)
+			.attach(TreeNode.<Op<Double>>of(sub)
+				.attach(Var.of("x", 0), Var.of("y", 1)))
+			.attach(TreeNode.<Op<Double>>of(sub)
+				.attach(Var.of("y", 1), Const.of(3.0)));
+
+		Assert.assertEquals(CompiledProgram.of(tree).eval(2.0, 5.0), 25.0);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void evalMissingVariable() {
+		CompiledProgram.of(MathExpr.parse("x + z").toTree()).eval(1.0);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidTree() {
+		CompiledProgram.of(TreeNode.<Op<Double>>of(MathOp.ADD).attach(Const.of(1.0)));
+	}
+
+	@Test
+	public void concurrentEval() throws InterruptedException, ExecutionException {
+		final TreeNode<Op<Double>> tree =
+			Program.of(8, OPERATIONS, TERMINALS, new Random(123));
+		final CompiledProgram<Double> program = CompiledProgram.of(tree);
+
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final List<Future<Boolean>> results = IntStream.range(0, 8)
+				.mapToObj(i -> executor.submit(() -> {
+					final Random random = new Random(i);
+					for (int j = 0; j < 1_000; ++j) {
+						final Double[] args = {
+							random.nextDouble(),
+							random.nextDouble(),
+							random.nextDouble()
+						};
+						if (!program.eval(args).equals(Program.eval(tree, args))) {
+							return false;
+						}
+					}
+					return true;
+				}))
+				.collect(Collectors.toList());
+
+			for (Future<Boolean> result : results) {
+				Assert.assertTrue(result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+}
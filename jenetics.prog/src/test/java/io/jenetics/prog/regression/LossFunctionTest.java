@@ -19,6 +19,8 @@
  */
 package io.jenetics.prog.regression;
 
+import java.util.Random;
+
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -71,4 +73,44 @@ public class LossFunctionTest {
 		Assert.assertEquals(LossFunction.mae(calculated, expected), 3.0);
 	}
 
+	@Test
+	public void primitiveLossFunctions() {
+		final Random random = new Random();
+		final double[] expected = random.doubles(100).toArray();
+		final double[] calculated = random.doubles(100).toArray();
+		final Double[] boxedExpected = Samples.box(expected);
+		final Double[] boxedCalculated = Samples.box(calculated);
+
+		Assert.assertEquals(
+			LossFunction.mse(calculated, expected),
+			LossFunction.mse(boxedCalculated, boxedExpected)
+		);
+		Assert.assertEquals(
+			LossFunction.rmse(calculated, expected),
+			LossFunction.rmse(boxedCalculated, boxedExpected)
+		);
+		Assert.assertEquals(
+			LossFunction.mae(calculated, expected),
+			LossFunction.mae(boxedCalculated, boxedExpected)
+		);
+
+		Assert.assertEquals(
+			LossFunction.mse().apply(calculated, expected),
+			LossFunction.mse(boxedCalculated, boxedExpected)
+		);
+		Assert.assertEquals(
+			LossFunction.rmse().apply(calculated, expected),
+			LossFunction.rmse(boxedCalculated, boxedExpected)
+		);
+		Assert.assertEquals(
+			LossFunction.mae().apply(calculated, expected),
+			LossFunction.mae(boxedCalculated, boxedExpected)
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void primitiveMseLengthMismatch() {
+		LossFunction.mse(new double[3], new double[4]);
+	}
+
 }
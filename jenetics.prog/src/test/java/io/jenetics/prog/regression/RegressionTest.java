@@ -19,18 +19,30 @@
  */
 package io.jenetics.prog.regression;
 
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import io.jenetics.Phenotype;
 import io.jenetics.engine.Codec;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.RandomRegistry;
 
 import io.jenetics.ext.util.Tree;
 
 import io.jenetics.prog.ProgramGene;
+import io.jenetics.prog.op.BoolOp;
 import io.jenetics.prog.op.EphemeralConst;
 import io.jenetics.prog.op.MathOp;
 import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.Program;
 import io.jenetics.prog.op.Var;
 
 /**
@@ -81,4 +93,216 @@ public class RegressionTest {
 		regression.error(tree);
 	}
 
+	@Test(invocationCount = 10)
+	public void columnError() {
+		final Codec<Tree<Op<Double>, ?>, ProgramGene<Double>> codec =
+			Regression.codecOf(OPS, TMS, 5);
+
+		final Random random = new Random();
+		final List<Sample<Double>> samples = IntStream.range(0, 100)
+			.mapToObj(i -> Sample.ofDouble(random.nextDouble(), random.nextDouble()))
+			.collect(Collectors.toList());
+
+		final Regression<Double> regression =
+			Regression.of(codec, Error.of(LossFunction::mse), samples);
+		final Regression<Double> primitive =
+			Regression.of(codec, Error.of(LossFunction.mse()), samples);
+
+		final Tree<Op<Double>, ?> tree = codec.encoding().newInstance().getGene();
+		final Double[] calculated = samples.stream()
+			.map(s -> Program.eval(tree, s.argAt(0)))
+			.toArray(Double[]::new);
+		final Double[] expected = samples.stream()
+			.map(Sample::result)
+			.toArray(Double[]::new);
+
+		Assert.assertEquals(
+			regression.error(tree),
+			LossFunction.mse(calculated, expected)
+		);
+		Assert.assertEquals(
+			primitive.error(tree),
+			LossFunction.mse(calculated, expected),
+			1e-12
+		);
+	}
+
+	@Test
+	public void columnar() {
+		Assert.assertTrue(LossError.isColumnar(Error.of(LossFunction.mse())));
+		Assert.assertTrue(LossError.isColumnar(
+			Error.of(LossFunction.rmse(), Complexity.ofNodeCount(50))
+		));
+		Assert.assertFalse(LossError.isColumnar(Error.<Double>of(LossFunction::mse)));
+		Assert.assertFalse(LossError.isColumnar(
+			Error.<Double>of(LossFunction::mae, Complexity.ofNodeCount(50))
+		));
+		Assert.assertFalse(LossError.isColumnar(
+			(Error<Double>)(program, calculated, expected) -> 0.0
+		));
+	}
+
+	@Test(invocationCount = 10)
+	public void bitError() {
+		final ISeq<Op<Boolean>> ops = ISeq.of(BoolOp.values());
+		final ISeq<Op<Boolean>> tms = ISeq.of(
+			Var.of("x", 0), Var.of("y", 1), Var.of("z", 2), BoolOp.TRUE
+		);
+		final Codec<Tree<Op<Boolean>, ?>, ProgramGene<Boolean>> codec =
+			Regression.codecOf(ops, tms, 5);
+
+		final List<Sample<Boolean>> samples = Sample.ofTruthTable(3, 0b10010110L);
+		final Regression<Boolean> packed =
+			Regression.of(codec, Error.of(LossFunction.errorRate()), samples);
+		final Regression<Boolean> unpacked =
+			Regression.of(codec, Error.of(LossFunction::errorRate), samples);
+
+		final Tree<Op<Boolean>, ?> tree = codec.encoding().newInstance().getGene();
+		final Boolean[] calculated = samples.stream()
+			.map(s -> Program.eval(tree, s.argAt(0), s.argAt(1), s.argAt(2)))
+			.toArray(Boolean[]::new);
+		final Boolean[] expected = samples.stream()
+			.map(Sample::result)
+			.toArray(Boolean[]::new);
+
+		final double error = LossFunction.errorRate(calculated, expected);
+		Assert.assertEquals(packed.error(tree), error);
+		Assert.assertEquals(unpacked.error(tree), error);
+	}
+
+	@Test
+	public void truthTable() {
+		final List<Sample<Boolean>> samples = Sample.ofTruthTable(3, 0b10010110L);
+		Assert.assertEquals(samples.size(), 8);
+
+		for (Sample<Boolean> sample : samples) {
+			Assert.assertEquals(sample.arity(), 3);
+			Assert.assertEquals(
+				sample.result(),
+				(Boolean)(sample.argAt(0) ^ sample.argAt(1) ^ sample.argAt(2))
+			);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void truthTableTooFewResults() {
+		Sample.ofTruthTable(7, 0L);
+	}
+
+	@Test
+	public void resample() {
+		final Codec<Tree<Op<Double>, ?>, ProgramGene<Double>> codec =
+			Regression.codecOf(OPS, TMS, 5);
+
+		final Random random = new Random();
+		final List<Sample<Double>> samples = IntStream.range(0, 100)
+			.mapToObj(i -> Sample.ofDouble(random.nextDouble(), random.nextDouble()))
+			.collect(Collectors.toList());
+
+		final Regression<Double> regression =
+			Regression.of(codec, Error.of(LossFunction::mse), samples)
+				.withSampling(Sampling.random(10, 123));
+		Assert.assertEquals(regression.batch().size(), 10);
+		Assert.assertEquals(regression.samples().size(), 100);
+
+		final Engine<ProgramGene<Double>, Double> engine = Engine
+			.builder(regression)
+			.minimizing()
+			.populationSize(20)
+			.mapping(regression::resample)
+			.executor(Runnable::run)
+			.build();
+
+		final EvolutionResult<ProgramGene<Double>, Double> result = engine.stream()
+			.limit(3)
+			.reduce((a, b) -> b)
+			.orElseThrow(AssertionError::new);
+
+		final List<Sample<Double>> batch = regression.batch();
+		Assert.assertEquals(batch.size(), 10);
+
+		// All individuals are evaluated with the same sample subset.
+		for (Phenotype<ProgramGene<Double>, Double> pt : result.getPopulation()) {
+			final Tree<Op<Double>, ?> tree = codec.decode(pt.getGenotype());
+			Assert.assertEquals(pt.getFitness(), regression.error(tree));
+		}
+
+		final Tree<Op<Double>, ?> tree = codec.encoding().newInstance().getGene();
+		final Double[] calculated = samples.stream()
+			.map(s -> Program.eval(tree, s.argAt(0)))
+			.toArray(Double[]::new);
+		final Double[] expected = samples.stream()
+			.map(Sample::result)
+			.toArray(Double[]::new);
+		Assert.assertEquals(
+			regression.fullError(tree),
+			LossFunction.mse(calculated, expected),
+			1e-12
+		);
+	}
+
+	@Test(expectedExceptions = IllegalStateException.class)
+	public void resampleSharedByTwoStreams() {
+		final Codec<Tree<Op<Double>, ?>, ProgramGene<Double>> codec =
+			Regression.codecOf(OPS, TMS, 5);
+
+		final Random random = new Random();
+		final List<Sample<Double>> samples = IntStream.range(0, 100)
+			.mapToObj(i -> Sample.ofDouble(random.nextDouble(), random.nextDouble()))
+			.collect(Collectors.toList());
+
+		final Regression<Double> regression =
+			Regression.of(codec, Error.of(LossFunction::mse), samples)
+				.withSampling(Sampling.random(10, 123));
+
+		final Engine<ProgramGene<Double>, Double> engine = Engine
+			.builder(regression)
+			.minimizing()
+			.populationSize(20)
+			.mapping(regression::resample)
+			.executor(Runnable::run)
+			.build();
+
+		final Iterator<EvolutionResult<ProgramGene<Double>, Double>> stream1 =
+			engine.stream().iterator();
+		final Iterator<EvolutionResult<ProgramGene<Double>, Double>> stream2 =
+			engine.stream().iterator();
+
+		stream1.next();
+		stream2.next();
+	}
+
+	@Test
+	public void resampleWithoutSampling() {
+		final Codec<Tree<Op<Double>, ?>, ProgramGene<Double>> codec =
+			Regression.codecOf(OPS, TMS, 5);
+
+		final Regression<Double> regression = Regression.of(
+			codec,
+			Error.of(LossFunction::mse),
+			Sample.ofDouble(0.0, 1.0),
+			Sample.ofDouble(1.0, 2.0)
+		);
+
+		final Engine<ProgramGene<Double>, Double> engine = Engine
+			.builder(regression)
+			.minimizing()
+			.populationSize(20)
+			.mapping(regression::resample)
+			.executor(Runnable::run)
+			.build();
+
+		// A regression without sampling can be shared by several streams.
+		final Iterator<EvolutionResult<ProgramGene<Double>, Double>> stream1 =
+			engine.stream().iterator();
+		final Iterator<EvolutionResult<ProgramGene<Double>, Double>> stream2 =
+			engine.stream().iterator();
+
+		for (int i = 0; i < 3; ++i) {
+			Assert.assertEquals(stream1.next().getGeneration(), i + 1);
+			Assert.assertEquals(stream2.next().getGeneration(), i + 1);
+		}
+		Assert.assertEquals(regression.batch(), regression.samples());
+	}
+
 }
@@ -0,0 +1,134 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.engine.Codec;
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.util.Tree;
+
+import io.jenetics.prog.ProgramGene;
+import io.jenetics.prog.op.MathOp;
+import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.Var;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SampleFileTest {
+
+	@Test
+	public void importCsv() throws IOException {
+		final Path path = Files.createTempFile("samples", ".bin");
+		try {
+			final SampleFile file = SampleFile.importCsv(
+				new StringReader("x,y,result\n1,2,3\n\n4.5, 5, 6\n-7,8e2,9\n"),
+				path
+			);
+
+			Assert.assertEquals(file.arity(), 2);
+			Assert.assertEquals(file.size(), 3);
+			Assert.assertEquals(file.argColumn(0).get(1), 4.5);
+			Assert.assertEquals(file.argColumn(1).get(2), 800.0);
+			Assert.assertEquals(file.resultColumn().get(2), 9.0);
+
+			final Sample<Double> sample = file.sampleAt(1);
+			Assert.assertEquals(sample.arity(), 2);
+			Assert.assertEquals(sample.argAt(0), 4.5);
+			Assert.assertEquals(sample.argAt(1), 5.0);
+			Assert.assertEquals(sample.result(), 6.0);
+
+			final SampleFile opened = SampleFile.open(path);
+			Assert.assertEquals(opened.size(), 3);
+			Assert.assertEquals(opened.argColumn(0).get(2), -7.0);
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Test(expectedExceptions = IOException.class)
+	public void importInvalidCsv() throws IOException {
+		final Path path = Files.createTempFile("samples", ".bin");
+		try {
+			SampleFile.importCsv(new StringReader("1,2,3\n4,5\n"), path);
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Test(expectedExceptions = IOException.class)
+	public void openInvalidFile() throws IOException {
+		final Path path = Files.createTempFile("samples", ".bin");
+		try {
+			Files.write(path, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+			SampleFile.open(path);
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Test
+	public void regression() throws IOException {
+		final Codec<Tree<Op<Double>, ?>, ProgramGene<Double>> codec =
+			Regression.codecOf(
+				ISeq.of(MathOp.ADD, MathOp.SUB, MathOp.MUL),
+				ISeq.of(Var.of("x", 0), Var.of("y", 1)),
+				5
+			);
+
+		final Random random = new Random();
+		final List<Sample<Double>> samples = IntStream.range(0, 10_000)
+			.mapToObj(i -> Sample.ofDouble(
+				random.nextDouble(), random.nextDouble(), random.nextDouble()))
+			.collect(Collectors.toList());
+		final String csv = samples.stream()
+			.map(s -> s.argAt(0) + "," + s.argAt(1) + "," + s.result())
+			.collect(Collectors.joining("\n"));
+
+		final Path path = Files.createTempFile("samples", ".bin");
+		try {
+			final SampleFile file = SampleFile.importCsv(new StringReader(csv), path);
+			final Regression<Double> mapped =
+				Regression.of(codec, Error.of(LossFunction::mse), file);
+			final Regression<Double> regression =
+				Regression.of(codec, Error.of(LossFunction::mse), samples);
+
+			for (int i = 0; i < 10; ++i) {
+				final Tree<Op<Double>, ?> tree = codec.encoding().newInstance().getGene();
+				Assert.assertEquals(mapped.error(tree), regression.error(tree));
+			}
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+}
@@ -19,12 +19,18 @@
  */
 package io.jenetics.prog.regression;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import io.jenetics.util.IO;
+
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  */
@@ -44,4 +50,35 @@ public class SamplesTest {
 		Assert.assertEquals(samples.results().getClass(), Double[].class);
 	}
 
+	@Test
+	public void serialize() throws IOException {
+		final List<Sample<Double>> points = Arrays.asList(
+			Sample.ofDouble(1, 2, 3),
+			Sample.ofDouble(4, 5, 6)
+		);
+		final Samples<Double> samples = new Samples<>(points);
+
+		final byte[] data = IO.object.toByteArray(samples);
+		Assert.assertEquals(IO.object.fromByteArray(data), samples);
+	}
+
+	@Test
+	public void serializeFileSamples() throws IOException {
+		final Path path = Files.createTempFile("samples", ".bin");
+		try {
+			final Samples<Double> samples = Samples.of(SampleFile.importCsv(
+				new StringReader("1,2,3\n4,5,6\n"),
+				path
+			));
+
+			final byte[] data = IO.object.toByteArray(samples);
+			final Object read = IO.object.fromByteArray(data);
+			Assert.assertTrue(read instanceof Samples);
+			Assert.assertEquals(read, samples);
+			Assert.assertEquals(((Samples<?>)read).resultColumn(), new double[]{3, 6});
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
 }
@@ -0,0 +1,115 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SamplingTest {
+
+	@Test(dataProvider = "samplings")
+	public void indexes(final Sampling sampling) {
+		for (int size : new int[]{1, 7, 100, 1000}) {
+			for (long generation = 1; generation < 20; ++generation) {
+				final int[] indexes = sampling.indexes(size, generation);
+
+				Assert.assertTrue(indexes.length > 0);
+				Assert.assertTrue(indexes.length <= size);
+				for (int i = 0; i < indexes.length; ++i) {
+					Assert.assertTrue(indexes[i] >= 0 && indexes[i] < size);
+					if (i > 0) {
+						Assert.assertTrue(indexes[i - 1] < indexes[i]);
+					}
+				}
+
+				// The same generation must select the same samples.
+				Assert.assertEquals(sampling.indexes(size, generation), indexes);
+			}
+		}
+	}
+
+	@DataProvider
+	public Object[][] samplings() {
+		return new Object[][] {
+			{Sampling.full()},
+			{Sampling.random(1, 0)},
+			{Sampling.random(10, 123)},
+			{Sampling.random(500)},
+			{Sampling.interleaved(1)},
+			{Sampling.interleaved(3)},
+			{Sampling.progressive(1, 1.0)},
+			{Sampling.progressive(5, 1.5)}
+		};
+	}
+
+	@Test
+	public void random() {
+		final Sampling sampling = Sampling.random(10, 123);
+		final int[] indexes1 = sampling.indexes(1000, 1);
+		final int[] indexes2 = sampling.indexes(1000, 2);
+
+		Assert.assertEquals(indexes1.length, 10);
+		Assert.assertEquals(indexes2.length, 10);
+		Assert.assertFalse(Arrays.equals(indexes1, indexes2));
+		Assert.assertEquals(
+			sampling.indexes(5, 1),
+			IntStream.range(0, 5).toArray()
+		);
+	}
+
+	@Test
+	public void interleaved() {
+		final Sampling sampling = Sampling.interleaved(3);
+
+		Assert.assertEquals(sampling.indexes(8, 1), new int[]{0, 3, 6});
+		Assert.assertEquals(sampling.indexes(8, 2), new int[]{1, 4, 7});
+		Assert.assertEquals(sampling.indexes(8, 3), new int[]{2, 5});
+		Assert.assertEquals(sampling.indexes(8, 4), new int[]{0, 3, 6});
+	}
+
+	@Test
+	public void progressive() {
+		final Sampling sampling = Sampling.progressive(10, 2);
+
+		Assert.assertEquals(sampling.indexes(100, 1).length, 10);
+		Assert.assertEquals(sampling.indexes(100, 2).length, 20);
+		Assert.assertEquals(sampling.indexes(100, 4).length, 80);
+		Assert.assertEquals(sampling.indexes(100, 5).length, 100);
+		Assert.assertEquals(sampling.indexes(100, 500).length, 100);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidBatchSize() {
+		Sampling.random(0);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidGrowth() {
+		Sampling.progressive(10, 0.5);
+	}
+
+}
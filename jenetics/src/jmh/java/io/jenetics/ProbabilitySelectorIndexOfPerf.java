@@ -40,7 +40,7 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.0
+ * @version 5.1
  * @since 3.0
  */
 @State(Scope.Benchmark)
@@ -59,14 +59,24 @@ public class ProbabilitySelectorIndexOfPerf {
 	private final double[] array1000 = random(new double[1000]);
 	private final double[] array10000 = random(new double[10000]);
 
+	private final double[] prob1000 = probabilities(new double[1000]);
+	private final double[] prob10000 = probabilities(new double[10000]);
+	private final double[] prob100000 = probabilities(new double[100000]);
+
+	private final AliasTable alias250 = AliasTable.of(probabilities(new double[250]));
+	private final AliasTable alias10000 = AliasTable.of(prob10000);
 
 
 	private static double[] random(final double[] array) {
+		return incremental(probabilities(array));
+	}
+
+	private static double[] probabilities(final double[] array) {
 		final Random random = new Random();
 		for (int i = 0; i < array.length; ++i) {
 			array[i] = random.nextGaussian() + 1.1;
 		}
-		return incremental(normalize(array));
+		return normalize(array);
 	}
 
 	@Setup(Level.Iteration)
@@ -186,6 +196,72 @@ public class ProbabilitySelectorIndexOfPerf {
 //		return ProbabilitySelector.indexOfSerial(array10000, 0.5);
 //	}
 
+	// aliasIndexOf
+
+	@Benchmark
+	public int aliasIndexOf250() {
+		return alias250.indexOf(0.5);
+	}
+
+	@Benchmark
+	public int aliasIndexOf10000() {
+		return alias10000.indexOf(0.5);
+	}
+
+	// Selection of n indexes, including the creation of the lookup structure.
+
+	@Benchmark
+	public int incrementalSelect1000() {
+		return incrementalSelect(prob1000);
+	}
+
+	@Benchmark
+	public int aliasSelect1000() {
+		return aliasSelect(prob1000);
+	}
+
+	@Benchmark
+	public int incrementalSelect10000() {
+		return incrementalSelect(prob10000);
+	}
+
+	@Benchmark
+	public int aliasSelect10000() {
+		return aliasSelect(prob10000);
+	}
+
+	@Benchmark
+	public int incrementalSelect100000() {
+		return incrementalSelect(prob100000);
+	}
+
+	@Benchmark
+	public int aliasSelect100000() {
+		return aliasSelect(prob100000);
+	}
+
+	private static int incrementalSelect(final double[] probabilities) {
+		final Random random = new Random(123);
+		final double[] incr = incremental(probabilities.clone());
+
+		int sum = 0;
+		for (int i = 0; i < incr.length; ++i) {
+			sum += ProbabilitySelector.indexOf(incr, random.nextDouble());
+		}
+		return sum;
+	}
+
+	private static int aliasSelect(final double[] probabilities) {
+		final Random random = new Random(123);
+		final AliasTable table = AliasTable.of(probabilities);
+
+		int sum = 0;
+		for (int i = 0; i < probabilities.length; ++i) {
+			sum += table.indexOf(random.nextDouble());
+		}
+		return sum;
+	}
+
 	public static void main(String[] args) throws RunnerException {
 		final Options opt = new OptionsBuilder()
 			.include(".*" + ProbabilitySelectorIndexOfPerf.class.getSimpleName() + ".*")
@@ -38,7 +38,7 @@ import io.jenetics.prngine.LCG64ShiftRandom;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.0
+ * @version 5.1
  * @since 3.0
  */
 public class RandomEnginePerf {
@@ -70,6 +70,41 @@ public class RandomEnginePerf {
 			return random.nextDouble();
 		}
 
+		@Benchmark
+		public double nextGaussian() {
+			return random.nextGaussian();
+		}
+
+	}
+
+	@State(Scope.Benchmark)
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public static abstract class BulkBase {
+
+		public Random64 random;
+
+		public final long[] longs = new long[1000];
+		public final double[] doubles = new double[1000];
+
+		@Benchmark
+		public long[] nextLongs() {
+			random.nextLongs(longs);
+			return longs;
+		}
+
+		@Benchmark
+		public double[] nextDoubles() {
+			random.nextDoubles(doubles);
+			return doubles;
+		}
+
+		@Benchmark
+		public double[] nextGaussians() {
+			random.nextGaussians(doubles);
+			return doubles;
+		}
+
 	}
 
 	public static class LCG64ShiftRandomPerf extends Base {{
@@ -84,6 +119,30 @@ public class RandomEnginePerf {
 		random = ThreadLocalRandom.current();
 	}}
 
+	public static class Xoshiro256RandomPerf extends Base {{
+		random = new Xoshiro256Random();
+	}}
+
+	public static class LCG64RandomPerf extends Base {{
+		random = new LCG64Random();
+	}}
+
+	public static class SplitRandomPerf extends Base {{
+		random = new SplitRandom();
+	}}
+
+	public static class Xoshiro256RandomBulkPerf extends BulkBase {{
+		random = new Xoshiro256Random();
+	}}
+
+	public static class LCG64RandomBulkPerf extends BulkBase {{
+		random = new LCG64Random();
+	}}
+
+	public static class SplitRandomBulkPerf extends BulkBase {{
+		random = new SplitRandom();
+	}}
+
 
 	public static void main(String[] args) throws RunnerException {
 		final Options opt = new OptionsBuilder()
@@ -0,0 +1,114 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.lang.Math.min;
+
+/**
+ * Alias table for sampling indexes from a discrete probability distribution
+ * in constant time. The table is created in <i>O(n)</i> with <i>Vose's</i>
+ * variant of the alias method.
+ *
+ * @see <a href="http://www.keithschwarz.com/darts-dice-coins/">
+ *     Darts, Dice, and Coins: Sampling from a Discrete Distribution</a>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 5.1
+ * @since 5.1
+ */
+final class AliasTable {
+
+	private final double[] _prob;
+	private final int[] _alias;
+
+	private AliasTable(final double[] prob, final int[] alias) {
+		_prob = prob;
+		_alias = alias;
+	}
+
+	/**
+	 * Return the index for the given uniformly distributed random value
+	 * {@code v}. The returned indexes are distributed according the
+	 * probabilities this table was created with.
+	 *
+	 * @param v uniformly distributed random value, {@code 0 <= v < 1}
+	 * @return the index for the given random value
+	 */
+	int indexOf(final double v) {
+		final double x = v*_prob.length;
+		final int i = min((int)x, _prob.length - 1);
+		return x - i < _prob[i] ? i : _alias[i];
+	}
+
+	/**
+	 * Create a new alias table for the given {@code probabilities}.
+	 *
+	 * @param probabilities the probabilities of the indexes, which must sum
+	 *        to one
+	 * @return a new alias table
+	 */
+	static AliasTable of(final double[] probabilities) {
+		final int n = probabilities.length;
+		final double[] prob = new double[n];
+		final int[] alias = new int[n];
+
+		final double[] scaled = new double[n];
+		final int[] small = new int[n];
+		final int[] large = new int[n];
+		int s = 0;
+		int l = 0;
+
+		for (int i = n; --i >= 0;) {
+			scaled[i] = probabilities[i]*n;
+			if (scaled[i] < 1.0) {
+				small[s++] = i;
+			} else {
+				large[l++] = i;
+			}
+		}
+
+		while (s > 0 && l > 0) {
+			final int less = small[--s];
+			final int more = large[--l];
+
+			prob[less] = scaled[less];
+			alias[less] = more;
+
+			scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+			if (scaled[more] < 1.0) {
+				small[s++] = more;
+			} else {
+				large[l++] = more;
+			}
+		}
+
+		// The remaining entries have a probability of one, except for
+		// rounding errors.
+		while (l > 0) {
+			prob[large[--l]] = 1.0;
+		}
+		while (s > 0) {
+			prob[small[--s]] = 1.0;
+		}
+
+		return new AliasTable(prob, alias);
+	}
+
+}
@@ -54,7 +54,7 @@ import io.jenetics.util.ISeq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 5.0
+ * @version 5.1
  */
 public class BitChromosome extends Number
 	implements
@@ -88,7 +88,7 @@ public class BitChromosome extends Number
 		_genes = bits;
 		_length = length;
 		_p = p;
-		_seq = BitGeneMSeq.of(_genes, length).toISeq();
+		_seq = BitGeneISeq.of(_genes, length);
 	}
 
 	/**
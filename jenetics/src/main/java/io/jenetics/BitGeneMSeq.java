@@ -34,7 +34,7 @@ import io.jenetics.util.MSeq;
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.4
- * @version 3.4
+ * @version 5.1
  */
 final class BitGeneMSeq extends ArrayMSeq<BitGene> {
 
@@ -43,7 +43,11 @@ final class BitGeneMSeq extends ArrayMSeq<BitGene> {
 	// Primary constructor.
 	private BitGeneMSeq(final Array<BitGene> array) {
 		super(array);
-		assert array.store() instanceof BitGeneStore;
+		assert array.store() instanceof BitGeneWordStore;
+	}
+
+	private long[] words() {
+		return ((BitGeneWordStore)array.store()).words;
 	}
 
 	@Override
@@ -52,10 +56,10 @@ final class BitGeneMSeq extends ArrayMSeq<BitGene> {
 		array.checkIndex(j);
 		array.copyIfSealed();
 
-		final byte[] bytes = ((BitGeneStore)array.store()).array;
-		final boolean temp = bit.get(bytes, i);
-		bit.set(bytes, i, bit.get(bytes, j));
-		bit.set(bytes, j, temp);
+		final long[] words = words();
+		final boolean temp = bit.get(words, i);
+		bit.set(words, i, bit.get(words, j));
+		bit.set(words, j, temp);
 	}
 
 	@Override
@@ -66,17 +70,40 @@ final class BitGeneMSeq extends ArrayMSeq<BitGene> {
 		if (other instanceof BitGeneMSeq) {
 			checkIndex(start, end, otherStart, other.length());
 			final BitGeneMSeq otherMSeq = (BitGeneMSeq)other;
-			final BitGeneStore thisStore = (BitGeneStore)array.store();
-			final BitGeneStore otherStore = (BitGeneStore)otherMSeq.array.store();
 
 			array.copyIfSealed();
 			otherMSeq.array.copyIfSealed();
-			thisStore.swap(start, end, otherStore, otherStart);
+			bit.swap(words(), start, end, otherMSeq.words(), otherStart);
 		} else {
 			super.swap(start, end, other, otherStart);
 		}
 	}
 
+	/**
+	 * Swaps the bits of this and the {@code other} sequence at all positions
+	 * where the bit of the given {@code mask} is set.
+	 *
+	 * @param other the other sequence to swap the bits with
+	 * @param mask the swap mask
+	 */
+	void swap(final BitGeneMSeq other, final long[] mask) {
+		array.copyIfSealed();
+		other.array.copyIfSealed();
+
+		bit.swap(words(), other.words(), mask);
+	}
+
+	/**
+	 * Flips the bits of this sequence at all positions where the bit of the
+	 * given {@code mask} is set.
+	 *
+	 * @param mask the flip mask
+	 */
+	void xor(final long[] mask) {
+		array.copyIfSealed();
+		bit.xor(words(), mask);
+	}
+
 	@Override
 	public BitGeneMSeq copy() {
 		return new BitGeneMSeq(array.copy());
@@ -87,10 +114,6 @@ final class BitGeneMSeq extends ArrayMSeq<BitGene> {
 		return new BitGeneISeq(array.seal());
 	}
 
-	static BitGeneMSeq of(final byte[] genes, final int length) {
-		return new BitGeneMSeq(Array.of(BitGeneStore.of(genes, length)));
-	}
-
 	static BitGeneMSeq of(final Array<BitGene> array) {
 		return new BitGeneMSeq(array);
 	}
@@ -100,7 +123,7 @@ final class BitGeneMSeq extends ArrayMSeq<BitGene> {
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.4
- * @version 3.4
+ * @version 5.1
  */
 final class BitGeneISeq extends ArrayISeq<BitGene> {
 	private static final long serialVersionUID = 1L;
@@ -108,12 +131,17 @@ final class BitGeneISeq extends ArrayISeq<BitGene> {
 	// Primary constructor.
 	BitGeneISeq(final Array<BitGene> array) {
 		super(array);
-		assert array.store() instanceof BitGeneStore;
+		assert array.store() instanceof BitGeneStore ||
+			array.store() instanceof BitGeneWordStore;
 	}
 
 	void copyTo(final byte[] array) {
-		final BitGeneStore store = (BitGeneStore)this.array.store();
-		System.arraycopy(store.array, 0, array, 0, store.array.length);
+		if (this.array.store() instanceof BitGeneWordStore) {
+			bit.toBytes(((BitGeneWordStore)this.array.store()).words, array);
+		} else {
+			final BitGeneStore store = (BitGeneStore)this.array.store();
+			System.arraycopy(store.array, 0, array, 0, store.array.length);
+		}
 	}
 
 	@Override
@@ -128,9 +156,13 @@ final class BitGeneISeq extends ArrayISeq<BitGene> {
 }
 
 /**
+ * Wraps the {@code byte[]} genes of a {@link BitChromosome}. Copies of this
+ * store, which are created for every mutable sequence, are
+ * {@link BitGeneWordStore}s.
+ *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.4
- * @version 3.4
+ * @version 5.1
  */
 final class BitGeneStore implements Array.Store<BitGene>, Serializable {
 	private static final long serialVersionUID = 1L;
@@ -161,20 +193,72 @@ final class BitGeneStore implements Array.Store<BitGene>, Serializable {
 		bit.set(array, index, value.booleanValue());
 	}
 
-	void swap(
-		final int start, final int end,
-		final BitGeneStore other, final int otherStart
+	@Override
+	public BitGeneWordStore copy(final int from, final int until) {
+		return BitGeneWordStore.of(bit.toWords(array, from, until), until - from);
+	}
+
+	@Override
+	public BitGeneWordStore newInstance(final int length) {
+		return BitGeneWordStore.ofLength(length);
+	}
+
+	@Override
+	public int length() {
+		return length;
+	}
+
+
+	static BitGeneStore of(final byte[] array, final int length) {
+		return new BitGeneStore(array, length);
+	}
+
+}
+
+/**
+ * Stores the bits of a mutable bit sequence in 64-bit words, which lets the
+ * bit operators work on 64 genes at a time.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 5.1
+ * @version 5.1
+ */
+final class BitGeneWordStore implements Array.Store<BitGene>, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	final long[] words;
+	final int length;
+
+	// Primary constructor.
+	private BitGeneWordStore(final long[] words, final int length) {
+		this.words = requireNonNull(words);
+		this.length = require.nonNegative(length);
+	}
+
+	@Override
+	public BitGene get(final int index) {
+		return BitGene.of(bit.get(words, index));
+	}
+
+	@Override
+	public void sort(
+		final int from, final int until, final Comparator<? super BitGene> comparator
 	) {
-		bit.swap(array, start, end, other.array, otherStart);
+		throw new UnsupportedOperationException();
 	}
 
 	@Override
-	public BitGeneStore copy(final int from, final int until) {
-		return new BitGeneStore(bit.copy(array, from, until), until - from);
+	public void set(final int index, final BitGene value) {
+		bit.set(words, index, value.booleanValue());
 	}
 
 	@Override
-	public BitGeneStore newInstance(final int length) {
+	public BitGeneWordStore copy(final int from, final int until) {
+		return new BitGeneWordStore(bit.copy(words, from, until), until - from);
+	}
+
+	@Override
+	public BitGeneWordStore newInstance(final int length) {
 		return ofLength(length);
 	}
 
@@ -184,12 +268,12 @@ final class BitGeneStore implements Array.Store<BitGene>, Serializable {
 	}
 
 
-	static BitGeneStore of(final byte[] array, final int length) {
-		return new BitGeneStore(array, length);
+	static BitGeneWordStore of(final long[] words, final int length) {
+		return new BitGeneWordStore(words, length);
 	}
 
-	static BitGeneStore ofLength(final int length) {
-		return new BitGeneStore(bit.newArray(length), length);
+	static BitGeneWordStore ofLength(final int length) {
+		return new BitGeneWordStore(bit.newWords(length), length);
 	}
 
 }
@@ -56,7 +56,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 5.0
+ * @version 5.1
  */
 public final class BoltzmannSelector<
 	G extends Gene<?, G>,
@@ -96,12 +96,27 @@ public final class BoltzmannSelector<
 
 		// Copy the fitness values to probabilities arrays.
 		final double[] fitness = new double[population.size()];
+		for (int i = fitness.length; --i >= 0;) {
+			fitness[i] = population.get(i).getFitness().doubleValue();
+		}
+
+		return probabilities(fitness, count);
+	}
+
+	/**
+	 * Calculates the selection probabilities directly from the numeric
+	 * fitness values.
+	 *
+	 * @since 5.1
+	 */
+	@Override
+	protected double[] probabilities(final double[] fitness, final int count) {
+		assert fitness.length > 0 : "Population is empty.";
+		assert count > 0 : "Population to select must be greater than zero. ";
 
-		fitness[0] = population.get(0).getFitness().doubleValue();
 		double min = fitness[0];
 		double max = fitness[0];
 		for (int i = 1; i < fitness.length; ++i) {
-			fitness[i] = population.get(i).getFitness().doubleValue();
 			if (fitness[i] < min) min = fitness[i];
 			else if (fitness[i] > max) max = fitness[i];
 		}
@@ -19,6 +19,7 @@
  */
 package io.jenetics;
 
+import static io.jenetics.internal.math.random.nextDoubles;
 import static io.jenetics.internal.util.SerialIO.readInt;
 import static io.jenetics.internal.util.SerialIO.writeInt;
 
@@ -28,17 +29,23 @@ import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Random;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import io.jenetics.internal.math.random;
 import io.jenetics.util.DoubleRange;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
-import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
 
 /**
  * Numeric chromosome implementation which holds 64 bit floating point numbers.
+ * The gene values of the chromosome are stored in one {@code double[]} array,
+ * if all genes share the same range. The {@link DoubleGene} objects are
+ * then only created on demand, e.g. when calling {@link #getGene(int)}.
  *
  * @see DoubleGene
  *
@@ -47,7 +54,7 @@ import io.jenetics.util.MSeq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.6
- * @version 5.0
+ * @version 5.1
  */
 public class DoubleChromosome
 	extends AbstractBoundedChromosome<Double, DoubleGene>
@@ -75,7 +82,16 @@ public class DoubleChromosome
 		final ISeq<DoubleGene> genes,
 		final IntRange lengthRange
 	) {
-		super(genes, lengthRange);
+		super(DoubleGeneISeq.pack(genes), lengthRange);
+	}
+
+	private DoubleChromosome(
+		final double[] values,
+		final double min,
+		final double max,
+		final IntRange lengthRange
+	) {
+		super(DoubleGeneISeq.of(values, min, max), lengthRange);
 	}
 
 	@Override
@@ -97,7 +113,16 @@ public class DoubleChromosome
 	 * @return a sequential stream of alleles
 	 */
 	public DoubleStream doubleStream() {
-		return IntStream.range(0, length()).mapToDouble(this::doubleValue);
+		return _genes instanceof DoubleGeneISeq
+			? Arrays.stream(((DoubleGeneISeq)_genes).values())
+			: IntStream.range(0, length()).mapToDouble(this::doubleValue);
+	}
+
+	@Override
+	public double doubleValue(final int index) {
+		return _genes instanceof DoubleGeneISeq
+			? ((DoubleGeneISeq)_genes).values()[index]
+			: getGene(index).doubleValue();
 	}
 
 	/**
@@ -116,8 +141,13 @@ public class DoubleChromosome
 	 */
 	public double[] toArray(final double[] array) {
 		final double[] a = array.length >= length() ? array : new double[length()];
-		for (int i = length(); --i >= 0;) {
-			a[i] = doubleValue(i);
+		if (_genes instanceof DoubleGeneISeq) {
+			final double[] values = ((DoubleGeneISeq)_genes).values();
+			System.arraycopy(values, 0, a, 0, values.length);
+		} else {
+			for (int i = length(); --i >= 0;) {
+				a[i] = doubleValue(i);
+			}
 		}
 
 		return a;
@@ -191,8 +221,12 @@ public class DoubleChromosome
 		final double max,
 		final IntRange lengthRange
 	) {
-		final ISeq<DoubleGene> genes = DoubleGene.seq(min, max, lengthRange);
-		return new DoubleChromosome(genes, lengthRange);
+		final Random r = RandomRegistry.getRandom();
+		final double[] values =
+			new double[random.nextInt(lengthRange, r)];
+		nextDoubles(values, min, max, r);
+
+		return new DoubleChromosome(values, min, max, lengthRange);
 	}
 
 	/**
@@ -308,12 +342,12 @@ public class DoubleChromosome
 		final double min = in.readDouble();
 		final double max = in.readDouble();
 
-		final MSeq<DoubleGene> values = MSeq.ofLength(length);
+		final double[] values = new double[length];
 		for (int i = 0; i < length; ++i) {
-			values.set(i, DoubleGene.of(in.readDouble(), min, max));
+			values[i] = in.readDouble();
 		}
 
-		return new DoubleChromosome(values.toISeq(), lengthRange);
+		return new DoubleChromosome(values, min, max, lengthRange);
 	}
 
 }
@@ -0,0 +1,199 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.Arrays;
+
+import io.jenetics.internal.collection.Array;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Mutable {@link DoubleGene} sequence, which stores the gene values in one
+ * {@code double[]} array. All genes of the sequence share the same range.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 5.1
+ * @version 5.1
+ */
+final class DoubleGeneMSeq extends PackedGeneMSeq<DoubleGene, double[]> {
+
+	private static final long serialVersionUID = 1L;
+
+	// Primary constructor.
+	private DoubleGeneMSeq(final Array<DoubleGene> array) {
+		super(array);
+	}
+
+	@Override
+	DoubleGeneMSeq newMSeq(final Array<DoubleGene> array) {
+		return new DoubleGeneMSeq(array);
+	}
+
+	@Override
+	DoubleGeneISeq newISeq(final Array<DoubleGene> array) {
+		return new DoubleGeneISeq(array);
+	}
+
+	static DoubleGeneMSeq of(
+		final double[] values,
+		final double min,
+		final double max
+	) {
+		return new DoubleGeneMSeq(Array.of(DoubleGeneStore.of(values, min, max)));
+	}
+
+	static DoubleGeneMSeq of(final Array<DoubleGene> array) {
+		return new DoubleGeneMSeq(array);
+	}
+
+	/**
+	 * Return {@code true} if the given sequence is a packed
+	 * {@code DoubleGeneMSeq}.
+	 *
+	 * @param seq the sequence to test
+	 * @return {@code true} if the given sequence is a packed
+	 *         {@code DoubleGeneMSeq}
+	 */
+	static boolean isPacked(final Seq<?> seq) {
+		return seq instanceof DoubleGeneMSeq && ((DoubleGeneMSeq)seq).isPacked();
+	}
+
+}
+
+/**
+ * Immutable {@link DoubleGene} sequence, which stores the gene values in one
+ * {@code double[]} array.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 5.1
+ * @version 5.1
+ */
+final class DoubleGeneISeq extends PackedGeneISeq<DoubleGene, double[]> {
+	private static final long serialVersionUID = 1L;
+
+	// Primary constructor.
+	DoubleGeneISeq(final Array<DoubleGene> array) {
+		super(array);
+	}
+
+	@Override
+	public DoubleGeneMSeq copy() {
+		return DoubleGeneMSeq.of(array.copy());
+	}
+
+	static DoubleGeneISeq of(
+		final double[] values,
+		final double min,
+		final double max
+	) {
+		return new DoubleGeneISeq(Array.of(DoubleGeneStore.of(values, min, max)).seal());
+	}
+
+	/**
+	 * Return a packed version of the given {@code genes}, if all genes have
+	 * the same range. Otherwise the given sequence is returned unchanged.
+	 *
+	 * @param genes the genes to pack
+	 * @return the packed gene sequence, if possible
+	 */
+	static ISeq<DoubleGene> pack(final Seq<? extends DoubleGene> genes) {
+		return pack(
+			genes,
+			gene -> DoubleGeneStore.of(
+				new double[genes.length()],
+				gene.getMin(),
+				gene.getMax()
+			),
+			DoubleGeneISeq::new
+		);
+	}
+
+}
+
+/**
+ * Array store for {@link DoubleGene}s with the same range.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 5.1
+ * @version 5.1
+ */
+final class DoubleGeneStore extends PackedGeneStore<DoubleGene, double[]> {
+	private static final long serialVersionUID = 1L;
+
+	final double min;
+	final double max;
+
+	// Primary constructor.
+	private DoubleGeneStore(
+		final double[] array,
+		final double min,
+		final double max
+	) {
+		super(array, array.length);
+		this.min = min;
+		this.max = max;
+	}
+
+	@Override
+	public DoubleGene get(final int index) {
+		return DoubleGene.of(array[index], min, max);
+	}
+
+	@Override
+	public void set(final int index, final DoubleGene value) {
+		assert accepts(value);
+		array[index] = value.doubleValue();
+	}
+
+	@Override
+	public boolean accepts(final DoubleGene value) {
+		return Double.compare(value.getMin(), min) == 0 &&
+			Double.compare(value.getMax(), max) == 0;
+	}
+
+	@Override
+	void sort(final int from, final int until) {
+		Arrays.sort(array, from, until);
+	}
+
+	@Override
+	public DoubleGeneStore copy(final int from, final int until) {
+		return new DoubleGeneStore(
+			Arrays.copyOfRange(array, from, until),
+			min,
+			max
+		);
+	}
+
+	@Override
+	public DoubleGeneStore newInstance(final int length) {
+		return new DoubleGeneStore(new double[length], min, max);
+	}
+
+	static DoubleGeneStore of(
+		final double[] array,
+		final double min,
+		final double max
+	) {
+		return new DoubleGeneStore(array, min, max);
+	}
+
+}
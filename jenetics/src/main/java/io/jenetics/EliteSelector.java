@@ -23,6 +23,7 @@ import static java.lang.Math.max;
 import static java.lang.Math.min;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.util.reflect.isOverridden;
 
 import io.jenetics.internal.util.require;
 import io.jenetics.util.ISeq;
@@ -48,7 +49,7 @@ import io.jenetics.util.Seq;
  * }</pre>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 5.1
  * @since 4.0
  */
 public class EliteSelector<
@@ -63,6 +64,13 @@ public class EliteSelector<
 	private final Selector<G, C> _nonEliteSelector;
 	private final int _eliteCount;
 
+	// A subclass, which overrides the 'select' method, must not be bypassed
+	// when selecting from a sorted population.
+	private final boolean _selectOverridden = isOverridden(
+		getClass(), EliteSelector.class,
+		"select", Seq.class, int.class, Optimize.class
+	);
+
 	/**
 	 * Create a new elite selector with the desired number of elites to be
 	 * selected and the selector used for selecting the rest of the population.
@@ -147,6 +155,37 @@ public class EliteSelector<
 		return result;
 	}
 
+	@Override
+	public ISeq<Phenotype<G, C>> selectSorted(
+		final SortedPopulation<G, C> population,
+		final int count,
+		final Optimize opt
+	) {
+		if (_selectOverridden) {
+			return select(population.population(), count, opt);
+		}
+
+		if (count < 0) {
+			throw new IllegalArgumentException(format(
+				"Selection count must be greater or equal then zero, but was %s.",
+				count
+			));
+		}
+
+		ISeq<Phenotype<G, C>> result;
+		if (population.size() == 0 || count <= 0) {
+			result = ISeq.empty();
+		} else {
+			final int ec = min(count, _eliteCount);
+			result = ELITE_SELECTOR.selectSorted(population, ec, opt);
+			result = result.append(
+				_nonEliteSelector.selectSorted(population, max(0, count - ec), opt)
+			);
+		}
+
+		return result;
+	}
+
 	@Override
 	public String toString() {
 		return format("EliteSelector[%d, %s]", _eliteCount, _nonEliteSelector);
@@ -21,9 +21,14 @@ package io.jenetics;
 
 import static java.lang.String.format;
 import static io.jenetics.internal.math.base.clamp;
+import static io.jenetics.internal.math.random.indexes;
+import static io.jenetics.internal.math.random.nextGaussians;
+import static io.jenetics.internal.util.reflect.isOverridden;
 
 import java.util.Random;
 
+import io.jenetics.util.MSeq;
+
 /**
  * The GaussianMutator class performs the mutation of a {@link NumericGene}.
  * This mutator picks a new value based on a Gaussian distribution around the
@@ -36,11 +41,18 @@ import java.util.Random;
  * >
  * </p>
  * The new value will be cropped to the gene's boundaries.
- *
+ * <p>
+ * The Gaussian values for all mutated genes of a chromosome are created in
+ * one bulk call, which uses the fast, non-synchronized Ziggurat
+ * implementation of the {@link io.jenetics.util.Random64} engines. The
+ * genes are then mutated with the {@link #mutate(NumericGene, double)}
+ * method. If a subclass overrides the {@link #mutate(NumericGene, Random)}
+ * method, the genes are mutated one by one with the overridden method
+ * instead.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.4
+ * @version 5.1
  */
 public class GaussianMutator<
 	G extends NumericGene<?, G>,
@@ -49,6 +61,13 @@ public class GaussianMutator<
 	extends Mutator<G, C>
 {
 
+	// Genes must be mutated one by one, if the mutate(G, Random) method has
+	// been overridden.
+	private final boolean _geneMutation = isOverridden(
+		getClass(), GaussianMutator.class,
+		"mutate", NumericGene.class, Random.class
+	);
+
 	public GaussianMutator(final double probability) {
 		super(probability);
 	}
@@ -57,14 +76,53 @@ public class GaussianMutator<
 		this(DEFAULT_ALTER_PROBABILITY);
 	}
 
+	@Override
+	protected MutatorResult<Chromosome<G>> mutate(
+		final Chromosome<G> chromosome,
+		final double p,
+		final Random random
+	) {
+		if (_geneMutation) {
+			return super.mutate(chromosome, p, random);
+		}
+
+		final MSeq<G> genes = chromosome.toSeq().copy();
+		final int[] mutations = indexes(random, genes.length(), p).toArray();
+
+		final double[] gaussians = new double[mutations.length];
+		nextGaussians(gaussians, random);
+		for (int i = 0; i < mutations.length; ++i) {
+			genes.set(mutations[i], mutate(genes.get(mutations[i]), gaussians[i]));
+		}
+
+		return MutatorResult.of(
+			chromosome.newInstance(genes.toISeq()),
+			mutations.length
+		);
+	}
+
 	@Override
 	protected G mutate(final G gene, final Random random) {
+		return mutate(gene, random.nextGaussian());
+	}
+
+	/**
+	 * Mutates the given gene with the given, normally distributed random
+	 * value.
+	 *
+	 * @since 5.1
+	 *
+	 * @param gene the gene to mutate
+	 * @param gaussian the normally distributed random value, with mean 0.0
+	 *        and standard deviation 1.0
+	 * @return the mutated gene
+	 */
+	protected G mutate(final G gene, final double gaussian) {
 		final double min = gene.getMin().doubleValue();
 		final double max = gene.getMax().doubleValue();
 		final double std = (max - min)*0.25;
 
 		final double value = gene.doubleValue();
-		final double gaussian = random.nextGaussian();
 		return gene.newInstance(clamp(gaussian*std + value, min, max));
 	}
 
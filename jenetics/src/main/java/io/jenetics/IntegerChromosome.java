@@ -28,15 +28,21 @@ import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Random;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import io.jenetics.internal.math.random;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
-import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
 
 /**
  * Numeric chromosome implementation which holds 32 bit integer numbers.
+ * The gene values of the chromosome are stored in one {@code int[]} array,
+ * if all genes share the same range. The {@link IntegerGene} objects are
+ * then only created on demand, e.g. when calling {@link #getGene(int)}.
  *
  * @see IntegerGene
  *
@@ -45,7 +51,7 @@ import io.jenetics.util.MSeq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz  Wilhelmstötter</a>
  * @since 2.0
- * @version 5.0
+ * @version 5.1
  */
 public class IntegerChromosome
 	extends AbstractBoundedChromosome<Integer, IntegerGene>
@@ -73,7 +79,16 @@ public class IntegerChromosome
 		final ISeq<IntegerGene> genes,
 		final IntRange lengthRange
 	) {
-		super(genes, lengthRange);
+		super(IntegerGeneISeq.pack(genes), lengthRange);
+	}
+
+	private IntegerChromosome(
+		final int[] values,
+		final int min,
+		final int max,
+		final IntRange lengthRange
+	) {
+		super(IntegerGeneISeq.of(values, min, max), lengthRange);
 	}
 
 	@Override
@@ -95,7 +110,16 @@ public class IntegerChromosome
 	 * @return a sequential stream of alleles
 	 */
 	public IntStream intStream() {
-		return IntStream.range(0, length()).map(this::intValue);
+		return _genes instanceof IntegerGeneISeq
+			? Arrays.stream(((IntegerGeneISeq)_genes).values())
+			: IntStream.range(0, length()).map(this::intValue);
+	}
+
+	@Override
+	public int intValue(final int index) {
+		return _genes instanceof IntegerGeneISeq
+			? ((IntegerGeneISeq)_genes).values()[index]
+			: getGene(index).intValue();
 	}
 
 	/**
@@ -114,8 +138,13 @@ public class IntegerChromosome
 	 */
 	public int[] toArray(final int[] array) {
 		final int[] a = array.length >= length() ? array : new int[length()];
-		for (int i = length(); --i >= 0;) {
-			a[i] = intValue(i);
+		if (_genes instanceof IntegerGeneISeq) {
+			final int[] values = ((IntegerGeneISeq)_genes).values();
+			System.arraycopy(values, 0, a, 0, values.length);
+		} else {
+			for (int i = length(); --i >= 0;) {
+				a[i] = intValue(i);
+			}
 		}
 
 		return a;
@@ -189,8 +218,13 @@ public class IntegerChromosome
 		final int max,
 		final IntRange lengthRange
 	) {
-		final ISeq<IntegerGene> values = IntegerGene.seq(min, max, lengthRange);
-		return new IntegerChromosome(values, lengthRange);
+		final Random r = RandomRegistry.getRandom();
+		final int[] values = new int[random.nextInt(lengthRange, r)];
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = IntegerGene.nextInt(r, min, max);
+		}
+
+		return new IntegerChromosome(values, min, max, lengthRange);
 	}
 
 	/**
@@ -305,12 +339,12 @@ public class IntegerChromosome
 		final int min = readInt(in);
 		final int max = readInt(in);
 
-		final MSeq<IntegerGene> values = MSeq.ofLength(length);
+		final int[] values = new int[length];
 		for (int i = 0; i < length; ++i) {
-			values.set(i, IntegerGene.of(readInt(in), min, max));
+			values[i] = readInt(in);
 		}
 
-		return new IntegerChromosome(values.toISeq(), lengthRange);
+		return new IntegerChromosome(values, min, max, lengthRange);
 	}
 
 }
@@ -0,0 +1,199 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.Arrays;
+
+import io.jenetics.internal.collection.Array;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Mutable {@link IntegerGene} sequence, which stores the gene values in one
+ * {@code int[]} array. All genes of the sequence share the same range.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 5.1
+ * @version 5.1
+ */
+final class IntegerGeneMSeq extends PackedGeneMSeq<IntegerGene, int[]> {
+
+	private static final long serialVersionUID = 1L;
+
+	// Primary constructor.
+	private IntegerGeneMSeq(final Array<IntegerGene> array) {
+		super(array);
+	}
+
+	@Override
+	IntegerGeneMSeq newMSeq(final Array<IntegerGene> array) {
+		return new IntegerGeneMSeq(array);
+	}
+
+	@Override
+	IntegerGeneISeq newISeq(final Array<IntegerGene> array) {
+		return new IntegerGeneISeq(array);
+	}
+
+	static IntegerGeneMSeq of(
+		final int[] values,
+		final int min,
+		final int max
+	) {
+		return new IntegerGeneMSeq(Array.of(IntegerGeneStore.of(values, min, max)));
+	}
+
+	static IntegerGeneMSeq of(final Array<IntegerGene> array) {
+		return new IntegerGeneMSeq(array);
+	}
+
+	/**
+	 * Return {@code true} if the given sequence is a packed
+	 * {@code IntegerGeneMSeq}.
+	 *
+	 * @param seq the sequence to test
+	 * @return {@code true} if the given sequence is a packed
+	 *         {@code IntegerGeneMSeq}
+	 */
+	static boolean isPacked(final Seq<?> seq) {
+		return seq instanceof IntegerGeneMSeq && ((IntegerGeneMSeq)seq).isPacked();
+	}
+
+}
+
+/**
+ * Immutable {@link IntegerGene} sequence, which stores the gene values in one
+ * {@code int[]} array.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 5.1
+ * @version 5.1
+ */
+final class IntegerGeneISeq extends PackedGeneISeq<IntegerGene, int[]> {
+	private static final long serialVersionUID = 1L;
+
+	// Primary constructor.
+	IntegerGeneISeq(final Array<IntegerGene> array) {
+		super(array);
+	}
+
+	@Override
+	public IntegerGeneMSeq copy() {
+		return IntegerGeneMSeq.of(array.copy());
+	}
+
+	static IntegerGeneISeq of(
+		final int[] values,
+		final int min,
+		final int max
+	) {
+		return new IntegerGeneISeq(Array.of(IntegerGeneStore.of(values, min, max)).seal());
+	}
+
+	/**
+	 * Return a packed version of the given {@code genes}, if all genes have
+	 * the same range. Otherwise the given sequence is returned unchanged.
+	 *
+	 * @param genes the genes to pack
+	 * @return the packed gene sequence, if possible
+	 */
+	static ISeq<IntegerGene> pack(final Seq<? extends IntegerGene> genes) {
+		return pack(
+			genes,
+			gene -> IntegerGeneStore.of(
+				new int[genes.length()],
+				gene.getMin().intValue(),
+				gene.getMax().intValue()
+			),
+			IntegerGeneISeq::new
+		);
+	}
+
+}
+
+/**
+ * Array store for {@link IntegerGene}s with the same range.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 5.1
+ * @version 5.1
+ */
+final class IntegerGeneStore extends PackedGeneStore<IntegerGene, int[]> {
+	private static final long serialVersionUID = 1L;
+
+	final int min;
+	final int max;
+
+	// Primary constructor.
+	private IntegerGeneStore(
+		final int[] array,
+		final int min,
+		final int max
+	) {
+		super(array, array.length);
+		this.min = min;
+		this.max = max;
+	}
+
+	@Override
+	public IntegerGene get(final int index) {
+		return IntegerGene.of(array[index], min, max);
+	}
+
+	@Override
+	public void set(final int index, final IntegerGene value) {
+		assert accepts(value);
+		array[index] = value.intValue();
+	}
+
+	@Override
+	public boolean accepts(final IntegerGene value) {
+		return value.getMin().intValue() == min &&
+			value.getMax().intValue() == max;
+	}
+
+	@Override
+	void sort(final int from, final int until) {
+		Arrays.sort(array, from, until);
+	}
+
+	@Override
+	public IntegerGeneStore copy(final int from, final int until) {
+		return new IntegerGeneStore(
+			Arrays.copyOfRange(array, from, until),
+			min,
+			max
+		);
+	}
+
+	@Override
+	public IntegerGeneStore newInstance(final int length) {
+		return new IntegerGeneStore(new int[length], min, max);
+	}
+
+	static IntegerGeneStore of(
+		final int[] array,
+		final int min,
+		final int max
+	) {
+		return new IntegerGeneStore(array, min, max);
+	}
+
+}
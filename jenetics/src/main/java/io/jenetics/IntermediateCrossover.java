@@ -48,7 +48,7 @@ import io.jenetics.util.RandomRegistry;
  * @see LineCrossover
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.8
+ * @version 5.1
  * @since 3.8
  */
 public class IntermediateCrossover<
@@ -114,6 +114,15 @@ public class IntermediateCrossover<
 		final double min = v.get(0).getMin().doubleValue();
 		final double max = v.get(0).getMax().doubleValue();
 
+		if (DoubleGeneMSeq.isPacked(v) && DoubleGeneMSeq.isPacked(w)) {
+			crossover(
+				((DoubleGeneMSeq)v).values(),
+				((DoubleGeneMSeq)w).values(),
+				min, max, random
+			);
+			return 2;
+		}
+
 		for (int i = 0, n = min(v.length(), w.length()); i < n; ++i) {
 			final double vi = v.get(i).doubleValue();
 			final double wi = w.get(i).doubleValue();
@@ -134,6 +143,32 @@ public class IntermediateCrossover<
 		return 2;
 	}
 
+	// Crossover of the packed gene values, without creating gene objects.
+	private void crossover(
+		final double[] v,
+		final double[] w,
+		final double min,
+		final double max,
+		final Random random
+	) {
+		for (int i = 0, n = min(v.length, w.length); i < n; ++i) {
+			final double vi = v[i];
+			final double wi = w[i];
+
+			double t, s;
+			do {
+				final double a = nextDouble(-_p, 1 + _p, random);
+				final double b = nextDouble(-_p, 1 + _p, random);
+
+				t = a*vi + (1 - a)*wi;
+				s = b*wi + (1 - b)*vi;
+			} while (t < min || s < min || t >= max || s >= max);
+
+			v[i] = t;
+			w[i] = s;
+		}
+	}
+
 	@Override
 	public String toString() {
 		return format("%s[p=%f]", getClass().getSimpleName(), _probability);
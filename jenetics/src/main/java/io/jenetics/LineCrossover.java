@@ -47,7 +47,7 @@ import io.jenetics.util.RandomRegistry;
  * @see IntermediateCrossover
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.8
+ * @version 5.1
  * @since 3.8
  */
 public class LineCrossover<
@@ -112,21 +112,53 @@ public class LineCrossover<
 		final double b = nextDouble(-_p, 1 + _p, random);
 
 		boolean changed = false;
-		for (int i = 0, n = min(v.length(), w.length()); i < n; ++i) {
-			final double vi = v.get(i).doubleValue();
-			final double wi = w.get(i).doubleValue();
+		if (DoubleGeneMSeq.isPacked(v) && DoubleGeneMSeq.isPacked(w)) {
+			changed = crossover(
+				((DoubleGeneMSeq)v).values(),
+				((DoubleGeneMSeq)w).values(),
+				a, b, min, max
+			);
+		} else {
+			for (int i = 0, n = min(v.length(), w.length()); i < n; ++i) {
+				final double vi = v.get(i).doubleValue();
+				final double wi = w.get(i).doubleValue();
+
+				final double t = a*vi + (1 - a)*wi;
+				final double s = b*wi + (1 - b)*vi;
+
+				if (t >= min && s >= min && t < max && s < max) {
+					v.set(i, v.get(i).newInstance(t));
+					w.set(i, w.get(i).newInstance(s));
+					changed = true;
+				}
+			}
+		}
 
-			final double t = a*vi + (1 - a)*wi;
-			final double s = b*wi + (1 - b)*vi;
+		return changed ? 2 : 0;
+	}
+
+	// Crossover of the packed gene values, without creating gene objects.
+	private static boolean crossover(
+		final double[] v,
+		final double[] w,
+		final double a,
+		final double b,
+		final double min,
+		final double max
+	) {
+		boolean changed = false;
+		for (int i = 0, n = min(v.length, w.length); i < n; ++i) {
+			final double t = a*v[i] + (1 - a)*w[i];
+			final double s = b*w[i] + (1 - b)*v[i];
 
 			if (t >= min && s >= min && t < max && s < max) {
-				v.set(i, v.get(i).newInstance(t));
-				w.set(i, w.get(i).newInstance(s));
+				v[i] = t;
+				w[i] = s;
 				changed = true;
 			}
 		}
 
-		return changed ? 2 : 0;
+		return changed;
 	}
 
 	@Override
@@ -30,17 +30,23 @@ import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Random;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
+import io.jenetics.internal.math.random;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
 import io.jenetics.util.LongRange;
-import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
 
 /**
  * Numeric chromosome implementation which holds 64 bit integer numbers.
+ * The gene values of the chromosome are stored in one {@code long[]} array,
+ * if all genes share the same range. The {@link LongGene} objects are
+ * then only created on demand, e.g. when calling {@link #getGene(int)}.
  *
  * @see LongGene
  *
@@ -49,7 +55,7 @@ import io.jenetics.util.MSeq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.6
- * @version 4.3
+ * @version 5.1
  */
 public class LongChromosome
 	extends AbstractBoundedChromosome<Long, LongGene>
@@ -77,7 +83,16 @@ public class LongChromosome
 		final ISeq<LongGene> genes,
 		final IntRange lengthRange
 	) {
-		super(genes, lengthRange);
+		super(LongGeneISeq.pack(genes), lengthRange);
+	}
+
+	private LongChromosome(
+		final long[] values,
+		final long min,
+		final long max,
+		final IntRange lengthRange
+	) {
+		super(LongGeneISeq.of(values, min, max), lengthRange);
 	}
 
 	@Override
@@ -99,7 +114,16 @@ public class LongChromosome
 	 * @return a sequential stream of alleles
 	 */
 	public LongStream longStream() {
-		return IntStream.range(0, length()).mapToLong(this::longValue);
+		return _genes instanceof LongGeneISeq
+			? Arrays.stream(((LongGeneISeq)_genes).values())
+			: IntStream.range(0, length()).mapToLong(this::longValue);
+	}
+
+	@Override
+	public long longValue(final int index) {
+		return _genes instanceof LongGeneISeq
+			? ((LongGeneISeq)_genes).values()[index]
+			: getGene(index).longValue();
 	}
 
 	/**
@@ -118,8 +142,13 @@ public class LongChromosome
 	 */
 	public long[] toArray(final long[] array) {
 		final long[] a = array.length >= length() ? array : new long[length()];
-		for (int i = length(); --i >= 0;) {
-			a[i] = longValue(i);
+		if (_genes instanceof LongGeneISeq) {
+			final long[] values = ((LongGeneISeq)_genes).values();
+			System.arraycopy(values, 0, a, 0, values.length);
+		} else {
+			for (int i = length(); --i >= 0;) {
+				a[i] = longValue(i);
+			}
 		}
 
 		return a;
@@ -194,8 +223,13 @@ public class LongChromosome
 		final long max,
 		final IntRange lengthRange
 	) {
-		final ISeq<LongGene> values = LongGene.seq(min, max, lengthRange);
-		return new LongChromosome(values, lengthRange);
+		final Random r = RandomRegistry.getRandom();
+		final long[] values = new long[random.nextInt(lengthRange, r)];
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = LongGene.nextLong(r, min, max);
+		}
+
+		return new LongChromosome(values, min, max, lengthRange);
 	}
 
 	/**
@@ -312,12 +346,12 @@ public class LongChromosome
 		final long min = readLong(in);
 		final long max = readLong(in);
 
-		final MSeq<LongGene> values = MSeq.ofLength(length);
+		final long[] values = new long[length];
 		for (int i = 0; i < length; ++i) {
-			values.set(i, LongGene.of(readLong(in), min, max));
+			values[i] = readLong(in);
 		}
 
-		return new LongChromosome(values.toISeq(), lengthRange);
+		return new LongChromosome(values, min, max, lengthRange);
 	}
 
 }
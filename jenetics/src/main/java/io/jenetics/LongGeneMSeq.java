@@ -0,0 +1,199 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.Arrays;
+
+import io.jenetics.internal.collection.Array;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Mutable {@link LongGene} sequence, which stores the gene values in one
+ * {@code long[]} array. All genes of the sequence share the same range.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 5.1
+ * @version 5.1
+ */
+final class LongGeneMSeq extends PackedGeneMSeq<LongGene, long[]> {
+
+	private static final long serialVersionUID = 1L;
+
+	// Primary constructor.
+	private LongGeneMSeq(final Array<LongGene> array) {
+		super(array);
+	}
+
+	@Override
+	LongGeneMSeq newMSeq(final Array<LongGene> array) {
+		return new LongGeneMSeq(array);
+	}
+
+	@Override
+	LongGeneISeq newISeq(final Array<LongGene> array) {
+		return new LongGeneISeq(array);
+	}
+
+	static LongGeneMSeq of(
+		final long[] values,
+		final long min,
+		final long max
+	) {
+		return new LongGeneMSeq(Array.of(LongGeneStore.of(values, min, max)));
+	}
+
+	static LongGeneMSeq of(final Array<LongGene> array) {
+		return new LongGeneMSeq(array);
+	}
+
+	/**
+	 * Return {@code true} if the given sequence is a packed
+	 * {@code LongGeneMSeq}.
+	 *
+	 * @param seq the sequence to test
+	 * @return {@code true} if the given sequence is a packed
+	 *         {@code LongGeneMSeq}
+	 */
+	static boolean isPacked(final Seq<?> seq) {
+		return seq instanceof LongGeneMSeq && ((LongGeneMSeq)seq).isPacked();
+	}
+
+}
+
+/**
+ * Immutable {@link LongGene} sequence, which stores the gene values in one
+ * {@code long[]} array.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 5.1
+ * @version 5.1
+ */
+final class LongGeneISeq extends PackedGeneISeq<LongGene, long[]> {
+	private static final long serialVersionUID = 1L;
+
+	// Primary constructor.
+	LongGeneISeq(final Array<LongGene> array) {
+		super(array);
+	}
+
+	@Override
+	public LongGeneMSeq copy() {
+		return LongGeneMSeq.of(array.copy());
+	}
+
+	static LongGeneISeq of(
+		final long[] values,
+		final long min,
+		final long max
+	) {
+		return new LongGeneISeq(Array.of(LongGeneStore.of(values, min, max)).seal());
+	}
+
+	/**
+	 * Return a packed version of the given {@code genes}, if all genes have
+	 * the same range. Otherwise the given sequence is returned unchanged.
+	 *
+	 * @param genes the genes to pack
+	 * @return the packed gene sequence, if possible
+	 */
+	static ISeq<LongGene> pack(final Seq<? extends LongGene> genes) {
+		return pack(
+			genes,
+			gene -> LongGeneStore.of(
+				new long[genes.length()],
+				gene.getMin().longValue(),
+				gene.getMax().longValue()
+			),
+			LongGeneISeq::new
+		);
+	}
+
+}
+
+/**
+ * Array store for {@link LongGene}s with the same range.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 5.1
+ * @version 5.1
+ */
+final class LongGeneStore extends PackedGeneStore<LongGene, long[]> {
+	private static final long serialVersionUID = 1L;
+
+	final long min;
+	final long max;
+
+	// Primary constructor.
+	private LongGeneStore(
+		final long[] array,
+		final long min,
+		final long max
+	) {
+		super(array, array.length);
+		this.min = min;
+		this.max = max;
+	}
+
+	@Override
+	public LongGene get(final int index) {
+		return LongGene.of(array[index], min, max);
+	}
+
+	@Override
+	public void set(final int index, final LongGene value) {
+		assert accepts(value);
+		array[index] = value.longValue();
+	}
+
+	@Override
+	public boolean accepts(final LongGene value) {
+		return value.getMin().longValue() == min &&
+			value.getMax().longValue() == max;
+	}
+
+	@Override
+	void sort(final int from, final int until) {
+		Arrays.sort(array, from, until);
+	}
+
+	@Override
+	public LongGeneStore copy(final int from, final int until) {
+		return new LongGeneStore(
+			Arrays.copyOfRange(array, from, until),
+			min,
+			max
+		);
+	}
+
+	@Override
+	public LongGeneStore newInstance(final int length) {
+		return new LongGeneStore(new long[length], min, max);
+	}
+
+	static LongGeneStore of(
+		final long[] array,
+		final long min,
+		final long max
+	) {
+		return new LongGeneStore(array, min, max);
+	}
+
+}
@@ -37,7 +37,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.4
+ * @version 5.1
  */
 public class MeanAlterer<
 	G extends Gene<?, G> & Mean<G>,
@@ -97,6 +97,15 @@ public class MeanAlterer<
 
 	private static <G extends Gene<?, G> & Mean<G>>
 	MSeq<G> mean(final MSeq<G> a, final Seq<G> b) {
+		if (DoubleGeneMSeq.isPacked(a) && b instanceof DoubleGeneISeq) {
+			final double[] x = ((DoubleGeneMSeq)a).values();
+			final double[] y = ((DoubleGeneISeq)b).values();
+			for (int i = x.length; --i >= 0;) {
+				x[i] = x[i] + (y[i] - x[i])/2.0;
+			}
+			return a;
+		}
+
 		for (int i = a.length(); --i >= 0;) {
 			a.set(i, a.get(i).mean(b.get(i)));
 		}
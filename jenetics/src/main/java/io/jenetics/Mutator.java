@@ -21,11 +21,14 @@ package io.jenetics;
 
 import static java.lang.Math.pow;
 import static java.lang.String.format;
+import static io.jenetics.internal.math.random.indexes;
 
 import java.util.Random;
 
 import io.jenetics.internal.math.probability;
+import io.jenetics.internal.util.bit;
 import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
 import io.jenetics.util.RandomRegistry;
 import io.jenetics.util.Seq;
 
@@ -65,7 +68,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 5.1
  */
 public class Mutator<
 	G extends Gene<?, G>,
@@ -194,16 +197,30 @@ public class Mutator<
 		final double p,
 		final Random random
 	) {
-		final int P = probability.toInt(p);
-		final ISeq<MutatorResult<G>> result = chromosome.stream()
-			.map(gene -> random.nextInt() < P
-				? MutatorResult.of(mutate(gene, random), 1)
-				: MutatorResult.of(gene))
-			.collect(ISeq.toISeq());
+		// Copying the gene sequence keeps the (packed) storage of the chromosome.
+		final MSeq<G> genes = chromosome.toSeq().copy();
+		final int[] mutations = indexes(random, genes.length(), p).toArray();
+
+		// Bit sequences collect the changed bits in a mask, which is then
+		// XOR-ed word-wise into the copied genes.
+		if (genes instanceof BitGeneMSeq) {
+			final long[] mask = bit.newWords(genes.length());
+			for (int i : mutations) {
+				final G gene = genes.get(i);
+				if (mutate(gene, random) != gene) {
+					bit.set(mask, i);
+				}
+			}
+			((BitGeneMSeq)genes).xor(mask);
+		} else {
+			for (int i : mutations) {
+				genes.set(i, mutate(genes.get(i), random));
+			}
+		}
 
 		return MutatorResult.of(
-			chromosome.newInstance(result.map(MutatorResult::getResult)),
-			result.stream().mapToInt(MutatorResult::getMutations).sum()
+			chromosome.newInstance(genes.toISeq()),
+			mutations.length
 		);
 	}
 
@@ -0,0 +1,263 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import io.jenetics.internal.collection.Array;
+import io.jenetics.internal.collection.ArrayISeq;
+import io.jenetics.internal.collection.ArrayMSeq;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Mutable sequence of numeric genes with the same range, which stores the gene
+ * values in one primitive array. The gene objects are only created on demand.
+ * If a gene with a different range is set, the sequence falls back to a
+ * generic object store and is no longer {@link #isPacked()}.
+ *
+ * @param <G> the gene type
+ * @param <A> the primitive array type of the gene values
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 5.1
+ * @version 5.1
+ */
+abstract class PackedGeneMSeq<G extends NumericGene<?, G>, A>
+	extends ArrayMSeq<G>
+{
+	private static final long serialVersionUID = 1L;
+
+	PackedGeneMSeq(final Array<G> array) {
+		super(array);
+		assert array.store() instanceof PackedGeneStore;
+		assert array.length() == array.store().length();
+	}
+
+	/**
+	 * Create a new packed sequence of the same type.
+	 *
+	 * @param array the packed gene array
+	 * @return a new packed sequence
+	 */
+	abstract PackedGeneMSeq<G, A> newMSeq(final Array<G> array);
+
+	/**
+	 * Create a new immutable, packed sequence of the same gene type.
+	 *
+	 * @param array the sealed, packed gene array
+	 * @return a new immutable, packed sequence
+	 */
+	abstract PackedGeneISeq<G, A> newISeq(final Array<G> array);
+
+	/**
+	 * Return {@code true} if the genes of this sequence are still stored in
+	 * a primitive array.
+	 *
+	 * @return {@code true} if the gene values are packed
+	 */
+	final boolean isPacked() {
+		return array.store() instanceof PackedGeneStore;
+	}
+
+	/**
+	 * Return the (writable) gene values of this sequence. This method must
+	 * only be called for {@link #isPacked()} sequences.
+	 *
+	 * @return the gene values of this sequence
+	 */
+	@SuppressWarnings("unchecked")
+	final A values() {
+		array.copyIfSealed();
+		return ((PackedGeneStore<G, A>)array.store()).array;
+	}
+
+	@Override
+	public MSeq<G> copy() {
+		return isPacked()
+			? newMSeq(array.copy())
+			: new ArrayMSeq<>(array.copy());
+	}
+
+	@Override
+	public ISeq<G> toISeq() {
+		return isPacked()
+			? newISeq(array.seal())
+			: new ArrayISeq<>(array.seal());
+	}
+
+}
+
+/**
+ * Immutable sequence of numeric genes with the same range, which stores the
+ * gene values in one primitive array.
+ *
+ * @param <G> the gene type
+ * @param <A> the primitive array type of the gene values
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 5.1
+ * @version 5.1
+ */
+abstract class PackedGeneISeq<G extends NumericGene<?, G>, A>
+	extends ArrayISeq<G>
+{
+	private static final long serialVersionUID = 1L;
+
+	PackedGeneISeq(final Array<G> array) {
+		super(array);
+		assert array.store() instanceof PackedGeneStore;
+		assert array.length() == array.store().length();
+	}
+
+	/**
+	 * Return the gene values of this sequence. The returned array must not be
+	 * changed.
+	 *
+	 * @return the gene values of this sequence
+	 */
+	@SuppressWarnings("unchecked")
+	final A values() {
+		return ((PackedGeneStore<G, A>)array.store()).array;
+	}
+
+	@Override
+	public abstract PackedGeneMSeq<G, A> copy();
+
+	/**
+	 * Return a packed version of the given {@code genes}, if all genes have
+	 * the same range. Otherwise the given sequence is returned unchanged.
+	 *
+	 * @param genes the genes to pack
+	 * @param store creates an empty store, with the range of the given gene
+	 *        and the length of the {@code genes}
+	 * @param seq creates the packed sequence from the filled gene array
+	 * @param <G> the gene type
+	 * @param <A> the primitive array type of the gene values
+	 * @return the packed gene sequence, if possible
+	 */
+	static <G extends NumericGene<?, G>, A> ISeq<G> pack(
+		final Seq<? extends G> genes,
+		final Function<? super G, ? extends PackedGeneStore<G, A>> store,
+		final Function<? super Array<G>, ? extends PackedGeneISeq<G, A>> seq
+	) {
+		if (genes instanceof PackedGeneISeq) {
+			return ISeq.upcast((ISeq<? extends G>)genes);
+		}
+		if (genes instanceof PackedGeneMSeq &&
+			((PackedGeneMSeq<?, ?>)genes).isPacked())
+		{
+			return ISeq.upcast(((MSeq<? extends G>)genes).copy().toISeq());
+		}
+		if (genes.isEmpty()) {
+			return ISeq.upcast(genes.asISeq());
+		}
+
+		final PackedGeneStore<G, A> values = store.apply(genes.get(0));
+		for (int i = 0; i < genes.length(); ++i) {
+			final G gene = genes.get(i);
+			if (!values.accepts(gene)) {
+				return ISeq.upcast(genes.asISeq());
+			}
+			values.set(i, gene);
+		}
+
+		return seq.apply(Array.of(values).seal());
+	}
+
+}
+
+/**
+ * Array store for numeric genes with the same range. Implementations convert
+ * between the gene objects and the primitive gene values.
+ *
+ * @param <G> the gene type
+ * @param <A> the primitive array type of the gene values
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 5.1
+ * @version 5.1
+ */
+abstract class PackedGeneStore<G extends NumericGene<?, G>, A>
+	implements Array.Store<G>, Serializable
+{
+	private static final long serialVersionUID = 1L;
+
+	final A array;
+	private final int length;
+
+	PackedGeneStore(final A array, final int length) {
+		this.array = requireNonNull(array);
+		this.length = length;
+	}
+
+	/**
+	 * Sorts the given range of the gene values in ascending order.
+	 *
+	 * @param from the start index, inclusively
+	 * @param until the end index, exclusively
+	 */
+	abstract void sort(final int from, final int until);
+
+	/**
+	 * Only genes with the range of the store can be packed.
+	 */
+	@Override
+	public abstract boolean accepts(final G value);
+
+	@Override
+	public final void sort(
+		final int from,
+		final int until,
+		final Comparator<? super G> comparator
+	) {
+		if (comparator == null) {
+			sort(from, until);
+		} else {
+			final List<G> genes = new ArrayList<>(until - from);
+			for (int i = from; i < until; ++i) {
+				genes.add(get(i));
+			}
+			genes.sort(comparator);
+			for (int i = 0; i < genes.size(); ++i) {
+				set(from + i, genes.get(i));
+			}
+		}
+	}
+
+	@Override
+	public abstract PackedGeneStore<G, A> copy(final int from, final int until);
+
+	@Override
+	public abstract PackedGeneStore<G, A> newInstance(final int length);
+
+	@Override
+	public final int length() {
+		return length;
+	}
+
+}
@@ -25,6 +25,8 @@ import static java.util.Objects.requireNonNull;
 import static io.jenetics.internal.math.base.pow;
 import static io.jenetics.internal.math.base.ulpDistance;
 import static io.jenetics.internal.util.IndexSorter.sort;
+import static io.jenetics.internal.util.reflect.declaringClass;
+import static io.jenetics.internal.util.reflect.isOverridden;
 
 import java.util.Comparator;
 import java.util.Random;
@@ -48,11 +50,13 @@ import io.jenetics.util.Seq;
  * runtime complexity of the implemented probability selectors is
  * <i>O(n+</i>log<i>(n))</i> instead of <i>O(n<sup>2</sup>)</i> as for the naive
  * approach: <i>A binary (index) search is performed on the summed probability
- * array.</i>
+ * array.</i> For big populations, the individuals are selected with an
+ * alias table instead, which needs <i>O(n)</i> time for creation and constant
+ * time for every selected individual.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 5.1
  */
 public abstract class ProbabilitySelector<
 	G extends Gene<?, G>,
@@ -62,6 +66,8 @@ public abstract class ProbabilitySelector<
 {
 	private static final int SERIAL_INDEX_THRESHOLD = 35;
 
+	private static final int ALIAS_TABLE_THRESHOLD = 250;
+
 	private static final long MAX_ULP_DISTANCE = pow(10, 10);
 
 	protected final Comparator<Phenotype<G, C>> POPULATION_COMPARATOR = (a, b) ->
@@ -70,6 +76,16 @@ public abstract class ProbabilitySelector<
 	protected final boolean _sorted;
 	protected final Function<double[], double[]> _reverter;
 
+	// A subclass, which overrides the 'select' method, must not be bypassed
+	// when selecting from a sorted population.
+	private final boolean _selectOverridden = isOverridden(
+		getClass(), ProbabilitySelector.class,
+		"select", Seq.class, int.class, Optimize.class
+	);
+
+	// True, if the selection probabilities can be calculated from the
+	// primitive fitness values of the sorted population.
+	private final boolean _numeric = isNumeric(getClass());
 
 	/**
 	 * Create a new {@code ProbabilitySelector} with the given {@code sorting}
@@ -101,32 +117,106 @@ public abstract class ProbabilitySelector<
 	) {
 		requireNonNull(population, "Population");
 		requireNonNull(opt, "Optimization");
-		if (count < 0) {
-			throw new IllegalArgumentException(format(
-				"Selection count must be greater or equal then zero, but was %s.",
-				count
-			));
-		}
-
-		final MSeq<Phenotype<G, C>> selection = MSeq
-			.ofLength(population.isEmpty() ? 0 : count);
+		checkCount(count);
 
 		if (count > 0 && !population.isEmpty()) {
 			final Seq<Phenotype<G, C>> pop = _sorted
 				? population.asISeq().copy().sort(POPULATION_COMPARATOR)
 				: population;
 
+			return selectFrom(pop, count, opt);
+		} else {
+			return ISeq.empty();
+		}
+	}
 
-			final double[] prob = probabilities(pop, count, opt);
-			assert pop.size() == prob.length
-				: "Population size and probability length are not equal.";
+	/**
+	 * Select phenotypes from the given sorted population. If the selector
+	 * calculates the selection probabilities from the numeric fitness values
+	 * only, see {@link #probabilities(double[], int)}, the probabilities are
+	 * calculated from the primitive fitness values of the sorted population,
+	 * without unboxing them. If a subclass overrides the
+	 * {@link #select(Seq, int, Optimize)} method, the overridden method is
+	 * called with the unsorted population.
+	 *
+	 * @since 5.1
+	 */
+	@Override
+	public ISeq<Phenotype<G, C>> selectSorted(
+		final SortedPopulation<G, C> population,
+		final int count,
+		final Optimize opt
+	) {
+		requireNonNull(population, "Population");
+		requireNonNull(opt, "Optimization");
+		if (_selectOverridden) {
+			return select(population.population(), count, opt);
+		}
 
-			checkAndCorrect(prob);
-			assert sum2one(prob) : "Probabilities doesn't sum to one.";
+		checkCount(count);
+
+		ISeq<Phenotype<G, C>> result = ISeq.empty();
+		if (count > 0 && population.size() > 0) {
+			if (_numeric && population.isNumeric()) {
+				final double[] prob = probabilities(
+					population.doubleStream().toArray(),
+					count
+				);
+
+				result = selectFrom(
+					population.sorted(Optimize.MAXIMUM),
+					opt == Optimize.MINIMUM ? array.revert(prob) : prob,
+					count
+				);
+			} else {
+				final Seq<Phenotype<G, C>> pop = _sorted
+					? population.sorted(Optimize.MAXIMUM)
+					: population.population();
+
+				result = selectFrom(pop, count, opt);
+			}
+		}
 
-			incremental(prob);
+		return result;
+	}
+
+	private static void checkCount(final int count) {
+		if (count < 0) {
+			throw new IllegalArgumentException(format(
+				"Selection count must be greater or equal then zero, but was %s.",
+				count
+			));
+		}
+	}
+
+	// Selects from the given population, which is sorted in descending order
+	// if the selector is a sorting selector.
+	private ISeq<Phenotype<G, C>> selectFrom(
+		final Seq<Phenotype<G, C>> pop,
+		final int count,
+		final Optimize opt
+	) {
+		return selectFrom(pop, probabilities(pop, count, opt), count);
+	}
 
-			final Random random = RandomRegistry.getRandom();
+	private ISeq<Phenotype<G, C>> selectFrom(
+		final Seq<Phenotype<G, C>> pop,
+		final double[] prob,
+		final int count
+	) {
+		assert pop.size() == prob.length
+			: "Population size and probability length are not equal.";
+
+		checkAndCorrect(prob);
+		assert sum2one(prob) : "Probabilities doesn't sum to one.";
+
+		final MSeq<Phenotype<G, C>> selection = MSeq.ofLength(count);
+		final Random random = RandomRegistry.getRandom();
+		if (prob.length > ALIAS_TABLE_THRESHOLD) {
+			final AliasTable table = AliasTable.of(prob);
+			selection.fill(() -> pop.get(table.indexOf(random.nextDouble())));
+		} else {
+			incremental(prob);
 			selection.fill(() -> pop.get(indexOf(prob, random.nextDouble())));
 		}
 
@@ -193,6 +283,50 @@ public abstract class ProbabilitySelector<
 		final int count
 	);
 
+	/**
+	 * Return the selection probabilities for the given numeric fitness
+	 * values, which are sorted in <b>descending</b> order. Selectors, which
+	 * calculate the selection probabilities solely from the numeric fitness
+	 * values, can override this method. The probabilities are then calculated
+	 * from the primitive fitness values of a {@link SortedPopulation}, without
+	 * unboxing them. Like for the sorting selectors, the returned probability
+	 * array is reverted if the GA is supposed to minimize the fitness
+	 * function. The default implementation throws an
+	 * {@link UnsupportedOperationException}.
+	 *
+	 * @since 5.1
+	 *
+	 * @param fitness the fitness values in descending order. The array may
+	 *        be reused for the returned probabilities.
+	 * @param count The number of phenotypes to select.
+	 * @return Probability array, with the length {@code fitness.length},
+	 *         which <strong>must</strong> sum to one.
+	 * @throws UnsupportedOperationException if the selector doesn't calculate
+	 *         the probabilities from the numeric fitness values
+	 */
+	protected double[] probabilities(final double[] fitness, final int count) {
+		throw new UnsupportedOperationException(format(
+			"%s doesn't support numeric fitness values.",
+			getClass().getSimpleName()
+		));
+	}
+
+	// The numeric probabilities are only used, if no subclass of the class,
+	// which implements them, overrides the 'probabilities(Seq, int)' method.
+	private static boolean isNumeric(final Class<?> type) {
+		final Class<?> numeric = declaringClass(
+			type, ProbabilitySelector.class,
+			"probabilities", double[].class, int.class
+		);
+		final Class<?> seq = declaringClass(
+			type, ProbabilitySelector.class,
+			"probabilities", Seq.class, int.class
+		);
+
+		return numeric != ProbabilitySelector.class &&
+			seq.isAssignableFrom(numeric);
+	}
+
 	/**
 	 * Checks if the given probability values are finite. If not, all values are
 	 * set to the same probability.
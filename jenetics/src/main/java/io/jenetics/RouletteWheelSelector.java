@@ -38,7 +38,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 5.0
+ * @version 5.1
  */
 public class RouletteWheelSelector<
 	G extends Gene<?, G>,
@@ -70,13 +70,27 @@ public class RouletteWheelSelector<
 			fitness[i] = population.get(i).getFitness().doubleValue();
 		}
 
+		return probabilities(fitness, count);
+	}
+
+	/**
+	 * Calculates the selection probabilities directly from the numeric
+	 * fitness values.
+	 *
+	 * @since 5.1
+	 */
+	@Override
+	protected double[] probabilities(final double[] fitness, final int count) {
+		assert fitness.length > 0 : "Population is empty.";
+		assert count > 0 : "Population to select must be greater than zero. ";
+
 		final double worst = Math.min(min(fitness), 0.0);
-		final double sum = DoubleAdder.sum(fitness) - worst*population.size();
+		final double sum = DoubleAdder.sum(fitness) - worst*fitness.length;
 
 		if (eq(sum, 0.0)) {
-			Arrays.fill(fitness, 1.0/population.size());
+			Arrays.fill(fitness, 1.0/fitness.length);
 		} else {
-			for (int i = population.size(); --i >= 0;) {
+			for (int i = fitness.length; --i >= 0;) {
 				fitness[i] = (fitness[i] - worst)/sum;
 			}
 		}
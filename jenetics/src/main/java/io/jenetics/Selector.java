@@ -40,7 +40,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 5.1
  */
 @FunctionalInterface
 public interface Selector<
@@ -67,4 +67,31 @@ public interface Selector<
 		final Optimize opt
 	);
 
+	/**
+	 * Select phenotypes from the given sorted population. The engine calls
+	 * this method with one sorted population per generation, which is shared
+	 * between the offspring- and survivors selector. Selectors which need the
+	 * individuals sorted by fitness should override this method, so that a
+	 * population is sorted at most once. The default implementation calls
+	 * {@link #select(Seq, int, Optimize)} with the unsorted population.
+	 *
+	 * @since 5.1
+	 *
+	 * @param population The sorted population to select from.
+	 * @param count The number of phenotypes to select.
+	 * @param opt Determines whether the individuals with higher fitness values
+	 *        or lower fitness values must be selected. This parameter determines
+	 *        whether the GA maximizes or minimizes the fitness function.
+	 * @return The selected phenotypes (a new Population).
+	 * @throws NullPointerException if the arguments is {@code null}.
+	 * @throws IllegalArgumentException if the select count is smaller than zero.
+	 */
+	public default ISeq<Phenotype<G, C>> selectSorted(
+		final SortedPopulation<G, C> population,
+		final int count,
+		final Optimize opt
+	) {
+		return select(population.population(), count, opt);
+	}
+
 }
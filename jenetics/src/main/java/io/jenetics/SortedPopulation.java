@@ -0,0 +1,218 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.stream.DoubleStream;
+
+import io.jenetics.internal.util.Lazy;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Immutable population, together with its individuals sorted by fitness. The
+ * population is sorted lazily and at most once, even if it is shared between
+ * several selectors, which are running concurrently. For numeric fitness
+ * types, the sorted fitness values are also available as primitive
+ * {@code double} values.
+ *
+ * @see Selector#selectSorted(SortedPopulation, int, Optimize)
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @implNote
+ * This class is immutable and thread-safe.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 5.1
+ * @since 5.1
+ */
+public final class SortedPopulation<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	private final ISeq<Phenotype<G, C>> _population;
+
+	// The individuals in descending fitness order.
+	private final Lazy<ISeq<Phenotype<G, C>>> _descending;
+
+	// The individuals in ascending fitness order.
+	private final Lazy<ISeq<Phenotype<G, C>>> _ascending;
+
+	// The descending fitness values, null for non numeric fitness types.
+	private final Lazy<double[]> _fitness;
+
+	private SortedPopulation(final ISeq<Phenotype<G, C>> population) {
+		_population = requireNonNull(population);
+		_descending = Lazy.of(this::descending);
+		_ascending = Lazy.of(this::ascending);
+		_fitness = Lazy.of(this::fitness);
+	}
+
+	// Stable sort of the population in descending fitness order.
+	private ISeq<Phenotype<G, C>> descending() {
+		final MSeq<Phenotype<G, C>> sorted = _population.copy();
+		sorted.sort((a, b) ->
+			Optimize.MAXIMUM.<C>descending()
+				.compare(a.getFitness(), b.getFitness()));
+		return sorted.toISeq();
+	}
+
+	// The ascending order is created from the descending one, without sorting
+	// the population a second time. Reversing the descending order also
+	// reverses the individuals with equal fitness, which are reversed again
+	// to restore their original order.
+	private ISeq<Phenotype<G, C>> ascending() {
+		final MSeq<Phenotype<G, C>> sorted = _descending.get().copy().reverse();
+
+		int start = 0;
+		for (int i = 1; i <= sorted.length(); ++i) {
+			if (i == sorted.length() ||
+				sorted.get(start).getFitness()
+					.compareTo(sorted.get(i).getFitness()) != 0)
+			{
+				for (int j = start, k = i - 1; j < k; ++j, --k) {
+					sorted.swap(j, k);
+				}
+				start = i;
+			}
+		}
+
+		return sorted.toISeq();
+	}
+
+	private double[] fitness() {
+		final ISeq<Phenotype<G, C>> sorted = _descending.get();
+		final double[] fitness = new double[sorted.size()];
+		for (int i = 0; i < fitness.length; ++i) {
+			final C value = sorted.get(i).getFitness();
+			if (!(value instanceof Number)) {
+				return null;
+			}
+			fitness[i] = ((Number)value).doubleValue();
+		}
+
+		return fitness;
+	}
+
+	/**
+	 * Return the population in its original order.
+	 *
+	 * @return the population in its original order
+	 */
+	public ISeq<Phenotype<G, C>> population() {
+		return _population;
+	}
+
+	/**
+	 * Return the individuals of the population, sorted from the best to the
+	 * worst fitness, as defined by the given optimization strategy. The
+	 * sorting is stable, individuals with equal fitness keep their original
+	 * order for both optimization strategies. The population is sorted only
+	 * once for both strategies.
+	 *
+	 * @param opt the optimization strategy
+	 * @return the sorted individuals, the best individual first
+	 * @throws NullPointerException if the given {@code opt} is {@code null}
+	 */
+	public ISeq<Phenotype<G, C>> sorted(final Optimize opt) {
+		return requireNonNull(opt) == Optimize.MAXIMUM
+			? _descending.get()
+			: _ascending.get();
+	}
+
+	/**
+	 * Return {@code true} if all fitness values are numbers. Only then, the
+	 * fitness values can be accessed via {@link #doubleValue(int)} and
+	 * {@link #doubleStream()}.
+	 *
+	 * @return {@code true} if the fitness values are numbers
+	 */
+	public boolean isNumeric() {
+		return _fitness.get() != null;
+	}
+
+	/**
+	 * Return the fitness value of the individual at the given {@code index},
+	 * in descending fitness order, as {@code double} value.
+	 *
+	 * @param index the index of the individual in descending fitness order
+	 * @return the fitness value of the individual at the given index
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 * @throws UnsupportedOperationException if the fitness type is not a
+	 *         {@link Number}
+	 */
+	public double doubleValue(final int index) {
+		return numeric()[index];
+	}
+
+	/**
+	 * Return the fitness values in descending order, as {@code double}
+	 * stream.
+	 *
+	 * @return the descending fitness values
+	 * @throws UnsupportedOperationException if the fitness type is not a
+	 *         {@link Number}
+	 */
+	public DoubleStream doubleStream() {
+		return Arrays.stream(numeric());
+	}
+
+	private double[] numeric() {
+		final double[] fitness = _fitness.get();
+		if (fitness == null) {
+			throw new UnsupportedOperationException(
+				"Fitness values are not numeric."
+			);
+		}
+		return fitness;
+	}
+
+	/**
+	 * Return the number of individuals.
+	 *
+	 * @return the number of individuals
+	 */
+	public int size() {
+		return _population.size();
+	}
+
+	/**
+	 * Create a new sorted population from the given <em>evaluated</em>
+	 * population. The population is sorted on demand.
+	 *
+	 * @param population the evaluated population
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new sorted population
+	 * @throws NullPointerException if the given {@code population} is
+	 *         {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	SortedPopulation<G, C> of(final Seq<Phenotype<G, C>> population) {
+		return new SortedPopulation<>(population.asISeq());
+	}
+
+}
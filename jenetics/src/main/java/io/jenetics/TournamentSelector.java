@@ -19,16 +19,19 @@
  */
 package io.jenetics;
 
+import static java.lang.Math.min;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Random;
-import java.util.stream.Stream;
+import java.util.concurrent.Executor;
 
+import io.jenetics.internal.util.Concurrency;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.MSeq;
 import io.jenetics.util.RandomRegistry;
 import io.jenetics.util.Seq;
+import io.jenetics.util.SplitRandom;
 
 /**
  * In tournament selection the best individual from a random sample of <i>s</i>
@@ -40,11 +43,22 @@ import io.jenetics.util.Seq;
  * by changing the tournament size <i>s</i> . For large values of <i>s</i>, weak
  * individuals have less chance being selected.
  *
+ * <p>
+ * Big selections are split into chunks of a fixed size. If the selector is
+ * created with an {@link Executor}, the chunks are selected concurrently.
+ * A selector created without an executor, and used by an evolution
+ * {@link io.jenetics.engine.Engine}, selects the chunks concurrently on the
+ * executor of the engine. Every chunk uses its own {@link SplitRandom},
+ * seeded in chunk order from the random engine of the calling thread. Since
+ * the chunk boundaries only depend on the selection count, the selected
+ * individuals are independent of the executor, its parallelism and the
+ * thread scheduling.
+ *
  * @see <a href="http://en.wikipedia.org/wiki/Tournament_selection">Tournament selection</a>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 5.0
+ * @version 5.1
  */
 public class TournamentSelector<
 	G extends Gene<?, G>,
@@ -53,8 +67,33 @@ public class TournamentSelector<
 	implements Selector<G, C>
 {
 
+	// The number of individuals, selected by one chunk.
+	private static final int CHUNK_SIZE = 10_000;
+
 	private final int _sampleSize;
 
+	// The executor used for big selections, or 'null' if the selector has
+	// been created without an executor.
+	private final Executor _executor;
+
+	/**
+	 * Create a tournament selector with the give sample size, which performs
+	 * big selections concurrently on the given {@code executor}. The sample
+	 * size must be greater than one.
+	 *
+	 * @since 5.1
+	 *
+	 * @param sampleSize the number of individuals involved in one tournament
+	 * @param executor the executor used for concurrent selections
+	 * @throws IllegalArgumentException if the sample size is smaller than two.
+	 * @throws NullPointerException if the given {@code executor} is
+	 *         {@code null}
+	 */
+	public TournamentSelector(final int sampleSize, final Executor executor) {
+		_sampleSize = checkSampleSize(sampleSize);
+		_executor = requireNonNull(executor);
+	}
+
 	/**
 	 * Create a tournament selector with the give sample size. The sample size
 	 * must be greater than one.
@@ -63,12 +102,8 @@ public class TournamentSelector<
 	 * @throws IllegalArgumentException if the sample size is smaller than two.
 	 */
 	public TournamentSelector(final int sampleSize) {
-		if (sampleSize < 2) {
-			throw new IllegalArgumentException(
-				"Sample size must be greater than one, but was " + sampleSize
-			);
-		}
-		_sampleSize = sampleSize;
+		_sampleSize = checkSampleSize(sampleSize);
+		_executor = null;
 	}
 
 	/**
@@ -78,6 +113,15 @@ public class TournamentSelector<
 		this(2);
 	}
 
+	private static int checkSampleSize(final int sampleSize) {
+		if (sampleSize < 2) {
+			throw new IllegalArgumentException(
+				"Sample size must be greater than one, but was " + sampleSize
+			);
+		}
+		return sampleSize;
+	}
+
 	/**
 	 * Return the sample size of the tournament selector.
 	 *
@@ -89,6 +133,31 @@ public class TournamentSelector<
 		return _sampleSize;
 	}
 
+	/**
+	 * Return a tournament selector with the same sample size, which selects
+	 * big selections concurrently on the given {@code executor}, if this
+	 * selector has been created without an executor. Otherwise, or if this
+	 * selector is an instance of a subclass, this selector is returned. The
+	 * evolution {@link io.jenetics.engine.Engine} uses this method for
+	 * splitting the tournaments of its selectors across the engine's
+	 * executor.
+	 *
+	 * @since 5.1
+	 *
+	 * @param executor the executor used for concurrent selections, if this
+	 *        selector has been created without an executor
+	 * @return a tournament selector which uses the given {@code executor}
+	 *         by default
+	 * @throws NullPointerException if the given {@code executor} is
+	 *         {@code null}
+	 */
+	public TournamentSelector<G, C> withDefaultExecutor(final Executor executor) {
+		requireNonNull(executor);
+		return _executor == null && getClass() == TournamentSelector.class
+			? new TournamentSelector<>(_sampleSize, executor)
+			: this;
+	}
+
 	@Override
 	public ISeq<Phenotype<G, C>> select(
 		final Seq<Phenotype<G, C>> population,
@@ -104,12 +173,47 @@ public class TournamentSelector<
 			));
 		}
 
+		if (population.isEmpty()) {
+			return ISeq.empty();
+		}
+
+		final MSeq<Phenotype<G, C>> selection = MSeq.ofLength(count);
 		final Random random = RandomRegistry.getRandom();
-		return population.isEmpty()
-			? ISeq.empty()
-			: MSeq.<Phenotype<G, C>>ofLength(count)
-				.fill(() -> select(population, opt, random))
-				.toISeq();
+
+		final int chunks = (count + CHUNK_SIZE - 1)/CHUNK_SIZE;
+		if (chunks > 1) {
+			final MSeq<Runnable> tasks = MSeq.ofLength(chunks);
+			for (int i = 0; i < chunks; ++i) {
+				final int from = i*CHUNK_SIZE;
+				final int until = min(from + CHUNK_SIZE, count);
+				final Random r = new SplitRandom(random.nextLong());
+
+				tasks.set(i, () ->
+					select(population, opt, r, selection, from, until));
+			}
+
+			Concurrency.executeAndWait(
+				_executor != null ? _executor : Concurrency.SERIAL_EXECUTOR,
+				tasks
+			);
+		} else {
+			select(population, opt, random, selection, 0, count);
+		}
+
+		return selection.toISeq();
+	}
+
+	private void select(
+		final Seq<Phenotype<G, C>> population,
+		final Optimize opt,
+		final Random random,
+		final MSeq<Phenotype<G, C>> selection,
+		final int from,
+		final int until
+	) {
+		for (int i = from; i < until; ++i) {
+			selection.set(i, select(population, opt, random));
+		}
 	}
 
 	private Phenotype<G, C> select(
@@ -122,10 +226,15 @@ public class TournamentSelector<
 		assert _sampleSize >= 2;
 		assert N >= 1;
 
-		return Stream.generate(() -> population.get(random.nextInt(N)))
-			.limit(_sampleSize)
-			.max(opt.ascending())
-			.orElseThrow(AssertionError::new);
+		Phenotype<G, C> winner = population.get(random.nextInt(N));
+		for (int i = 1; i < _sampleSize; ++i) {
+			final Phenotype<G, C> pt = population.get(random.nextInt(N));
+			if (opt.compare(pt, winner) > 0) {
+				winner = pt;
+			}
+		}
+
+		return winner;
 	}
 
 	@Override
@@ -39,7 +39,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 5.0
+ * @version 5.1
  */
 public final class TruncationSelector<
 	G extends Gene<?, G>,
@@ -96,31 +96,59 @@ public final class TruncationSelector<
 	) {
 		requireNonNull(population, "Population");
 		requireNonNull(opt, "Optimization");
+		checkCount(count);
+
+		if (count > 0 && !population.isEmpty()) {
+			final MSeq<Phenotype<G, C>> copy = population.asISeq().copy();
+			copy.sort((a, b) ->
+				opt.<C>descending().compare(a.getFitness(), b.getFitness()));
+
+			return select(copy, count);
+		} else {
+			return ISeq.empty();
+		}
+	}
+
+	@Override
+	public ISeq<Phenotype<G, C>> selectSorted(
+		final SortedPopulation<G, C> population,
+		final int count,
+		final Optimize opt
+	) {
+		requireNonNull(population, "Population");
+		requireNonNull(opt, "Optimization");
+		checkCount(count);
+
+		return count > 0 && population.size() > 0
+			? select(population.sorted(opt), count)
+			: ISeq.empty();
+	}
+
+	private static void checkCount(final int count) {
 		if (count < 0) {
 			throw new IllegalArgumentException(format(
 				"Selection count must be greater or equal then zero, but was %s",
 				count
 			));
 		}
+	}
 
-		final MSeq<Phenotype<G, C>> selection = MSeq
-			.ofLength(population.isEmpty() ? 0 : count);
-
-		if (count > 0 && !population.isEmpty()) {
-			final MSeq<Phenotype<G, C>> copy = population.asISeq().copy();
-			copy.sort((a, b) ->
-				opt.<C>descending().compare(a.getFitness(), b.getFitness()));
+	// Selects the 'count' best individuals from the given sorted population.
+	private ISeq<Phenotype<G, C>> select(
+		final Seq<Phenotype<G, C>> sorted,
+		final int count
+	) {
+		final MSeq<Phenotype<G, C>> selection = MSeq.ofLength(count);
 
-			int size = count;
-			do {
-				final int length = min(min(copy.size(), size), _n);
-				for (int i = 0; i < length; ++i) {
-					selection.set((count - size) + i, copy.get(i));
-				}
+		int size = count;
+		do {
+			final int length = min(min(sorted.size(), size), _n);
+			for (int i = 0; i < length; ++i) {
+				selection.set((count - size) + i, sorted.get(i));
+			}
 
-				size -= length;
-			} while (size > 0);
-		}
+			size -= length;
+		} while (size > 0);
 
 		return selection.toISeq();
 	}
@@ -22,6 +22,9 @@ package io.jenetics;
 import static java.lang.Math.min;
 import static io.jenetics.internal.math.random.indexes;
 
+import java.util.Random;
+
+import io.jenetics.internal.util.bit;
 import io.jenetics.internal.util.require;
 import io.jenetics.util.MSeq;
 import io.jenetics.util.RandomRegistry;
@@ -47,7 +50,7 @@ import io.jenetics.util.RandomRegistry;
  *     Wikipedia: Uniform crossover</a>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.7
+ * @version 5.1
  * @since 3.7
  */
 public class UniformCrossover<
@@ -111,8 +114,20 @@ public class UniformCrossover<
 
 	@Override
 	protected int crossover(final MSeq<G> that, final MSeq<G> other) {
+		final Random random = RandomRegistry.getRandom();
 		final int length = min(that.length(), other.length());
-		return (int)indexes(RandomRegistry.getRandom(), length, _swapProbability)
+
+		// Bit sequences are swapped word-wise, with a mask of the swap indexes.
+		if (that instanceof BitGeneMSeq && other instanceof BitGeneMSeq) {
+			final long[] mask = bit.newWords(length);
+			indexes(random, length, _swapProbability)
+				.forEach(i -> bit.set(mask, i));
+
+			((BitGeneMSeq)that).swap((BitGeneMSeq)other, mask);
+			return bit.count(mask);
+		}
+
+		return (int)indexes(random, length, _swapProbability)
 			.peek(i -> that.swap(i, other))
 			.count();
 	}
@@ -0,0 +1,387 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.internal.util.require;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Evaluator decorator, which caches the fitness values of already evaluated
+ * genotypes. The cache is keyed by the {@link Genotype#equals(Object)} and
+ * {@link Genotype#hashCode()} methods and bounded by a maximal size.
+ * Identical genotypes within one {@link #eval(Seq)} call are evaluated only
+ * once, which means that every distinct, not cached genotype reaches the
+ * decorated evaluator exactly once.
+ *
+ * <pre>{@code
+ * final CachedEvaluator<DoubleGene, Double> evaluator = Evaluators.cached(
+ *     Evaluators.concurrent(fitness, executor),
+ *     10_000,
+ *     CachedEvaluator.Eviction.LRU
+ * );
+ *
+ * final Engine<DoubleGene, Double> engine =
+ *     new Engine.Builder<>(evaluator, genotypeFactory)
+ *         .build();
+ * }</pre>
+ *
+ * @apiNote
+ * Caching only pays off for expensive fitness functions, since the
+ * calculation of the genotype hash code and the cache lookup are not for free.
+ * The fitness function must be <em>deterministic</em>. The same genotype must
+ * always lead to the same fitness value.
+ *
+ * @see Evaluators#cached(Evaluator, int)
+ * @see Evaluators#cached(Evaluator, int, Eviction)
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 5.1
+ * @since 5.1
+ */
+public final class CachedEvaluator<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Evaluator<G, C>
+{
+
+	/**
+	 * The eviction strategy of the fitness cache.
+	 */
+	public enum Eviction {
+
+		/**
+		 * Evicts the <em>least recently used</em> cache entry.
+		 */
+		LRU,
+
+		/**
+		 * Evicts the <em>least frequently used</em> cache entry. If more
+		 * entries have the same usage frequency, the oldest one is evicted.
+		 */
+		LFU
+
+	}
+
+	private final Evaluator<G, C> _evaluator;
+	private final Cache<Genotype<G>, C> _cache;
+
+	private final AtomicLong _hits = new AtomicLong();
+	private final AtomicLong _misses = new AtomicLong();
+
+	CachedEvaluator(
+		final Evaluator<G, C> evaluator,
+		final int maxSize,
+		final Eviction eviction
+	) {
+		_evaluator = requireNonNull(evaluator);
+		require.positive(maxSize);
+		requireNonNull(eviction);
+
+		_cache = eviction == Eviction.LRU
+			? new LRUCache<>(maxSize)
+			: new LFUCache<>(maxSize);
+	}
+
+	@Override
+	public ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population) {
+		final MSeq<Phenotype<G, C>> result = MSeq.of(population);
+
+		// Genotypes which must be evaluated, with their population indexes.
+		final Map<Genotype<G>, List<Integer>> missed = new LinkedHashMap<>();
+		long hits = 0;
+
+		synchronized (_cache) {
+			for (int i = 0, n = result.size(); i < n; ++i) {
+				final Phenotype<G, C> pt = result.get(i);
+				if (pt.nonEvaluated()) {
+					final C fitness = _cache.get(pt.getGenotype());
+					if (fitness != null) {
+						result.set(i, pt.withFitness(fitness));
+						++hits;
+					} else {
+						missed
+							.computeIfAbsent(pt.getGenotype(), gt -> new ArrayList<>())
+							.add(i);
+					}
+				}
+			}
+		}
+
+		if (!missed.isEmpty()) {
+			final ISeq<Phenotype<G, C>> evaluate = missed.values().stream()
+				.map(indexes -> result.get(indexes.get(0)))
+				.collect(ISeq.toISeq());
+
+			final ISeq<Phenotype<G, C>> evaluated = _evaluator.eval(evaluate);
+
+			synchronized (_cache) {
+				for (Phenotype<G, C> pt : evaluated) {
+					final List<Integer> indexes = missed.get(pt.getGenotype());
+					if (indexes != null) {
+						for (int index : indexes) {
+							result.set(index, result.get(index)
+								.withFitness(pt.getFitness()));
+						}
+						_cache.put(pt.getGenotype(), pt.getFitness());
+					}
+				}
+			}
+
+			hits += missed.values().stream().mapToInt(l -> l.size() - 1).sum();
+			_misses.addAndGet(missed.size());
+		}
+		_hits.addAndGet(hits);
+
+		return result.toISeq();
+	}
+
+	/**
+	 * Return the number of phenotypes whose fitness value was taken from the
+	 * cache, or from an identical genotype evaluated within the same
+	 * {@link #eval(Seq)} call.
+	 *
+	 * @return the number of cache hits
+	 */
+	public long getHitCount() {
+		return _hits.get();
+	}
+
+	/**
+	 * Return the number of genotypes which has been evaluated by the
+	 * decorated evaluator.
+	 *
+	 * @return the number of cache misses
+	 */
+	public long getMissCount() {
+		return _misses.get();
+	}
+
+	/**
+	 * Return the number of cache entries evicted so far.
+	 *
+	 * @return the number of evicted cache entries
+	 */
+	public long getEvictionCount() {
+		synchronized (_cache) {
+			return _cache.evictions();
+		}
+	}
+
+	/**
+	 * Return the current number of cached fitness values.
+	 *
+	 * @return the current cache size
+	 */
+	public int size() {
+		synchronized (_cache) {
+			return _cache.size();
+		}
+	}
+
+	/**
+	 * Return the maximal number of cached fitness values.
+	 *
+	 * @return the maximal cache size
+	 */
+	public int getMaxSize() {
+		return _cache.maxSize();
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+			"CachedEvaluator[size=%d, hits=%d, misses=%d, evictions=%d]",
+			size(), getHitCount(), getMissCount(), getEvictionCount()
+		);
+	}
+
+
+	/* *************************************************************************
+	 * Cache implementations. The caches are not thread-safe.
+	 * ************************************************************************/
+
+	private interface Cache<K, V> {
+		V get(final K key);
+		void put(final K key, final V value);
+		int size();
+		int maxSize();
+		long evictions();
+	}
+
+	private static final class LRUCache<K, V> implements Cache<K, V> {
+		private final int _maxSize;
+		private final Map<K, V> _map;
+		private long _evictions = 0;
+
+		LRUCache(final int maxSize) {
+			_maxSize = maxSize;
+			_map = new LinkedHashMap<K, V>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(final Map.Entry<K, V> e) {
+					final boolean remove = size() > _maxSize;
+					if (remove) {
+						++_evictions;
+					}
+					return remove;
+				}
+			};
+		}
+
+		@Override
+		public V get(final K key) {
+			return _map.get(key);
+		}
+
+		@Override
+		public void put(final K key, final V value) {
+			_map.put(key, value);
+		}
+
+		@Override
+		public int size() {
+			return _map.size();
+		}
+
+		@Override
+		public int maxSize() {
+			return _maxSize;
+		}
+
+		@Override
+		public long evictions() {
+			return _evictions;
+		}
+	}
+
+	private static final class LFUCache<K, V> implements Cache<K, V> {
+
+		private static final class Entry<V> {
+			V value;
+			int frequency = 1;
+
+			Entry(final V value) {
+				this.value = value;
+			}
+		}
+
+		private final int _maxSize;
+		private final Map<K, Entry<V>> _entries = new HashMap<>();
+		private final Map<Integer, LinkedHashSet<K>> _frequencies = new HashMap<>();
+		private int _minFrequency = 1;
+		private long _evictions = 0;
+
+		LFUCache(final int maxSize) {
+			_maxSize = maxSize;
+		}
+
+		@Override
+		public V get(final K key) {
+			final Entry<V> entry = _entries.get(key);
+			if (entry != null) {
+				touch(key, entry);
+				return entry.value;
+			}
+			return null;
+		}
+
+		private void touch(final K key, final Entry<V> entry) {
+			final LinkedHashSet<K> keys = _frequencies.get(entry.frequency);
+			keys.remove(key);
+			if (keys.isEmpty()) {
+				_frequencies.remove(entry.frequency);
+				if (_minFrequency == entry.frequency) {
+					++_minFrequency;
+				}
+			}
+
+			++entry.frequency;
+			_frequencies
+				.computeIfAbsent(entry.frequency, f -> new LinkedHashSet<>())
+				.add(key);
+		}
+
+		@Override
+		public void put(final K key, final V value) {
+			final Entry<V> entry = _entries.get(key);
+			if (entry != null) {
+				entry.value = value;
+				touch(key, entry);
+			} else {
+				if (_entries.size() >= _maxSize) {
+					evict();
+				}
+
+				_entries.put(key, new Entry<>(value));
+				_frequencies
+					.computeIfAbsent(1, f -> new LinkedHashSet<>())
+					.add(key);
+				_minFrequency = 1;
+			}
+		}
+
+		private void evict() {
+			final LinkedHashSet<K> keys = _frequencies.get(_minFrequency);
+			final K key = keys.iterator().next();
+			keys.remove(key);
+			if (keys.isEmpty()) {
+				_frequencies.remove(_minFrequency);
+			}
+			_entries.remove(key);
+			++_evictions;
+		}
+
+		@Override
+		public int size() {
+			return _entries.size();
+		}
+
+		@Override
+		public int maxSize() {
+			return _maxSize;
+		}
+
+		@Override
+		public long evictions() {
+			return _evictions;
+		}
+	}
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.Math.min;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.function.IntConsumer;
+
+import io.jenetics.internal.util.Concurrency;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.SplitRandom;
+
+/**
+ * Executes an index based task, like the creation of new individuals, in
+ * chunks of {@link #CHUNK_SIZE} indexes on a given executor. Every chunk is
+ * executed with its own random engine. The engines are seeded, in chunk
+ * order, from the random engine of the calling thread. Since the chunk
+ * boundaries only depend on the number of indexes, the result is
+ * deterministic for a seeded random engine, independent of the executor and
+ * its parallelism.
+ * <p>
+ * The calling thread takes part in the execution and only waits for chunks
+ * which have been started by other worker threads. It is therefore safe to
+ * call it from within a task of the same (bounded) executor.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 5.1
+ * @since 5.1
+ */
+final class ChunkedExecutor {
+	private ChunkedExecutor() {}
+
+	/**
+	 * The number of indexes executed by one chunk. If the number of indexes
+	 * is not greater than the chunk size, the task is executed directly
+	 * with the random engine of the calling thread.
+	 */
+	static final int CHUNK_SIZE = 64;
+
+	/**
+	 * Executes the given {@code task} for all indexes of the range
+	 * {@code [0, size)}.
+	 *
+	 * @param executor the executor used for the chunks
+	 * @param size the number of indexes
+	 * @param task the task to execute for every index
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws CancellationException if the calling thread is interrupted
+	 *         while waiting for the chunks of the other workers
+	 */
+	static void execute(
+		final Executor executor,
+		final int size,
+		final IntConsumer task
+	) {
+		requireNonNull(executor);
+		requireNonNull(task);
+
+		final int chunks = (size + CHUNK_SIZE - 1)/CHUNK_SIZE;
+		if (chunks <= 1) {
+			for (int i = 0; i < size; ++i) {
+				task.accept(i);
+			}
+		} else {
+			final Random random = RandomRegistry.getRandom();
+			final MSeq<Runnable> runnables = MSeq.ofLength(chunks);
+			for (int i = 0; i < chunks; ++i) {
+				final SplitRandom chunkRandom = new SplitRandom(random.nextLong());
+				final int start = i*CHUNK_SIZE;
+				final int end = min(start + CHUNK_SIZE, size);
+
+				runnables.set(i, () ->
+					RandomRegistry.using(chunkRandom, r -> {
+						for (int j = start; j < end; ++j) {
+							task.accept(j);
+						}
+					}));
+			}
+
+			Concurrency.executeAndWait(executor, runnables);
+		}
+	}
+
+}
@@ -60,7 +60,7 @@ import io.jenetics.util.LongRange;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.2
- * @version 4.4
+ * @version 5.1
  */
 public final class Codecs {
 
@@ -513,9 +513,7 @@ public final class Codecs {
 					.collect(ISeq.toISeq())
 			),
 			gt -> gt.stream()
-				.map(ch -> ch.stream()
-					.mapToInt(IntegerGene::intValue)
-					.toArray())
+				.map(ch -> ch.as(IntegerChromosome.class).toArray())
 				.toArray(int[][]::new)
 		);
 	}
@@ -551,9 +549,7 @@ public final class Codecs {
 					.collect(ISeq.toISeq())
 			),
 			gt -> gt.stream()
-				.map(ch -> ch.stream()
-					.mapToLong(LongGene::longValue)
-					.toArray())
+				.map(ch -> ch.as(LongChromosome.class).toArray())
 				.toArray(long[][]::new)
 		);
 	}
@@ -589,9 +585,7 @@ public final class Codecs {
 					.collect(ISeq.toISeq())
 			),
 			gt -> gt.stream()
-				.map(ch -> ch.stream()
-					.mapToDouble(DoubleGene::doubleValue)
-					.toArray())
+				.map(ch -> ch.as(DoubleChromosome.class).toArray())
 				.toArray(double[][]::new)
 		);
 	}
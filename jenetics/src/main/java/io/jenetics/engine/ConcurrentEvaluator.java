@@ -19,24 +19,34 @@
  */
 package io.jenetics.engine;
 
+import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static java.util.Objects.requireNonNull;
 
+import java.util.Random;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import io.jenetics.Gene;
 import io.jenetics.Genotype;
 import io.jenetics.Phenotype;
 import io.jenetics.internal.util.Concurrency;
 import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
 import io.jenetics.util.Seq;
+import io.jenetics.util.SplitRandom;
 
 /**
  * Default phenotype evaluation strategy. It uses the configured {@link Executor}
- * for the fitness evaluation.
+ * for the fitness evaluation. The population is split into tasks as defined
+ * by the {@link Partitioning} strategy. If the registered random engine is a
+ * {@link SplitRandom}, every individual is evaluated with its own random
+ * stream, derived from its position in the evaluated population.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 5.1
  * @since 4.2
  */
 final class ConcurrentEvaluator<
@@ -48,30 +58,75 @@ final class ConcurrentEvaluator<
 
 	private final Function<? super Genotype<G>, ? extends C> _function;
 	private final Executor _executor;
+	private final Partitioning _partitioning;
+	private final EvaluationCost _cost;
 
-	ConcurrentEvaluator(
+	private ConcurrentEvaluator(
 		final Function<? super Genotype<G>, ? extends C> function,
-		final Executor executor
+		final Executor executor,
+		final Partitioning partitioning,
+		final EvaluationCost cost
 	) {
 		_function = requireNonNull(function);
 		_executor = requireNonNull(executor);
+		_partitioning = requireNonNull(partitioning);
+		_cost = requireNonNull(cost);
+	}
+
+	ConcurrentEvaluator(
+		final Function<? super Genotype<G>, ? extends C> function,
+		final Executor executor
+	) {
+		this(function, executor, Partitioning.FIXED, new EvaluationCost());
 	}
 
+	// The derived evaluators get their own evaluation cost statistics. Every
+	// engine is created with its own evaluator and must not adapt its
+	// partitioning to the fitness costs measured by other engines.
+
 	ConcurrentEvaluator<G, C> with(final Executor executor) {
-		return new ConcurrentEvaluator<>(_function, executor);
+		return new ConcurrentEvaluator<>(
+			_function, executor, _partitioning, new EvaluationCost());
+	}
+
+	ConcurrentEvaluator<G, C> with(final Partitioning partitioning) {
+		return new ConcurrentEvaluator<>(
+			_function, _executor, partitioning, new EvaluationCost());
+	}
+
+	Partitioning getPartitioning() {
+		return _partitioning;
+	}
+
+	// Package private for testing.
+	long getEvaluationNanos() {
+		return _cost.nanos();
 	}
 
 	@Override
 	public ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population) {
-		final ISeq<PhenotypeFitness<G, C>> evaluate = population.stream()
+		final ISeq<Phenotype<G, C>> phenotypes = population.stream()
 			.filter(Phenotype::nonEvaluated)
-			.map(pt -> new PhenotypeFitness<>(pt, _function))
 			.collect(ISeq.toISeq());
 
+		final Random random = RandomRegistry.getRandom();
+		final ISeq<PhenotypeFitness<G, C>> evaluate = random instanceof SplitRandom
+			? IntStream.range(0, phenotypes.size())
+				.mapToObj(i -> new PhenotypeFitness<>(
+					phenotypes.get(i),
+					_function,
+					((SplitRandom)random).split(i)))
+				.collect(ISeq.toISeq())
+			: phenotypes.map(pt -> new PhenotypeFitness<>(pt, _function, null));
+
 		final ISeq<Phenotype<G, C>> result;
 		if (evaluate.nonEmpty()) {
-			try (Concurrency c = Concurrency.with(_executor)) {
-				c.execute(evaluate);
+			if (_partitioning == Partitioning.ADAPTIVE) {
+				execute(evaluate);
+			} else {
+				try (Concurrency c = Concurrency.with(_executor)) {
+					c.execute(evaluate);
+				}
 			}
 
 			result = evaluate.size() == population.size()
@@ -87,6 +142,50 @@ final class ConcurrentEvaluator<
 		return result;
 	}
 
+	private void execute(final ISeq<? extends Runnable> runnables) {
+		final long start = System.nanoTime();
+		final int workers;
+		try (Concurrency c = Concurrency.with(_executor)) {
+			workers = min(c.parallelism(), runnables.size());
+			c.execute(runnables, _cost.chunkSize(runnables.size(), workers));
+		}
+		_cost.update(System.nanoTime() - start, runnables.size(), workers);
+	}
+
+	/**
+	 * Keeps track of the average evaluation time of one individual, measured
+	 * over the recent generations, for adapting the number of individuals
+	 * a worker pulls at once.
+	 */
+	private static final class EvaluationCost {
+
+		// The targeted execution time of one pulled chunk, 100 µs.
+		private static final long CHUNK_NANOS = 100_000;
+
+		// The estimated evaluation time of one individual, in nanoseconds.
+		private final AtomicLong _nanos = new AtomicLong(0);
+
+		long nanos() {
+			return _nanos.get();
+		}
+
+		int chunkSize(final int size, final int workers) {
+			final long nanos = _nanos.get();
+
+			// Leave enough chunks for balancing the work between the workers.
+			final int maxChunkSize = max(1, size/(workers*4));
+			return nanos > 0
+				? (int)max(1, min(maxChunkSize, CHUNK_NANOS/nanos))
+				: 1;
+		}
+
+		void update(final long nanos, final int size, final int workers) {
+			final long cost = max(1, nanos*workers/size);
+			_nanos.updateAndGet(n -> n > 0 ? (n + cost)/2 : cost);
+		}
+
+	}
+
 
 	private static final class PhenotypeFitness<
 		G extends Gene<?, G>,
@@ -96,19 +195,25 @@ final class ConcurrentEvaluator<
 	{
 		final Phenotype<G, C> _phenotype;
 		final Function<? super Genotype<G>, ? extends C> _function;
+		final SplitRandom _random;
 		C _fitness;
 
 		PhenotypeFitness(
 			final Phenotype<G, C> phenotype,
-			final Function<? super Genotype<G>, ? extends C> function
+			final Function<? super Genotype<G>, ? extends C> function,
+			final SplitRandom random
 		) {
 			_phenotype = phenotype;
 			_function = function;
+			_random = random;
 		}
 
 		@Override
 		public void run() {
-			_fitness = _function.apply(_phenotype.getGenotype());
+			_fitness = _random != null
+				? RandomRegistry.with(_random, r ->
+					_function.apply(_phenotype.getGenotype()))
+				: _function.apply(_phenotype.getGenotype());
 		}
 
 		Phenotype<G, C> phenotype() {
@@ -28,6 +28,7 @@ import static io.jenetics.internal.util.require.probability;
 
 import java.time.Clock;
 import java.util.Objects;
+import java.util.Random;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
@@ -44,6 +45,7 @@ import io.jenetics.Mutator;
 import io.jenetics.Optimize;
 import io.jenetics.Phenotype;
 import io.jenetics.Selector;
+import io.jenetics.SortedPopulation;
 import io.jenetics.SinglePointCrossover;
 import io.jenetics.TournamentSelector;
 import io.jenetics.internal.util.require;
@@ -52,7 +54,9 @@ import io.jenetics.util.Factory;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.MSeq;
 import io.jenetics.util.NanoClock;
+import io.jenetics.util.RandomRegistry;
 import io.jenetics.util.Seq;
+import io.jenetics.util.SplitRandom;
 
 /**
  * Genetic algorithm <em>engine</em> which is the main class. The following
@@ -101,7 +105,10 @@ import io.jenetics.util.Seq;
  *     This class is thread safe:
  *     No mutable state is maintained by the engine. Therefore it is save to
  *     create multiple evolution streams with one engine, which may be actually
- *     used in different threads.
+ *     used in different threads. New individuals are created, and invalid
+ *     ones repaired, concurrently on the engine {@link Executor}, if more
+ *     than a few individuals are affected. The genotype factory and the
+ *     {@link Constraint} must therefore be thread-safe.
  *
  * @see Engine.Builder
  * @see EvolutionStart
@@ -112,7 +119,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 5.0
+ * @version 5.1
  */
 public final class Engine<
 	G extends Gene<?, G>,
@@ -123,6 +130,18 @@ public final class Engine<
 		EvolutionStreamable<G, C>
 {
 
+	// The keys of the random streams of the evolution phases.
+	private static final long INIT_PHASE = 0;
+	private static final long START_EVALUATION_PHASE = 1;
+	private static final long OFFSPRING_SELECTION_PHASE = 2;
+	private static final long SURVIVORS_SELECTION_PHASE = 3;
+	private static final long OFFSPRING_ALTER_PHASE = 4;
+	private static final long SURVIVORS_FILTER_PHASE = 5;
+	private static final long OFFSPRING_FILTER_PHASE = 6;
+	private static final long EVALUATION_PHASE = 7;
+	private static final long MAPPING_PHASE = 8;
+	private static final long MAPPED_EVALUATION_PHASE = 9;
+
 	// Problem definition.
 	private final Evaluator<G, C> _evaluator;
 	private final Factory<Genotype<G>> _genotypeFactory;
@@ -139,11 +158,19 @@ public final class Engine<
 	// Execution context for concurrent execution of evolving steps.
 	private final Executor _executor;
 	private final Clock _clock;
+	private final boolean _lean;
+	private final int _leanThreshold;
+	private final boolean _leanTiming;
 
 	// Additional parameters.
 	private final Constraint<G, C> _constraint;
 	private final UnaryOperator<EvolutionResult<G, C>> _mapper;
 
+	// The selectors actually used for the selection steps. Tournament
+	// selectors, created without an executor, are using the engine executor.
+	private final Selector<G, C> _survivorsSelection;
+	private final Selector<G, C> _offspringSelection;
+
 
 	/**
 	 * Create a new GA engine with the given parameters.
@@ -162,6 +189,10 @@ public final class Engine<
 	 * @param executor the executor used for executing the single evolve steps
 	 * @param evaluator the population fitness evaluator
 	 * @param clock the clock used for calculating the timing results
+	 * @param leanThreshold the maximal population size, up to which the
+	 *        evolution steps are executed inline on the calling thread
+	 * @param leanTiming {@code true} if the execution durations are measured
+	 *        by the lean evolution pipeline
 	 * @throws NullPointerException if one of the arguments is {@code null}
 	 * @throws IllegalArgumentException if the given integer values are smaller
 	 *         than one.
@@ -179,7 +210,9 @@ public final class Engine<
 		final long maximalPhenotypeAge,
 		final Executor executor,
 		final Clock clock,
-		final UnaryOperator<EvolutionResult<G, C>> mapper
+		final UnaryOperator<EvolutionResult<G, C>> mapper,
+		final int leanThreshold,
+		final boolean leanTiming
 	) {
 		_evaluator = requireNonNull(evaluator);
 		_genotypeFactory = requireNonNull(genotypeFactory);
@@ -196,6 +229,22 @@ public final class Engine<
 		_executor = requireNonNull(executor);
 		_clock = requireNonNull(clock);
 		_mapper = requireNonNull(mapper);
+		_leanThreshold = require.nonNegative(leanThreshold);
+		_leanTiming = leanTiming;
+		_lean = getPopulationSize() <= _leanThreshold;
+
+		_survivorsSelection = withExecutor(_survivorsSelector, _executor);
+		_offspringSelection = withExecutor(_offspringSelector, _executor);
+	}
+
+	private static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Selector<G, C> withExecutor(
+		final Selector<G, C> selector,
+		final Executor executor
+	) {
+		return selector instanceof TournamentSelector
+			? ((TournamentSelector<G, C>)selector).withDefaultExecutor(executor)
+			: selector;
 	}
 
 	/**
@@ -240,6 +289,11 @@ public final class Engine<
 	 * defined by this <em>engine</em>
 	 * <p>
 	 * <em>This method is thread-safe.</em>
+	 * <p>
+	 * If the population size of the engine doesn't exceed the
+	 * {@link Builder#lean(int)} threshold, the selection, alteration and
+	 * filter steps are executed inline on the calling thread. Otherwise they
+	 * are executed asynchronously on the engine {@link Executor}.
 	 *
 	 * @since 3.1
 	 * @see #evolve(ISeq, long)
@@ -250,19 +304,94 @@ public final class Engine<
 	 *         {@code start} is {@code null}
 	 */
 	public EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start) {
+		return _lean ? evolveLean(start) : evolveAsync(start);
+	}
+
+	// Performs the evolution steps inline, without any executor hops.
+	private EvolutionResult<G, C> evolveLean(final EvolutionStart<G, C> start) {
+		final EvolutionTiming timing = _leanTiming
+			? new EvolutionTiming(_clock)
+			: EvolutionTiming.disabled();
+		timing.evolve.start();
+
+		final Random random = RandomRegistry.getRandom();
+		final long generation = start.getGeneration();
+
+		final ISeq<Phenotype<G, C>> evaluated = timing.evaluation.timing(() ->
+			phase(random, generation, START_EVALUATION_PHASE, () ->
+				evaluate(start.getPopulation()))
+		);
+		final SortedPopulation<G, C> sorted = SortedPopulation.of(evaluated);
+
+		final ISeq<Phenotype<G, C>> offspring =
+			timing.offspringSelection.timing(() ->
+				phase(random, generation, OFFSPRING_SELECTION_PHASE, () ->
+					selectOffspring(sorted))
+			);
+		final ISeq<Phenotype<G, C>> survivors =
+			timing.survivorsSelection.timing(() ->
+				phase(random, generation, SURVIVORS_SELECTION_PHASE, () ->
+					selectSurvivors(sorted))
+			);
+
+		final AltererResult<G, C> alteredOffspring =
+			timing.offspringAlter.timing(() ->
+				phase(random, generation, OFFSPRING_ALTER_PHASE, () ->
+					_alterer.alter(offspring, generation))
+			);
+
+		final FilterResult<G, C> filteredSurvivors =
+			timing.survivorFilter.timing(() ->
+				phase(random, generation, SURVIVORS_FILTER_PHASE, () ->
+					filter(survivors, generation))
+			);
+		final FilterResult<G, C> filteredOffspring =
+			timing.offspringFilter.timing(() ->
+				phase(random, generation, OFFSPRING_FILTER_PHASE, () ->
+					filter(alteredOffspring.getPopulation(), generation))
+			);
+
+		final ISeq<Phenotype<G, C>> pop = ISeq.of(
+			filteredSurvivors.population.append(filteredOffspring.population)
+		);
+		final ISeq<Phenotype<G, C>> result = timing.evaluation.timing(() ->
+			phase(random, generation, EVALUATION_PHASE, () -> evaluate(pop))
+		);
+
+		return result(
+			start,
+			timing,
+			random,
+			result,
+			filteredOffspring.killCount + filteredSurvivors.killCount,
+			filteredOffspring.invalidCount + filteredSurvivors.invalidCount,
+			alteredOffspring.getAlterations()
+		);
+	}
+
+	// Performs the evolution steps asynchronously on the engine executor.
+	private EvolutionResult<G, C> evolveAsync(final EvolutionStart<G, C> start) {
 		final EvolutionTiming timing = new EvolutionTiming(_clock);
 		timing.evolve.start();
 
+		final Random random = RandomRegistry.getRandom();
+		final long generation = start.getGeneration();
+
 		// Initial evaluation of the population.
 		final ISeq<Phenotype<G, C>> evaluated = timing.evaluation.timing(() ->
-			evaluate(start.getPopulation())
+			phase(random, generation, START_EVALUATION_PHASE, () ->
+				evaluate(start.getPopulation()))
 		);
 
+		// The population is sorted at most once, for both selectors.
+		final SortedPopulation<G, C> sorted = SortedPopulation.of(evaluated);
+
 		// Select the offspring population.
 		final CompletableFuture<ISeq<Phenotype<G, C>>> offspring =
 			supplyAsync(() ->
 				timing.offspringSelection.timing(() ->
-					selectOffspring(evaluated)
+					phase(random, generation, OFFSPRING_SELECTION_PHASE, () ->
+						selectOffspring(sorted))
 				),
 				_executor
 			);
@@ -271,7 +400,8 @@ public final class Engine<
 		final CompletableFuture<ISeq<Phenotype<G, C>>> survivors =
 			supplyAsync(() ->
 				timing.survivorsSelection.timing(() ->
-					selectSurvivors(evaluated)
+					phase(random, generation, SURVIVORS_SELECTION_PHASE, () ->
+						selectSurvivors(sorted))
 				),
 				_executor
 			);
@@ -280,7 +410,8 @@ public final class Engine<
 		final CompletableFuture<AltererResult<G, C>> alteredOffspring =
 			offspring.thenApplyAsync(off ->
 				timing.offspringAlter.timing(() ->
-					_alterer.alter(off, start.getGeneration())
+					phase(random, generation, OFFSPRING_ALTER_PHASE, () ->
+						_alterer.alter(off, generation))
 				),
 				_executor
 			);
@@ -289,7 +420,8 @@ public final class Engine<
 		final CompletableFuture<FilterResult<G, C>> filteredSurvivors =
 			survivors.thenApplyAsync(sur ->
 				timing.survivorFilter.timing(() ->
-					filter(sur, start.getGeneration())
+					phase(random, generation, SURVIVORS_FILTER_PHASE, () ->
+						filter(sur, generation))
 				),
 				_executor
 			);
@@ -298,7 +430,8 @@ public final class Engine<
 		final CompletableFuture<FilterResult<G, C>> filteredOffspring =
 			alteredOffspring.thenApplyAsync(off ->
 				timing.offspringFilter.timing(() ->
-					filter(off.getPopulation(), start.getGeneration())
+					phase(random, generation, OFFSPRING_FILTER_PHASE, () ->
+						filter(off.getPopulation(), generation))
 				),
 				_executor
 			);
@@ -314,7 +447,7 @@ public final class Engine<
 		// Evaluate the fitness-function and wait for result.
 		final ISeq<Phenotype<G, C>> pop = population.join();
 		final ISeq<Phenotype<G, C>> result = timing.evaluation.timing(() ->
-			evaluate(pop)
+			phase(random, generation, EVALUATION_PHASE, () -> evaluate(pop))
 		);
 
 		final int killCount =
@@ -327,19 +460,46 @@ public final class Engine<
 
 		final int alterationCount = alteredOffspring.join().getAlterations();
 
-		EvolutionResult<G, C> er = EvolutionResult.of(
-			_optimize,
+		return result(
+			start,
+			timing,
+			random,
 			result,
-			start.getGeneration(),
+			killCount,
+			invalidCount,
+			alterationCount
+		);
+	}
+
+	// Creates the evolution result and applies the result mapper.
+	private EvolutionResult<G, C> result(
+		final EvolutionStart<G, C> start,
+		final EvolutionTiming timing,
+		final Random random,
+		final ISeq<Phenotype<G, C>> population,
+		final int killCount,
+		final int invalidCount,
+		final int alterationCount
+	) {
+		final long generation = start.getGeneration();
+		final EvolutionResult<G, C> evolved = EvolutionResult.of(
+			_optimize,
+			population,
+			generation,
 			timing.toDurations(),
 			killCount,
 			invalidCount,
 			alterationCount
 		);
+
+		EvolutionResult<G, C> er = evolved;
 		if (!UnaryOperator.identity().equals(_mapper)) {
-			final EvolutionResult<G, C> mapped = _mapper.apply(er);
+			final EvolutionResult<G, C> mapped =
+				phase(random, generation, MAPPING_PHASE, () ->
+					_mapper.apply(evolved));
 			er = er.with(timing.evaluation.timing(() ->
-				evaluate(mapped.getPopulation())
+				phase(random, generation, MAPPED_EVALUATION_PHASE, () ->
+					evaluate(mapped.getPopulation()))
 			));
 		}
 
@@ -347,43 +507,72 @@ public final class Engine<
 		return er.with(timing.toDurations());
 	}
 
+	// Executes the given evolution phase with its own, deterministic random
+	// stream, if the registered random engine is a SplitRandom.
+	private static <T> T phase(
+		final Random random,
+		final long generation,
+		final long phase,
+		final Supplier<? extends T> task
+	) {
+		return random instanceof SplitRandom
+			? RandomRegistry.with(
+				((SplitRandom)random).split(generation, phase),
+				r -> task.get())
+			: task.get();
+	}
+
 	// Selects the survivors population. A new population object is returned.
 	private ISeq<Phenotype<G, C>>
-	selectSurvivors(final ISeq<Phenotype<G, C>> population) {
+	selectSurvivors(final SortedPopulation<G, C> population) {
 		return _survivorsCount > 0
-			?_survivorsSelector.select(population, _survivorsCount, _optimize)
+			? _survivorsSelection.selectSorted(population, _survivorsCount, _optimize)
 			: ISeq.empty();
 	}
 
 	// Selects the offspring population. A new population object is returned.
 	private ISeq<Phenotype<G, C>>
-	selectOffspring(final ISeq<Phenotype<G, C>> population) {
+	selectOffspring(final SortedPopulation<G, C> population) {
 		return _offspringCount > 0
-			? _offspringSelector.select(population, _offspringCount, _optimize)
+			? _offspringSelection.selectSorted(population, _offspringCount, _optimize)
 			: ISeq.empty();
 	}
 
-	// Filters out invalid and old individuals. Filtering is done in place.
-	private FilterResult<G, C> filter(
+	// Filters out invalid and old individuals. The invalid individuals are
+	// repaired and the old ones are replaced by new individuals, in parallel
+	// chunks on the engine executor.
+	FilterResult<G, C> filter(
 		final Seq<Phenotype<G, C>> population,
 		final long generation
 	) {
 		int killCount = 0;
 		int invalidCount = 0;
 
+		// The indexes of the invalid individuals and the (complemented)
+		// indexes of the old individuals.
 		final MSeq<Phenotype<G, C>> pop = MSeq.of(population);
+		final int[] replace = new int[pop.size()];
 		for (int i = 0, n = pop.size(); i < n; ++i) {
 			final Phenotype<G, C> individual = pop.get(i);
 
 			if (!_constraint.test(individual)) {
-				pop.set(i, _constraint.repair(individual, generation));
+				replace[invalidCount + killCount] = i;
 				++invalidCount;
 			} else if (individual.getAge(generation) > _maximalPhenotypeAge) {
-				pop.set(i, Phenotype.of(_genotypeFactory.newInstance(), generation));
+				replace[invalidCount + killCount] = ~i;
 				++killCount;
 			}
 		}
 
+		ChunkedExecutor.execute(_executor, invalidCount + killCount, k -> {
+			final int index = replace[k];
+			if (index >= 0) {
+				pop.set(index, _constraint.repair(pop.get(index), generation));
+			} else {
+				pop.set(~index, Phenotype.of(_genotypeFactory.newInstance(), generation));
+			}
+		});
+
 		return new FilterResult<>(pop.toISeq(), killCount, invalidCount);
 	}
 
@@ -445,27 +634,35 @@ public final class Engine<
 		return stream(evolutionStart(init));
 	}
 
-	private Supplier<EvolutionStart<G, C>>
+	Supplier<EvolutionStart<G, C>>
 	evolutionStart(final Supplier<EvolutionStart<G, C>> start) {
 		return () -> {
 			final EvolutionStart<G, C> es = start.get();
 			final ISeq<Phenotype<G, C>> population = es.getPopulation();
 			final long gen = es.getGeneration();
 
-			final Stream<Phenotype<G, C>> stream = Stream.concat(
-				population.stream(),
-				_genotypeFactory.instances().map(gt -> Phenotype.of(gt, gen))
-			);
-
-			final ISeq<Phenotype<G, C>> pop = stream
-				.limit(getPopulationSize())
-				.collect(ISeq.toISeq());
+			final ISeq<Phenotype<G, C>> pop = population.size() < getPopulationSize()
+				? population.append(
+					phase(RandomRegistry.getRandom(), gen, INIT_PHASE, () ->
+						newPopulation(getPopulationSize() - population.size(), gen)))
+				: population.subSeq(0, getPopulationSize());
 
 			return EvolutionStart.of(pop, gen);
 		};
 	}
 
-	private Supplier<EvolutionStart<G, C>>
+	// Creates the given number of new individuals, in parallel chunks on the
+	// engine executor.
+	private ISeq<Phenotype<G, C>> newPopulation(final int size, final long generation) {
+		final MSeq<Phenotype<G, C>> population = MSeq.ofLength(size);
+		ChunkedExecutor.execute(_executor, size, i ->
+			population.set(i, Phenotype.of(_genotypeFactory.newInstance(), generation))
+		);
+
+		return population.toISeq();
+	}
+
+	Supplier<EvolutionStart<G, C>>
 	evolutionStart(final EvolutionInit<G> init) {
 		return evolutionStart(() -> EvolutionStart.of(
 			init.getPopulation()
@@ -500,6 +697,11 @@ public final class Engine<
 		return _constraint;
 	}
 
+	// Return the fitness evaluator of the engine.
+	Evaluator<G, C> getEvaluator() {
+		return _evaluator;
+	}
+
 	/**
 	 * Return the used survivor {@link Selector} of the GA.
 	 *
@@ -622,7 +824,12 @@ public final class Engine<
 			.constraint(_constraint)
 			.populationSize(getPopulationSize())
 			.survivorsSelector(_survivorsSelector)
-			.mapping(_mapper);
+			.partitioning(_evaluator instanceof ConcurrentEvaluator
+				? ((ConcurrentEvaluator<G, C>)_evaluator).getPartitioning()
+				: Partitioning.FIXED)
+			.mapping(_mapper)
+			.lean(_leanThreshold)
+			.leanTiming(_leanTiming);
 	}
 
 
@@ -729,7 +936,7 @@ public final class Engine<
 	 *
 	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
 	 * @since 3.0
-	 * @version 5.0
+	 * @version 5.1
 	 */
 	public static final class Builder<
 		G extends Gene<?, G>,
@@ -757,7 +964,10 @@ public final class Engine<
 
 		// Engine execution environment.
 		private Executor _executor = commonPool();
+		private Partitioning _partitioning = Partitioning.FIXED;
 		private Clock _clock = NanoClock.systemUTC();
+		private int _leanThreshold = 0;
+		private boolean _leanTiming = true;
 
 		private UnaryOperator<EvolutionResult<G, C>> _mapper = UnaryOperator.identity();
 
@@ -1038,6 +1248,26 @@ public final class Engine<
 			return this;
 		}
 
+		/**
+		 * The strategy used for splitting the population into tasks, when
+		 * evaluating the fitness function with the default (concurrent)
+		 * evaluator. <i>Default value is set to
+		 * {@link Partitioning#FIXED}.</i> This setting has no effect if a
+		 * custom {@link Evaluator} is used.
+		 *
+		 * @since 5.1
+		 *
+		 * @param partitioning the partitioning strategy of the fitness
+		 *        evaluation
+		 * @return {@code this} builder, for command chaining
+		 * @throws NullPointerException if the given {@code partitioning} is
+		 *         {@code null}
+		 */
+		public Builder<G, C> partitioning(final Partitioning partitioning) {
+			_partitioning = requireNonNull(partitioning);
+			return this;
+		}
+
 		/**
 		 * The clock used for calculating the execution durations.
 		 *
@@ -1049,6 +1279,66 @@ public final class Engine<
 			return this;
 		}
 
+		/**
+		 * Enables the <em>lean</em> evolution pipeline for engines with a
+		 * population size of at most the given {@code threshold}. The lean
+		 * pipeline executes the selection, alteration and filter steps
+		 * inline on the calling thread, instead of handing them over to the
+		 * engine {@link Executor}. For small populations and cheap fitness
+		 * functions, this avoids the overhead of the asynchronous evolution
+		 * steps. Engines with a bigger population always use the asynchronous
+		 * pipeline. <i>Default value is set to 0, which disables the lean
+		 * pipeline.</i>
+		 *
+		 * @since 5.1
+		 *
+		 * @param threshold the maximal population size of lean engines
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if the given {@code threshold} is
+		 *         negative
+		 */
+		public Builder<G, C> lean(final int threshold) {
+			if (threshold < 0) {
+				throw new IllegalArgumentException(format(
+					"Lean threshold must not be negative, but was %s.", threshold
+				));
+			}
+			_leanThreshold = threshold;
+			return this;
+		}
+
+		/**
+		 * Enables the <em>lean</em> evolution pipeline for engines with a
+		 * population size of at most 100 individuals.
+		 *
+		 * @since 5.1
+		 * @see #lean(int)
+		 *
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> lean() {
+			return lean(100);
+		}
+
+		/**
+		 * Determines whether the lean evolution pipeline measures the
+		 * execution durations of the evolution steps. If disabled, no clock
+		 * is read and the {@link EvolutionResult#getDurations()} are zero.
+		 * The asynchronous pipeline always measures the durations.
+		 * <i>Default value is set to {@code true}.</i>
+		 *
+		 * @since 5.1
+		 * @see #lean(int)
+		 *
+		 * @param timing {@code true} if the durations should be measured by
+		 *        the lean evolution pipeline
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> leanTiming(final boolean timing) {
+			_leanTiming = timing;
+			return this;
+		}
+
 		/**
 		 * The result mapper, which allows to change the evolution result after
 		 * each generation.
@@ -1079,7 +1369,9 @@ public final class Engine<
 		public Engine<G, C> build() {
 			return new Engine<>(
 				_evaluator instanceof ConcurrentEvaluator
-					? ((ConcurrentEvaluator<G, C>)_evaluator).with(_executor)
+					? ((ConcurrentEvaluator<G, C>)_evaluator)
+						.with(_executor)
+						.with(_partitioning)
 					: _evaluator,
 				_genotypeFactory,
 				_survivorsSelector,
@@ -1094,7 +1386,9 @@ public final class Engine<
 				_maximalPhenotypeAge,
 				_executor,
 				_clock,
-				_mapper
+				_mapper,
+				_leanThreshold,
+				_leanTiming
 			);
 		}
 
@@ -1139,6 +1433,42 @@ public final class Engine<
 			return _executor;
 		}
 
+		/**
+		 * Return the partitioning strategy of the concurrent fitness evaluation.
+		 *
+		 * @since 5.1
+		 *
+		 * @return the partitioning strategy of the fitness evaluation
+		 */
+		public Partitioning getPartitioning() {
+			return _partitioning;
+		}
+
+		/**
+		 * Return the population size threshold of the lean evolution pipeline.
+		 *
+		 * @since 5.1
+		 * @see #lean(int)
+		 *
+		 * @return the maximal population size of lean engines
+		 */
+		public int getLeanThreshold() {
+			return _leanThreshold;
+		}
+
+		/**
+		 * Return {@code true} if the lean evolution pipeline measures the
+		 * execution durations.
+		 *
+		 * @since 5.1
+		 * @see #leanTiming(boolean)
+		 *
+		 * @return {@code true} if the lean pipeline measures the durations
+		 */
+		public boolean isLeanTiming() {
+			return _leanTiming;
+		}
+
 		/**
 		 * Return the used genotype {@link Factory} of the GA. The genotype factory
 		 * is used for creating the initial population and new, random individuals
@@ -1251,6 +1581,7 @@ public final class Engine<
 				.alterers(_alterer)
 				.clock(_clock)
 				.executor(_executor)
+				.partitioning(_partitioning)
 				.maximalPhenotypeAge(_maximalPhenotypeAge)
 				.offspringFraction(_offspringFraction)
 				.offspringSelector(_offspringSelector)
@@ -1258,7 +1589,9 @@ public final class Engine<
 				.optimize(_optimize)
 				.populationSize(_populationSize)
 				.survivorsSelector(_survivorsSelector)
-				.mapping(_mapper);
+				.mapping(_mapper)
+				.lean(_leanThreshold)
+				.leanTiming(_leanTiming);
 		}
 
 	}
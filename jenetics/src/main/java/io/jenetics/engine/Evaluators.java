@@ -35,7 +35,7 @@ import io.jenetics.Genotype;
  * @see Evaluator
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 5.1
  * @since 5.0
  */
 public final class Evaluators {
@@ -295,4 +295,67 @@ public final class Evaluators {
 		return completable(fitness, codec.decoder());
 	}
 
+	/**
+	 * Return a new fitness evaluator, which caches the fitness values of the
+	 * evaluated genotypes. Genotypes, which are already in the cache, are not
+	 * evaluated again. The <em>least recently used</em> cache entries are
+	 * evicted, if the cache exceeds the given {@code maxSize}.
+	 *
+	 * @since 5.1
+	 *
+	 * @see #cached(Evaluator, int, CachedEvaluator.Eviction)
+	 *
+	 * @param evaluator the evaluator which performs the actual fitness
+	 *        evaluation
+	 * @param maxSize the maximal number of cached fitness values
+	 * @param <G> the gene type
+	 * @param <C> the fitness value type
+	 * @return a new caching fitness evaluator
+	 * @throws NullPointerException if the given {@code evaluator} is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the given {@code maxSize} is smaller
+	 *         than one
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	CachedEvaluator<G, C>
+	cached(final Evaluator<G, C> evaluator, final int maxSize) {
+		return cached(evaluator, maxSize, CachedEvaluator.Eviction.LRU);
+	}
+
+	/**
+	 * Return a new fitness evaluator, which caches the fitness values of the
+	 * evaluated genotypes. Genotypes, which are already in the cache, are not
+	 * evaluated again. Identical genotypes of one population are evaluated
+	 * only once.
+	 *
+	 * <pre>{@code
+	 * final CachedEvaluator<DoubleGene, Double> evaluator = Evaluators.cached(
+	 *     Evaluators.concurrent(fitness, executor),
+	 *     10_000,
+	 *     CachedEvaluator.Eviction.LFU
+	 * );
+	 * }</pre>
+	 *
+	 * @since 5.1
+	 *
+	 * @param evaluator the evaluator which performs the actual fitness
+	 *        evaluation
+	 * @param maxSize the maximal number of cached fitness values
+	 * @param eviction the eviction strategy of the cache
+	 * @param <G> the gene type
+	 * @param <C> the fitness value type
+	 * @return a new caching fitness evaluator
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the given {@code maxSize} is smaller
+	 *         than one
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	CachedEvaluator<G, C> cached(
+		final Evaluator<G, C> evaluator,
+		final int maxSize,
+		final CachedEvaluator.Eviction eviction
+	) {
+		return new CachedEvaluator<>(evaluator, maxSize, eviction);
+	}
+
 }
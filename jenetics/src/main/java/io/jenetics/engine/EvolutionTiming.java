@@ -20,10 +20,11 @@
 package io.jenetics.engine;
 
 import java.time.Clock;
+import java.util.function.Supplier;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 5.1
  * @since 5.0
  */
 final class EvolutionTiming {
@@ -36,14 +37,18 @@ final class EvolutionTiming {
 	final Timing evaluation;
 	final Timing evolve;
 
+	private EvolutionTiming(final Supplier<Timing> timing) {
+		offspringSelection = timing.get();
+		survivorsSelection = timing.get();
+		offspringAlter = timing.get();
+		offspringFilter = timing.get();
+		survivorFilter = timing.get();
+		evaluation = timing.get();
+		evolve = timing.get();
+	}
+
 	EvolutionTiming(final Clock clock) {
-		offspringSelection = Timing.of(clock);
-		survivorsSelection = Timing.of(clock);
-		offspringAlter = Timing.of(clock);
-		offspringFilter = Timing.of(clock);
-		survivorFilter = Timing.of(clock);
-		evaluation = Timing.of(clock);
-		evolve = Timing.of(clock);
+		this(() -> Timing.of(clock));
 	}
 
 
@@ -59,4 +64,14 @@ final class EvolutionTiming {
 		);
 	}
 
+	/**
+	 * Return a new evolution timing which doesn't read any clock. All
+	 * measured durations are zero.
+	 *
+	 * @return a new, disabled evolution timing
+	 */
+	static EvolutionTiming disabled() {
+		return new EvolutionTiming(Timing::disabled);
+	}
+
 }
@@ -0,0 +1,55 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+/**
+ * Defines how the population is split into tasks, when the fitness function
+ * is evaluated concurrently by the default evaluator of the {@link Engine}.
+ *
+ * @see Engine.Builder#partitioning(Partitioning)
+ * @see Evaluators#concurrent(java.util.function.Function, java.util.concurrent.Executor)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 5.1
+ * @since 5.1
+ */
+public enum Partitioning {
+
+	/**
+	 * The population is split into a fixed number of partitions, which
+	 * depends on the number of available cores. The maximal number of
+	 * individuals of one partition can be restricted (JVM-wide) with the
+	 * {@code io.jenetics.concurrency.maxBatchSize} system property. This
+	 * strategy works best, if the evaluation times of the individuals are
+	 * roughly the same.
+	 */
+	FIXED,
+
+	/**
+	 * The individuals are handed out dynamically, to one worker task per
+	 * available thread, via a shared cursor. The number of individuals a
+	 * worker pulls at once is adapted to the evaluation time per individual,
+	 * measured during the recent generations. This strategy keeps all cores
+	 * busy until the end of the evaluation, even if the evaluation times of
+	 * the individuals are very different.
+	 */
+	ADAPTIVE
+
+}
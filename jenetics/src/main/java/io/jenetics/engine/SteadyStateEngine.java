@@ -0,0 +1,398 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import io.jenetics.AltererResult;
+import io.jenetics.Gene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.SortedPopulation;
+import io.jenetics.internal.util.Concurrency;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Steady-state variant of the evolution {@link Engine}. Instead of evaluating
+ * the whole population at once, and waiting for the slowest fitness
+ * evaluation, this engine keeps a fixed number of fitness evaluations
+ * <em>in flight</em> on the {@link Engine#getExecutor()}. Every time an
+ * evaluation finishes, the evaluated individual replaces the worst individual
+ * of the population, and the selection and alteration of the next child is
+ * started immediately.
+ *
+ * <pre>{@code
+ * final Engine<DoubleGene, Double> engine = Engine
+ *     .builder(RealFunction::eval, DoubleChromosome.of(0.0, 2.0*PI))
+ *     .populationSize(500)
+ *     .optimize(Optimize.MINIMUM)
+ *     .build();
+ *
+ * final Phenotype<DoubleGene, Double> result = SteadyStateEngine.of(engine, 16)
+ *     .stream()
+ *     .limit(bySteadyFitness(7))
+ *     .limit(100)
+ *     .collect(toBestPhenotype());
+ * }</pre>
+ *
+ * The created {@link EvolutionStream} still consists of <em>generations</em>.
+ * A synthetic generation is finished after
+ * {@link Engine#getOffspringCount()} new individuals (or
+ * {@link Engine#getPopulationSize()}, if the offspring count is zero) have
+ * been inserted into the population. This allows to use the existing
+ * {@link Limits} for truncating the evolution stream. Individuals, which are
+ * still evaluated when a generation finishes, are inserted in one of the
+ * following generations.
+ * <p>
+ * The offspring selector and alterer of the given engine are used for
+ * creating the new individuals, two parents at a time. The parents are
+ * selected from the population as it was at the beginning of the synthetic
+ * generation. The survivors selector is not used, since the population is
+ * updated by a <em>replace worst</em> strategy. The age of the individuals is
+ * checked at the beginning of every synthetic generation.
+ *
+ * @implNote
+ *     The engine itself is immutable and thread-safe. The evolution state,
+ *     like the individuals currently evaluated, is kept within the created
+ *     {@link EvolutionStream}, which must not be shared between threads.
+ *     Evaluations still in flight, when the evolution stream is truncated,
+ *     will run to completion, but their results are discarded.
+ *
+ * @see Engine
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 5.1
+ * @since 5.1
+ */
+public final class SteadyStateEngine<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements EvolutionStreamable<G, C>
+{
+
+	private final Engine<G, C> _engine;
+	private final int _evaluations;
+
+	/**
+	 * Create a new steady-state engine.
+	 *
+	 * @param engine the engine which defines the problem and the evolution
+	 *        parameters
+	 * @param evaluations the number of fitness evaluations which are kept
+	 *        in flight
+	 * @throws NullPointerException if the given {@code engine} is {@code null}
+	 * @throws IllegalArgumentException if the number of {@code evaluations}
+	 *         is smaller than one
+	 */
+	SteadyStateEngine(final Engine<G, C> engine, final int evaluations) {
+		_engine = requireNonNull(engine);
+		if (evaluations < 1) {
+			throw new IllegalArgumentException(format(
+				"Number of evaluations must be greater than zero, but was %s.",
+				evaluations
+			));
+		}
+		_evaluations = evaluations;
+	}
+
+	/**
+	 * Return the engine which defines the problem and the evolution parameters.
+	 *
+	 * @return the underlying evolution engine
+	 */
+	public Engine<G, C> getEngine() {
+		return _engine;
+	}
+
+	/**
+	 * Return the number of fitness evaluations which are kept in flight.
+	 *
+	 * @return the number of concurrent fitness evaluations
+	 */
+	public int getEvaluations() {
+		return _evaluations;
+	}
+
+	@Override
+	public EvolutionStream<G, C>
+	stream(final Supplier<EvolutionStart<G, C>> start) {
+		return EvolutionStream.of(
+			_engine.evolutionStart(start),
+			new Evolution<>(_engine, _evaluations)::evolve
+		);
+	}
+
+	@Override
+	public EvolutionStream<G, C> stream(final EvolutionInit<G> init) {
+		return stream(_engine.evolutionStart(init));
+	}
+
+	/**
+	 * Create a new steady-state engine, which keeps the given number of fitness
+	 * evaluations in flight.
+	 *
+	 * @param engine the engine which defines the problem and the evolution
+	 *        parameters
+	 * @param evaluations the number of fitness evaluations which are kept
+	 *        in flight. Usually the number of available cores or threads of
+	 *        the engine's executor.
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new steady-state engine
+	 * @throws NullPointerException if the given {@code engine} is {@code null}
+	 * @throws IllegalArgumentException if the number of {@code evaluations}
+	 *         is smaller than one
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	SteadyStateEngine<G, C> of(final Engine<G, C> engine, final int evaluations) {
+		return new SteadyStateEngine<>(engine, evaluations);
+	}
+
+
+	/**
+	 * Holds the evolution state of one evolution stream.
+	 */
+	private static final class Evolution<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+		private final Engine<G, C> _engine;
+		private final int _evaluations;
+		private final Evaluator<G, C> _evaluator;
+		private final CompletionService<Phenotype<G, C>> _completion;
+
+		// The altered children, which are not submitted yet.
+		private final Deque<Phenotype<G, C>> _children = new ArrayDeque<>();
+		private int _pending = 0;
+
+		Evolution(final Engine<G, C> engine, final int evaluations) {
+			_engine = engine;
+			_evaluations = evaluations;
+			_evaluator = engine.getEvaluator() instanceof ConcurrentEvaluator
+				? ((ConcurrentEvaluator<G, C>)engine.getEvaluator())
+					.with(Concurrency.SERIAL_EXECUTOR)
+				: engine.getEvaluator();
+			_completion = new ExecutorCompletionService<>(engine.getExecutor());
+		}
+
+		EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start) {
+			final EvolutionTiming timing = new EvolutionTiming(_engine.getClock());
+			timing.evolve.start();
+
+			final long generation = start.getGeneration();
+			final Optimize optimize = _engine.getOptimize();
+
+			// Replace invalid and old individuals of the current population.
+			final FilterResult<G, C> filtered = timing.survivorFilter.timing(() ->
+				_engine.filter(start.getPopulation(), generation)
+			);
+			int killCount = filtered.killCount;
+			int invalidCount = filtered.invalidCount;
+			int alterCount = 0;
+
+			final ISeq<Phenotype<G, C>> evaluated =
+				filtered.population.forAll(Phenotype::isEvaluated)
+					? filtered.population
+					: timing.evaluation.timing(() ->
+						_engine.evaluate(filtered.population));
+
+			// The parents are selected from the population of the generation
+			// start, which is sorted at most once.
+			final SortedPopulation<G, C> parents = SortedPopulation.of(evaluated);
+			final Population<G, C> population = new Population<>(evaluated, optimize);
+
+			final int count = _engine.getOffspringCount() > 0
+				? _engine.getOffspringCount()
+				: _engine.getPopulationSize();
+
+			for (int inserted = 0; inserted < count; ++inserted) {
+				// Keep the configured number of evaluations in flight.
+				while (_pending < _evaluations) {
+					if (_children.isEmpty()) {
+						final ISeq<Phenotype<G, C>> selected =
+							timing.offspringSelection.timing(() ->
+								_engine.getOffspringSelector()
+									.selectSorted(parents, 2, optimize)
+							);
+
+						final AltererResult<G, C> altered =
+							timing.offspringAlter.timing(() ->
+								_engine.getAlterer().alter(selected, generation)
+							);
+						alterCount += altered.getAlterations();
+
+						final FilterResult<G, C> children =
+							timing.offspringFilter.timing(() ->
+								_engine.filter(altered.getPopulation(), generation)
+							);
+						killCount += children.killCount;
+						invalidCount += children.invalidCount;
+
+						children.population.forEach(_children::add);
+					}
+
+					submit(_children.removeFirst());
+				}
+
+				population.replaceWorst(timing.evaluation.timing(this::take));
+			}
+
+			EvolutionResult<G, C> er = EvolutionResult.of(
+				optimize,
+				population.toISeq(),
+				generation,
+				timing.toDurations(),
+				killCount,
+				invalidCount,
+				alterCount
+			);
+			final UnaryOperator<EvolutionResult<G, C>> mapper = _engine.getMapper();
+			if (!UnaryOperator.identity().equals(mapper)) {
+				final EvolutionResult<G, C> mapped = mapper.apply(er);
+				er = er.with(timing.evaluation.timing(() ->
+					_engine.evaluate(mapped.getPopulation())
+				));
+			}
+
+			timing.evolve.stop();
+			return er.with(timing.toDurations());
+		}
+
+		private void submit(final Phenotype<G, C> phenotype) {
+			_completion.submit(() -> phenotype.isEvaluated()
+				? phenotype
+				: _evaluator.eval(ISeq.of(phenotype)).get(0)
+			);
+			++_pending;
+		}
+
+		private Phenotype<G, C> take() {
+			try {
+				final Phenotype<G, C> phenotype = _completion.take().get();
+				--_pending;
+
+				if (phenotype.nonEvaluated()) {
+					throw new IllegalStateException(
+						"Phenotype has no assigned fitness value. " +
+						"Check your evaluator function."
+					);
+				}
+				return phenotype;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw (CancellationException)
+					new CancellationException(e.getMessage()).initCause(e);
+			} catch (ExecutionException e) {
+				throw new CompletionException(e.getCause());
+			}
+		}
+
+	}
+
+
+	/**
+	 * The population of one synthetic generation. The indexes of the
+	 * individuals are kept in a binary heap, with the worst individual at its
+	 * root. This allows to replace the worst individual in <i>O(log(n))</i>
+	 * time, without changing the order of the other individuals.
+	 */
+	private static final class Population<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+		private final MSeq<Phenotype<G, C>> _individuals;
+		private final Optimize _optimize;
+		private final int[] _heap;
+
+		Population(final Seq<Phenotype<G, C>> individuals, final Optimize optimize) {
+			_individuals = MSeq.of(individuals);
+			_optimize = optimize;
+
+			_heap = new int[_individuals.length()];
+			for (int i = 0; i < _heap.length; ++i) {
+				_heap[i] = i;
+			}
+			for (int i = _heap.length/2 - 1; i >= 0; --i) {
+				siftDown(i);
+			}
+		}
+
+		/**
+		 * Replaces the worst individual of the population with the given one.
+		 *
+		 * @param individual the new, evaluated individual
+		 */
+		void replaceWorst(final Phenotype<G, C> individual) {
+			if (_heap.length > 0) {
+				_individuals.set(_heap[0], individual);
+				siftDown(0);
+			}
+		}
+
+		ISeq<Phenotype<G, C>> toISeq() {
+			return _individuals.toISeq();
+		}
+
+		private void siftDown(final int index) {
+			int parent = index;
+			int child;
+			while ((child = 2*parent + 1) < _heap.length) {
+				if (child + 1 < _heap.length && worse(child + 1, child)) {
+					++child;
+				}
+				if (!worse(child, parent)) {
+					break;
+				}
+
+				final int temp = _heap[parent];
+				_heap[parent] = _heap[child];
+				_heap[child] = temp;
+				parent = child;
+			}
+		}
+
+		// Return true, if the individual at the heap index i is worse than
+		// the individual at the heap index j.
+		private boolean worse(final int i, final int j) {
+			return _optimize.compare(
+				_individuals.get(_heap[i]).getFitness(),
+				_individuals.get(_heap[j]).getFitness()) < 0;
+		}
+
+	}
+
+}
@@ -33,7 +33,7 @@ import io.jenetics.util.NanoClock;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 5.0
+ * @version 5.1
  */
 final class Timing {
 
@@ -123,6 +123,16 @@ final class Timing {
 		return now.getEpochSecond()*NanoClock.NANOS_PER_SECOND + now.getNano();
 	}
 
+	/**
+	 * Return a new timer object which doesn't read any clock. The measured
+	 * duration is always zero.
+	 *
+	 * @return a new, disabled timer
+	 */
+	static Timing disabled() {
+		return new Timing(() -> 0L);
+	}
+
 	/**
 	 * Return an new timer object with the default clock implementation.
 	 *
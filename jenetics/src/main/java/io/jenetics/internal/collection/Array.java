@@ -38,7 +38,7 @@ import io.jenetics.internal.collection.Array.Store.Ref;
  *
  * @param <T> the array element type
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.4
+ * @version 5.1
  * @since 3.4
  */
 public final class Array<T> implements Serializable {
@@ -385,7 +385,7 @@ public final class Array<T> implements Serializable {
 	 *
 	 * @param <T> the array element type
 	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
-	 * @version 3.4
+	 * @version 5.1
 	 * @since 3.4
 	 */
 	public interface Store<T> {
@@ -399,6 +399,23 @@ public final class Array<T> implements Serializable {
 		 */
 		public void set(final int index, final T value);
 
+		/**
+		 * Return {@code true} if the given {@code value} can be written to
+		 * this store. Stores which pack their elements, may only accept a
+		 * subset of the possible values. If a value is not accepted, the
+		 * {@link Ref} replaces the store with an {@link ObjectStore} before
+		 * writing the value.
+		 *
+		 * @since 5.1
+		 *
+		 * @param value the value to check
+		 * @return {@code true} if the given {@code value} can be written to
+		 *         this store, {@code false} otherwise
+		 */
+		public default boolean accepts(final T value) {
+			return true;
+		}
+
 		/**
 		 * Return the value at the given array {@code index}.
 		 *
@@ -473,7 +490,7 @@ public final class Array<T> implements Serializable {
 		 *
 		 * @param <T> the array element type
 		 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
-		 * @version 3.4
+		 * @version 5.1
 		 * @since 3.4
 		 */
 		public static final class Ref<T> implements Store<T> {
@@ -503,6 +520,9 @@ public final class Array<T> implements Serializable {
 			@Override
 			public void set(final int index, final T value) {
 				copyIfSealed();
+				if (!_value.accepts(value)) {
+					_value = ObjectStore.copyOf(_value);
+				}
 				_value.set(index, value);
 			}
 
@@ -30,7 +30,7 @@ import io.jenetics.internal.collection.Array.Store;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.4
+ * @version 5.1
  * @since 3.4
  */
 public final class ObjectStore<T> implements Store<T>, Serializable {
@@ -79,6 +79,23 @@ public final class ObjectStore<T> implements Store<T>, Serializable {
 		return _array.length;
 	}
 
+	/**
+	 * Return a new object store with the elements of the given {@code store}.
+	 *
+	 * @since 5.1
+	 *
+	 * @param <T> the element type
+	 * @param store the store to copy
+	 * @return a new object store with the elements of the given store
+	 */
+	public static <T> ObjectStore<T> copyOf(final Store<T> store) {
+		final Object[] array = new Object[store.length()];
+		for (int i = 0; i < array.length; ++i) {
+			array[i] = store.get(i);
+		}
+		return new ObjectStore<>(array);
+	}
+
 	public static <T> ObjectStore<T> of(final Object[] array) {
 		return new ObjectStore<>(array);
 	}
@@ -26,20 +26,29 @@ import static java.lang.Float.compare;
 import static java.lang.Float.floatToIntBits;
 import static java.lang.Float.intBitsToFloat;
 import static java.lang.Math.abs;
+import static java.lang.Math.floor;
+import static java.lang.Math.log;
+import static java.lang.Math.log1p;
+import static java.lang.Math.max;
 import static java.lang.String.format;
 import static io.jenetics.internal.util.require.probability;
 
 import java.util.Random;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
 import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 import io.jenetics.util.IntRange;
+import io.jenetics.util.Random64;
 
 /**
  * Some random helper functions.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.4
- * @version 3.0
+ * @version 5.1
  */
 public final class random {
 	private random() {}
@@ -182,6 +191,67 @@ public final class random {
 		return value;
 	}
 
+	/**
+	 * Fills the given {@code values} array with random values from the range
+	 * {@code [min, max)}. The array is filled with the same values as
+	 * consecutive calls of {@link #nextDouble(double, double, Random)}
+	 * would return. For {@link Random64} engines, the bulk
+	 * {@link Random64#nextDoubles(double[])} method is used.
+	 *
+	 * @param values the array to fill
+	 * @param min lower bound of the random values (inclusively)
+	 * @param max upper bound of the random values (exclusively)
+	 * @param random the random engine used for creating the values
+	 * @throws IllegalArgumentException if {@code min >= max}
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static void nextDoubles(
+		final double[] values,
+		final double min,
+		final double max,
+		final Random random
+	) {
+		if (compare(min, max) >= 0) {
+			throw new IllegalArgumentException(format(
+				"min >= max: %f >= %f.", min, max
+			));
+		}
+
+		if (random instanceof Random64) {
+			((Random64)random).nextDoubles(values);
+		} else {
+			for (int i = 0; i < values.length; ++i) {
+				values[i] = random.nextDouble();
+			}
+		}
+
+		final double upper = longBitsToDouble(doubleToLongBits(max) - 1);
+		for (int i = 0; i < values.length; ++i) {
+			final double value = values[i]*(max - min) + min;
+			values[i] = compare(value, max) >= 0 ? upper : value;
+		}
+	}
+
+	/**
+	 * Fills the given {@code values} array with normally distributed random
+	 * values, with mean 0.0 and standard deviation 1.0. For {@link Random64}
+	 * engines, the bulk {@link Random64#nextGaussians(double[])} method is
+	 * used.
+	 *
+	 * @param values the array to fill
+	 * @param random the random engine used for creating the values
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static void nextGaussians(final double[] values, final Random random) {
+		if (random instanceof Random64) {
+			((Random64)random).nextGaussians(values);
+		} else {
+			for (int i = 0; i < values.length; ++i) {
+				values[i] = random.nextGaussian();
+			}
+		}
+	}
+
 	public static String nextASCIIString(final int length, final Random random) {
 		final char[] chars = new char[length];
 		for (int i = 0; i < length; ++i) {
@@ -238,7 +308,11 @@ public final class random {
 
 	/**
 	 * Create an {@code IntStream} which creates random indexes within the
-	 * given range and the index probability.
+	 * given range and the index probability. For small probabilities, the
+	 * stream jumps directly to the next selected index, with geometrically
+	 * distributed gaps. This needs only one random number per selected index,
+	 * instead of one per index in the range. Both strategies select every
+	 * index independently with the given probability.
 	 *
 	 * @since 3.0
 	 *
@@ -264,8 +338,62 @@ public final class random {
 			? IntStream.empty()
 			: equals(p, 1, 1E-20)
 				? IntStream.range(start, end)
-				: IntStream.range(start, end)
-					.filter(i -> random.nextInt() < P);
+				: p < SPARSE_PROBABILITY
+					? StreamSupport.intStream(
+						new SparseIndexes(random, start, end, p), false)
+					: IntStream.range(start, end)
+						.filter(i -> random.nextInt() < P);
+	}
+
+	// Index probability, below which the sparse index sampling is used.
+	private static final double SPARSE_PROBABILITY = 0.1;
+
+	/**
+	 * Selects the indexes of a given range, by skipping geometrically
+	 * distributed gaps between the selected indexes.
+	 */
+	private static final class SparseIndexes
+		extends Spliterators.AbstractIntSpliterator
+	{
+		private final Random _random;
+		private final int _end;
+		private final double _lnq;
+
+		private int _index;
+
+		SparseIndexes(
+			final Random random,
+			final int start,
+			final int end,
+			final double p
+		) {
+			super(
+				max(end - start, 0),
+				Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL
+			);
+			_random = random;
+			_end = end;
+			_lnq = log1p(-p);
+			_index = start;
+		}
+
+		@Override
+		public boolean tryAdvance(final IntConsumer action) {
+			if (_index >= _end) {
+				return false;
+			}
+
+			// Number of skipped indexes: P(gap = k) = (1 - p)^k*p.
+			final double gap = floor(log(1.0 - _random.nextDouble())/_lnq);
+			if (gap >= _end - _index) {
+				_index = _end;
+				return false;
+			}
+
+			_index += (int)gap;
+			action.accept(_index++);
+			return true;
+		}
 	}
 
 	private static boolean
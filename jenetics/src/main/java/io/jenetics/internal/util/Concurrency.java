@@ -21,6 +21,7 @@ package io.jenetics.internal.util;
 
 import static java.lang.Math.ceil;
 import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static java.security.AccessController.doPrivileged;
 import static java.util.Objects.requireNonNull;
 
@@ -35,12 +36,14 @@ import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.jenetics.util.Seq;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.8
+ * @version 5.1
  * @since 2.0
  */
 public abstract class Concurrency implements Executor, AutoCloseable {
@@ -51,6 +54,47 @@ public abstract class Concurrency implements Executor, AutoCloseable {
 
 	public abstract void execute(final Seq<? extends Runnable> runnables);
 
+	/**
+	 * Executes the given {@code runnables} with at most {@link #parallelism()}
+	 * worker tasks. Instead of splitting the runnables into fixed partitions,
+	 * the workers are pulling chunks of the given size from a shared cursor.
+	 * This balances the work between the workers, even if the execution
+	 * times of the single runnables are very different.
+	 *
+	 * @param runnables the runnables to execute
+	 * @param chunkSize the number of runnables a worker pulls at once
+	 * @throws IllegalArgumentException if the {@code chunkSize} is smaller
+	 *         than one
+	 */
+	public void execute(
+		final Seq<? extends Runnable> runnables,
+		final int chunkSize
+	) {
+		require.positive(chunkSize);
+
+		if (runnables.nonEmpty()) {
+			final AtomicInteger cursor = new AtomicInteger();
+			final int workers = min(
+				parallelism(),
+				(runnables.size() + chunkSize - 1)/chunkSize
+			);
+
+			for (int i = 0; i < workers; ++i) {
+				execute(new RunnablesPuller(runnables, cursor, chunkSize));
+			}
+		}
+	}
+
+	/**
+	 * Return the number of tasks the underlying executor is able to execute
+	 * in parallel.
+	 *
+	 * @return the parallelism of the underlying executor
+	 */
+	public int parallelism() {
+		return CORES;
+	}
+
 	@Override
 	public abstract void close();
 
@@ -91,6 +135,47 @@ public abstract class Concurrency implements Executor, AutoCloseable {
 		return with(ForkJoinPool.commonPool());
 	}
 
+	/**
+	 * Executes the given {@code runnables} concurrently on the given
+	 * {@code executor} and waits until all of them has been executed. The
+	 * calling thread takes part in the execution and only waits for the
+	 * runnables which have been started by other worker threads. It is
+	 * therefore safe to call this method from within a task of the same
+	 * (bounded) executor. If one of the runnables fails, the runnables not
+	 * started yet are skipped and the error is rethrown.
+	 *
+	 * @since 5.1
+	 *
+	 * @param executor the executor used for the other worker threads
+	 * @param runnables the runnables to execute
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws CancellationException if the calling thread is interrupted
+	 *         while waiting for the runnables of the other workers
+	 */
+	public static void executeAndWait(
+		final Executor executor,
+		final Seq<? extends Runnable> runnables
+	) {
+		requireNonNull(executor);
+		requireNonNull(runnables);
+
+		if (runnables.size() == 1) {
+			runnables.get(0).run();
+		} else if (runnables.nonEmpty()) {
+			final RunnablesJoiner worker = new RunnablesJoiner(runnables);
+			final int parallelism;
+			try (Concurrency c = with(executor)) {
+				parallelism = c.parallelism();
+			}
+			for (int i = 1, n = min(parallelism, runnables.size()); i < n; ++i) {
+				executor.execute(worker);
+			}
+
+			worker.run();
+			worker.await();
+		}
+	}
+
 
 	/**
 	 * This Concurrency uses a ForkJoinPool.
@@ -115,6 +200,11 @@ public abstract class Concurrency implements Executor, AutoCloseable {
 			}
 		}
 
+		@Override
+		public int parallelism() {
+			return _pool.getParallelism();
+		}
+
 		@Override
 		public Executor getInnerExecutor() {
 			return _pool;
@@ -159,6 +249,14 @@ public abstract class Concurrency implements Executor, AutoCloseable {
 			}
 		}
 
+		@Override
+		public int parallelism() {
+			return _service instanceof ThreadPoolExecutor &&
+				((ThreadPoolExecutor)_service).getCorePoolSize() > 0
+					? ((ThreadPoolExecutor)_service).getCorePoolSize()
+					: CORES;
+		}
+
 		@Override
 		public Executor getInnerExecutor() {
 			return _service;
@@ -243,6 +341,11 @@ public abstract class Concurrency implements Executor, AutoCloseable {
 			runnables.forEach(Runnable::run);
 		}
 
+		@Override
+		public int parallelism() {
+			return 1;
+		}
+
 		@Override
 		public void close() {
 		}
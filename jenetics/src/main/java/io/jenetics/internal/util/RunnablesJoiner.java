@@ -0,0 +1,95 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.util;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.jenetics.util.Seq;
+
+/**
+ * Runnable which <em>pulls</em> runnables from a cursor, shared by all
+ * threads executing this worker, and allows to wait until all runnables
+ * has been executed.
+ *
+ * @see Concurrency#executeAndWait(java.util.concurrent.Executor, Seq)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 5.1
+ * @since 5.1
+ */
+final class RunnablesJoiner implements Runnable {
+
+	private final Seq<? extends Runnable> _runnables;
+
+	private final AtomicInteger _cursor = new AtomicInteger();
+	private final CountDownLatch _done;
+	private final AtomicReference<Throwable> _error = new AtomicReference<>();
+
+	RunnablesJoiner(final Seq<? extends Runnable> runnables) {
+		_runnables = runnables;
+		_done = new CountDownLatch(runnables.size());
+	}
+
+	@Override
+	public void run() {
+		int index;
+		while ((index = _cursor.getAndIncrement()) < _runnables.size()) {
+			try {
+				if (_error.get() == null) {
+					_runnables.get(index).run();
+				}
+			} catch (Throwable e) {
+				_error.compareAndSet(null, e);
+			} finally {
+				_done.countDown();
+			}
+		}
+	}
+
+	/**
+	 * Waits until all runnables has been executed and rethrows the first
+	 * error of the runnables.
+	 *
+	 * @throws CancellationException if the calling thread is interrupted
+	 *         while waiting
+	 */
+	void await() {
+		try {
+			_done.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw (CancellationException)new CancellationException(e.getMessage())
+				.initCause(e);
+		}
+
+		final Throwable error = _error.get();
+		if (error instanceof RuntimeException) {
+			throw (RuntimeException)error;
+		} else if (error instanceof Error) {
+			throw (Error)error;
+		} else if (error != null) {
+			throw new IllegalStateException(error);
+		}
+	}
+
+}
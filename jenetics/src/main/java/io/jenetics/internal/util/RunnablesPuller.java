@@ -0,0 +1,64 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.util;
+
+import static java.lang.Math.min;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.jenetics.util.Seq;
+
+/**
+ * Runnable which <em>pulls</em> chunks of runnables from a cursor, shared by
+ * all worker runnables, until all runnables has been executed.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 5.1
+ * @since 5.1
+ */
+final class RunnablesPuller implements Runnable {
+
+	private final Seq<? extends Runnable> _runnables;
+	private final AtomicInteger _cursor;
+	private final int _chunkSize;
+
+	RunnablesPuller(
+		final Seq<? extends Runnable> runnables,
+		final AtomicInteger cursor,
+		final int chunkSize
+	) {
+		_runnables = runnables;
+		_cursor = cursor;
+		_chunkSize = chunkSize;
+	}
+
+	@Override
+	public void run() {
+		final int size = _runnables.size();
+
+		int start;
+		while ((start = _cursor.getAndAdd(_chunkSize)) < size) {
+			for (int i = start, end = min(start + _chunkSize, size); i < end; ++i) {
+				_runnables.get(i).run();
+			}
+		}
+	}
+
+}
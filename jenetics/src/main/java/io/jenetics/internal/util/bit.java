@@ -22,6 +22,8 @@ package io.jenetics.internal.util;
 import static java.lang.Integer.parseInt;
 import static java.lang.Math.min;
 
+import java.util.Arrays;
+
 import io.jenetics.internal.math.random;
 import io.jenetics.util.RandomRegistry;
 
@@ -40,7 +42,7 @@ import io.jenetics.util.RandomRegistry;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 3.0
+ * @version 5.1
  */
 public final class bit {
 	private bit() {}
@@ -178,13 +180,56 @@ public final class bit {
 		final byte[] data, final int start, final int end,
 		final byte[] otherData, final int otherStart
 	) {
-		for (int i = end - start; --i >= 0;) {
-			final boolean temp = get(data, i + start);
-			set(data, i + start, get(otherData, otherStart + i));
-			set(otherData, otherStart + i, temp);
+		if ((start & 7) == (otherStart & 7) && end - start >= Byte.SIZE) {
+			swapAligned(data, start, end, otherData, otherStart);
+		} else {
+			for (int i = end - start; --i >= 0;) {
+				swapBit(data, i + start, otherData, otherStart + i);
+			}
 		}
 	}
 
+	// Swaps the whole bytes of the given range at once. The bit offset of the
+	// range start must be the same for both arrays.
+	private static void swapAligned(
+		final byte[] data, final int start, final int end,
+		final byte[] otherData, final int otherStart
+	) {
+		int i = start;
+		int j = otherStart;
+
+		// Leading bits, up to the next byte boundary.
+		for (; (i & 7) != 0 && i < end; ++i, ++j) {
+			swapBit(data, i, otherData, j);
+		}
+
+		final int bytes = (end - i) >>> 3;
+		if (bytes > 0) {
+			final int from = i >>> 3;
+			final int otherFrom = j >>> 3;
+			final byte[] temp = Arrays.copyOfRange(data, from, from + bytes);
+			System.arraycopy(otherData, otherFrom, data, from, bytes);
+			System.arraycopy(temp, 0, otherData, otherFrom, bytes);
+
+			i += bytes << 3;
+			j += bytes << 3;
+		}
+
+		// Trailing bits, after the last whole byte.
+		for (; i < end; ++i, ++j) {
+			swapBit(data, i, otherData, j);
+		}
+	}
+
+	private static void swapBit(
+		final byte[] data, final int index,
+		final byte[] otherData, final int otherIndex
+	) {
+		final boolean temp = get(data, index);
+		set(data, index, get(otherData, otherIndex));
+		set(otherData, otherIndex, temp);
+	}
+
 	/**
 	 * Returns the number of one-bits in the given {@code byte} array.
 	 *
@@ -568,4 +613,273 @@ public final class bit {
 		return bytes;
 	}
 
+	/* *************************************************************************
+	 * Operations on 64-bit words. The bit with index i is stored in the word
+	 * i/64, at bit position i%64, which gives the same little-endian layout as
+	 * the byte array operations.
+	 * ************************************************************************/
+
+	/**
+	 * Create a new {@code long[]} array which can store at least the number
+	 * of bits as defined by the given {@code length} parameter.
+	 *
+	 * @param length the number of bits, the returned word array can store.
+	 * @return the new word array.
+	 */
+	public static long[] newWords(final int length) {
+		return new long[toWordLength(length)];
+	}
+
+	/**
+	 * Return the minimum number of 64-bit words to store the given number of
+	 * bits.
+	 *
+	 * @param bitLength the number of bits
+	 * @return the number of words needed to store the given number of bits.
+	 */
+	public static int toWordLength(final int bitLength) {
+		return (bitLength >>> 6) + ((bitLength & 63) == 0 ? 0 : 1);
+	}
+
+	/**
+	 * Return the (boolean) value of the word array at the given bit index.
+	 *
+	 * @param words the word array.
+	 * @param index the bit index.
+	 * @return the value at the given bit index.
+	 * @throws IndexOutOfBoundsException if the index is
+	 *          {@code index >= max || index < 0}.
+	 * @throws NullPointerException if the {@code words} array is {@code null}.
+	 */
+	public static boolean get(final long[] words, final int index) {
+		return (words[index >>> 6] & (1L << index)) != 0;
+	}
+
+	/**
+	 * Set the bit in the given word array at the bit position to the
+	 * specified value.
+	 *
+	 * @param words the word array.
+	 * @param index the bit index within the word array.
+	 * @param value the value to set.
+	 * @throws IndexOutOfBoundsException if the index is
+	 *         {@code index >= max || index < 0}.
+	 * @throws NullPointerException if the {@code words} array is {@code null}.
+	 */
+	public static void set(
+		final long[] words,
+		final int index,
+		final boolean value
+	) {
+		if (value) {
+			set(words, index);
+		} else {
+			words[index >>> 6] &= ~(1L << index);
+		}
+	}
+
+	/**
+	 * Set the bit in the given word array at the bit position to
+	 * {@code true}.
+	 *
+	 * @param words the word array.
+	 * @param index the bit index within the word array.
+	 * @throws IndexOutOfBoundsException if the index is
+	 *          {@code index >= max || index < 0}.
+	 * @throws NullPointerException if the {@code words} array is {@code null}.
+	 */
+	public static void set(final long[] words, final int index) {
+		words[index >>> 6] |= 1L << index;
+	}
+
+	/**
+	 * Converts the bits {@code [start, end)} of the given byte array into a
+	 * new word array. The bit {@code start} becomes the bit {@code 0} of the
+	 * returned words.
+	 *
+	 * @param data the byte array to convert
+	 * @param start the start bit index, inclusively
+	 * @param end the end bit index, exclusively
+	 * @return a new word array with the bits of the given range
+	 * @throws IndexOutOfBoundsException if the range is not within the
+	 *         {@code data} array
+	 * @throws NullPointerException if the {@code data} array is {@code null}
+	 */
+	public static long[] toWords(final byte[] data, final int start, final int end) {
+		final long[] words = newWords(end - start);
+		if ((start & 7) == 0) {
+			final int from = start >>> 3;
+			final int bytes = toByteLength(end - start);
+			for (int i = 0; i < bytes; ++i) {
+				words[i >>> 3] |= (data[from + i] & 0xFFL) << ((i & 7) << 3);
+			}
+			clearTail(words, end - start);
+		} else {
+			for (int i = start; i < end; ++i) {
+				if (get(data, i)) {
+					set(words, i - start);
+				}
+			}
+		}
+		return words;
+	}
+
+	/**
+	 * Copies the given words into the given byte array, until the byte array
+	 * or the word array is filled.
+	 *
+	 * @param words the source word array
+	 * @param data the target byte array
+	 * @return the given {@code data} array
+	 * @throws NullPointerException if one of the arrays is {@code null}
+	 */
+	public static byte[] toBytes(final long[] words, final byte[] data) {
+		final int bytes = min(data.length, words.length << 3);
+		for (int i = 0; i < bytes; ++i) {
+			data[i] = (byte)(words[i >>> 3] >>> ((i & 7) << 3));
+		}
+		return data;
+	}
+
+	/**
+	 * Copies the bits {@code [start, end)} of the given word array into a new
+	 * word array. Whole words are shifted at once.
+	 *
+	 * @param words the source word array
+	 * @param start the start bit index, inclusively
+	 * @param end the end bit index, exclusively
+	 * @return a new word array with the bits of the given range
+	 * @throws IndexOutOfBoundsException if the range is not within the
+	 *         {@code words} array
+	 * @throws NullPointerException if the {@code words} array is {@code null}
+	 */
+	public static long[] copy(final long[] words, final int start, final int end) {
+		final int length = end - start;
+		final long[] copy = newWords(length);
+		final int from = start >>> 6;
+		final int shift = start & 63;
+
+		if (shift == 0) {
+			System.arraycopy(words, from, copy, 0, copy.length);
+		} else {
+			for (int i = 0; i < copy.length; ++i) {
+				final int j = from + i;
+				copy[i] = words[j] >>> shift;
+				if (j + 1 < words.length) {
+					copy[i] |= words[j + 1] << (64 - shift);
+				}
+			}
+		}
+		clearTail(copy, length);
+
+		return copy;
+	}
+
+	// Clears the unused bits of the last word.
+	private static void clearTail(final long[] words, final int length) {
+		if ((length & 63) != 0) {
+			words[words.length - 1] &= (1L << length) - 1;
+		}
+	}
+
+	/**
+	 * Swap a given range with a range of the same size with another word
+	 * array. If both ranges start at the same bit offset within a word, the
+	 * bits are swapped 64 at a time.
+	 *
+	 * @param words the first word array which are used for swapping.
+	 * @param start the start bit index of the {@code words} array,
+	 *        inclusively.
+	 * @param end the end bit index of the {@code words} array, exclusively.
+	 * @param otherWords the other word array to swap the elements with.
+	 * @param otherStart the start index of the {@code otherWords} array.
+	 * @throws IndexOutOfBoundsException if the ranges are not within the
+	 *         given arrays
+	 */
+	public static void swap(
+		final long[] words, final int start, final int end,
+		final long[] otherWords, final int otherStart
+	) {
+		if ((start & 63) == (otherStart & 63)) {
+			int i = start;
+			int j = otherStart;
+			while (i < end) {
+				final int bits = min(end - i, 64 - (i & 63));
+				final long mask = bits == 64
+					? -1L
+					: ((1L << bits) - 1) << i;
+
+				final int w = i >>> 6;
+				final int v = j >>> 6;
+				final long diff = (words[w] ^ otherWords[v]) & mask;
+				words[w] ^= diff;
+				otherWords[v] ^= diff;
+
+				i += bits;
+				j += bits;
+			}
+		} else {
+			for (int i = end - start; --i >= 0;) {
+				final boolean temp = get(words, i + start);
+				set(words, i + start, get(otherWords, otherStart + i));
+				set(otherWords, otherStart + i, temp);
+			}
+		}
+	}
+
+	/**
+	 * Swaps the bits of the given arrays at all positions where the bit of
+	 * the given {@code mask} is set. The arrays are processed word-wise, which
+	 * swaps up to 64 bits with one operation.
+	 *
+	 * @param words the first word array which are used for swapping.
+	 * @param otherWords the other word array to swap the bits with.
+	 * @param mask the swap mask
+	 * @throws IndexOutOfBoundsException if one of the word arrays is shorter
+	 *         than the {@code mask} array
+	 * @throws NullPointerException if one of the arrays is {@code null}
+	 */
+	public static void swap(
+		final long[] words,
+		final long[] otherWords,
+		final long[] mask
+	) {
+		for (int i = mask.length; --i >= 0;) {
+			final long diff = (words[i] ^ otherWords[i]) & mask[i];
+			words[i] ^= diff;
+			otherWords[i] ^= diff;
+		}
+	}
+
+	/**
+	 * Flips the bits of the given word array at all positions where the bit
+	 * of the given {@code mask} is set.
+	 *
+	 * @param words the word array to flip
+	 * @param mask the flip mask
+	 * @throws IndexOutOfBoundsException if the word array is shorter than the
+	 *         {@code mask} array
+	 * @throws NullPointerException if one of the arrays is {@code null}
+	 */
+	public static void xor(final long[] words, final long[] mask) {
+		for (int i = mask.length; --i >= 0;) {
+			words[i] ^= mask[i];
+		}
+	}
+
+	/**
+	 * Returns the number of one-bits in the given {@code long} array.
+	 *
+	 * @param words the {@code long} array for which the one bits should be
+	 *        counted.
+	 * @return the number of one bits in the given {@code long} array.
+	 */
+	public static int count(final long[] words) {
+		int count = 0;
+		for (int i = words.length; --i >= 0;) {
+			count += Long.bitCount(words[i]);
+		}
+		return count;
+	}
+
 }
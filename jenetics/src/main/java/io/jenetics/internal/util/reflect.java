@@ -0,0 +1,85 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.util;
+
+/**
+ * Helper methods concerning Java reflection.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 5.1
+ * @version 5.1
+ */
+public final class reflect {
+	private reflect() {}
+
+	/**
+	 * Return the most specific class of the hierarchy, from the given
+	 * {@code type} up to the given {@code base} class, which declares the
+	 * method with the given name and parameter types.
+	 *
+	 * @param type the class where the search starts
+	 * @param base the base class where the search stops
+	 * @param name the method name
+	 * @param parameterTypes the parameter types of the method
+	 * @return the most specific class which declares the method, or
+	 *         {@code null} if the method is not declared in this hierarchy
+	 */
+	public static Class<?> declaringClass(
+		final Class<?> type,
+		final Class<?> base,
+		final String name,
+		final Class<?>... parameterTypes
+	) {
+		for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+			try {
+				c.getDeclaredMethod(name, parameterTypes);
+				return c;
+			} catch (NoSuchMethodException e) {
+				// The method is not declared by this class.
+			}
+			if (c == base) {
+				break;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Test whether the method with the given name and parameter types is
+	 * overridden by the given {@code type}, or by one of its super classes
+	 * which is a subclass of the given {@code base} class.
+	 *
+	 * @param type the class to test
+	 * @param base the base class, which declares the method
+	 * @param name the method name
+	 * @param parameterTypes the parameter types of the method
+	 * @return {@code true} if the method is overridden
+	 */
+	public static boolean isOverridden(
+		final Class<?> type,
+		final Class<?> base,
+		final String name,
+		final Class<?>... parameterTypes
+	) {
+		final Class<?> c = declaringClass(type, base, name, parameterTypes);
+		return c != null && c != base;
+	}
+
+}
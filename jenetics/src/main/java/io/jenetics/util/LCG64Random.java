@@ -0,0 +1,141 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+/**
+ * Random engine, which implements a 64-bit linear congruential generator
+ * (LCG) with an additional <em>xor-shift</em> output transformation. The
+ * LCG has a period of 2<sup>64</sup>. The state of the engine can be
+ * {@link #jump(long) advanced} by an arbitrary number of steps in
+ * {@code O(log(steps))} time.
+ *
+ * <pre>{@code
+ * // Thread local instances of the random engine.
+ * RandomRegistry.setRandom(ThreadLocal.withInitial(LCG64Random::new));
+ * }</pre>
+ *
+ * @implNote
+ * This class is <em>not</em> thread-safe.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 5.1
+ * @since 5.1
+ */
+public final class LCG64Random extends Random64 {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final long A = 0xFBD19FBBC5C07FF5L;
+	private static final long B = 1L;
+
+	private long _r;
+
+	/**
+	 * Create a new random engine with the given {@code seed}.
+	 *
+	 * @param seed the seed of the random engine
+	 */
+	public LCG64Random(final long seed) {
+		setSeed(seed);
+	}
+
+	/**
+	 * Create a new random engine with a <em>random</em> seed.
+	 */
+	public LCG64Random() {
+		this(io.jenetics.internal.math.random.seed());
+	}
+
+	@Override
+	public long nextLong() {
+		_r = A*_r + B;
+		return shift(_r);
+	}
+
+	@Override
+	public void nextLongs(final long[] values) {
+		long r = _r;
+		for (int i = 0; i < values.length; ++i) {
+			r = A*r + B;
+			values[i] = shift(r);
+		}
+		_r = r;
+	}
+
+	@Override
+	public void nextDoubles(final double[] values) {
+		long r = _r;
+		for (int i = 0; i < values.length; ++i) {
+			r = A*r + B;
+			values[i] = toDouble(shift(r));
+		}
+		_r = r;
+	}
+
+	private static long shift(final long r) {
+		long x = r;
+		x ^= x >>> 17;
+		x ^= x << 31;
+		x ^= x >>> 8;
+		return x;
+	}
+
+	/**
+	 * Advances the state of this engine by the given number of steps.
+	 * Calling {@code jump(n)} has the same effect as calling
+	 * {@link #nextLong()} {@code n} times, where {@code n} is interpreted as
+	 * unsigned value.
+	 *
+	 * @param steps the number of values to skip
+	 */
+	public void jump(final long steps) {
+		long a = A;
+		long b = B;
+		long aa = 1;
+		long bb = 0;
+		for (long n = steps; n != 0; n >>>= 1) {
+			if ((n & 1) != 0) {
+				aa *= a;
+				bb = bb*a + b;
+			}
+			b *= a + 1;
+			a *= a;
+		}
+
+		_r = aa*_r + bb;
+	}
+
+	/**
+	 * Resets the engine with the given {@code seed}.
+	 *
+	 * @param seed the new seed of the engine
+	 */
+	@Override
+	public void setSeed(final long seed) {
+		super.setSeed(seed);
+		_r = mix64(seed);
+	}
+
+	@Override
+	public String toString() {
+		return "LCG64Random";
+	}
+
+}
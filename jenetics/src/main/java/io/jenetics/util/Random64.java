@@ -0,0 +1,243 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.exp;
+import static java.lang.Math.log;
+import static java.lang.Math.sqrt;
+
+import java.util.Random;
+
+/**
+ * Abstract base class of the 64-bit random engines of the library. The
+ * implementations only have to provide the {@link #nextLong()} method. All
+ * other random values are derived from it. Beside the single value methods,
+ * this class offers bulk methods, which fill a whole array with random
+ * values. The engines override them with a tight loop over the generator
+ * state, which avoids the per-value method call overhead.
+ * <p>
+ * The {@link #nextGaussian()} method uses the <em>Ziggurat</em> algorithm
+ * and, unlike the {@link Random#nextGaussian()} method, it is not
+ * synchronized.
+ *
+ * @see <a href="https://www.jstatsoft.org/article/view/v005i08">
+ *      The Ziggurat Method for Generating Random Variables</a>
+ *
+ * @implNote
+ * The random engines are <em>not</em> thread-safe. For concurrent usage,
+ * register a thread-local instance, e.g.
+ * {@code RandomRegistry.setRandom(ThreadLocal.withInitial(Xoshiro256Random::new))}.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 5.1
+ * @since 5.1
+ */
+public abstract class Random64 extends Random {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final double DOUBLE_UNIT = 0x1.0p-53;
+	private static final float FLOAT_UNIT = 0x1.0p-24F;
+
+	protected Random64() {
+		super(0);
+	}
+
+	/**
+	 * Return the next random {@code long} value.
+	 *
+	 * @return the next random {@code long} value
+	 */
+	@Override
+	public abstract long nextLong();
+
+	@Override
+	protected int next(final int bits) {
+		return (int)(nextLong() >>> (64 - bits));
+	}
+
+	@Override
+	public int nextInt() {
+		return (int)(nextLong() >>> 32);
+	}
+
+	@Override
+	public boolean nextBoolean() {
+		return nextLong() < 0;
+	}
+
+	@Override
+	public float nextFloat() {
+		return (nextLong() >>> 40)*FLOAT_UNIT;
+	}
+
+	@Override
+	public double nextDouble() {
+		return toDouble(nextLong());
+	}
+
+	/**
+	 * Return the next normally distributed random value, with mean 0.0 and
+	 * standard deviation 1.0. The value is created with the <em>Ziggurat</em>
+	 * algorithm.
+	 *
+	 * @return the next normally distributed random value
+	 */
+	@Override
+	public double nextGaussian() {
+		return Ziggurat.next(this);
+	}
+
+	/**
+	 * Fills the given array with random {@code long} values. The array is
+	 * filled with the same values as consecutive calls of
+	 * {@link #nextLong()} would return.
+	 *
+	 * @param values the array to fill
+	 * @throws NullPointerException if the given array is {@code null}
+	 */
+	public void nextLongs(final long[] values) {
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = nextLong();
+		}
+	}
+
+	/**
+	 * Fills the given array with uniformly distributed random {@code double}
+	 * values from the range {@code [0, 1)}. The array is filled with the same
+	 * values as consecutive calls of {@link #nextDouble()} would return.
+	 *
+	 * @param values the array to fill
+	 * @throws NullPointerException if the given array is {@code null}
+	 */
+	public void nextDoubles(final double[] values) {
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = nextDouble();
+		}
+	}
+
+	/**
+	 * Fills the given array with normally distributed random values, with
+	 * mean 0.0 and standard deviation 1.0. The array is filled with the same
+	 * values as consecutive calls of {@link #nextGaussian()} would return.
+	 *
+	 * @param values the array to fill
+	 * @throws NullPointerException if the given array is {@code null}
+	 */
+	public void nextGaussians(final double[] values) {
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = Ziggurat.next(this);
+		}
+	}
+
+	/**
+	 * Converts the upper 53 bits of the given {@code long} value into a
+	 * {@code double} value from the range {@code [0, 1)}.
+	 *
+	 * @param value the random {@code long} value
+	 * @return the converted {@code double} value
+	 */
+	static double toDouble(final long value) {
+		return (value >>> 11)*DOUBLE_UNIT;
+	}
+
+	/**
+	 * The <em>SplitMix64</em> mixing function, used for seeding and by the
+	 * {@link SplitRandom} engine.
+	 *
+	 * @param z the value to mix
+	 * @return the mixed value
+	 */
+	static long mix64(final long z) {
+		long x = z;
+		x = (x ^ (x >>> 30))*0xBF58476D1CE4E5B9L;
+		x = (x ^ (x >>> 27))*0x94D049BB133111EBL;
+		return x ^ (x >>> 31);
+	}
+
+
+	/**
+	 * Ziggurat algorithm for normally distributed random values, with 128
+	 * layers, as described by Marsaglia and Tsang. The layer index and the
+	 * value are taken from different bits of one 64-bit random value.
+	 */
+	private static final class Ziggurat {
+		private static final int N = 128;
+		private static final double R = 3.442619855899;
+		private static final double V = 9.91256303526217e-3;
+		private static final double M = 2147483648.0;
+
+		private static final long[] K = new long[N];
+		private static final double[] W = new double[N];
+		private static final double[] F = new double[N];
+
+		static {
+			double dn = R;
+			double tn = dn;
+			final double q = V/exp(-0.5*dn*dn);
+
+			K[0] = (long)((dn/q)*M);
+			K[1] = 0;
+			W[0] = q/M;
+			W[N - 1] = dn/M;
+			F[0] = 1.0;
+			F[N - 1] = exp(-0.5*dn*dn);
+
+			for (int i = N - 2; i >= 1; --i) {
+				dn = sqrt(-2.0*log(V/dn + exp(-0.5*dn*dn)));
+				K[i + 1] = (long)((dn/tn)*M);
+				tn = dn;
+				F[i] = exp(-0.5*dn*dn);
+				W[i] = dn/M;
+			}
+		}
+
+		static double next(final Random64 random) {
+			while (true) {
+				final long bits = random.nextLong();
+				final int hz = (int)(bits >>> 32);
+				final int iz = (int)bits & (N - 1);
+
+				if (abs((long)hz) < K[iz]) {
+					return hz*W[iz];
+				}
+
+				final double x = hz*W[iz];
+				if (iz == 0) {
+					// Sampling from the tail of the distribution.
+					double xt;
+					double yt;
+					do {
+						xt = -log(1.0 - random.nextDouble())/R;
+						yt = -log(1.0 - random.nextDouble());
+					} while (yt + yt < xt*xt);
+
+					return hz > 0 ? R + xt : -R - xt;
+				}
+
+				if (F[iz] + random.nextDouble()*(F[iz - 1] - F[iz]) < exp(-0.5*x*x)) {
+					return x;
+				}
+			}
+		}
+	}
+
+}
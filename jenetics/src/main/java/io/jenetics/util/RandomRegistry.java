@@ -85,12 +85,27 @@ import java.util.function.Supplier;
  * }</pre>
  * <p>
  *
+ * <b>Setup of a <i>reproducible</i> PRNG</b><br>
+ *
+ * The random values an individual sees depend on the thread scheduling, if
+ * the PRNG is shared between threads or is thread local. A
+ * {@link SplitRandom} lets the evolution {@code Engine} derive a
+ * deterministic random stream for every evolution phase and every evaluated
+ * individual. The evolution result for a given seed is then reproducible,
+ * without giving up the parallel execution.
+ *
+ * <pre>{@code
+ * RandomRegistry.setRandom(new SplitRandom(1234));
+ * }</pre>
+ * <p>
+ *
  * @see Random
  * @see ThreadLocalRandom
+ * @see SplitRandom
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 3.0
+ * @version 5.1
  */
 public final class RandomRegistry {
 	private RandomRegistry() {}
@@ -0,0 +1,205 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Splittable random engine, which is able to create deterministic,
+ * independent sub-streams. A sub-stream is identified by a sequence of
+ * {@code long} keys and depends only on the <em>seed</em> of its parent
+ * stream and the given keys, but not on the number of random values already
+ * taken from the parent. This makes it possible to hand out one stream per
+ * task, which gives reproducible results, regardless of the order or the
+ * thread the tasks are executed in.
+ *
+ * <pre>{@code
+ * final SplitRandom random = new SplitRandom(123);
+ * final SplitRandom stream1 = random.split(generation, 1);
+ * final SplitRandom stream2 = random.split(generation, 2);
+ * }</pre>
+ *
+ * When registered with {@link RandomRegistry#setRandom(java.util.Random)}, the
+ * evolution {@code Engine} executes every evolution phase with its own
+ * sub-stream, derived from the generation and the phase, and the concurrent
+ * fitness evaluation uses one sub-stream per individual. An evolution run
+ * with a given seed is then reproducible, independent of the used
+ * executor or the number of available cores.
+ *
+ * <pre>{@code
+ * RandomRegistry.setRandom(new SplitRandom(123));
+ * final EvolutionResult<DoubleGene, Double> result = engine.stream()
+ *     .limit(100)
+ *     .collect(EvolutionResult.toBestEvolutionResult());
+ * }</pre>
+ *
+ * The random values are created with the <em>SplitMix64</em> algorithm,
+ * which has a period of 2<sup>64</sup> and allows to
+ * {@link #jump(long) jump} ahead in constant time.
+ *
+ * @see <a href="http://gee.cs.oswego.edu/dl/papers/oopsla14.pdf">
+ *      Fast Splittable Pseudorandom Number Generators</a>
+ *
+ * @implNote
+ * This class is <em>not</em> thread-safe. Each thread or task should use
+ * its own sub-stream, created with one of the {@code split} methods. The
+ * {@code split} methods themselves are thread-safe, since they only read
+ * the immutable seed of the stream.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 5.1
+ * @since 5.1
+ */
+public final class SplitRandom extends Random64 {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+	// The (mixed) seed of the stream, which identifies the stream.
+	private long _seed;
+
+	// The current state of the stream.
+	private long _state;
+
+	/**
+	 * Create a new random stream with the given {@code seed}.
+	 *
+	 * @param seed the seed of the random stream
+	 */
+	public SplitRandom(final long seed) {
+		setSeed(seed);
+	}
+
+	/**
+	 * Create a new random stream with a <em>random</em> seed.
+	 */
+	public SplitRandom() {
+		this(io.jenetics.internal.math.random.seed());
+	}
+
+	/**
+	 * Return a new, independent sub-stream for the given {@code key}. The
+	 * returned stream depends only on the seed of {@code this} stream and the
+	 * given {@code key}, but not on its current state.
+	 *
+	 * @param key the key of the sub-stream
+	 * @return a new sub-stream
+	 */
+	public SplitRandom split(final long key) {
+		return of(split(_seed, key));
+	}
+
+	/**
+	 * Return a new, independent sub-stream for the given key path. This is
+	 * equivalent to
+	 * <pre>{@code
+	 * SplitRandom stream = this;
+	 * for (long key : keys) {
+	 *     stream = stream.split(key);
+	 * }
+	 * }</pre>
+	 *
+	 * @param keys the key path of the sub-stream
+	 * @return a new sub-stream
+	 * @throws NullPointerException if the given {@code keys} array is
+	 *         {@code null}
+	 */
+	public SplitRandom split(final long... keys) {
+		requireNonNull(keys);
+
+		long seed = _seed;
+		for (long key : keys) {
+			seed = split(seed, key);
+		}
+		return of(seed);
+	}
+
+	private static long split(final long seed, final long key) {
+		return mix64(seed + mix64(key + GOLDEN_GAMMA));
+	}
+
+	// Create a new stream from an already mixed seed.
+	private static SplitRandom of(final long seed) {
+		final SplitRandom random = new SplitRandom(0);
+		random.init(seed);
+		return random;
+	}
+
+	/**
+	 * Advances the state of this stream by the given number of steps, in
+	 * constant time. Calling {@code jump(n)} has the same effect as calling
+	 * {@link #nextLong()} {@code n} times.
+	 *
+	 * @param steps the number of values to skip
+	 */
+	public void jump(final long steps) {
+		_state += steps*GOLDEN_GAMMA;
+	}
+
+	@Override
+	public long nextLong() {
+		_state += GOLDEN_GAMMA;
+		return mix64(_state);
+	}
+
+	@Override
+	public void nextLongs(final long[] values) {
+		long state = _state;
+		for (int i = 0; i < values.length; ++i) {
+			state += GOLDEN_GAMMA;
+			values[i] = mix64(state);
+		}
+		_state = state;
+	}
+
+	@Override
+	public void nextDoubles(final double[] values) {
+		long state = _state;
+		for (int i = 0; i < values.length; ++i) {
+			state += GOLDEN_GAMMA;
+			values[i] = toDouble(mix64(state));
+		}
+		_state = state;
+	}
+
+	/**
+	 * Resets the stream with the given {@code seed}. A {@code SplitRandom}
+	 * created with the same seed will produce the same random values.
+	 *
+	 * @param seed the new seed of the stream
+	 */
+	@Override
+	public void setSeed(final long seed) {
+		super.setSeed(seed);
+		init(mix64(seed));
+	}
+
+	private void init(final long seed) {
+		_seed = seed;
+		_state = seed;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("SplitRandom[%016x]", _seed);
+	}
+
+}
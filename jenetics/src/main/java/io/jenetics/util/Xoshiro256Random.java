@@ -0,0 +1,181 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+/**
+ * Random engine, which implements the <em>xoshiro256**</em> algorithm of
+ * Blackman and Vigna. It has a period of 2<sup>256</sup>&nbsp;-&nbsp;1 and
+ * passes all statistical tests of the <em>BigCrush</em> test suite. The
+ * {@link #jump()} method advances the generator by 2<sup>128</sup> steps,
+ * which can be used for creating non-overlapping streams for parallel
+ * computations.
+ *
+ * <pre>{@code
+ * // Thread local instances of the random engine.
+ * RandomRegistry.setRandom(ThreadLocal.withInitial(Xoshiro256Random::new));
+ * }</pre>
+ *
+ * @see <a href="http://xoshiro.di.unimi.it/">xoshiro/xoroshiro generators</a>
+ *
+ * @implNote
+ * This class is <em>not</em> thread-safe.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 5.1
+ * @since 5.1
+ */
+public final class Xoshiro256Random extends Random64 {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final long[] JUMP = {
+		0x180EC6D33CFD0ABAL, 0xD5A61266F0C9392CL,
+		0xA9582618E03FC9AAL, 0x39ABDC4529B1661CL
+	};
+
+	private long _s0;
+	private long _s1;
+	private long _s2;
+	private long _s3;
+
+	/**
+	 * Create a new random engine with the given {@code seed}. The 256 bit
+	 * state of the engine is initialized with the <em>SplitMix64</em>
+	 * generator, seeded with the given value.
+	 *
+	 * @param seed the seed of the random engine
+	 */
+	public Xoshiro256Random(final long seed) {
+		setSeed(seed);
+	}
+
+	/**
+	 * Create a new random engine with a <em>random</em> seed.
+	 */
+	public Xoshiro256Random() {
+		this(io.jenetics.internal.math.random.seed());
+	}
+
+	// Create a new random engine with the given state. Used for testing.
+	static Xoshiro256Random of(
+		final long s0,
+		final long s1,
+		final long s2,
+		final long s3
+	) {
+		final Xoshiro256Random random = new Xoshiro256Random(0);
+		random._s0 = s0;
+		random._s1 = s1;
+		random._s2 = s2;
+		random._s3 = s3;
+		return random;
+	}
+
+	@Override
+	public long nextLong() {
+		final long result = Long.rotateLeft(_s1*5, 7)*9;
+		final long t = _s1 << 17;
+
+		_s2 ^= _s0;
+		_s3 ^= _s1;
+		_s1 ^= _s2;
+		_s0 ^= _s3;
+		_s2 ^= t;
+		_s3 = Long.rotateLeft(_s3, 45);
+
+		return result;
+	}
+
+	@Override
+	public void nextLongs(final long[] values) {
+		long s0 = _s0, s1 = _s1, s2 = _s2, s3 = _s3;
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = Long.rotateLeft(s1*5, 7)*9;
+
+			final long t = s1 << 17;
+			s2 ^= s0;
+			s3 ^= s1;
+			s1 ^= s2;
+			s0 ^= s3;
+			s2 ^= t;
+			s3 = Long.rotateLeft(s3, 45);
+		}
+		_s0 = s0; _s1 = s1; _s2 = s2; _s3 = s3;
+	}
+
+	@Override
+	public void nextDoubles(final double[] values) {
+		long s0 = _s0, s1 = _s1, s2 = _s2, s3 = _s3;
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = toDouble(Long.rotateLeft(s1*5, 7)*9);
+
+			final long t = s1 << 17;
+			s2 ^= s0;
+			s3 ^= s1;
+			s1 ^= s2;
+			s0 ^= s3;
+			s2 ^= t;
+			s3 = Long.rotateLeft(s3, 45);
+		}
+		_s0 = s0; _s1 = s1; _s2 = s2; _s3 = s3;
+	}
+
+	/**
+	 * Advances the state of this engine by 2<sup>128</sup> steps. This is
+	 * equivalent to 2<sup>128</sup> calls of the {@link #nextLong()} method.
+	 */
+	public void jump() {
+		long s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+		for (long jump : JUMP) {
+			for (int b = 0; b < 64; ++b) {
+				if ((jump & 1L << b) != 0) {
+					s0 ^= _s0;
+					s1 ^= _s1;
+					s2 ^= _s2;
+					s3 ^= _s3;
+				}
+				nextLong();
+			}
+		}
+		_s0 = s0; _s1 = s1; _s2 = s2; _s3 = s3;
+	}
+
+	/**
+	 * Resets the engine with the given {@code seed}.
+	 *
+	 * @param seed the new seed of the engine
+	 */
+	@Override
+	public void setSeed(final long seed) {
+		super.setSeed(seed);
+
+		long z = seed;
+		_s0 = mix64(z += 0x9E3779B97F4A7C15L);
+		_s1 = mix64(z += 0x9E3779B97F4A7C15L);
+		_s2 = mix64(z += 0x9E3779B97F4A7C15L);
+		_s3 = mix64(z + 0x9E3779B97F4A7C15L);
+	}
+
+	@Override
+	public String toString() {
+		return "Xoshiro256Random";
+	}
+
+}
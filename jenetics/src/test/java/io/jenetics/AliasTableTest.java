@@ -0,0 +1,79 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static io.jenetics.internal.math.base.normalize;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class AliasTableTest {
+
+	@Test(dataProvider = "sizes")
+	public void distribution(final Integer size) {
+		final Random random = new Random(1234);
+		final double[] probabilities = new double[size];
+		for (int i = 0; i < size; ++i) {
+			probabilities[i] = i%7 == 3 ? 0 : random.nextDouble();
+		}
+		normalize(probabilities);
+
+		final AliasTable table = AliasTable.of(probabilities);
+		final int samples = 200_000*size;
+		final int[] histogram = new int[size];
+		for (int i = 0; i < samples; ++i) {
+			++histogram[table.indexOf(random.nextDouble())];
+		}
+
+		for (int i = 0; i < size; ++i) {
+			final double p = probabilities[i];
+			final double deviation = 5*Math.sqrt(samples*p*(1 - p));
+			Assert.assertEquals(histogram[i], samples*p, deviation + 1);
+			if (p == 0) {
+				Assert.assertEquals(histogram[i], 0);
+			}
+		}
+	}
+
+	@DataProvider(name = "sizes")
+	public Object[][] sizes() {
+		return new Object[][] {{1}, {2}, {7}, {50}, {99}};
+	}
+
+	@Test
+	public void uniform() {
+		final double[] probabilities = new double[10];
+		Arrays.fill(probabilities, 0.1);
+
+		final AliasTable table = AliasTable.of(probabilities);
+		for (int i = 0; i < 1_000; ++i) {
+			final double v = i/1_000.0;
+			Assert.assertEquals(table.indexOf(v), (int)(v*10));
+		}
+	}
+
+}
@@ -35,7 +35,7 @@ import io.jenetics.util.MSeq;
 public class BitGeneMSeqTest  {
 
 	public MSeq<BitGene> newSeq(final int length) {
-		return BitGeneMSeq.of(Array.of(BitGeneStore.ofLength(length)));
+		return BitGeneMSeq.of(Array.of(BitGeneWordStore.ofLength(length)));
 	}
 
 	@Test(dataProvider = "sequences")
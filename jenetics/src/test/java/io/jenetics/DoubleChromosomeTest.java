@@ -111,6 +111,40 @@ public class DoubleChromosomeTest
 		}
 	}
 
+	@Test
+	public void toArray() {
+		final DoubleChromosome chromosome = DoubleChromosome.of(0, 1, 100);
+		final double[] values = chromosome.toArray(new double[200]);
+
+		Assert.assertEquals(values.length, 200);
+		for (int i = 0; i < chromosome.length(); ++i) {
+			Assert.assertEquals(chromosome.doubleValue(i), values[i]);
+		}
+	}
+
+	@Test
+	public void packedGenes() {
+		final DoubleChromosome chromosome = DoubleChromosome.of(0, 1, 100);
+		Assert.assertTrue(chromosome.toSeq() instanceof DoubleGeneISeq);
+
+		final DoubleChromosome other = DoubleChromosome.of(chromosome.toSeq());
+		Assert.assertTrue(other.toSeq() instanceof DoubleGeneISeq);
+		Assert.assertEquals(other, chromosome);
+		Assert.assertEquals(other.hashCode(), chromosome.hashCode());
+	}
+
+	@Test
+	public void packedMutation() {
+		final DoubleChromosome chromosome = DoubleChromosome.of(0, 1, 100);
+		final Chromosome<DoubleGene> mutated = new GaussianMutator<DoubleGene, Double>()
+			.mutate(chromosome, 1, new Random())
+			.getResult();
+
+		Assert.assertTrue(mutated.toSeq() instanceof DoubleGeneISeq);
+		Assert.assertNotEquals(mutated, chromosome);
+		Assert.assertTrue(mutated.isValid());
+	}
+
 	@Test(expectedExceptions = IllegalArgumentException.class)
 	public void ofAmbiguousGenes1() {
 		DoubleChromosome.of(
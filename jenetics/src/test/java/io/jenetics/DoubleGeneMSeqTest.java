@@ -0,0 +1,129 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class DoubleGeneMSeqTest {
+
+	@Test
+	public void setGet() {
+		final DoubleGeneMSeq seq = DoubleGeneMSeq.of(new double[10], 0, 10);
+		for (int i = 0; i < seq.length(); ++i) {
+			seq.set(i, DoubleGene.of(i, 0, 10));
+		}
+
+		for (int i = 0; i < seq.length(); ++i) {
+			Assert.assertEquals(seq.get(i), DoubleGene.of(i, 0, 10));
+			Assert.assertEquals(seq.values()[i], (double)i);
+		}
+	}
+
+	@Test
+	public void setDifferentRange() {
+		final DoubleGeneMSeq seq = DoubleGeneMSeq.of(new double[]{1, 2, 3}, 0, 10);
+		seq.set(0, DoubleGene.of(5, 0, 11));
+
+		Assert.assertFalse(seq.isPacked());
+		Assert.assertEquals(seq.get(0), DoubleGene.of(5, 0, 11));
+		Assert.assertEquals(seq.get(1), DoubleGene.of(2, 0, 10));
+		Assert.assertEquals(seq.get(2), DoubleGene.of(3, 0, 10));
+
+		final ISeq<DoubleGene> iseq = seq.toISeq();
+		Assert.assertFalse(iseq instanceof DoubleGeneISeq);
+		Assert.assertEquals(iseq, seq);
+		Assert.assertFalse(iseq.copy() instanceof DoubleGeneMSeq);
+		Assert.assertSame(DoubleGeneISeq.pack(iseq), iseq);
+	}
+
+	@Test
+	public void setDifferentRangeInSubSeq() {
+		final DoubleGeneMSeq seq = DoubleGeneMSeq.of(new double[]{1, 2, 3}, 0, 10);
+		seq.subSeq(1).set(1, DoubleGene.of(5, 0, 11));
+
+		Assert.assertFalse(seq.isPacked());
+		Assert.assertEquals(seq.get(2), DoubleGene.of(5, 0, 11));
+		Assert.assertEquals(seq.get(0), DoubleGene.of(1, 0, 10));
+	}
+
+	@Test
+	public void setDifferentRangeOnCopy() {
+		final DoubleGeneISeq iseq = DoubleGeneISeq.of(new double[]{1, 2, 3}, 0, 10);
+		final MSeq<DoubleGene> mseq = iseq.copy();
+		mseq.set(0, DoubleGene.of(5, 0, 11));
+
+		Assert.assertEquals(iseq.get(0), DoubleGene.of(1, 0, 10));
+		Assert.assertEquals(iseq.values(), new double[]{1, 2, 3});
+		Assert.assertEquals(mseq.get(0), DoubleGene.of(5, 0, 11));
+	}
+
+	@Test
+	public void sort() {
+		final DoubleGeneMSeq seq = DoubleGeneMSeq.of(
+			new double[]{5, 3, 4, 1, 2}, 0, 10
+		);
+
+		seq.sort();
+		Assert.assertEquals(seq.values(), new double[]{1, 2, 3, 4, 5});
+
+		seq.sort((a, b) -> b.compareTo(a));
+		Assert.assertEquals(seq.values(), new double[]{5, 4, 3, 2, 1});
+	}
+
+	@Test
+	public void copyOnWrite() {
+		final DoubleGeneISeq iseq = DoubleGeneISeq.of(new double[]{1, 2, 3}, 0, 10);
+		final DoubleGeneMSeq mseq = iseq.copy();
+
+		mseq.set(0, DoubleGene.of(9, 0, 10));
+		Assert.assertTrue(mseq.isPacked());
+		Assert.assertEquals(iseq.get(0), DoubleGene.of(1, 0, 10));
+		Assert.assertEquals(mseq.get(0), DoubleGene.of(9, 0, 10));
+	}
+
+	@Test
+	public void pack() {
+		final ISeq<DoubleGene> genes = MSeq.<DoubleGene>ofLength(10)
+			.fill(() -> DoubleGene.of(0, 10))
+			.toISeq();
+
+		final ISeq<DoubleGene> packed = DoubleGeneISeq.pack(genes);
+		Assert.assertTrue(packed instanceof DoubleGeneISeq);
+		Assert.assertEquals(packed, genes);
+	}
+
+	@Test
+	public void packDifferentRanges() {
+		final ISeq<DoubleGene> genes = ISeq.of(
+			DoubleGene.of(1, 0, 10),
+			DoubleGene.of(1, 0, 11)
+		);
+
+		Assert.assertSame(DoubleGeneISeq.pack(genes), genes);
+	}
+
+}
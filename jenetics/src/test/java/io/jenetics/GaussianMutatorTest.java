@@ -21,6 +21,7 @@ package io.jenetics;
 
 import java.util.Random;
 
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import io.jenetics.stat.Histogram;
@@ -61,5 +62,27 @@ public class GaussianMutatorTest extends MutatorTester {
 		//assertDistribution(histogram, new NormalDistribution<>(domain, mean, var));
 	}
 
-}
+	@Test
+	public void overriddenGeneMutation() {
+		final GaussianMutator<DoubleGene, Double> mutator =
+			new GaussianMutator<DoubleGene, Double>(1.0) {
+				@Override
+				protected DoubleGene mutate(
+					final DoubleGene gene,
+					final Random random
+				) {
+					return gene.newInstance(gene.getMin());
+				}
+			};
+
+		final DoubleChromosome chromosome = DoubleChromosome.of(1, 10, 20);
+		final Chromosome<DoubleGene> mutated = mutator
+			.mutate(chromosome, 1.0, new Random())
+			.getResult();
+
+		for (DoubleGene gene : mutated) {
+			Assert.assertEquals(gene.doubleValue(), 1.0);
+		}
+	}
 
+}
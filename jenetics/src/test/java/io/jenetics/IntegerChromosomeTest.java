@@ -33,6 +33,7 @@ import io.jenetics.stat.Histogram;
 import io.jenetics.stat.MinMax;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
+import io.jenetics.util.MSeq;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -110,6 +111,41 @@ public class IntegerChromosomeTest
 		}
 	}
 
+	@Test
+	public void toArray() {
+		final IntegerChromosome chromosome = IntegerChromosome.of(0, 1000, 100);
+		final int[] values = chromosome.toArray(new int[200]);
+
+		Assert.assertEquals(values.length, 200);
+		for (int i = 0; i < chromosome.length(); ++i) {
+			Assert.assertEquals(chromosome.intValue(i), values[i]);
+		}
+	}
+
+	@Test
+	public void packedGenes() {
+		final IntegerChromosome chromosome = IntegerChromosome.of(0, 1000, 100);
+		Assert.assertTrue(chromosome.toSeq() instanceof IntegerGeneISeq);
+
+		final IntegerChromosome other = IntegerChromosome.of(chromosome.toSeq());
+		Assert.assertTrue(other.toSeq() instanceof IntegerGeneISeq);
+		Assert.assertEquals(other, chromosome);
+		Assert.assertEquals(other.hashCode(), chromosome.hashCode());
+	}
+
+	@Test
+	public void packedGenesWithDifferentRange() {
+		final IntegerChromosome chromosome = IntegerChromosome.of(0, 1000, 10);
+		final MSeq<IntegerGene> genes = chromosome.toSeq().copy();
+		genes.set(0, IntegerGene.of(5, 0, 10));
+
+		Assert.assertEquals(genes.get(0), IntegerGene.of(5, 0, 10));
+		for (int i = 1; i < genes.length(); ++i) {
+			Assert.assertEquals(genes.get(i), chromosome.getGene(i));
+		}
+		Assert.assertFalse(genes.toISeq() instanceof IntegerGeneISeq);
+	}
+
 	@Test(expectedExceptions = IllegalArgumentException.class)
 	public void ofAmbiguousGenes1() {
 		IntegerChromosome.of(
@@ -34,6 +34,7 @@ import io.jenetics.stat.MinMax;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
 import io.jenetics.util.LongRange;
+import io.jenetics.util.MSeq;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -110,6 +111,41 @@ public class LongChromosomeTest
 		}
 	}
 
+	@Test
+	public void toArray() {
+		final LongChromosome chromosome = LongChromosome.of(0, 1000, 100);
+		final long[] values = chromosome.toArray(new long[200]);
+
+		Assert.assertEquals(values.length, 200);
+		for (int i = 0; i < chromosome.length(); ++i) {
+			Assert.assertEquals(chromosome.longValue(i), values[i]);
+		}
+	}
+
+	@Test
+	public void packedGenes() {
+		final LongChromosome chromosome = LongChromosome.of(0, 1000, 100);
+		Assert.assertTrue(chromosome.toSeq() instanceof LongGeneISeq);
+
+		final LongChromosome other = LongChromosome.of(chromosome.toSeq());
+		Assert.assertTrue(other.toSeq() instanceof LongGeneISeq);
+		Assert.assertEquals(other, chromosome);
+		Assert.assertEquals(other.hashCode(), chromosome.hashCode());
+	}
+
+	@Test
+	public void packedGenesWithDifferentRange() {
+		final LongChromosome chromosome = LongChromosome.of(0, 1000, 10);
+		final MSeq<LongGene> genes = chromosome.toSeq().copy();
+		genes.set(0, LongGene.of(5, 0, 10));
+
+		Assert.assertEquals(genes.get(0), LongGene.of(5, 0, 10));
+		for (int i = 1; i < genes.length(); ++i) {
+			Assert.assertEquals(genes.get(i), chromosome.getGene(i));
+		}
+		Assert.assertFalse(genes.toISeq() instanceof LongGeneISeq);
+	}
+
 	@Test(expectedExceptions = IllegalArgumentException.class)
 	public void ofAmbiguousGenes1() {
 		LongChromosome.of(
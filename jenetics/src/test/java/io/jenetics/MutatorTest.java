@@ -19,8 +19,16 @@
  */
 package io.jenetics;
 
+import static io.jenetics.util.RandomRegistry.with;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import io.jenetics.util.ISeq;
+
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  */
@@ -32,4 +40,62 @@ public class MutatorTest extends MutatorTester {
 		return new Mutator<>(p);
 	}
 
+	@Test(dataProvider = "bitMutationParameters")
+	public void bitMutation(final int length, final double p) {
+		final BitChromosome chromosome = BitChromosome.of(length, 0.5);
+		final Mutator<BitGene, Double> mutator = new Mutator<>(p);
+
+		// Word-wise XOR mutation of the bit sequence.
+		final MutatorResult<Chromosome<BitGene>> bits = with(new Random(123), r ->
+			mutator.mutate(chromosome, p, r)
+		);
+
+		// Gene by gene mutation of a generic chromosome.
+		final Chromosome<BitGene> generic = new GenericChromosome(
+			ISeq.<BitGene>of(chromosome)
+		);
+		Assert.assertFalse(generic.toSeq().copy() instanceof BitGeneMSeq);
+		final MutatorResult<Chromosome<BitGene>> genes = with(new Random(123), r ->
+			mutator.mutate(generic, p, r)
+		);
+
+		Assert.assertEquals(bits.getMutations(), genes.getMutations());
+		Assert.assertEquals(
+			bits.getResult().toSeq(),
+			genes.getResult().toSeq()
+		);
+	}
+
+	@DataProvider(name = "bitMutationParameters")
+	public Object[][] bitMutationParameters() {
+		return new Object[][] {
+			{1, 0.5},
+			{63, 0.5},
+			{64, 0.05},
+			{1_000, 0.01},
+			{1_000, 0.5},
+			{1_001, 0.95}
+		};
+	}
+
+	private static final class GenericChromosome
+		extends AbstractChromosome<BitGene>
+	{
+		private static final long serialVersionUID = 1L;
+
+		GenericChromosome(final ISeq<BitGene> genes) {
+			super(genes);
+		}
+
+		@Override
+		public Chromosome<BitGene> newInstance(final ISeq<BitGene> genes) {
+			return new GenericChromosome(genes);
+		}
+
+		@Override
+		public Chromosome<BitGene> newInstance() {
+			return this;
+		}
+	}
+
 }
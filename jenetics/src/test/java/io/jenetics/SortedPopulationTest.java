@@ -0,0 +1,247 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SortedPopulationTest {
+
+	private static ISeq<Phenotype<DoubleGene, Double>> population(final int size) {
+		final Random random = new Random(123);
+		return IntStream.range(0, size)
+			.mapToObj(i -> {
+				final Genotype<DoubleGene> gt =
+					Genotype.of(DoubleChromosome.of(0, 100));
+				return Phenotype.of(gt, 1, random.nextDouble()*100);
+			})
+			.collect(ISeq.toISeq());
+	}
+
+	@Test
+	public void sorted() {
+		final ISeq<Phenotype<DoubleGene, Double>> population = population(100);
+		final SortedPopulation<DoubleGene, Double> sorted =
+			SortedPopulation.of(population);
+
+		Assert.assertSame(sorted.population(), population);
+		Assert.assertEquals(sorted.size(), population.size());
+
+		final ISeq<Phenotype<DoubleGene, Double>> max =
+			sorted.sorted(Optimize.MAXIMUM);
+		final ISeq<Phenotype<DoubleGene, Double>> min =
+			sorted.sorted(Optimize.MINIMUM);
+		Assert.assertEquals(max.size(), population.size());
+		Assert.assertEquals(min.size(), population.size());
+
+		for (int i = 1; i < max.size(); ++i) {
+			Assert.assertTrue(
+				max.get(i - 1).getFitness() >= max.get(i).getFitness()
+			);
+			Assert.assertTrue(
+				min.get(i - 1).getFitness() <= min.get(i).getFitness()
+			);
+		}
+
+		Assert.assertSame(sorted.sorted(Optimize.MAXIMUM), max);
+	}
+
+	@Test
+	public void stableTies() {
+		final ISeq<Phenotype<DoubleGene, Double>> population =
+			population(100).stream()
+				.map(pt -> pt.withFitness((double)Math.round(pt.getFitness()/10)))
+				.collect(ISeq.toISeq());
+		final SortedPopulation<DoubleGene, Double> sorted =
+			SortedPopulation.of(population);
+
+		for (Optimize opt : Optimize.values()) {
+			final ISeq<Phenotype<DoubleGene, Double>> individuals =
+				sorted.sorted(opt);
+
+			for (int i = 1; i < individuals.size(); ++i) {
+				final Phenotype<DoubleGene, Double> a = individuals.get(i - 1);
+				final Phenotype<DoubleGene, Double> b = individuals.get(i);
+				if (a.getFitness().equals(b.getFitness())) {
+					Assert.assertTrue(
+						population.indexWhere(pt -> pt == a) <
+						population.indexWhere(pt -> pt == b),
+						"Individuals with equal fitness must keep their order."
+					);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void doubleValues() {
+		final SortedPopulation<DoubleGene, Double> sorted =
+			SortedPopulation.of(population(50));
+		final ISeq<Phenotype<DoubleGene, Double>> max =
+			sorted.sorted(Optimize.MAXIMUM);
+
+		Assert.assertTrue(sorted.isNumeric());
+		for (int i = 0; i < max.size(); ++i) {
+			Assert.assertEquals(sorted.doubleValue(i), max.get(i).getFitness());
+		}
+		Assert.assertEquals(
+			sorted.doubleStream().toArray(),
+			max.stream().mapToDouble(Phenotype::getFitness).toArray()
+		);
+	}
+
+	@Test(expectedExceptions = UnsupportedOperationException.class)
+	public void nonNumericDoubleValue() {
+		final Genotype<DoubleGene> gt = Genotype.of(DoubleChromosome.of(0, 1));
+		final SortedPopulation<DoubleGene, String> sorted = SortedPopulation.of(
+			ISeq.of(Phenotype.of(gt, 1, "a"), Phenotype.of(gt, 1, "b"))
+		);
+
+		Assert.assertFalse(sorted.isNumeric());
+		sorted.doubleValue(0);
+	}
+
+	@Test
+	public void truncationSelectSorted() {
+		final ISeq<Phenotype<DoubleGene, Double>> population = population(100);
+		final TruncationSelector<DoubleGene, Double> selector =
+			new TruncationSelector<>(10);
+
+		for (Optimize opt : Optimize.values()) {
+			Assert.assertEquals(
+				selector.selectSorted(SortedPopulation.of(population), 30, opt),
+				selector.select(population, 30, opt)
+			);
+		}
+	}
+
+	@Test
+	public void numericProbabilities() {
+		final SortedPopulation<DoubleGene, Double> sorted =
+			SortedPopulation.of(population(100));
+		final ISeq<Phenotype<DoubleGene, Double>> max =
+			sorted.sorted(Optimize.MAXIMUM);
+
+		final ProbabilitySelector<DoubleGene, Double> roulette =
+			new RouletteWheelSelector<>();
+		Assert.assertEquals(
+			roulette.probabilities(sorted.doubleStream().toArray(), 10),
+			roulette.probabilities(max, 10)
+		);
+
+		final ProbabilitySelector<DoubleGene, Double> boltzmann =
+			new BoltzmannSelector<>();
+		Assert.assertEquals(
+			boltzmann.probabilities(sorted.doubleStream().toArray(), 10),
+			boltzmann.probabilities(max, 10)
+		);
+	}
+
+	@Test
+	public void rouletteSelectSorted() {
+		final Genotype<DoubleGene> gt = Genotype.of(DoubleChromosome.of(0, 1));
+		final ISeq<Phenotype<DoubleGene, Double>> population = ISeq.of(
+			Phenotype.of(gt, 1, 0.0),
+			Phenotype.of(gt, 1, 5.0),
+			Phenotype.of(gt, 1, 0.0)
+		);
+		final SortedPopulation<DoubleGene, Double> sorted =
+			SortedPopulation.of(population);
+		final RouletteWheelSelector<DoubleGene, Double> selector =
+			new RouletteWheelSelector<>();
+
+		// Only the best individual has a non-zero selection probability.
+		for (Phenotype<DoubleGene, Double> pt :
+			selector.selectSorted(sorted, 20, Optimize.MAXIMUM))
+		{
+			Assert.assertSame(pt, population.get(1));
+		}
+	}
+
+	@Test
+	public void overriddenProbabilities() {
+		final ISeq<Phenotype<DoubleGene, Double>> population = population(100);
+		final RouletteWheelSelector<DoubleGene, Double> selector =
+			new RouletteWheelSelector<DoubleGene, Double>() {
+				@Override
+				protected double[] probabilities(
+					final Seq<Phenotype<DoubleGene, Double>> population,
+					final int count
+				) {
+					final double[] probabilities = new double[population.size()];
+					probabilities[0] = 1.0;
+					return probabilities;
+				}
+			};
+
+		for (Phenotype<DoubleGene, Double> pt : selector.selectSorted(
+			SortedPopulation.of(population), 20, Optimize.MAXIMUM))
+		{
+			Assert.assertSame(pt, population.get(0));
+		}
+	}
+
+	@Test
+	public void overriddenSelect() {
+		final ISeq<Phenotype<DoubleGene, Double>> population = population(100);
+
+		final RouletteWheelSelector<DoubleGene, Double> roulette =
+			new RouletteWheelSelector<DoubleGene, Double>() {
+				@Override
+				public ISeq<Phenotype<DoubleGene, Double>> select(
+					final Seq<Phenotype<DoubleGene, Double>> population,
+					final int count,
+					final Optimize opt
+				) {
+					return population.asISeq().subSeq(0, count);
+				}
+			};
+		Assert.assertEquals(
+			roulette.selectSorted(SortedPopulation.of(population), 10, Optimize.MAXIMUM),
+			population.subSeq(0, 10)
+		);
+
+		final EliteSelector<DoubleGene, Double> elite =
+			new EliteSelector<DoubleGene, Double>() {
+				@Override
+				public ISeq<Phenotype<DoubleGene, Double>> select(
+					final Seq<Phenotype<DoubleGene, Double>> population,
+					final int count,
+					final Optimize opt
+				) {
+					return population.asISeq().subSeq(0, count);
+				}
+			};
+		Assert.assertEquals(
+			elite.selectSorted(SortedPopulation.of(population), 10, Optimize.MAXIMUM),
+			population.subSeq(0, 10)
+		);
+	}
+
+}
@@ -22,17 +22,23 @@ package io.jenetics;
 import static java.lang.String.format;
 import static io.jenetics.stat.StatisticsAssert.assertDistribution;
 import static io.jenetics.util.RandomRegistry.using;
+import static io.jenetics.util.RandomRegistry.with;
 
 import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.IntStream;
 
+import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import io.jenetics.internal.util.Named;
 import io.jenetics.stat.Histogram;
 import io.jenetics.util.Factory;
+import io.jenetics.util.ISeq;
 import io.jenetics.util.TestData;
 
 /**
@@ -47,6 +53,126 @@ public class TournamentSelectorTest
 		return () -> new TournamentSelector<>(3);
 	}
 
+	@Test
+	public void selectConcurrent() {
+		final ISeq<Phenotype<DoubleGene, Double>> population = IntStream.range(0, 1_000)
+			.mapToObj(i -> Phenotype.of(
+				Genotype.of(DoubleChromosome.of(0, 1_000)), 1, (double)i))
+			.collect(ISeq.toISeq());
+
+		final ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			final TournamentSelector<DoubleGene, Double> selector =
+				new TournamentSelector<>(3, pool);
+
+			final ISeq<Phenotype<DoubleGene, Double>> selection1 = with(
+				new Random(123),
+				r -> selector.select(population, 100_000, Optimize.MAXIMUM)
+			);
+			final ISeq<Phenotype<DoubleGene, Double>> selection2 = with(
+				new Random(123),
+				r -> selector.select(population, 100_000, Optimize.MAXIMUM)
+			);
+
+			Assert.assertEquals(selection1.size(), 100_000);
+			Assert.assertEquals(selection1, selection2);
+
+			// The expected fitness of the winner of a 3-tournament is 3/4*999.
+			final double mean = selection1.stream()
+				.mapToDouble(Phenotype::getFitness)
+				.average()
+				.orElse(0);
+			Assert.assertEquals(mean, 749.25, 10);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void selectIndependentOfParallelism() {
+		final ISeq<Phenotype<DoubleGene, Double>> population = IntStream.range(0, 1_000)
+			.mapToObj(i -> Phenotype.of(
+				Genotype.of(DoubleChromosome.of(0, 1_000)), 1, (double)i))
+			.collect(ISeq.toISeq());
+
+		final ISeq<Phenotype<DoubleGene, Double>> expected = with(
+			new Random(123),
+			r -> new TournamentSelector<DoubleGene, Double>(3)
+				.select(population, 55_555, Optimize.MAXIMUM)
+		);
+
+		for (int parallelism : new int[]{1, 2, 7}) {
+			final ForkJoinPool pool = new ForkJoinPool(parallelism);
+			try {
+				final TournamentSelector<DoubleGene, Double> selector =
+					new TournamentSelector<>(3, pool);
+
+				final ISeq<Phenotype<DoubleGene, Double>> selection = with(
+					new Random(123),
+					r -> selector.select(population, 55_555, Optimize.MAXIMUM)
+				);
+
+				Assert.assertEquals(selection, expected);
+			} finally {
+				pool.shutdown();
+			}
+		}
+	}
+
+	@Test
+	public void withDefaultExecutor() {
+		final ForkJoinPool pool = new ForkJoinPool(2);
+		try {
+			final TournamentSelector<DoubleGene, Double> explicit =
+				new TournamentSelector<>(3, pool);
+			Assert.assertSame(explicit.withDefaultExecutor(Runnable::run), explicit);
+
+			final TournamentSelector<DoubleGene, Double> subclass =
+				new TournamentSelector<DoubleGene, Double>(3) {};
+			Assert.assertSame(subclass.withDefaultExecutor(pool), subclass);
+
+			final TournamentSelector<DoubleGene, Double> selector =
+				new TournamentSelector<DoubleGene, Double>(4)
+					.withDefaultExecutor(pool);
+			Assert.assertEquals(selector.getSampleSize(), 4);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test(timeOut = 10_000)
+	public void selectOnDefaultExecutor() throws Exception {
+		final ISeq<Phenotype<DoubleGene, Double>> population = IntStream.range(0, 1_000)
+			.mapToObj(i -> Phenotype.of(
+				Genotype.of(DoubleChromosome.of(0, 1_000)), 1, (double)i))
+			.collect(ISeq.toISeq());
+
+		final ISeq<Phenotype<DoubleGene, Double>> expected = with(
+			new Random(123),
+			r -> new TournamentSelector<DoubleGene, Double>(3)
+				.select(population, 55_555, Optimize.MAXIMUM)
+		);
+
+		// The selection is called from within the executor it is using, the
+		// way the engine does it. This must not dead-lock the single thread.
+		final ExecutorService executor = Executors.newFixedThreadPool(1);
+		try {
+			final TournamentSelector<DoubleGene, Double> selector =
+				new TournamentSelector<DoubleGene, Double>(3)
+					.withDefaultExecutor(executor);
+
+			final ISeq<Phenotype<DoubleGene, Double>> selection = executor
+				.submit(() -> with(
+					new Random(123),
+					r -> selector.select(population, 55_555, Optimize.MAXIMUM)))
+				.get();
+
+			Assert.assertEquals(selection, expected);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
 	@Test(dataProvider = "expectedDistribution", groups = {"statistics"})
 	public void selectDistribution(
 		final Integer tournamentSize,
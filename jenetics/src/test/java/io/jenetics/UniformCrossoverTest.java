@@ -20,11 +20,13 @@
 package io.jenetics;
 
 import static io.jenetics.util.RandomRegistry.using;
+import static io.jenetics.util.RandomRegistry.with;
 
 import java.util.Random;
 import java.util.stream.IntStream;
 
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import io.jenetics.stat.DoubleMomentStatistics;
@@ -94,4 +96,44 @@ public class UniformCrossoverTest extends AltererTester {
 		});
 	}
 
+	@Test(dataProvider = "bitCrossoverParameters")
+	public void bitCrossover(final int length, final double p) {
+		final BitChromosome ch1 = BitChromosome.of(length, 0.5);
+		final BitChromosome ch2 = BitChromosome.of(length, 0.5);
+		final UniformCrossover<BitGene, Double> crossover =
+			new UniformCrossover<>(0.5, p);
+
+		// Word-wise swapping of the bit sequences.
+		final MSeq<BitGene> bits1 = ch1.toSeq().copy();
+		final MSeq<BitGene> bits2 = ch2.toSeq().copy();
+		Assert.assertTrue(bits1 instanceof BitGeneMSeq);
+		final int bitChanges = with(new Random(123), r ->
+			crossover.crossover(bits1, bits2)
+		);
+
+		// Gene by gene swapping of the generic sequences.
+		final MSeq<BitGene> genes1 = MSeq.<BitGene>ofLength(length).setAll(ch1);
+		final MSeq<BitGene> genes2 = MSeq.<BitGene>ofLength(length).setAll(ch2);
+		Assert.assertFalse(genes1 instanceof BitGeneMSeq);
+		final int geneChanges = with(new Random(123), r ->
+			crossover.crossover(genes1, genes2)
+		);
+
+		Assert.assertEquals(bitChanges, geneChanges);
+		Assert.assertEquals(bits1, genes1);
+		Assert.assertEquals(bits2, genes2);
+	}
+
+	@DataProvider(name = "bitCrossoverParameters")
+	public Object[][] bitCrossoverParameters() {
+		return new Object[][] {
+			{1, 0.5},
+			{63, 0.5},
+			{64, 0.05},
+			{1_000, 0.05},
+			{1_000, 0.5},
+			{1_001, 0.95}
+		};
+	}
+
 }
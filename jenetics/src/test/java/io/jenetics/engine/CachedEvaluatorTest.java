@@ -0,0 +1,179 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.CachedEvaluator.Eviction;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class CachedEvaluatorTest {
+
+	private static ISeq<Phenotype<IntegerGene, Integer>> population(
+		final int... values
+	) {
+		return IntStream.of(values)
+			.mapToObj(v -> IntegerChromosome.of(IntegerGene.of(v, 0, 100)))
+			.map(ch -> Phenotype.<IntegerGene, Integer>of(Genotype.of(ch), 1))
+			.collect(ISeq.toISeq());
+	}
+
+	private static Evaluator<IntegerGene, Integer>
+	counting(final AtomicInteger count) {
+		return Evaluators.serial((Genotype<IntegerGene> gt) -> {
+			count.incrementAndGet();
+			return fitness(gt);
+		});
+	}
+
+	private static Integer fitness(final Genotype<IntegerGene> gt) {
+		return gt.getGene().getAllele()*2;
+	}
+
+	@Test(dataProvider = "evictions")
+	public void deduplicate(final Eviction eviction) {
+		final AtomicInteger count = new AtomicInteger();
+		final CachedEvaluator<IntegerGene, Integer> evaluator = Evaluators.cached(
+			counting(count),
+			10,
+			eviction
+		);
+
+		final ISeq<Phenotype<IntegerGene, Integer>> population =
+			population(1, 2, 1, 3, 2, 1);
+		final ISeq<Phenotype<IntegerGene, Integer>> evaluated =
+			evaluator.eval(population);
+
+		Assert.assertEquals(count.get(), 3);
+		Assert.assertEquals(evaluated.size(), population.size());
+		for (int i = 0; i < population.size(); ++i) {
+			Assert.assertEquals(
+				evaluated.get(i).getGenotype(),
+				population.get(i).getGenotype()
+			);
+			Assert.assertEquals(
+				evaluated.get(i).getFitness(),
+				fitness(population.get(i).getGenotype())
+			);
+		}
+		Assert.assertEquals(evaluator.getMissCount(), 3);
+		Assert.assertEquals(evaluator.getHitCount(), 3);
+		Assert.assertEquals(evaluator.size(), 3);
+
+		evaluator.eval(population(3, 2, 1));
+		Assert.assertEquals(count.get(), 3);
+		Assert.assertEquals(evaluator.getHitCount(), 6);
+		Assert.assertEquals(evaluator.getEvictionCount(), 0);
+	}
+
+	@Test
+	public void evictLRU() {
+		final AtomicInteger count = new AtomicInteger();
+		final CachedEvaluator<IntegerGene, Integer> evaluator = Evaluators.cached(
+			counting(count),
+			2,
+			Eviction.LRU
+		);
+
+		evaluator.eval(population(1, 2));
+		evaluator.eval(population(1));
+		evaluator.eval(population(3));
+		Assert.assertEquals(evaluator.getEvictionCount(), 1);
+		Assert.assertEquals(evaluator.size(), 2);
+
+		// Value '2' has been evicted.
+		count.set(0);
+		evaluator.eval(population(1, 3));
+		Assert.assertEquals(count.get(), 0);
+		evaluator.eval(population(2));
+		Assert.assertEquals(count.get(), 1);
+	}
+
+	@Test
+	public void evictLFU() {
+		final AtomicInteger count = new AtomicInteger();
+		final CachedEvaluator<IntegerGene, Integer> evaluator = Evaluators.cached(
+			counting(count),
+			2,
+			Eviction.LFU
+		);
+
+		evaluator.eval(population(1, 2));
+		evaluator.eval(population(2));
+		evaluator.eval(population(1));
+		evaluator.eval(population(1));
+		evaluator.eval(population(3));
+		Assert.assertEquals(evaluator.getEvictionCount(), 1);
+		Assert.assertEquals(evaluator.size(), 2);
+
+		// Value '2' has been evicted.
+		count.set(0);
+		evaluator.eval(population(1, 3));
+		Assert.assertEquals(count.get(), 0);
+		evaluator.eval(population(2));
+		Assert.assertEquals(count.get(), 1);
+	}
+
+	@Test
+	public void evaluatedPhenotypes() {
+		final AtomicInteger count = new AtomicInteger();
+		final CachedEvaluator<IntegerGene, Integer> evaluator = Evaluators.cached(
+			counting(count),
+			10
+		);
+
+		final ISeq<Phenotype<IntegerGene, Integer>> population = population(1, 2)
+			.map(pt -> pt.withFitness(-1));
+
+		final ISeq<Phenotype<IntegerGene, Integer>> evaluated =
+			evaluator.eval(population);
+
+		Assert.assertEquals(count.get(), 0);
+		Assert.assertEquals(evaluated, population);
+		Assert.assertEquals(evaluator.getHitCount(), 0);
+		Assert.assertEquals(evaluator.getMissCount(), 0);
+	}
+
+	@DataProvider(name = "evictions")
+	public Object[][] evictions() {
+		return new Object[][] {
+			{Eviction.LRU},
+			{Eviction.LFU}
+		};
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidMaxSize() {
+		Evaluators.cached(counting(new AtomicInteger()), 0);
+	}
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class ChunkedExecutorTest {
+
+	private static long[] randomValues(final Executor executor, final int size) {
+		final long[] values = new long[size];
+		RandomRegistry.using(new Random(123), r ->
+			ChunkedExecutor.execute(executor, size, i ->
+				values[i] = RandomRegistry.getRandom().nextLong())
+		);
+		return values;
+	}
+
+	@Test(dataProvider = "executors")
+	public void deterministicChunks(final Executor executor) {
+		try {
+			final int size = ChunkedExecutor.CHUNK_SIZE*50 + 7;
+			final long[] expected = randomValues(Runnable::run, size);
+
+			Assert.assertEquals(randomValues(executor, size), expected);
+		} finally {
+			shutdown(executor);
+		}
+	}
+
+	@Test
+	public void singleChunk() {
+		final int size = ChunkedExecutor.CHUNK_SIZE;
+		final long[] expected = new Random(123).longs(size).toArray();
+
+		Assert.assertEquals(randomValues(ForkJoinPool.commonPool(), size), expected);
+		Assert.assertEquals(randomValues(ForkJoinPool.commonPool(), 0), new long[0]);
+	}
+
+	@Test(timeOut = 5_000L)
+	public void executeWithinExecutorTask()
+		throws ExecutionException, InterruptedException
+	{
+		final ExecutorService executor = Executors.newFixedThreadPool(1);
+		try {
+			final int size = ChunkedExecutor.CHUNK_SIZE*10;
+			final Future<long[]> values = executor
+				.submit(() -> randomValues(executor, size));
+
+			Assert.assertEquals(values.get(), randomValues(Runnable::run, size));
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void taskException() {
+		ChunkedExecutor.execute(ForkJoinPool.commonPool(), 1000, i -> {
+			if (i == 500) {
+				throw new IllegalArgumentException();
+			}
+		});
+	}
+
+	@DataProvider(name = "executors")
+	public Object[][] executors() {
+		return new Object[][] {
+			{Executors.newFixedThreadPool(1)},
+			{Executors.newFixedThreadPool(10)},
+			{new ForkJoinPool(1)},
+			{new ForkJoinPool(10)},
+			{ForkJoinPool.commonPool()}
+		};
+	}
+
+	private static void shutdown(final Executor executor) {
+		if (executor instanceof ExecutorService &&
+			executor != ForkJoinPool.commonPool())
+		{
+			((ExecutorService)executor).shutdown();
+		}
+	}
+
+}
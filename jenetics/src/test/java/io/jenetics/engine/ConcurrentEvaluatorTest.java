@@ -19,9 +19,14 @@
  */
 package io.jenetics.engine;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import io.jenetics.AltererResult;
 import io.jenetics.DoubleChromosome;
 import io.jenetics.DoubleGene;
 import io.jenetics.Genotype;
@@ -51,4 +56,92 @@ public class ConcurrentEvaluatorTest {
 		evaluated.forEach(pt -> Assert.assertEquals(pt.getGenotype().getGene().getAllele(), pt.getFitness()));
 	}
 
+	@Test
+	public void evaluateAdaptive() {
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final Evaluator<DoubleGene, Double> evaluator =
+				new ConcurrentEvaluator<DoubleGene, Double>(
+					gt -> gt.getGene().doubleValue(),
+					executor
+				)
+				.with(Partitioning.ADAPTIVE);
+
+			// Evaluate more than once for adapting the partitioning.
+			for (int i = 0; i < 5; ++i) {
+				final ISeq<Phenotype<DoubleGene, Double>> phenotypes =
+					Genotype.of(DoubleChromosome.of(0, 1)).instances()
+						.limit(1000)
+						.map(gt -> Phenotype.<DoubleGene, Double>of(gt, 1))
+						.collect(ISeq.toISeq());
+
+				final ISeq<Phenotype<DoubleGene, Double>> evaluated =
+					evaluator.eval(phenotypes);
+
+				Assert.assertEquals(evaluated.size(), phenotypes.size());
+				evaluated.forEach(pt -> Assert.assertEquals(
+					pt.getGenotype().getGene().getAllele(),
+					pt.getFitness()
+				));
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void separateEvaluationCosts() {
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			// The evaluation time of an individual is proportional to its
+			// gene value, 1 ms for a gene value of one.
+			final Engine.Builder<DoubleGene, Double> builder = Engine
+				.builder(
+					gt -> {
+						final double value = gt.getGene().doubleValue();
+						final long end = System.nanoTime() + (long)(value*1_000_000);
+						while (System.nanoTime() < end) {
+							// Busy waiting.
+						}
+						return value;
+					},
+					DoubleChromosome.of(0, 1))
+				.alterers((population, generation) ->
+					AltererResult.of(population.asISeq()))
+				.populationSize(50)
+				.executor(executor)
+				.partitioning(Partitioning.ADAPTIVE);
+
+			final Engine<DoubleGene, Double> cheap = builder.build();
+			final Engine<DoubleGene, Double> expensive = cheap.builder().build();
+
+			cheap.stream(start(0.0)).limit(3).collect(EvolutionResult.toBestGenotype());
+			expensive.stream(start(1.0)).limit(3).collect(EvolutionResult.toBestGenotype());
+
+			final long cheapNanos =
+				((ConcurrentEvaluator<DoubleGene, Double>)cheap.getEvaluator())
+					.getEvaluationNanos();
+			final long expensiveNanos =
+				((ConcurrentEvaluator<DoubleGene, Double>)expensive.getEvaluator())
+					.getEvaluationNanos();
+
+			Assert.assertTrue(cheapNanos > 0);
+			Assert.assertTrue(
+				expensiveNanos > 5*cheapNanos,
+				String.format("%d <= 5*%d", expensiveNanos, cheapNanos)
+			);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private static EvolutionStart<DoubleGene, Double> start(final double value) {
+		final ISeq<Phenotype<DoubleGene, Double>> population = IntStream.range(0, 50)
+			.mapToObj(i -> Phenotype.<DoubleGene, Double>of(
+				Genotype.of(DoubleChromosome.of(DoubleGene.of(value, 0, 1))), 1))
+			.collect(ISeq.toISeq());
+
+		return EvolutionStart.of(population, 1);
+	}
+
 }
@@ -75,6 +75,50 @@ public class EngineBuilderTest {
 		Assert.assertEquals(engine.getMaximalPhenotypeAge(), phenotypeAge);
 	}
 
+	@Test
+	public void partitioning() {
+		final Engine.Builder<DoubleGene, Double> builder = Engine
+			.builder(
+				(Genotype<DoubleGene> gt) -> gt.getGene().getAllele(),
+				Genotype.of(DoubleChromosome.of(0, 1)))
+			.partitioning(Partitioning.ADAPTIVE);
+
+		Assert.assertEquals(builder.getPartitioning(), Partitioning.ADAPTIVE);
+		Assert.assertEquals(
+			builder.build().builder().getPartitioning(),
+			Partitioning.ADAPTIVE
+		);
+		Assert.assertEquals(
+			builder.partitioning(Partitioning.FIXED).build().builder().getPartitioning(),
+			Partitioning.FIXED
+		);
+	}
+
+	@Test
+	public void lean() {
+		final Engine.Builder<DoubleGene, Double> builder = Engine
+			.builder(
+				(Genotype<DoubleGene> gt) -> gt.getGene().getAllele(),
+				Genotype.of(DoubleChromosome.of(0, 1)))
+			.lean(30)
+			.leanTiming(false);
+
+		Assert.assertEquals(builder.getLeanThreshold(), 30);
+		Assert.assertFalse(builder.isLeanTiming());
+		Assert.assertEquals(builder.build().builder().getLeanThreshold(), 30);
+		Assert.assertFalse(builder.build().builder().isLeanTiming());
+		Assert.assertEquals(builder.lean().getLeanThreshold(), 100);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void negativeLeanThreshold() {
+		Engine
+			.builder(
+				(Genotype<DoubleGene> gt) -> gt.getGene().getAllele(),
+				Genotype.of(DoubleChromosome.of(0, 1)))
+			.lean(-1);
+	}
+
 	@Test
 	public void offspringFractionZero() {
 		final Function<Genotype<DoubleGene>, Double> fitnessFunction =
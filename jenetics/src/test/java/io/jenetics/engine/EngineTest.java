@@ -50,8 +50,10 @@ import io.jenetics.Genotype;
 import io.jenetics.IntegerChromosome;
 import io.jenetics.IntegerGene;
 import io.jenetics.LongChromosome;
+import io.jenetics.MeanAlterer;
 import io.jenetics.Mutator;
 import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
 import io.jenetics.RouletteWheelSelector;
 import io.jenetics.Selector;
 import io.jenetics.SwapMutator;
@@ -61,6 +63,8 @@ import io.jenetics.util.DoubleRange;
 import io.jenetics.util.IO;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.SplitRandom;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -420,6 +424,122 @@ public class EngineTest {
 		};
 	}
 
+	@Test(dataProvider = "executors")
+	public void reproducibleInitialPopulation(final Executor executor) {
+		try {
+			final ISeq<Phenotype<DoubleGene, Double>> expected =
+				initialPopulation(Runnable::run);
+			final ISeq<Phenotype<DoubleGene, Double>> population =
+				initialPopulation(executor);
+
+			Assert.assertEquals(population, expected);
+		} finally {
+			if (executor instanceof ExecutorService) {
+				((ExecutorService)executor).shutdown();
+			}
+		}
+	}
+
+	private static ISeq<Phenotype<DoubleGene, Double>>
+	initialPopulation(final Executor executor) {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.getGene().doubleValue(), DoubleChromosome.of(0, 1))
+			.populationSize(1000)
+			.executor(executor)
+			.build();
+
+		return RandomRegistry.with(new Random(123), r -> engine
+			.evolutionStart(() -> EvolutionStart.of(ISeq.empty(), 1))
+			.get()
+			.getPopulation());
+	}
+
+	@Test(dataProvider = "executors")
+	public void reproducibleParallelEvolution(final Executor executor) {
+		try {
+			final ISeq<Phenotype<DoubleGene, Double>> expected =
+				RandomRegistry.with(new SplitRandom(123), r ->
+					reproducibleEvolution(Runnable::run));
+
+			final ISeq<Phenotype<DoubleGene, Double>> population =
+				RandomRegistry.with(new SplitRandom(123), r ->
+					reproducibleEvolution(executor));
+
+			Assert.assertEquals(population, expected);
+		} finally {
+			if (executor instanceof ExecutorService) {
+				((ExecutorService)executor).shutdown();
+			}
+		}
+	}
+
+	private static ISeq<Phenotype<DoubleGene, Double>>
+	reproducibleEvolution(final Executor executor) {
+		// The fitness function is noisy; the noise is reproducible too.
+		final Function<Genotype<DoubleGene>, Double> fitness = gt ->
+			gt.getGene().doubleValue() +
+				RandomRegistry.getRandom().nextDouble()*0.01;
+
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(fitness, DoubleChromosome.of(0, 1, 5))
+			.alterers(
+				new Mutator<>(0.2),
+				new MeanAlterer<>(0.3))
+			.selector(new TournamentSelector<>(3))
+			.maximalPhenotypeAge(5)
+			.populationSize(500)
+			.executor(executor)
+			.build();
+
+		return engine.stream()
+			.limit(20)
+			.collect(EvolutionResult.toBestEvolutionResult())
+			.getPopulation();
+	}
+
+	@Test
+	public void leanEvolution() {
+		final Engine.Builder<DoubleGene, Double> builder = Engine
+			.builder(gt -> gt.getGene().doubleValue(), DoubleChromosome.of(0, 1, 5))
+			.maximalPhenotypeAge(5)
+			.populationSize(100);
+
+		final ISeq<ISeq<Phenotype<DoubleGene, Double>>> expected =
+			RandomRegistry.with(new SplitRandom(456), r ->
+				populations(builder.build()));
+
+		final ISeq<ISeq<Phenotype<DoubleGene, Double>>> populations =
+			RandomRegistry.with(new SplitRandom(456), r ->
+				populations(builder.lean().build()));
+
+		Assert.assertEquals(populations, expected);
+	}
+
+	private static ISeq<ISeq<Phenotype<DoubleGene, Double>>>
+	populations(final Engine<DoubleGene, Double> engine) {
+		return engine.stream()
+			.limit(20)
+			.map(EvolutionResult::getPopulation)
+			.collect(ISeq.toISeq());
+	}
+
+	@Test
+	public void leanEvolutionWithoutTiming() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.getGene().doubleValue(), DoubleChromosome.of(0, 1))
+			.populationSize(20)
+			.lean()
+			.leanTiming(false)
+			.build();
+
+		engine.stream()
+			.limit(10)
+			.forEach(er -> Assert.assertEquals(
+				er.getDurations(),
+				EvolutionDurations.ZERO
+			));
+	}
+
 	/*
 	@Test
 	public void populationEvaluator() {
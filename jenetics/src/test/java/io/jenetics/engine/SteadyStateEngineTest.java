@@ -0,0 +1,194 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.DoubleRange;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SteadyStateEngineTest {
+
+	private static final Problem<Double, DoubleGene, Double> PROBLEM = Problem.of(
+		x -> cos(0.5 + sin(x))*cos(x),
+		Codecs.ofScalar(DoubleRange.of(0.0, 2.0*PI))
+	);
+
+	@Test(dataProvider = "evaluations")
+	public void generationLimit(final Integer evaluations) {
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			final Engine<DoubleGene, Double> engine = Engine.builder(PROBLEM)
+				.populationSize(20)
+				.optimize(Optimize.MINIMUM)
+				.executor(executor)
+				.build();
+
+			final AtomicInteger count = new AtomicInteger();
+			final EvolutionResult<DoubleGene, Double> result =
+				SteadyStateEngine.of(engine, evaluations)
+					.stream()
+					.limit(50)
+					.peek(er -> count.incrementAndGet())
+					.peek(er -> Assert.assertEquals(er.getPopulation().size(), 20))
+					.collect(EvolutionResult.toBestEvolutionResult());
+
+			Assert.assertEquals(count.get(), 50);
+			Assert.assertEquals(result.getTotalGenerations(), 50);
+			Assert.assertTrue(result.getPopulation().forAll(pt -> pt.isEvaluated()));
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@DataProvider(name = "evaluations")
+	public Object[][] evaluations() {
+		return new Object[][] {
+			{1}, {2}, {5}, {33}
+		};
+	}
+
+	@Test
+	public void optimize() {
+		final Engine<DoubleGene, Double> engine = Engine.builder(PROBLEM)
+			.optimize(Optimize.MINIMUM)
+			.executor(ForkJoinPool.commonPool())
+			.build();
+
+		final double best = SteadyStateEngine.of(engine, 4)
+			.stream()
+			.limit(100)
+			.collect(EvolutionResult.toBestPhenotype())
+			.getFitness();
+
+		Assert.assertTrue(best < -0.93, "Best fitness: " + best);
+	}
+
+	@Test
+	public void pendingEvaluations() {
+		final ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			final AtomicInteger running = new AtomicInteger();
+			final AtomicInteger maxRunning = new AtomicInteger();
+			final Engine<DoubleGene, Double> engine = Engine
+				.builder(
+					gt -> {
+						maxRunning.accumulateAndGet(
+							running.incrementAndGet(), Math::max);
+						try {
+							Thread.sleep(1);
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						} finally {
+							running.decrementAndGet();
+						}
+						return gt.getGene().doubleValue();
+					},
+					DoubleChromosome.of(0, 1))
+				.populationSize(20)
+				.executor(executor)
+				.build();
+
+			SteadyStateEngine.of(engine, 3)
+				.stream(start(engine))
+				.limit(10)
+				.collect(EvolutionResult.toBestPhenotype());
+
+			Assert.assertTrue(maxRunning.get() > 0);
+			Assert.assertTrue(
+				maxRunning.get() <= 3,
+				"Evaluations in flight: " + maxRunning.get()
+			);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test(dataProvider = "optimizes")
+	public void replaceWorst(final Optimize optimize) {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.getGene().doubleValue(), DoubleChromosome.of(0, 1))
+			.populationSize(20)
+			.offspringFraction(0.4)
+			.optimize(optimize)
+			.executor(Runnable::run)
+			.build();
+
+		final EvolutionStart<DoubleGene, Double> start = start(engine);
+		final ISeq<Phenotype<DoubleGene, Double>> population =
+			SteadyStateEngine.of(engine, 1)
+				.stream(start)
+				.limit(1)
+				.collect(EvolutionResult.toBestEvolutionResult())
+				.getPopulation();
+
+		// Every new individual replaces the worst one, so the 20 - 8 best
+		// individuals of the start population must survive.
+		start.getPopulation().stream()
+			.sorted((a, b) -> optimize.compare(b.getFitness(), a.getFitness()))
+			.limit(12)
+			.forEach(pt -> Assert.assertTrue(
+				population.indexWhere(p -> p == pt) != -1,
+				"Best individual was replaced: " + pt
+			));
+	}
+
+	@DataProvider(name = "optimizes")
+	public Object[][] optimizes() {
+		return new Object[][] {
+			{Optimize.MINIMUM}, {Optimize.MAXIMUM}
+		};
+	}
+
+	private static EvolutionStart<DoubleGene, Double>
+	start(final Engine<DoubleGene, Double> engine) {
+		final ISeq<Phenotype<DoubleGene, Double>> population =
+			engine.getGenotypeFactory().instances()
+				.limit(engine.getPopulationSize())
+				.map(gt -> Phenotype.of(gt, 1, gt.getGene().doubleValue()))
+				.collect(ISeq.toISeq());
+
+		return EvolutionStart.of(population, 1);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidEvaluations() {
+		SteadyStateEngine.of(Engine.builder(PROBLEM).build(), 0);
+	}
+
+}
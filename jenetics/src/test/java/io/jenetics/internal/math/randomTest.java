@@ -22,8 +22,10 @@ package io.jenetics.internal.math;
 import static java.lang.String.format;
 
 import java.util.Random;
+import java.util.stream.IntStream;
 
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import io.jenetics.prngine.LCG64ShiftRandom;
@@ -46,4 +48,42 @@ public class randomTest {
 		}
 	}
 
+	@Test(dataProvider = "indexProbabilities")
+	public void indexes(final Double p) {
+		final Random rnd = new Random(123);
+		final int start = 10;
+		final int end = 1_010;
+		final int samples = 2_000;
+
+		final int[] histogram = new int[end];
+		for (int i = 0; i < samples; ++i) {
+			final int[] indexes = random.indexes(rnd, start, end, p).toArray();
+			for (int j = 0; j < indexes.length; ++j) {
+				Assert.assertTrue(indexes[j] >= start && indexes[j] < end);
+				Assert.assertTrue(j == 0 || indexes[j - 1] < indexes[j]);
+				++histogram[indexes[j]];
+			}
+		}
+
+		// Mean number of selected indexes, within four standard deviations.
+		final double n = (double)(end - start)*samples;
+		final double expected = n*p;
+		final double deviation = 4*Math.sqrt(n*p*(1 - p));
+		final long count = IntStream.of(histogram).sum();
+		Assert.assertEquals(count, expected, deviation);
+
+		// Both halves of the range are selected with the same frequency.
+		final int half = start + (end - start)/2;
+		final long lower = IntStream.of(histogram).limit(half).sum();
+		Assert.assertEquals(lower, count/2.0, deviation);
+	}
+
+	@DataProvider(name = "indexProbabilities")
+	public Object[][] indexProbabilities() {
+		return new Object[][] {
+			{0.0005}, {0.001}, {0.01}, {0.05}, {0.099}, {0.1}, {0.3}, {0.7}
+		};
+	}
+
+
 }
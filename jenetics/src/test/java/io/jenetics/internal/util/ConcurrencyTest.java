@@ -23,8 +23,17 @@ import static java.lang.String.format;
 
 import java.util.Random;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.stream.IntStream;
 
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
 import io.jenetics.util.ISeq;
 
 /**
@@ -32,6 +41,57 @@ import io.jenetics.util.ISeq;
  */
 public class ConcurrencyTest {
 
+	@Test(dataProvider = "chunkSizes")
+	public void executeChunked(final Integer size, final Integer chunkSize) {
+		final ExecutorService service = Executors.newFixedThreadPool(3);
+		final Executor[] executors = {
+			ForkJoinPool.commonPool(),
+			service,
+			(Executor)Runnable::run,
+			Concurrency.SERIAL_EXECUTOR
+		};
+
+		try {
+			for (Executor executor : executors) {
+				final AtomicIntegerArray counts = new AtomicIntegerArray(size);
+				final ISeq<Runnable> runnables = IntStream.range(0, size)
+					.mapToObj(i -> (Runnable)() -> counts.incrementAndGet(i))
+					.collect(ISeq.toISeq());
+
+				try (Concurrency concurrency = Concurrency.with(executor)) {
+					concurrency.execute(runnables, chunkSize);
+				}
+
+				for (int i = 0; i < size; ++i) {
+					Assert.assertEquals(counts.get(i), 1);
+				}
+			}
+		} finally {
+			service.shutdown();
+		}
+	}
+
+	@DataProvider(name = "chunkSizes")
+	public Object[][] chunkSizes() {
+		return new Object[][] {
+			{0, 1},
+			{1, 1},
+			{1, 10},
+			{100, 1},
+			{100, 3},
+			{100, 100},
+			{1000, 7},
+			{1000, 5000}
+		};
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void executeInvalidChunkSize() {
+		try (Concurrency concurrency = Concurrency.withCommonPool()) {
+			concurrency.execute(ISeq.<Runnable>of(() -> {}), 0);
+		}
+	}
+
 	//@org.testng.annotations.Test
 	public void cpuTime() {
 		final Random random = new Random(123);
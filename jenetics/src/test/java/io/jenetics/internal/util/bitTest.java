@@ -187,6 +187,149 @@ public class bitTest {
 		}
 	}
 
+	@Test
+	public void swapAligned() {
+		final Random random = new Random();
+		final int bitLength = 1_000*8;
+
+		for (int start = 0; start < 100; ++start) {
+			final int otherStart = start + 8*random.nextInt(10);
+			final int end = start + random.nextInt(bitLength - otherStart);
+
+			final byte[] data = newByteArray(1_000, random);
+			final byte[] other = newByteArray(1_000, random);
+			final byte[] expectedData = data.clone();
+			final byte[] expectedOther = other.clone();
+			for (int i = start; i < end; ++i) {
+				final int j = i - start + otherStart;
+				bit.set(expectedData, i, bit.get(other, j));
+				bit.set(expectedOther, j, bit.get(data, i));
+			}
+
+			bit.swap(data, start, end, other, otherStart);
+			Assert.assertEquals(data, expectedData);
+			Assert.assertEquals(other, expectedOther);
+		}
+	}
+
+	@Test
+	public void swapWordMask() {
+		final Random random = new Random();
+		final long[] words = newWordArray(100, random);
+		final long[] other = newWordArray(100, random);
+		final long[] mask = newWordArray(50, random);
+
+		final long[] expectedWords = words.clone();
+		final long[] expectedOther = other.clone();
+		for (int i = 0; i < mask.length*64; ++i) {
+			if (bit.get(mask, i)) {
+				bit.set(expectedWords, i, bit.get(other, i));
+				bit.set(expectedOther, i, bit.get(words, i));
+			}
+		}
+
+		bit.swap(words, other, mask);
+		Assert.assertEquals(words, expectedWords);
+		Assert.assertEquals(other, expectedOther);
+	}
+
+	@Test
+	public void swapWords() {
+		final Random random = new Random();
+		final int bitLength = 100*64;
+
+		for (int start = 0; start < 200; ++start) {
+			final int otherStart = random.nextBoolean()
+				? start + 64*random.nextInt(10)
+				: random.nextInt(1_000);
+			final int end = start +
+				random.nextInt(bitLength - Math.max(start, otherStart));
+
+			final long[] words = newWordArray(100, random);
+			final long[] other = newWordArray(100, random);
+			final long[] expectedWords = words.clone();
+			final long[] expectedOther = other.clone();
+			for (int i = start; i < end; ++i) {
+				final int j = i - start + otherStart;
+				bit.set(expectedWords, i, bit.get(other, j));
+				bit.set(expectedOther, j, bit.get(words, i));
+			}
+
+			bit.swap(words, start, end, other, otherStart);
+			Assert.assertEquals(words, expectedWords);
+			Assert.assertEquals(other, expectedOther);
+		}
+	}
+
+	@Test
+	public void copyWords() {
+		final Random random = new Random();
+		final long[] words = newWordArray(100, random);
+
+		for (int i = 0; i < 200; ++i) {
+			final int start = random.nextInt(100*64);
+			final int end = start + random.nextInt(100*64 - start);
+
+			final long[] copy = bit.copy(words, start, end);
+			Assert.assertEquals(copy.length, bit.toWordLength(end - start));
+			for (int j = 0; j < copy.length*64; ++j) {
+				Assert.assertEquals(
+					bit.get(copy, j),
+					j < end - start && bit.get(words, j + start)
+				);
+			}
+		}
+	}
+
+	@Test
+	public void toWordsToBytes() {
+		final Random random = new Random();
+		final byte[] data = newByteArray(1_000, random);
+
+		for (int i = 0; i < 200; ++i) {
+			final int start = random.nextInt(1_000*8);
+			final int end = start + random.nextInt(1_000*8 - start);
+
+			final long[] words = bit.toWords(data, start, end);
+			Assert.assertEquals(words.length, bit.toWordLength(end - start));
+			for (int j = 0; j < words.length*64; ++j) {
+				Assert.assertEquals(
+					bit.get(words, j),
+					j < end - start && bit.get(data, j + start)
+				);
+			}
+		}
+
+		final long[] words = bit.toWords(data, 0, data.length*8);
+		Assert.assertEquals(bit.toBytes(words, new byte[data.length]), data);
+		Assert.assertEquals(bit.count(words), bit.count(data));
+	}
+
+	@Test
+	public void xorWords() {
+		final Random random = new Random();
+		final long[] words = newWordArray(100, random);
+		final long[] mask = newWordArray(50, random);
+
+		final long[] expected = words.clone();
+		for (int i = 0; i < mask.length*64; ++i) {
+			if (bit.get(mask, i)) {
+				bit.set(expected, i, !bit.get(words, i));
+			}
+		}
+
+		bit.xor(words, mask);
+		Assert.assertEquals(words, expected);
+	}
+
+	private static long[] newWordArray(final int length, final Random random) {
+		final long[] array = new long[length];
+		for (int i = 0; i < length; ++i) {
+			array[i] = random.nextLong();
+		}
+		return array;
+	}
+
 	private static byte[] newByteArray(final int length, final Random random) {
 		final byte[] array = new byte[length];
 		for (int i = 0; i < length; ++i) {
@@ -0,0 +1,45 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class LCG64RandomTest {
+
+	@Test
+	public void jump() {
+		for (int steps : new int[]{0, 1, 2, 3, 17, 1000, 12345}) {
+			final LCG64Random random1 = new LCG64Random(123);
+			final LCG64Random random2 = new LCG64Random(123);
+
+			for (int i = 0; i < steps; ++i) {
+				random1.nextLong();
+			}
+			random2.jump(steps);
+
+			Assert.assertEquals(random2.nextLong(), random1.nextLong());
+		}
+	}
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class Random64Test {
+
+	@Test(dataProvider = "engines")
+	public void nextLongs(final Supplier<Random64> engine) {
+		final Random64 random1 = engine.get();
+		final Random64 random2 = engine.get();
+
+		final long[] values = new long[1001];
+		random1.nextLongs(values);
+		for (long value : values) {
+			Assert.assertEquals(value, random2.nextLong());
+		}
+		Assert.assertEquals(random1.nextLong(), random2.nextLong());
+	}
+
+	@Test(dataProvider = "engines")
+	public void nextDoubles(final Supplier<Random64> engine) {
+		final Random64 random1 = engine.get();
+		final Random64 random2 = engine.get();
+
+		final double[] values = new double[1001];
+		random1.nextDoubles(values);
+		for (double value : values) {
+			Assert.assertTrue(value >= 0 && value < 1);
+			Assert.assertEquals(value, random2.nextDouble());
+		}
+		Assert.assertEquals(random1.nextLong(), random2.nextLong());
+	}
+
+	@Test(dataProvider = "engines")
+	public void nextGaussians(final Supplier<Random64> engine) {
+		final Random64 random1 = engine.get();
+		final Random64 random2 = engine.get();
+
+		final double[] values = new double[1001];
+		random1.nextGaussians(values);
+		for (double value : values) {
+			Assert.assertEquals(value, random2.nextGaussian());
+		}
+	}
+
+	@Test(dataProvider = "engines")
+	public void gaussianDistribution(final Supplier<Random64> engine) {
+		final Random64 random = engine.get();
+		final double[] values = new double[1_000_000];
+		random.nextGaussians(values);
+
+		final double mean = Arrays.stream(values).average().orElse(0);
+		final double variance = Arrays.stream(values)
+			.map(v -> (v - mean)*(v - mean))
+			.sum()/(values.length - 1);
+
+		Assert.assertEquals(mean, 0.0, 0.005);
+		Assert.assertEquals(variance, 1.0, 0.005);
+
+		// Comparing the empirical distribution function with the normal CDF.
+		final double[] x = {-3.0, -2.0, -1.0, -0.5, 0.0, 0.5, 1.0, 2.0, 3.0};
+		final double[] cdf = {
+			0.0013499, 0.0227501, 0.1586553, 0.3085375, 0.5,
+			0.6914625, 0.8413447, 0.9772499, 0.9986501
+		};
+		for (int i = 0; i < x.length; ++i) {
+			final double limit = x[i];
+			final double p = Arrays.stream(values)
+				.filter(v -> v < limit)
+				.count()/(double)values.length;
+
+			Assert.assertEquals(p, cdf[i], 0.002, "x = " + limit);
+		}
+	}
+
+	@Test(dataProvider = "engines")
+	public void nextIntBound(final Supplier<Random64> engine) {
+		final Random64 random = engine.get();
+		final int[] counts = new int[10];
+		for (int i = 0; i < 100_000; ++i) {
+			++counts[random.nextInt(10)];
+		}
+		for (int count : counts) {
+			Assert.assertTrue(count > 9_000 && count < 11_000, "" + count);
+		}
+	}
+
+	@Test(dataProvider = "engines")
+	public void setSeed(final Supplier<Random64> engine) {
+		final Random64 random = engine.get();
+		final long[] values = random.longs(100).toArray();
+
+		random.setSeed(123);
+		final long[] values1 = random.longs(100).toArray();
+		random.setSeed(123);
+		final long[] values2 = random.longs(100).toArray();
+
+		Assert.assertEquals(values1, values2);
+		Assert.assertNotEquals(values1, values);
+	}
+
+	@DataProvider(name = "engines")
+	public Object[][] engines() {
+		return new Object[][] {
+			{(Supplier<Random64>)() -> new Xoshiro256Random(1234)},
+			{(Supplier<Random64>)() -> new LCG64Random(1234)},
+			{(Supplier<Random64>)() -> new SplitRandom(1234)}
+		};
+	}
+
+}
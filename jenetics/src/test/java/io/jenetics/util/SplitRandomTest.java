@@ -0,0 +1,122 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SplitRandomTest {
+
+	@Test
+	public void sameSeed() {
+		final Random random1 = new SplitRandom(123);
+		final Random random2 = new SplitRandom(123);
+		for (int i = 0; i < 1000; ++i) {
+			Assert.assertEquals(random1.nextLong(), random2.nextLong());
+		}
+	}
+
+	@Test
+	public void setSeed() {
+		final Random random = new SplitRandom(123);
+		final long[] values = random.longs(100).toArray();
+
+		random.setSeed(123);
+		Assert.assertEquals(random.longs(100).toArray(), values);
+	}
+
+	@Test
+	public void splitIsIndependentOfState() {
+		final SplitRandom random = new SplitRandom(123);
+		final long[] values = random.split(7).longs(100).toArray();
+
+		random.longs(1000).forEach(v -> {});
+		Assert.assertEquals(random.split(7).longs(100).toArray(), values);
+	}
+
+	@Test
+	public void splitKeyPath() {
+		final SplitRandom random = new SplitRandom(123);
+		Assert.assertEquals(
+			random.split(3, 5, 7).longs(100).toArray(),
+			random.split(3).split(5).split(7).longs(100).toArray()
+		);
+		Assert.assertEquals(
+			random.split(new long[]{3}).longs(100).toArray(),
+			random.split(3).longs(100).toArray()
+		);
+	}
+
+	@Test
+	public void splitStreamsDiffer() {
+		final SplitRandom random = new SplitRandom(123);
+		final long distinct = LongStream.range(0, 1000)
+			.map(i -> random.split(i / 10, i % 10).nextLong())
+			.distinct()
+			.count();
+
+		Assert.assertEquals(distinct, 1000);
+		Assert.assertNotEquals(
+			random.split(1, 2).nextLong(),
+			random.split(2, 1).nextLong()
+		);
+	}
+
+	@Test
+	public void jump() {
+		final SplitRandom random1 = new SplitRandom(123);
+		final SplitRandom random2 = new SplitRandom(123);
+
+		for (int i = 0; i < 1234; ++i) {
+			random1.nextLong();
+		}
+		random2.jump(1234);
+
+		Assert.assertEquals(random1.nextLong(), random2.nextLong());
+	}
+
+	@Test
+	public void nextDouble() {
+		final Random random = new SplitRandom(123);
+		for (int i = 0; i < 10_000; ++i) {
+			final double value = random.nextDouble();
+			Assert.assertTrue(value >= 0 && value < 1, Double.toString(value));
+		}
+	}
+
+	@Test
+	public void nextIntBound() {
+		final Random random = new SplitRandom(123);
+		final int[] counts = new int[10];
+		for (int i = 0; i < 100_000; ++i) {
+			++counts[random.nextInt(10)];
+		}
+		for (int count : counts) {
+			Assert.assertTrue(count > 9_000 && count < 11_000, "" + count);
+		}
+	}
+
+}
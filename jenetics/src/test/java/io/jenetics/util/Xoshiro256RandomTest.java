@@ -0,0 +1,52 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class Xoshiro256RandomTest {
+
+	@Test
+	public void referenceValues() {
+		final Random64 random = Xoshiro256Random.of(1, 2, 3, 4);
+
+		Assert.assertEquals(random.nextLong(), 11520L);
+		Assert.assertEquals(random.nextLong(), 0L);
+		Assert.assertEquals(random.nextLong(), 1509978240L);
+		Assert.assertEquals(random.nextLong(), 1215971899390074240L);
+	}
+
+	@Test
+	public void jump() {
+		final Xoshiro256Random random1 = new Xoshiro256Random(123);
+		final Xoshiro256Random random2 = new Xoshiro256Random(123);
+		random1.jump();
+		random2.jump();
+
+		final long value = random1.nextLong();
+		Assert.assertEquals(value, random2.nextLong());
+		Assert.assertNotEquals(value, new Xoshiro256Random(123).nextLong());
+	}
+
+}